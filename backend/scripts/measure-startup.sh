@@ -0,0 +1,72 @@
+#!/usr/bin/env sh
+# Measures startup time and time-to-first-request of the backend.
+#
+# Usage: scripts/measure-startup.sh [runs] [port]
+#
+# Compares the plain executable jar (mvn package) with the AOT + CDS layout
+# produced by the fast-startup profile (mvn -Pfast-startup package), whichever exist.
+# "started" is Spring Boot's own "process running for" figure, "first request" is the
+# wall-clock time from launching the JVM until GET /api/todos first returned 200, and
+# "ready" until /actuator/health/readiness returned 200 after the startup warm-up.
+# Both variants run under the profiles the fast-startup layout was built for (prod unless
+# overridden with SPRING_PROFILES), each run with a fresh store in a scratch directory.
+set -eu
+
+RUNS="${1:-5}"
+PORT="${2:-18080}"
+BASE_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+JAR="$(ls "$BASE_DIR"/target/*.jar 2>/dev/null | grep -v original | head -n 1 || true)"
+FAST_DIR="$BASE_DIR/target/fast-startup"
+LOG="$(mktemp)"
+PROFILES="${SPRING_PROFILES:-prod}"
+
+now_ms() {
+    date +%s%3N
+}
+
+measure() {
+    name="$1"
+    dir="$2"
+    shift 2
+    i=1
+    while [ "$i" -le "$RUNS" ]; do
+        store="$(mktemp -d)"
+        start="$(now_ms)"
+        (cd "$dir" && exec "$JAVA" "$@" --server.port="$PORT" --spring.jpa.show-sql=false \
+            --spring.profiles.active="$PROFILES" --todo.store.directory="$store" \
+            --todo.snapshot.directory="$store/snapshots") > "$LOG" 2>&1 &
+        pid=$!
+        until curl -fs -o /dev/null "http://localhost:$PORT/api/todos"; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "$name: application exited, see $LOG" >&2
+                exit 1
+            fi
+            sleep 0.01
+        done
+        first_request=$(( $(now_ms) - start ))
+        until curl -fs -o /dev/null "http://localhost:$PORT/actuator/health/readiness"; do
+            sleep 0.01
+        done
+        ready=$(( $(now_ms) - start ))
+        started="$(sed -n 's/.*process running for \([0-9.]*\)).*/\1/p' "$LOG" | head -n 1)"
+        printf '%-14s run %-3s started %6ss   first request %6s ms   ready %6s ms\n' "$name" "$i" "$started" \
+            "$first_request" "$ready"
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+        rm -rf "$store"
+        i=$((i + 1))
+    done
+}
+
+if [ -n "$JAR" ]; then
+    measure "jar" "$BASE_DIR" -jar "$JAR"
+fi
+if [ -f "$FAST_DIR/app.jsa" ]; then
+    measure "aot+cds" "$FAST_DIR" -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -jar app.jar
+fi
+if [ -z "$JAR" ] && [ ! -f "$FAST_DIR/app.jsa" ]; then
+    echo "Nothing to measure, run 'mvn package' or 'mvn -Pfast-startup package' first" >&2
+    exit 1
+fi
+rm -f "$LOG"
@@ -0,0 +1,50 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.TodoApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the application without a web server, by default against a private in-memory database
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String databaseName) {
+        return run("--spring.datasource.url=jdbc:h2:mem:" + databaseName);
+    }
+
+    static ConfigurableApplicationContext run(String... args) {
+        List<String> arguments = new ArrayList<>(List.of(
+                "--spring.jpa.show-sql=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN"));
+        arguments.addAll(List.of(args));
+        return new SpringApplicationBuilder(TodoApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(arguments.toArray(String[]::new));
+    }
+
+    static void seed(JdbcTemplate jdbcTemplate, int rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(1000);
+        for (int i = 1; i <= rows; i++) {
+            batch.add(new Object[]{"Todo " + i, "Description " + i, i % 2 == 0, now, now});
+            if (batch.size() == 1000 || i == rows) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO todos (id, title, description, completed, created_at, updated_at) "
+                                + "VALUES (NEXT VALUE FOR todo_sequence, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+}
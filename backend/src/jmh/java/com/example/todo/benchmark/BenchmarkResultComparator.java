@@ -0,0 +1,89 @@
+package com.example.todo.benchmark;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files and fails when a benchmark regressed beyond a threshold.
+ * <p>
+ * Usage: {@code BenchmarkResultComparator <baseline.json> <candidate.json> [thresholdPercent]}
+ */
+public final class BenchmarkResultComparator {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private BenchmarkResultComparator() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkResultComparator <baseline.json> <candidate.json> [thresholdPercent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        Map<String, Result> baseline = read(new File(args[0]));
+        Map<String, Result> candidate = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-90s %14s %14s %9s %12s%n", "benchmark", "baseline", "candidate", "delta", "alloc B/op");
+        for (Map.Entry<String, Result> entry : new TreeMap<>(candidate).entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            Result after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-90s %14s %14.3f %9s %12.1f%n", entry.getKey(), "-", after.score(), "new", after.allocation());
+                continue;
+            }
+            double delta = percentChange(before.score(), after.score());
+            // Throughput regresses when it drops, time-based modes when they grow
+            double worsening = after.higherIsBetter() ? -delta : delta;
+            double allocationWorsening = percentChange(before.allocation(), after.allocation());
+            boolean regressed = worsening > threshold || allocationWorsening > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%% %12.1f%s%n", entry.getKey(), before.score(), after.score(),
+                    delta, after.allocation(), regressed ? "  REGRESSION" : "");
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    private static double percentChange(double before, double after) {
+        if (before == 0) {
+            return after == 0 ? 0 : 100;
+        }
+        return (after - before) / before * 100;
+    }
+
+    private static Map<String, Result> read(File file) {
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (JsonNode run : JsonMapper.builder().build().readTree(file)) {
+            StringBuilder key = new StringBuilder(run.get("benchmark").asString())
+                    .append(" [").append(run.get("mode").asString()).append(']');
+            JsonNode params = run.get("params");
+            if (params != null) {
+                params.properties().forEach(param -> key.append(' ').append(param.getKey()).append('=')
+                        .append(param.getValue().asString()));
+            }
+            JsonNode primary = run.get("primaryMetric");
+            JsonNode allocation = run.path("secondaryMetrics").path(ALLOCATION_METRIC).path("score");
+            results.put(key.toString(), new Result(
+                    primary.get("score").asDouble(),
+                    "thrpt".equals(run.get("mode").asString()),
+                    allocation.isMissingNode() ? 0 : allocation.asDouble()));
+        }
+        return results;
+    }
+
+    private record Result(double score, boolean higherIsBetter, double allocation) {
+    }
+}
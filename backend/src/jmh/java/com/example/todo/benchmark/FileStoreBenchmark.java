@@ -0,0 +1,52 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.domain.model.Todo;
+import com.example.todo.infrastructure.persistence.adapter.TodoPersistenceAdapter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TodoPersistenceAdapter} writes against the file-backed H2 store of the prod profile,
+ * at several {@code WRITE_DELAY} settings
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class FileStoreBenchmark {
+
+    @Param({"0", "100", "500"})
+    public int writeDelayMs;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private TodoPersistenceAdapter adapter;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("todo-file-store");
+        context = BenchmarkApplication.run(
+                "--spring.profiles.active=prod",
+                "--todo.store.directory=" + directory,
+                "--todo.store.write-delay-ms=" + writeDelayMs,
+                "--todo.snapshot.restore-mode=if-missing",
+                "--todo.snapshot.restore-from=" + directory.resolve("none"));
+        adapter = context.getBean(TodoPersistenceAdapter.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public Todo saveNew() {
+        return adapter.save(new Todo("Benchmark", "Created by benchmark"));
+    }
+}
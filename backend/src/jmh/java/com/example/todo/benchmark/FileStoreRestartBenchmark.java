@@ -0,0 +1,98 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.infrastructure.persistence.snapshot.DatabaseSnapshotService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time from launching the application until a populated store answers queries, comparing three ways to get the
+ * data back after a restart: reopening the existing store file, restoring the newest snapshot into an empty data
+ * directory, and replaying every insert into an empty store.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@State(Scope.Benchmark)
+public class FileStoreRestartBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    private Path seedDirectory;
+    private Path snapshotDirectory;
+    private Path dataDirectory;
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void createSeedStore() throws IOException {
+        Path root = Files.createTempDirectory("todo-restart");
+        seedDirectory = root.resolve("seed");
+        snapshotDirectory = root.resolve("snapshots");
+        dataDirectory = root.resolve("data");
+
+        try (ConfigurableApplicationContext seed = start(seedDirectory)) {
+            BenchmarkApplication.seed(seed.getBean(JdbcTemplate.class), rows);
+            seed.getBean(DatabaseSnapshotService.class).createSnapshot();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void emptyDataDirectory() throws IOException {
+        FileSystemUtils.deleteRecursively(dataDirectory);
+        Files.createDirectories(dataDirectory);
+    }
+
+    @TearDown(Level.Iteration)
+    public void stop() {
+        context.close();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFiles() throws IOException {
+        FileSystemUtils.deleteRecursively(seedDirectory.getParent());
+    }
+
+    @Benchmark
+    public long reopenExistingStore() {
+        context = start(seedDirectory);
+        return count();
+    }
+
+    @Benchmark
+    public long restoreFromSnapshot() {
+        context = start(dataDirectory);
+        return count();
+    }
+
+    @Benchmark
+    public long replayInserts() {
+        context = BenchmarkApplication.run(arguments(dataDirectory, "--todo.snapshot.restore-from=" + dataDirectory));
+        BenchmarkApplication.seed(context.getBean(JdbcTemplate.class), rows);
+        return count();
+    }
+
+    private ConfigurableApplicationContext start(Path storeDirectory) {
+        return BenchmarkApplication.run(arguments(storeDirectory, "--todo.snapshot.restore-from=" + snapshotDirectory));
+    }
+
+    private String[] arguments(Path storeDirectory, String restoreFrom) {
+        return new String[]{
+                "--spring.profiles.active=prod",
+                "--todo.store.directory=" + storeDirectory,
+                "--todo.snapshot.directory=" + snapshotDirectory,
+                "--todo.snapshot.restore-mode=if-missing",
+                restoreFrom};
+    }
+
+    private long count() {
+        return context.getBean(JdbcTemplate.class).queryForObject("SELECT COUNT(*) FROM todos", Long.class);
+    }
+}
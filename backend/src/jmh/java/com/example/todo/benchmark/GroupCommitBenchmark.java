@@ -0,0 +1,53 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.application.service.TodoService;
+import com.example.todo.domain.model.Todo;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent {@link TodoService#createTodo} against the file-backed store syncing every commit
+ * ({@code WRITE_DELAY=0}), with one commit per operation versus group commit
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(16)
+@State(Scope.Benchmark)
+public class GroupCommitBenchmark {
+
+    @Param({"false", "true"})
+    public boolean groupCommit;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("todo-group-commit");
+        context = BenchmarkApplication.run(
+                "--spring.profiles.active=prod",
+                "--todo.store.directory=" + directory,
+                "--todo.store.write-delay-ms=0",
+                "--todo.snapshot.restore-from=" + directory.resolve("none"),
+                "--todo.group-commit.enabled=" + groupCommit);
+        todoService = context.getBean(TodoService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public Todo createTodo() {
+        return todoService.createTodo("Benchmark", "Created by benchmark");
+    }
+}
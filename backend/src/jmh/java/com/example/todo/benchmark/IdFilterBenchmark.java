@@ -0,0 +1,74 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.application.service.TodoNotFoundException;
+import com.example.todo.application.service.TodoService;
+import com.example.todo.infrastructure.persistence.idfilter.BloomTodoIdFilter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code TodoService.getTodoById} for ids that do not exist, with and without the id filter, and for ids that do
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class IdFilterBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    @Param({"false", "true"})
+    public boolean filter;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private long[] existing;
+    private long[] missing;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.run(
+                "--spring.datasource.url=jdbc:h2:mem:idfilter" + filter,
+                "--todo.id-filter.enabled=" + filter,
+                "--todo.read-model.enabled=false",
+                "--todo.retention.enabled=false");
+        todoService = context.getBean(TodoService.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        BenchmarkApplication.seed(jdbcTemplate, ROWS);
+        // Every other todo deleted, so missing ids lie between existing ones
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM todos ORDER BY id", Long.class);
+        existing = new long[ids.size() / 2];
+        missing = new long[ids.size() / 2];
+        for (int i = 0; i < existing.length; i++) {
+            existing[i] = ids.get(2 * i);
+            missing[i] = ids.get(2 * i + 1);
+            jdbcTemplate.update("DELETE FROM todos WHERE id = ?", missing[i]);
+        }
+        if (filter) {
+            context.getBean(BloomTodoIdFilter.class).rebuild();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object missingTodo() {
+        try {
+            return todoService.getTodoById(missing[ThreadLocalRandom.current().nextInt(missing.length)]);
+        } catch (TodoNotFoundException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object existingTodo() {
+        return todoService.getTodoById(existing[ThreadLocalRandom.current().nextInt(existing.length)]);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.infrastructure.importer.ImportListener;
+import com.example.todo.infrastructure.importer.ImportProgress;
+import com.example.todo.infrastructure.importer.TodoImporter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Import of 100,000 CSV rows into an empty in-memory database, with tags and timestamps on every row so each one
+ * goes through the full validation. Rows per second are 100,000 divided by the reported time.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class ImportBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final ImportListener IGNORE = new ImportListener() {
+        @Override
+        public void rejected(long row, String error) {
+        }
+
+        @Override
+        public void committed(ImportProgress progress) {
+        }
+    };
+
+    @Param({"1000", "5000", "20000"})
+    public int chunkSize;
+
+    private ConfigurableApplicationContext context;
+    private TodoImporter importer;
+    private JdbcTemplate jdbcTemplate;
+    private byte[] csv;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.run(
+                "--spring.datasource.url=jdbc:h2:mem:import" + chunkSize,
+                "--todo.import.enabled=true",
+                "--todo.import.chunk-size=" + chunkSize);
+        importer = context.getBean(TodoImporter.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        StringBuilder builder = new StringBuilder("title,description,completed,dueAt,tags\n");
+        for (int i = 1; i <= ROWS; i++) {
+            builder.append("Todo ").append(i).append(",\"Imported, row ").append(i).append("\",")
+                    .append(i % 2 == 0).append(",2026-01-20T17:00:00,\"home,errands\"\n");
+        }
+        csv = builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Setup(Level.Iteration)
+    public void clear() {
+        jdbcTemplate.update("DELETE FROM todos");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<ImportProgress> importCsv() throws IOException {
+        return importer.tryImport(TodoImporter.Format.CSV, new ByteArrayInputStream(csv), 0, IGNORE);
+    }
+}
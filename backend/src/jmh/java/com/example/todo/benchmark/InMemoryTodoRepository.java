@@ -0,0 +1,263 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoField;
+import com.example.todo.domain.port.TodoRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * In-memory fake of the outbound port, so service benchmarks measure the use cases and not the database
+ */
+public class InMemoryTodoRepository implements TodoRepository {
+
+    private final Map<Long, Todo> todos = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    // Only grows, deleting the last todo leaves a gap instead of a scan on every create
+    private final AtomicReference<String> lastSortKey = new AtomicReference<>();
+
+    @Override
+    public Todo save(Todo todo) {
+        if (todo.getId() == null) {
+            todo.setId(sequence.incrementAndGet());
+        }
+        todos.put(todo.getId(), todo);
+        raiseLastSortKey(todo.getSortKey());
+        return todo;
+    }
+
+    @Override
+    public Optional<Todo> findById(Long id) {
+        return Optional.ofNullable(todos.get(id));
+    }
+
+    @Override
+    public List<Todo> findAll() {
+        return new ArrayList<>(todos.values());
+    }
+
+    @Override
+    public List<Todo> findAll(Set<TodoField> fields) {
+        return todos.values().stream()
+                .map(todo -> {
+                    Todo projected = new Todo();
+                    projected.setId(fields.contains(TodoField.ID) ? todo.getId() : null);
+                    projected.setTitle(fields.contains(TodoField.TITLE) ? todo.getTitle() : null);
+                    projected.setDescription(fields.contains(TodoField.DESCRIPTION) ? todo.getDescription() : null);
+                    projected.setCompleted(fields.contains(TodoField.COMPLETED) && todo.isCompleted());
+                    projected.setCreatedAt(fields.contains(TodoField.CREATED_AT) ? todo.getCreatedAt() : null);
+                    projected.setUpdatedAt(fields.contains(TodoField.UPDATED_AT) ? todo.getUpdatedAt() : null);
+                    return projected;
+                })
+                .toList();
+    }
+
+    @Override
+    public List<Todo> findAllById(Collection<Long> ids) {
+        return ids.stream()
+                .map(todos::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    @Override
+    public List<Long> findAllIds() {
+        return new ArrayList<>(todos.keySet());
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        todos.remove(id);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return todos.containsKey(id);
+    }
+
+    @Override
+    public List<Todo> findCompletedTodos() {
+        return todos.values().stream()
+                .filter(Todo::isCompleted)
+                .toList();
+    }
+
+    @Override
+    public void deleteAll(List<Todo> todos) {
+        todos.forEach(todo -> this.todos.remove(todo.getId()));
+    }
+
+    @Override
+    public List<Long> insertAll(List<Todo> todos) {
+        List<Long> ids = new ArrayList<>(todos.size());
+        for (Todo todo : todos) {
+            Todo copy = new Todo(todo.getTitle(), todo.getDescription());
+            copy.setId(sequence.incrementAndGet());
+            copy.setCompleted(todo.isCompleted());
+            copy.setCreatedAt(todo.getCreatedAt());
+            copy.setUpdatedAt(todo.getUpdatedAt());
+            copy.setSortKey(todo.getSortKey());
+            copy.setDueAt(todo.getDueAt());
+            copy.setRemindAt(todo.getRemindAt());
+            copy.setTags(todo.getTags());
+            save(copy);
+            ids.add(copy.getId());
+        }
+        return ids;
+    }
+
+    @Override
+    public List<Long> updateCompleted(Collection<Long> ids, boolean completed, LocalDateTime updatedAt) {
+        List<Long> updated = new ArrayList<>();
+        for (Long id : ids) {
+            Todo todo = todos.get(id);
+            if (todo != null && todo.isCompleted() != completed) {
+                todo.setCompleted(completed);
+                todo.setUpdatedAt(updatedAt);
+                updated.add(id);
+            }
+        }
+        return updated;
+    }
+
+    @Override
+    public List<Long> completeAll(LocalDateTime updatedAt) {
+        return updateCompleted(List.copyOf(todos.keySet()), true, updatedAt);
+    }
+
+    @Override
+    public List<Long> deleteCompleted() {
+        List<Todo> completed = findCompletedTodos();
+        deleteAll(completed);
+        return completed.stream().map(Todo::getId).toList();
+    }
+
+    @Override
+    public List<Long> findCompletedIdsUpdatedBefore(LocalDateTime cutoff, int limit) {
+        return completedBefore(cutoff)
+                .sorted(Comparator.comparing(Todo::getUpdatedAt))
+                .limit(limit)
+                .map(Todo::getId)
+                .toList();
+    }
+
+    @Override
+    public int deleteCompletedUpdatedBefore(Collection<Long> ids, LocalDateTime cutoff) {
+        int deleted = 0;
+        for (Long id : ids) {
+            Todo todo = todos.get(id);
+            if (todo != null && todo.isCompleted() && todo.getUpdatedAt().isBefore(cutoff)
+                    && todos.remove(id, todo)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public long countCompletedUpdatedBefore(LocalDateTime cutoff) {
+        return completedBefore(cutoff).count();
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestCompletedUpdateBefore(LocalDateTime cutoff) {
+        return completedBefore(cutoff).map(Todo::getUpdatedAt).min(Comparator.naturalOrder());
+    }
+
+    @Override
+    public List<Todo> findPendingReminders(LocalDateTime from, LocalDateTime to) {
+        return todos.values().stream()
+                .filter(todo -> !todo.isCompleted() && todo.getRemindAt() != null
+                        && !todo.getRemindAt().isBefore(from) && todo.getRemindAt().isBefore(to))
+                .toList();
+    }
+
+    @Override
+    public Optional<String> findLastSortKey() {
+        return Optional.ofNullable(lastSortKey.get());
+    }
+
+    @Override
+    public Map<Long, String> findSortKeys(Collection<Long> ids) {
+        Map<Long, String> sortKeys = new HashMap<>();
+        for (Long id : ids) {
+            Todo todo = todos.get(id);
+            if (todo != null) {
+                sortKeys.put(id, todo.getSortKey());
+            }
+        }
+        return sortKeys;
+    }
+
+    @Override
+    public Optional<String> findSortKeyAfter(String sortKey, Long excludedId) {
+        return sortKeys(excludedId).filter(key -> key.compareTo(sortKey) > 0).min(Comparator.naturalOrder());
+    }
+
+    @Override
+    public Optional<String> findSortKeyBefore(String sortKey, Long excludedId) {
+        return sortKeys(excludedId).filter(key -> key.compareTo(sortKey) < 0).max(Comparator.naturalOrder());
+    }
+
+    @Override
+    public int updateSortKey(Long id, String sortKey) {
+        Todo todo = todos.get(id);
+        if (todo == null) {
+            return 0;
+        }
+        todo.setSortKey(sortKey);
+        raiseLastSortKey(sortKey);
+        return 1;
+    }
+
+    @Override
+    public boolean needsSortKeyRebalance(int maxLength) {
+        long keys = todos.values().stream().map(Todo::getSortKey).filter(Objects::nonNull).distinct().count();
+        return keys < todos.size() || sortKeys(null).anyMatch(key -> key.length() > maxLength);
+    }
+
+    @Override
+    public List<Long> findAllIdsInListOrderForUpdate() {
+        return todos.values().stream()
+                .sorted(Comparator.comparing(Todo::getSortKey, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(Todo::getId))
+                .map(Todo::getId)
+                .toList();
+    }
+
+    @Override
+    public void updateSortKeys(Map<Long, String> sortKeys) {
+        sortKeys.forEach(this::updateSortKey);
+    }
+
+    private Stream<Todo> completedBefore(LocalDateTime cutoff) {
+        return todos.values().stream()
+                .filter(todo -> todo.isCompleted() && todo.getUpdatedAt().isBefore(cutoff));
+    }
+
+    private void raiseLastSortKey(String sortKey) {
+        if (sortKey != null) {
+            lastSortKey.accumulateAndGet(sortKey, (last, key) -> last == null || key.compareTo(last) > 0 ? key : last);
+        }
+    }
+
+    private Stream<String> sortKeys(Long excludedId) {
+        return todos.values().stream()
+                .filter(todo -> !todo.getId().equals(excludedId))
+                .map(Todo::getSortKey)
+                .filter(Objects::nonNull);
+    }
+}
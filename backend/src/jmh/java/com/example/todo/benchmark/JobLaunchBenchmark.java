@@ -0,0 +1,88 @@
+package com.example.todo.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.JobExecution;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Launch of {@code deleteCompletedTodosJob} with the resourceless job repository and with the jdbc repository
+ * holding a history of earlier executions, as it accumulates without housekeeping. The history is only seeded
+ * in jdbc mode, so {@code -p repository=jdbc} skips the redundant resourceless runs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JobLaunchBenchmark {
+
+    @Param({"resourceless", "jdbc"})
+    public String repository;
+
+    @Param({"0", "10000", "100000"})
+    public int history;
+
+    private ConfigurableApplicationContext context;
+    private JobOperator jobOperator;
+    private Job job;
+    private long run;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.run(
+                "--spring.datasource.url=jdbc:h2:mem:job-launch-" + repository + history,
+                "--todo.batch.job-repository=" + repository,
+                "--todo.retention.enabled=false");
+        jobOperator = context.getBean(JobOperator.class);
+        job = context.getBean("deleteCompletedTodosJob", Job.class);
+        if ("jdbc".equals(repository)) {
+            seedHistory(context.getBean(JdbcTemplate.class), history);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public JobExecution launch() throws Exception {
+        return jobOperator.start(job, new JobParametersBuilder()
+                .addLong("time", System.currentTimeMillis())
+                .addLong("run", run++)
+                .toJobParameters());
+    }
+
+    // Same rows as a finished run of the job: instance, execution, parameters, step and both contexts
+    private static void seedHistory(JdbcTemplate jdbcTemplate, int executions) {
+        if (executions == 0) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO BATCH_JOB_INSTANCE (JOB_INSTANCE_ID, VERSION, JOB_NAME, JOB_KEY) "
+                + "SELECT X, 0, 'deleteCompletedTodosJob', LPAD(CAST(X AS VARCHAR), 32, '0') FROM SYSTEM_RANGE(1, ?)",
+                executions);
+        jdbcTemplate.update("INSERT INTO BATCH_JOB_EXECUTION (JOB_EXECUTION_ID, VERSION, JOB_INSTANCE_ID, CREATE_TIME, "
+                + "START_TIME, END_TIME, STATUS, EXIT_CODE, EXIT_MESSAGE, LAST_UPDATED) "
+                + "SELECT X, 2, X, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 'COMPLETED', 'COMPLETED', '', "
+                + "CURRENT_TIMESTAMP FROM SYSTEM_RANGE(1, ?)", executions);
+        jdbcTemplate.update("INSERT INTO BATCH_JOB_EXECUTION_PARAMS SELECT X, 'time', 'java.lang.Long', "
+                + "CAST(X AS VARCHAR), 'Y' FROM SYSTEM_RANGE(1, ?)", executions);
+        jdbcTemplate.update("INSERT INTO BATCH_JOB_EXECUTION_CONTEXT SELECT X, '{}', NULL FROM SYSTEM_RANGE(1, ?)",
+                executions);
+        jdbcTemplate.update("INSERT INTO BATCH_STEP_EXECUTION (STEP_EXECUTION_ID, VERSION, STEP_NAME, JOB_EXECUTION_ID, "
+                + "CREATE_TIME, START_TIME, END_TIME, STATUS, COMMIT_COUNT, READ_COUNT, FILTER_COUNT, WRITE_COUNT, "
+                + "READ_SKIP_COUNT, WRITE_SKIP_COUNT, PROCESS_SKIP_COUNT, ROLLBACK_COUNT, EXIT_CODE, EXIT_MESSAGE, "
+                + "LAST_UPDATED) SELECT X, 3, 'deleteCompletedTodosStep', X, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, "
+                + "CURRENT_TIMESTAMP, 'COMPLETED', 1, 0, 0, 0, 0, 0, 0, 0, 'COMPLETED', '', CURRENT_TIMESTAMP "
+                + "FROM SYSTEM_RANGE(1, ?)", executions);
+        jdbcTemplate.update("INSERT INTO BATCH_STEP_EXECUTION_CONTEXT SELECT X, '{}', NULL FROM SYSTEM_RANGE(1, ?)",
+                executions);
+        for (String sequence : new String[]{"BATCH_JOB_INSTANCE_SEQ", "BATCH_JOB_EXECUTION_SEQ", "BATCH_STEP_EXECUTION_SEQ"}) {
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (executions + 1));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.infrastructure.web.dto.TodoDto;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of the list response body
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int listSize;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private List<TodoDto> todos;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        todos = new ArrayList<>(listSize);
+        for (long i = 1; i <= listSize; i++) {
+            todos.add(new TodoDto(i, "Todo " + i, "Description " + i, i % 2 == 0, now, now, null, null, Set.of()));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeList() {
+        return jsonMapper.writeValueAsBytes(todos);
+    }
+}
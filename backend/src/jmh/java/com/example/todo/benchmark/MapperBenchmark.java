@@ -0,0 +1,47 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.domain.model.Todo;
+import com.example.todo.infrastructure.persistence.entity.TodoEntity;
+import com.example.todo.infrastructure.persistence.mapper.TodoMapper;
+import com.example.todo.infrastructure.web.dto.TodoDto;
+import com.example.todo.infrastructure.web.mapper.TodoDtoMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain/entity and domain/DTO mapping, executed once per todo on every read and write
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final TodoMapper todoMapper = new TodoMapper();
+    private final TodoDtoMapper todoDtoMapper = new TodoDtoMapper();
+
+    private Todo todo;
+    private TodoEntity entity;
+
+    @Setup
+    public void setUp() {
+        todo = new Todo("Buy groceries", "Milk, eggs, bread, cheese");
+        todo.setId(42L);
+        entity = todoMapper.toEntity(todo);
+    }
+
+    @Benchmark
+    public TodoEntity toEntity() {
+        return todoMapper.toEntity(todo);
+    }
+
+    @Benchmark
+    public Todo toDomain() {
+        return todoMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public TodoDto toDto() {
+        return todoDtoMapper.toDto(todo);
+    }
+}
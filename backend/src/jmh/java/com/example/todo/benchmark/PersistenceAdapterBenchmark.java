@@ -0,0 +1,69 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.domain.model.Todo;
+import com.example.todo.infrastructure.persistence.adapter.TodoPersistenceAdapter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TodoPersistenceAdapter} against embedded H2 at several table sizes
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PersistenceAdapterBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int tableSize;
+
+    private ConfigurableApplicationContext context;
+    private TodoPersistenceAdapter adapter;
+    private JdbcTemplate jdbcTemplate;
+    private Todo existing;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("adapter" + tableSize);
+        adapter = context.getBean(TodoPersistenceAdapter.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        BenchmarkApplication.seed(jdbcTemplate, tableSize);
+        existing = adapter.findById(1L).orElseThrow();
+    }
+
+    @TearDown(Level.Iteration)
+    public void removeInsertedRows() {
+        jdbcTemplate.update("DELETE FROM todos WHERE id > ?", tableSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Todo saveNew() {
+        return adapter.save(new Todo("Benchmark", "Created by benchmark"));
+    }
+
+    @Benchmark
+    public Todo saveExisting() {
+        existing.updateDetails("Updated", "Updated by benchmark");
+        return adapter.save(existing);
+    }
+
+    @Benchmark
+    public Optional<Todo> findById() {
+        return adapter.findById(ThreadLocalRandom.current().nextLong(1, tableSize + 1));
+    }
+
+    @Benchmark
+    public List<Todo> findAll() {
+        return adapter.findAll();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.application.service.TodoService;
+import com.example.todo.infrastructure.web.mapper.TodoDtoMapper;
+import com.example.todo.infrastructure.web.readmodel.TodoListReadModel;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Body of {@code GET /api/todos}: query, map and serialize on every request against the read model, up to date
+ * and right after a change of one todo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ReadModelBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private TodoDtoMapper todoDtoMapper;
+    private ObjectMapper objectMapper;
+    private TodoListReadModel readModel;
+    private Long changedId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.run(
+                "--spring.datasource.url=jdbc:h2:mem:readmodel" + rows,
+                "--todo.read-model.enabled=true",
+                "--todo.retention.enabled=false");
+        todoService = context.getBean(TodoService.class);
+        todoDtoMapper = context.getBean(TodoDtoMapper.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        readModel = context.getBean(TodoListReadModel.class);
+        BenchmarkApplication.seed(context.getBean(JdbcTemplate.class), rows);
+        changedId = todoService.getAllTodos().getFirst().getId();
+        readModel.rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] queryAndSerialize() {
+        return objectMapper.writeValueAsBytes(todoService.getAllTodos().stream()
+                .map(todoDtoMapper::toDto)
+                .toList());
+    }
+
+    @Benchmark
+    public byte[] readModel() {
+        return readModel.current().json();
+    }
+
+    @Benchmark
+    public byte[] readModelGzip() {
+        return readModel.current().gzip();
+    }
+
+    /**
+     * Toggles a todo and reads the list, the read pays for reloading the changed todo and joining the fragments
+     */
+    @Benchmark
+    public byte[] readModelAfterWrite() {
+        todoService.toggleTodoCompletion(changedId);
+        return readModel.current().json();
+    }
+}
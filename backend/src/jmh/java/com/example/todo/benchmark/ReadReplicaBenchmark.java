@@ -0,0 +1,59 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.application.service.TodoService;
+import com.example.todo.domain.model.Todo;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read throughput of {@link TodoService} under concurrency with read-only transactions spread over
+ * 0 (everything on the primary) to 4 replica pools. The replica pools connect to the same in-memory
+ * database, so the benchmark isolates the cost and contention of connection routing and pooling.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(16)
+@State(Scope.Benchmark)
+public class ReadReplicaBenchmark {
+
+    private static final int ROWS = 1000;
+
+    @Param({"0", "1", "2", "4"})
+    public int replicas;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = "jdbc:h2:mem:replicas" + replicas;
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.hikari.maximum-pool-size=4",
+                "--todo.datasource.replica.maximum-pool-size=4"));
+        if (replicas > 0) {
+            args.add("--todo.datasource.replica.enabled=true");
+            args.add("--todo.datasource.replica.urls=" + String.join(",", Collections.nCopies(replicas, url)));
+        }
+        context = BenchmarkApplication.run(args.toArray(String[]::new));
+        todoService = context.getBean(TodoService.class);
+        BenchmarkApplication.seed(context.getBean(JdbcTemplate.class), ROWS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Todo getTodoById() {
+        return todoService.getTodoById(ThreadLocalRandom.current().nextLong(1, ROWS + 1));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.application.service.TodoService;
+import com.example.todo.domain.model.Todo;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent creates through {@link TodoService} with todos spread over 1 to 4 file-backed H2 shards.
+ * Every shard is a separate database with its own store file and connection pool, so the benchmark shows how
+ * far writes scale when the single database is the bottleneck, within the limits of one machine.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(16)
+@State(Scope.Benchmark)
+public class ShardingBenchmark {
+
+    @Param({"1", "2", "4"})
+    public int shards;
+
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("todo-shards");
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < shards; i++) {
+            urls.add("jdbc:h2:file:" + directory.resolve("shard" + i).resolve("tododb"));
+        }
+        context = BenchmarkApplication.run(
+                "--spring.datasource.url=jdbc:h2:mem:sharding" + shards,
+                "--todo.sharding.enabled=true",
+                "--todo.sharding.maximum-pool-size=4",
+                "--todo.sharding.urls=" + String.join(",", urls));
+        todoService = context.getBean(TodoService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        try (var files = Files.walk(directory)) {
+            files.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public Todo createTodo() {
+        return todoService.createTodo("Benchmark todo", "Created by ShardingBenchmark");
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.application.service.TodoService;
+import com.example.todo.domain.model.TodoField;
+import com.example.todo.infrastructure.web.mapper.SparseTodoWriter;
+import com.example.todo.infrastructure.web.mapper.TodoDtoMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Body of {@code GET /api/todos} with all fields and with {@code ?fields=id,title,completed}, both queried and
+ * serialized on every call
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SparseFieldsetBenchmark {
+
+    private static final Set<TodoField> LIST_VIEW = EnumSet.of(TodoField.ID, TodoField.TITLE, TodoField.COMPLETED);
+
+    @Param({"100000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private TodoService todoService;
+    private TodoDtoMapper todoDtoMapper;
+    private ObjectMapper objectMapper;
+    private SparseTodoWriter sparseTodoWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.run(
+                "--spring.datasource.url=jdbc:h2:mem:fieldsets" + rows,
+                "--todo.read-model.enabled=false",
+                "--todo.retention.enabled=false");
+        todoService = context.getBean(TodoService.class);
+        todoDtoMapper = context.getBean(TodoDtoMapper.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        sparseTodoWriter = context.getBean(SparseTodoWriter.class);
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        BenchmarkApplication.seed(jdbcTemplate, rows);
+        // Descriptions of a few hundred characters, as written by real users
+        jdbcTemplate.update("UPDATE todos SET description = REPEAT('Lorem ipsum dolor sit amet. ', 16)");
+        System.out.printf("%nBody of %d todos: all fields %,d bytes, id,title,completed %,d bytes%n", rows,
+                allFields().length, listView().length);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] allFields() {
+        return objectMapper.writeValueAsBytes(todoService.getAllTodos().stream()
+                .map(todoDtoMapper::toDto)
+                .toList());
+    }
+
+    @Benchmark
+    public byte[] listView() {
+        return sparseTodoWriter.write(todoService.getAllTodos(LIST_VIEW), LIST_VIEW);
+    }
+}
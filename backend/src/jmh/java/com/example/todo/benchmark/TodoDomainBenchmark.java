@@ -0,0 +1,43 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.domain.model.Todo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * State transitions of the {@link Todo} aggregate
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class TodoDomainBenchmark {
+
+    private Todo todo;
+
+    @Setup
+    public void setUp() {
+        todo = new Todo("Buy groceries", "Milk, eggs, bread, cheese");
+    }
+
+    @Benchmark
+    public Todo create() {
+        return new Todo("Buy groceries", "Milk, eggs, bread, cheese");
+    }
+
+    @Benchmark
+    public Todo toggle() {
+        if (todo.isCompleted()) {
+            todo.markAsIncomplete();
+        } else {
+            todo.markAsCompleted();
+        }
+        return todo;
+    }
+
+    @Benchmark
+    public Todo updateDetails() {
+        todo.updateDetails("Buy groceries", "Milk, eggs, bread");
+        return todo;
+    }
+}
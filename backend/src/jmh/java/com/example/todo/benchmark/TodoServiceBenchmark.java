@@ -0,0 +1,67 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.application.service.TodoIdFilter;
+import com.example.todo.application.service.TodoService;
+import com.example.todo.application.service.TodoTagIndex;
+import com.example.todo.application.service.TransactionalTodoWriteExecutor;
+import com.example.todo.domain.model.Todo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Use cases of {@link TodoService} against {@link InMemoryTodoRepository}
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TodoServiceBenchmark {
+
+    @Param({"100", "10000"})
+    public int tableSize;
+
+    private TodoService todoService;
+
+    @Setup
+    public void setUp() {
+        todoService = new TodoService(new InMemoryTodoRepository(), new TransactionalTodoWriteExecutor(),
+                TodoIdFilter.ALLOW_ALL, TodoTagIndex.NONE, event -> {
+                });
+        for (int i = 0; i < tableSize; i++) {
+            todoService.createTodo("Todo " + i, "Description " + i);
+        }
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, tableSize + 1);
+    }
+
+    @Benchmark
+    public Todo createTodo() {
+        Todo todo = todoService.createTodo("Benchmark", "Created by benchmark");
+        todoService.deleteTodo(todo.getId());
+        return todo;
+    }
+
+    @Benchmark
+    public Todo getTodoById() {
+        return todoService.getTodoById(randomId());
+    }
+
+    @Benchmark
+    public List<Todo> getAllTodos() {
+        return todoService.getAllTodos();
+    }
+
+    @Benchmark
+    public Todo updateTodo() {
+        return todoService.updateTodo(randomId(), "Updated", "Updated by benchmark");
+    }
+
+    @Benchmark
+    public Todo toggleTodoCompletion() {
+        return todoService.toggleTodoCompletion(randomId());
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.todo.application.service;
+
+import com.example.todo.domain.model.SortKeys;
+import com.example.todo.domain.model.Tags;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoField;
+import com.example.todo.domain.port.ReactiveTodoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Non-blocking counterpart of {@link TodoService} for the reactive deployment
+ * <p>
+ * Every use case ends in a single statement, so there is no transaction around it. Todos created at the same
+ * time may read the same last sort key, the jitter of {@link SortKeys#after(String)} keeps their keys apart.
+ */
+public class ReactiveTodoService {
+
+    private final ReactiveTodoRepository todoRepository;
+
+    public ReactiveTodoService(ReactiveTodoRepository todoRepository) {
+        this.todoRepository = todoRepository;
+    }
+
+    public Mono<Todo> createTodo(String title, String description) {
+        return createTodo(title, description, null, null, Set.of());
+    }
+
+    /**
+     * @param tags normalized by {@link Tags#parse}
+     */
+    public Mono<Todo> createTodo(String title, String description, LocalDateTime dueAt, LocalDateTime remindAt,
+                                 Set<String> tags) {
+        return Mono.defer(todoRepository::findLastSortKey)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .map(last -> {
+                    Todo todo = new Todo(title, description);
+                    todo.setSortKey(SortKeys.after(last.orElse(null)));
+                    todo.setDueAt(dueAt);
+                    todo.setRemindAt(remindAt);
+                    todo.setTags(tags);
+                    return todo;
+                })
+                .flatMap(todoRepository::save);
+    }
+
+    public Flux<Todo> getAllTodos() {
+        return todoRepository.findAll();
+    }
+
+    public Mono<Todo> getTodoById(Long id) {
+        return findTodo(id);
+    }
+
+    /**
+     * Keeps the due date, reminder and tags
+     */
+    public Mono<Todo> updateTodo(Long id, String title, String description) {
+        return findTodo(id)
+                .flatMap(todo -> {
+                    todo.updateDetails(title, description);
+                    return todoRepository.save(todo);
+                });
+    }
+
+    /**
+     * Due date, reminder and tags that are {@code null} keep their current value unless their field is in
+     * {@code cleared}
+     *
+     * @param tags normalized by {@link Tags#parse}, replace the current ones
+     */
+    public Mono<Todo> updateTodo(Long id, String title, String description, LocalDateTime dueAt,
+                                 LocalDateTime remindAt, Set<String> tags, Set<TodoField> cleared) {
+        return findTodo(id)
+                .flatMap(todo -> {
+                    todo.update(title, description, dueAt, remindAt, tags, cleared);
+                    return todoRepository.save(todo);
+                });
+    }
+
+    public Mono<Todo> toggleTodoCompletion(Long id) {
+        return findTodo(id)
+                .flatMap(todo -> {
+                    if (todo.isCompleted()) {
+                        todo.markAsIncomplete();
+                    } else {
+                        todo.markAsCompleted();
+                    }
+                    return todoRepository.save(todo);
+                });
+    }
+
+    public Mono<Void> deleteTodo(Long id) {
+        return todoRepository.existsById(id)
+                .flatMap(exists -> exists
+                        ? todoRepository.deleteById(id)
+                        : Mono.error(new TodoNotFoundException(id)));
+    }
+
+    private Mono<Todo> findTodo(Long id) {
+        return todoRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new TodoNotFoundException(id)));
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.todo.application.service;
+
+/**
+ * Who runs the use cases on the current thread, recorded with every {@link TodoAuditEvent}
+ */
+public final class TodoActor {
+
+    public static final String ANONYMOUS = "anonymous";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TodoActor() {
+    }
+
+    public static void set(String actor) {
+        CURRENT.set(actor);
+    }
+
+    /**
+     * @return the actor set on this thread, {@value #ANONYMOUS} if none is
+     */
+    public static String current() {
+        String actor = CURRENT.get();
+        return actor != null ? actor : ANONYMOUS;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
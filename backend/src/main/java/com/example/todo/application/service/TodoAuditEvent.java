@@ -0,0 +1,30 @@
+package com.example.todo.application.service;
+
+import com.example.todo.domain.model.Todo;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published inside the write transaction of a mutation for the audit history, listeners should record it after
+ * commit. The states are snapshots that are not changed afterwards.
+ *
+ * @param todoId todo that changed, bulk statements publish one event per todo they changed
+ * @param action what was done
+ * @param actor  who did it, see {@link TodoActor}
+ * @param at     when it was done
+ * @param before state before the change, {@code null} for a new todo or when the change did not read it. For
+ *               {@link Action#MOVED} only the id and sort key are set.
+ * @param after  state after the change, {@code null} for a deleted todo or when the change did not read it. For
+ *               {@link Action#MOVED} only the id and sort key are set.
+ */
+public record TodoAuditEvent(Long todoId, Action action, String actor, LocalDateTime at, Todo before, Todo after) {
+
+    public enum Action {
+        CREATED,
+        UPDATED,
+        COMPLETED,
+        REOPENED,
+        MOVED,
+        DELETED
+    }
+}
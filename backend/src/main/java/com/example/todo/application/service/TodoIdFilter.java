@@ -0,0 +1,16 @@
+package com.example.todo.application.service;
+
+/**
+ * Tells whether a todo id may exist without asking the database. It may answer true for an id that does not
+ * exist, never false for one that does.
+ */
+@FunctionalInterface
+public interface TodoIdFilter {
+
+    /**
+     * Lets every id through to the database
+     */
+    TodoIdFilter ALLOW_ALL = id -> true;
+
+    boolean mightExist(long id);
+}
@@ -1,7 +1,29 @@
 package com.example.todo.application.service;
 
+/**
+ * Thrown for unknown todo ids. Misses are routine, stale clients and scanners ask for ids that never existed,
+ * so the exception carries no stack trace and builds its message only when asked for.
+ */
 public class TodoNotFoundException extends RuntimeException {
+
+    private final Long id;
+
+    public TodoNotFoundException(Long id) {
+        super(null, null, false, false);
+        this.id = id;
+    }
+
     public TodoNotFoundException(String message) {
-        super(message);
+        super(message, null, false, false);
+        this.id = null;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public String getMessage() {
+        return id != null ? "Todo not found with id: " + id : super.getMessage();
     }
 }
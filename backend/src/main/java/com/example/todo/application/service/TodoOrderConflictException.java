@@ -0,0 +1,12 @@
+package com.example.todo.application.service;
+
+/**
+ * Thrown when a todo cannot be placed between the given neighbours, because they are not in that order anymore
+ * or their sort keys leave no room until the rebalancer rewrites them
+ */
+public class TodoOrderConflictException extends RuntimeException {
+
+    public TodoOrderConflictException(String message) {
+        super(message);
+    }
+}
@@ -1,60 +1,316 @@
 package com.example.todo.application.service;
 
+import com.example.todo.application.service.TodoAuditEvent.Action;
+import com.example.todo.domain.model.SortKeys;
+import com.example.todo.domain.model.Tags;
 import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoField;
 import com.example.todo.domain.port.TodoRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Application Service (Use Cases)
  * This is the inbound port implementation
+ * <p>
+ * Queries run in read-only transactions, mutations are handed to the {@link TodoWriteExecutor} and publish a
+ * {@link TodosChangedEvent} within their transaction. Ids the {@link TodoIdFilter} rules out are rejected
+ * before any database access.
+ * <p>
+ * The list is ordered by {@link SortKeys}: new todos are appended after the greatest key, a move writes only the
+ * key of the moved todo. Filters on tags and completion status are resolved to ids by the {@link TodoTagIndex},
+ * then the todos are read with one query by id.
+ * <p>
+ * Every mutation also publishes a {@link TodoAuditEvent} with the {@link TodoActor} of the calling thread and the
+ * states the mutation read and wrote anyway, so auditing adds no statement.
  */
 @Service
-@Transactional
 public class TodoService {
     
     private final TodoRepository todoRepository;
+    private final TodoWriteExecutor writeExecutor;
+    private final TodoIdFilter idFilter;
+    private final TodoTagIndex tagIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TodoService(TodoRepository todoRepository) {
+    public TodoService(TodoRepository todoRepository, TodoWriteExecutor writeExecutor, TodoIdFilter idFilter,
+                       TodoTagIndex tagIndex, ApplicationEventPublisher eventPublisher) {
         this.todoRepository = todoRepository;
+        this.writeExecutor = writeExecutor;
+        this.idFilter = idFilter;
+        this.tagIndex = tagIndex;
+        this.eventPublisher = eventPublisher;
     }
 
     public Todo createTodo(String title, String description) {
-        Todo todo = new Todo(title, description);
-        return todoRepository.save(todo);
+        return createTodo(title, description, null, null, Set.of());
     }
 
+    /**
+     * @param tags normalized by {@link Tags#parse}
+     */
+    public Todo createTodo(String title, String description, LocalDateTime dueAt, LocalDateTime remindAt,
+                           Set<String> tags) {
+        String actor = TodoActor.current();
+        return writeExecutor.execute(() -> {
+            Todo todo = new Todo(title, description);
+            todo.setSortKey(SortKeys.after(todoRepository.findLastSortKey().orElse(null)));
+            todo.setDueAt(dueAt);
+            todo.setRemindAt(remindAt);
+            todo.setTags(tags);
+            return changed(Action.CREATED, actor, null, todoRepository.save(todo));
+        });
+    }
+
+    @Transactional(readOnly = true)
     public List<Todo> getAllTodos() {
         return todoRepository.findAll();
     }
 
+    /**
+     * @return all todos in list order, with only the given fields read from the database
+     */
+    @Transactional(readOnly = true)
+    public List<Todo> getAllTodos(Set<TodoField> fields) {
+        return todoRepository.findAll(fields);
+    }
+
+    /**
+     * @param tags      normalized by {@link Tags#parse}, the todos must have all of them
+     * @param completed completion status of the todos, {@code null} for any
+     * @return the matching todos in list order
+     */
+    @Transactional(readOnly = true)
+    public List<Todo> findTodos(Set<String> tags, Boolean completed) {
+        Predicate<Todo> matches = todo -> todo.getTags().containsAll(tags)
+                && (completed == null || todo.isCompleted() == completed);
+        Optional<List<Long>> ids = tagIndex.find(tags, completed);
+        if (ids.isEmpty()) {
+            return todoRepository.findAll().stream().filter(matches).toList();
+        }
+        if (ids.get().isEmpty()) {
+            return List.of();
+        }
+        // Checked again, a todo may have changed since the index last saw it
+        return todoRepository.findAllById(ids.get()).stream().filter(matches).toList();
+    }
+
+    @Transactional(readOnly = true)
     public Todo getTodoById(Long id) {
-        return todoRepository.findById(id)
-                .orElseThrow(() -> new TodoNotFoundException("Todo not found with id: " + id));
+        return findTodo(id);
     }
 
+    /**
+     * Keeps the due date, reminder and tags
+     */
     public Todo updateTodo(Long id, String title, String description) {
-        Todo todo = getTodoById(id);
-        todo.updateDetails(title, description);
-        return todoRepository.save(todo);
+        requireMightExist(id);
+        String actor = TodoActor.current();
+        return writeExecutor.execute(() -> {
+            Todo todo = findTodo(id);
+            Todo before = todo.copy();
+            todo.updateDetails(title, description);
+            return changed(Action.UPDATED, actor, before, todoRepository.save(todo));
+        });
+    }
+
+    /**
+     * Due date, reminder and tags that are {@code null} keep their current value unless their field is in
+     * {@code cleared}
+     *
+     * @param tags normalized by {@link Tags#parse}, replace the current ones
+     */
+    public Todo updateTodo(Long id, String title, String description, LocalDateTime dueAt, LocalDateTime remindAt,
+                           Set<String> tags, Set<TodoField> cleared) {
+        requireMightExist(id);
+        String actor = TodoActor.current();
+        return writeExecutor.execute(() -> {
+            Todo todo = findTodo(id);
+            Todo before = todo.copy();
+            todo.update(title, description, dueAt, remindAt, tags, cleared);
+            return changed(Action.UPDATED, actor, before, todoRepository.save(todo));
+        });
     }
 
     public Todo toggleTodoCompletion(Long id) {
-        Todo todo = getTodoById(id);
-        if (todo.isCompleted()) {
-            todo.markAsIncomplete();
-        } else {
-            todo.markAsCompleted();
-        }
-        return todoRepository.save(todo);
+        requireMightExist(id);
+        String actor = TodoActor.current();
+        return writeExecutor.execute(() -> {
+            Todo todo = findTodo(id);
+            Todo before = todo.copy();
+            if (todo.isCompleted()) {
+                todo.markAsIncomplete();
+            } else {
+                todo.markAsCompleted();
+            }
+            return changed(todo.isCompleted() ? Action.COMPLETED : Action.REOPENED, actor, before,
+                    todoRepository.save(todo));
+        });
     }
 
     public void deleteTodo(Long id) {
-        if (!todoRepository.existsById(id)) {
-            throw new TodoNotFoundException("Todo not found with id: " + id);
+        requireMightExist(id);
+        String actor = TodoActor.current();
+        writeExecutor.execute(() -> {
+            // Read for the audit history, JpaRepository.deleteById finds it loaded instead of reading it again
+            Todo todo = findTodo(id);
+            todoRepository.deleteById(id);
+            eventPublisher.publishEvent(TodosChangedEvent.of(id));
+            audit(id, Action.DELETED, actor, todo, null);
+            return null;
+        });
+    }
+
+    /**
+     * Places the todo between two neighbours. With only one neighbour given, the todo goes right next to it.
+     *
+     * @param afterId  todo to place it after, {@code null} to place it right before {@code beforeId}
+     * @param beforeId todo to place it before, {@code null} to place it right after {@code afterId}
+     * @throws TodoNotFoundException      if the todo or a neighbour does not exist
+     * @throws TodoOrderConflictException if the neighbours are not in that order or leave no room between them
+     */
+    public void moveTodo(Long id, Long afterId, Long beforeId) {
+        if (afterId == null && beforeId == null) {
+            throw new IllegalArgumentException("A neighbour is required");
+        }
+        if (id.equals(afterId) || id.equals(beforeId)) {
+            throw new IllegalArgumentException("A todo cannot be its own neighbour");
+        }
+        requireMightExist(id);
+        String actor = TodoActor.current();
+        writeExecutor.execute(() -> {
+            List<Long> ids = new ArrayList<>(3);
+            ids.add(id);
+            if (afterId != null) {
+                ids.add(afterId);
+            }
+            if (beforeId != null) {
+                ids.add(beforeId);
+            }
+            Map<Long, String> sortKeys = todoRepository.findSortKeys(ids);
+            for (Long known : ids) {
+                if (!sortKeys.containsKey(known)) {
+                    throw new TodoNotFoundException(known);
+                }
+            }
+            String lower = afterId != null ? requireSortKey(sortKeys, afterId) : null;
+            String upper = beforeId != null ? requireSortKey(sortKeys, beforeId) : null;
+            if (afterId == null) {
+                lower = todoRepository.findSortKeyBefore(upper, id).orElse(null);
+            } else if (beforeId == null) {
+                upper = todoRepository.findSortKeyAfter(lower, id).orElse(null);
+            }
+            String sortKey;
+            try {
+                sortKey = SortKeys.between(lower, upper);
+            } catch (IllegalArgumentException e) {
+                throw new TodoOrderConflictException("Cannot place todo " + id + " between " + lower + " and " + upper);
+            }
+            if (sortKey.length() > SortKeys.MAX_LENGTH) {
+                throw new TodoOrderConflictException("No room left between " + lower + " and " + upper);
+            }
+            todoRepository.updateSortKey(id, sortKey);
+            eventPublisher.publishEvent(TodosChangedEvent.of(id));
+            audit(id, Action.MOVED, actor, withSortKey(id, sortKeys.get(id)), withSortKey(id, sortKey));
+            return null;
+        });
+    }
+
+    /**
+     * Audits the todos whose completion status changed, which the update returns, without the states, as no todo
+     * is read. Unknown ids and todos already in that status are not audited.
+     *
+     * @return number of todos whose completion status changed
+     */
+    public int setTodosCompletion(List<Long> ids, boolean completed) {
+        String actor = TodoActor.current();
+        return writeExecutor.execute(() -> {
+            List<Long> updated = todoRepository.updateCompleted(ids, completed, LocalDateTime.now());
+            eventPublisher.publishEvent(TodosChangedEvent.of(updated));
+            auditEach(updated, completed ? Action.COMPLETED : Action.REOPENED, actor);
+            return updated.size();
+        });
+    }
+
+    /**
+     * Audits every todo it completed, without the states
+     *
+     * @return number of todos that were not completed yet
+     */
+    public int completeAllTodos() {
+        String actor = TodoActor.current();
+        return writeExecutor.execute(() -> {
+            List<Long> updated = todoRepository.completeAll(LocalDateTime.now());
+            eventPublisher.publishEvent(TodosChangedEvent.all());
+            auditEach(updated, Action.COMPLETED, actor);
+            return updated.size();
+        });
+    }
+
+    /**
+     * Audits every todo it deleted, without the states
+     *
+     * @return number of completed todos deleted
+     */
+    public int deleteCompletedTodos() {
+        String actor = TodoActor.current();
+        return writeExecutor.execute(() -> {
+            List<Long> deleted = todoRepository.deleteCompleted();
+            eventPublisher.publishEvent(TodosChangedEvent.all());
+            auditEach(deleted, Action.DELETED, actor);
+            return deleted.size();
+        });
+    }
+
+    private Todo changed(Action action, String actor, Todo before, Todo after) {
+        eventPublisher.publishEvent(TodosChangedEvent.of(after.getId()));
+        audit(after.getId(), action, actor, before, after);
+        return after;
+    }
+
+    private void auditEach(List<Long> ids, Action action, String actor) {
+        for (Long id : ids) {
+            audit(id, action, actor, null, null);
+        }
+    }
+
+    private void audit(Long id, Action action, String actor, Todo before, Todo after) {
+        eventPublisher.publishEvent(new TodoAuditEvent(id, action, actor, LocalDateTime.now(), before, after));
+    }
+
+    private static Todo withSortKey(Long id, String sortKey) {
+        Todo todo = new Todo();
+        todo.setId(id);
+        todo.setSortKey(sortKey);
+        return todo;
+    }
+
+    private Todo findTodo(Long id) {
+        requireMightExist(id);
+        return todoRepository.findById(id)
+                .orElseThrow(() -> new TodoNotFoundException(id));
+    }
+
+    private static String requireSortKey(Map<Long, String> sortKeys, Long id) {
+        String sortKey = sortKeys.get(id);
+        if (sortKey == null) {
+            throw new TodoOrderConflictException("Todo " + id + " has no sort key until the next rebalance");
+        }
+        return sortKey;
+    }
+
+    private void requireMightExist(Long id) {
+        if (!idFilter.mightExist(id)) {
+            throw new TodoNotFoundException(id);
         }
-        todoRepository.deleteById(id);
     }
 }
@@ -0,0 +1,25 @@
+package com.example.todo.application.service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Resolves filters on tags and completion status to todo ids without querying the todos. The answer reflects the
+ * todos as the index last saw them, so the todos read by id are checked again.
+ */
+@FunctionalInterface
+public interface TodoTagIndex {
+
+    /**
+     * Answers nothing, filters are applied to all todos
+     */
+    TodoTagIndex NONE = (tags, completed) -> Optional.empty();
+
+    /**
+     * @param tags      the todos must have all of them, none for any tags
+     * @param completed completion status of the todos, {@code null} for any
+     * @return ids of the matching todos in no particular order, empty if the index cannot answer
+     */
+    Optional<List<Long>> find(Set<String> tags, Boolean completed);
+}
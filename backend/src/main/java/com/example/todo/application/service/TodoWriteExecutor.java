@@ -0,0 +1,16 @@
+package com.example.todo.application.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs the state-changing part of a use case in a write transaction.
+ * Implementations decide whether every operation commits on its own or several operations share a commit.
+ */
+public interface TodoWriteExecutor {
+
+    /**
+     * Runs the operation in a write transaction and returns its result once committed.
+     * Exceptions thrown by the operation are rethrown to the caller.
+     */
+    <T> T execute(Supplier<T> operation);
+}
@@ -0,0 +1,25 @@
+package com.example.todo.application.service;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Published inside the write transaction of a mutation, listeners that keep derived state should react after commit
+ *
+ * @param ids      todos that were created, changed or deleted
+ * @param allTodos whether any todo may have changed, for statements selecting rows by a predicate
+ */
+public record TodosChangedEvent(Set<Long> ids, boolean allTodos) {
+
+    public static TodosChangedEvent of(Long id) {
+        return new TodosChangedEvent(Set.of(id), false);
+    }
+
+    public static TodosChangedEvent of(Collection<Long> ids) {
+        return new TodosChangedEvent(Set.copyOf(ids), false);
+    }
+
+    public static TodosChangedEvent all() {
+        return new TodosChangedEvent(Set.of(), true);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.todo.application.service;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Supplier;
+
+/**
+ * Commits every operation in its own transaction, or joins the caller's transaction if there is one
+ */
+@Transactional
+public class TransactionalTodoWriteExecutor implements TodoWriteExecutor {
+
+    @Override
+    public <T> T execute(Supplier<T> operation) {
+        return operation.get();
+    }
+}
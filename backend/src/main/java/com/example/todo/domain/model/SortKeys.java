@@ -0,0 +1,266 @@
+package com.example.todo.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Fractional indexing: keys that sort as strings, so a new key between any two others can always be generated
+ * and moving a todo rewrites only its own key.
+ * <p>
+ * A key is an integer part followed by an optional fraction, both in base 62 digits {@code 0-9A-Za-z}. The first
+ * character of the integer part encodes its length, {@code a} to {@code z} for 1 to 26 digits, {@code Z} to
+ * {@code A} for negative integers of 1 to 26 digits. Appending at either end increments or decrements the integer
+ * part, so keys grow with the logarithm of the number of todos. Inserting between two neighbours extends the
+ * fraction, which grows by about one digit every six inserts into the same gap.
+ */
+public final class SortKeys {
+
+    /**
+     * Longest key that is stored, moves that would need a longer one fail until the keys are rebalanced
+     */
+    public static final int MAX_LENGTH = 255;
+
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final char ZERO = DIGITS.charAt(0);
+    private static final char LAST = DIGITS.charAt(DIGITS.length() - 1);
+    private static final String SMALLEST_INTEGER = "A" + String.valueOf(ZERO).repeat(26);
+    private static final int JITTER_DIGITS = 3;
+
+    private SortKeys() {
+    }
+
+    /**
+     * @param before key to sort after, {@code null} for the start of the list
+     * @param after  key to sort before, {@code null} for the end of the list
+     * @return a key sorting strictly between both
+     * @throws IllegalArgumentException if a key is malformed or {@code before} does not sort before {@code after}
+     */
+    public static String between(String before, String after) {
+        if (before != null) {
+            validate(before);
+        }
+        if (after != null) {
+            validate(after);
+        }
+        if (before != null && after != null && before.compareTo(after) >= 0) {
+            throw new IllegalArgumentException(before + " does not sort before " + after);
+        }
+        if (before == null) {
+            if (after == null) {
+                return "a" + ZERO;
+            }
+            String integer = integerPart(after);
+            if (integer.equals(SMALLEST_INTEGER)) {
+                return integer + midpoint("", after.substring(integer.length()));
+            }
+            if (integer.compareTo(after) < 0) {
+                return integer;
+            }
+            String decremented = decrement(integer);
+            if (decremented == null) {
+                throw new IllegalArgumentException("No key sorts before " + after);
+            }
+            return decremented;
+        }
+        String integer = integerPart(before);
+        String fraction = before.substring(integer.length());
+        if (after == null) {
+            String incremented = increment(integer);
+            return incremented != null ? incremented : integer + midpoint(fraction, null);
+        }
+        String afterInteger = integerPart(after);
+        if (integer.equals(afterInteger)) {
+            return integer + midpoint(fraction, after.substring(afterInteger.length()));
+        }
+        String incremented = increment(integer);
+        if (incremented != null && incremented.compareTo(after) < 0) {
+            return incremented;
+        }
+        return integer + midpoint(fraction, null);
+    }
+
+    /**
+     * @param last key of the last todo, {@code null} for an empty list
+     * @return a key for a todo appended to the end of the list, jittered
+     */
+    public static String after(String last) {
+        return jitter(between(last, null), ThreadLocalRandom.current(), JITTER_DIGITS);
+    }
+
+    /**
+     * @return {@code count} ascending keys between both bounds, as short as the gap allows
+     */
+    public static List<String> between(String before, String after, int count) {
+        List<String> keys = new ArrayList<>(count);
+        if (count == 0) {
+            return keys;
+        }
+        if (after == null) {
+            String key = between(before, null);
+            keys.add(key);
+            for (int i = 1; i < count; i++) {
+                key = between(key, null);
+                keys.add(key);
+            }
+            return keys;
+        }
+        if (before == null) {
+            String key = between(null, after);
+            keys.add(key);
+            for (int i = 1; i < count; i++) {
+                key = between(null, key);
+                keys.add(key);
+            }
+            return keys.reversed();
+        }
+        // Split the gap in the middle, so every key is as short as possible
+        int half = count / 2;
+        String middle = between(before, after);
+        keys.addAll(between(before, middle, half));
+        keys.add(middle);
+        keys.addAll(between(middle, after, count - half - 1));
+        return keys;
+    }
+
+    /**
+     * Appends random digits, so todos appended to the end of the list at the same time do not get the same key.
+     * The result still sorts after every key {@code key} sorts after, but may sort after keys that {@code key} is a
+     * prefix of, so only jitter keys generated with no upper bound.
+     */
+    public static String jitter(String key, RandomGenerator random, int digits) {
+        StringBuilder jittered = new StringBuilder(key.length() + digits).append(key);
+        for (int i = 0; i < digits - 1; i++) {
+            jittered.append(DIGITS.charAt(random.nextInt(DIGITS.length())));
+        }
+        // A trailing zero would make a key with no key between it and its prefix
+        jittered.append(DIGITS.charAt(1 + random.nextInt(DIGITS.length() - 1)));
+        return jittered.toString();
+    }
+
+    public static boolean isValid(String key) {
+        try {
+            validate(key);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static void validate(String key) {
+        if (key.isEmpty() || key.equals(SMALLEST_INTEGER)) {
+            throw new IllegalArgumentException("Invalid sort key: " + key);
+        }
+        String integer = integerPart(key);
+        for (int i = 1; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("Invalid sort key: " + key);
+            }
+        }
+        if (key.length() > integer.length() && key.charAt(key.length() - 1) == ZERO) {
+            throw new IllegalArgumentException("Invalid sort key, trailing zero: " + key);
+        }
+    }
+
+    private static int integerLength(char head) {
+        if (head >= 'a' && head <= 'z') {
+            return head - 'a' + 2;
+        }
+        if (head >= 'A' && head <= 'Z') {
+            return 'Z' - head + 2;
+        }
+        throw new IllegalArgumentException("Invalid sort key head: " + head);
+    }
+
+    private static String integerPart(String key) {
+        int length = integerLength(key.charAt(0));
+        if (length > key.length()) {
+            throw new IllegalArgumentException("Invalid sort key: " + key);
+        }
+        return key.substring(0, length);
+    }
+
+    /**
+     * @return a fraction strictly between {@code a} and {@code b}, {@code null} standing for 1
+     */
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            // Keep the common prefix, a is padded with zeros
+            int n = 0;
+            while (n < b.length() && (n < a.length() ? a.charAt(n) : ZERO) == b.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return b.substring(0, n) + midpoint(a.length() > n ? a.substring(n) : "", b.substring(n));
+            }
+        }
+        int digitA = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int digitB = b != null ? DIGITS.indexOf(b.charAt(0)) : DIGITS.length();
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB + 1) / 2));
+        }
+        // Consecutive digits
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+    }
+
+    private static String increment(String integer) {
+        char head = integer.charAt(0);
+        char[] digits = integer.substring(1).toCharArray();
+        boolean carry = true;
+        for (int i = digits.length - 1; carry && i >= 0; i--) {
+            int digit = DIGITS.indexOf(digits[i]) + 1;
+            if (digit == DIGITS.length()) {
+                digits[i] = ZERO;
+            } else {
+                digits[i] = DIGITS.charAt(digit);
+                carry = false;
+            }
+        }
+        if (!carry) {
+            return head + new String(digits);
+        }
+        if (head == 'Z') {
+            return "a" + ZERO;
+        }
+        if (head == 'z') {
+            return null;
+        }
+        char next = (char) (head + 1);
+        // One digit more for positive integers, one less for negative ones
+        return next > 'a'
+                ? next + new String(digits) + ZERO
+                : next + new String(digits, 0, digits.length - 1);
+    }
+
+    private static String decrement(String integer) {
+        char head = integer.charAt(0);
+        char[] digits = integer.substring(1).toCharArray();
+        boolean borrow = true;
+        for (int i = digits.length - 1; borrow && i >= 0; i--) {
+            int digit = DIGITS.indexOf(digits[i]) - 1;
+            if (digit == -1) {
+                digits[i] = LAST;
+            } else {
+                digits[i] = DIGITS.charAt(digit);
+                borrow = false;
+            }
+        }
+        if (!borrow) {
+            return head + new String(digits);
+        }
+        if (head == 'a') {
+            return "Z" + LAST;
+        }
+        if (head == 'A') {
+            return null;
+        }
+        char previous = (char) (head - 1);
+        return previous < 'Z'
+                ? previous + new String(digits) + LAST
+                : previous + new String(digits, 0, digits.length - 1);
+    }
+}
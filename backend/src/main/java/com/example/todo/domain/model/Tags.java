@@ -0,0 +1,76 @@
+package com.example.todo.domain.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Tags of a todo: lower case letters, digits, {@code -} and {@code _}, sorted and without duplicates.
+ * <p>
+ * They are stored comma separated in a single column, so a todo is read with its tags and no join.
+ */
+public final class Tags {
+
+    public static final int MAX_TAGS = 10;
+    public static final int MAX_LENGTH = 32;
+
+    private static final Pattern TAG = Pattern.compile("[a-z0-9][a-z0-9_-]*");
+    private static final String SEPARATOR = ",";
+
+    private Tags() {
+    }
+
+    /**
+     * @param tags tags in any case, blank ones are ignored
+     * @return the tags in lower case, sorted and without duplicates, empty if a tag is malformed or there are more
+     * than {@link #MAX_TAGS}
+     */
+    public static Optional<Set<String>> parse(Collection<String> tags) {
+        SortedSet<String> normalized = new TreeSet<>();
+        for (String tag : tags) {
+            if (tag == null || tag.isBlank()) {
+                continue;
+            }
+            String candidate = tag.strip().toLowerCase(Locale.ROOT);
+            if (candidate.length() > MAX_LENGTH || !TAG.matcher(candidate).matches()) {
+                return Optional.empty();
+            }
+            normalized.add(candidate);
+        }
+        if (normalized.size() > MAX_TAGS) {
+            return Optional.empty();
+        }
+        return Optional.of(Collections.unmodifiableSortedSet(normalized));
+    }
+
+    /**
+     * @param tags comma separated tags
+     * @see #parse(Collection)
+     */
+    public static Optional<Set<String>> parse(String tags) {
+        return parse(Arrays.asList(tags.split(SEPARATOR)));
+    }
+
+    /**
+     * @return the column value of normalized tags, {@code null} for none
+     */
+    public static String join(Set<String> tags) {
+        return tags == null || tags.isEmpty() ? null : String.join(SEPARATOR, tags);
+    }
+
+    /**
+     * @return the tags of a column value written by {@link #join(Set)}
+     */
+    public static Set<String> split(String column) {
+        if (column == null || column.isEmpty()) {
+            return Set.of();
+        }
+        return Collections.unmodifiableSortedSet(new TreeSet<>(Arrays.asList(column.split(SEPARATOR))));
+    }
+}
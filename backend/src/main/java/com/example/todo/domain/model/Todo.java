@@ -4,6 +4,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
 @Data
 @NoArgsConstructor
@@ -14,6 +15,19 @@ public class Todo {
     private boolean completed;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    /**
+     * Position in the list, see {@link SortKeys}
+     */
+    private String sortKey;
+    private LocalDateTime dueAt;
+    /**
+     * When a reminder fires for the todo, {@code null} for none
+     */
+    private LocalDateTime remindAt;
+    /**
+     * Normalized tags, see {@link Tags}
+     */
+    private Set<String> tags = Set.of();
 
     public Todo(String title, String description) {
         this.title = title;
@@ -38,4 +52,47 @@ public class Todo {
         this.description = description;
         this.updatedAt = LocalDateTime.now();
     }
+
+    public void reschedule(LocalDateTime dueAt, LocalDateTime remindAt) {
+        this.dueAt = dueAt;
+        this.remindAt = remindAt;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Replaces title and description, and the due date, reminder and tags that are given. One that is
+     * {@code null} keeps its value unless its field is in {@code cleared}.
+     */
+    public void update(String title, String description, LocalDateTime dueAt, LocalDateTime remindAt,
+                       Set<String> tags, Set<TodoField> cleared) {
+        updateDetails(title, description);
+        reschedule(givenOrKept(dueAt, this.dueAt, TodoField.DUE_AT, cleared),
+                givenOrKept(remindAt, this.remindAt, TodoField.REMIND_AT, cleared));
+        this.tags = tags != null ? tags : cleared.contains(TodoField.TAGS) ? Set.of() : this.tags;
+    }
+
+    private static <T> T givenOrKept(T given, T current, TodoField field, Set<TodoField> cleared) {
+        if (given != null) {
+            return given;
+        }
+        return cleared.contains(field) ? null : current;
+    }
+
+    /**
+     * @return a copy that keeps the current state while this todo changes
+     */
+    public Todo copy() {
+        Todo copy = new Todo();
+        copy.id = id;
+        copy.title = title;
+        copy.description = description;
+        copy.completed = completed;
+        copy.createdAt = createdAt;
+        copy.updatedAt = updatedAt;
+        copy.sortKey = sortKey;
+        copy.dueAt = dueAt;
+        copy.remindAt = remindAt;
+        copy.tags = tags;
+        return copy;
+    }
 }
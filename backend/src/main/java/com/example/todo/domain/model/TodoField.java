@@ -0,0 +1,40 @@
+package com.example.todo.domain.model;
+
+import java.util.Optional;
+
+/**
+ * Properties of a {@link Todo} that reads can be restricted to
+ */
+public enum TodoField {
+    ID("id"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    COMPLETED("completed"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    DUE_AT("dueAt"),
+    REMIND_AT("remindAt"),
+    TAGS("tags");
+
+    private final String property;
+
+    TodoField(String property) {
+        this.property = property;
+    }
+
+    /**
+     * @return the name of the property in {@link Todo}
+     */
+    public String property() {
+        return property;
+    }
+
+    public static Optional<TodoField> fromProperty(String property) {
+        for (TodoField field : values()) {
+            if (field.property.equals(property)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.todo.domain.port;
+
+import com.example.todo.domain.model.Todo;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking outbound port for Todo persistence, used by the reactive deployment
+ */
+public interface ReactiveTodoRepository {
+    Mono<Todo> save(Todo todo);
+    Mono<Todo> findById(Long id);
+    Flux<Todo> findAll();
+    Mono<Void> deleteById(Long id);
+    Mono<Boolean> existsById(Long id);
+
+    /**
+     * @return the greatest sort key, empty if there are no todos or none has a key
+     */
+    Mono<String> findLastSortKey();
+}
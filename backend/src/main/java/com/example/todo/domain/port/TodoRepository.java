@@ -1,8 +1,14 @@
 package com.example.todo.domain.port;
 
 import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoField;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Outbound port for Todo persistence
@@ -10,9 +16,132 @@ import java.util.Optional;
 public interface TodoRepository {
     Todo save(Todo todo);
     Optional<Todo> findById(Long id);
+
+    /**
+     * @return all todos in list order
+     */
     List<Todo> findAll();
+
+    /**
+     * Reads only the given fields, the others are left {@code null} or {@code false}
+     *
+     * @param fields at least one field
+     * @return all todos in list order
+     */
+    List<Todo> findAll(Set<TodoField> fields);
+
+    /**
+     * @return the todos with the given ids in list order, unknown ids are ignored
+     */
+    List<Todo> findAllById(Collection<Long> ids);
+
+    /**
+     * @return the ids of all todos, in no particular order
+     */
+    List<Long> findAllIds();
+
     void deleteById(Long id);
     boolean existsById(Long id);
     List<Todo> findCompletedTodos();
     void deleteAll(List<Todo> todos);
+
+    /**
+     * Inserts new todos in batches, in the given order. The store assigns the ids, they are not set on the given
+     * todos; sort keys and timestamps are written as given.
+     *
+     * @return the assigned ids, in the order of the todos
+     */
+    List<Long> insertAll(List<Todo> todos);
+
+    /**
+     * Sets the completion status of the given todos in one statement, unknown ids are ignored
+     *
+     * @return ids of the todos whose status changed
+     */
+    List<Long> updateCompleted(Collection<Long> ids, boolean completed, LocalDateTime updatedAt);
+
+    /**
+     * @return ids of the todos that were not completed yet
+     */
+    List<Long> completeAll(LocalDateTime updatedAt);
+
+    /**
+     * @return ids of the completed todos deleted
+     */
+    List<Long> deleteCompleted();
+
+    /**
+     * @return ids of at most {@code limit} completed todos last updated before {@code cutoff}, least recently
+     * updated first
+     */
+    List<Long> findCompletedIdsUpdatedBefore(LocalDateTime cutoff, int limit);
+
+    /**
+     * Deletes those of the given todos that are still completed and last updated before {@code cutoff}, so a todo
+     * reopened in between is kept
+     *
+     * @return number of todos deleted
+     */
+    int deleteCompletedUpdatedBefore(Collection<Long> ids, LocalDateTime cutoff);
+
+    /**
+     * @return number of completed todos last updated before {@code cutoff}
+     */
+    long countCompletedUpdatedBefore(LocalDateTime cutoff);
+
+    /**
+     * @return the least recent update of a completed todo before {@code cutoff}, empty if there is none
+     */
+    Optional<LocalDateTime> findOldestCompletedUpdateBefore(LocalDateTime cutoff);
+
+    /**
+     * Reads only {@code id} and {@code remindAt}
+     *
+     * @return the todos that are not completed and have a reminder in {@code [from, to)}, in no particular order
+     */
+    List<Todo> findPendingReminders(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * @return the greatest sort key, empty if there are no todos or none has a key
+     */
+    Optional<String> findLastSortKey();
+
+    /**
+     * @return the sort keys of the todos with the given ids, {@code null} for todos without a key, unknown ids
+     * are left out
+     */
+    Map<Long, String> findSortKeys(Collection<Long> ids);
+
+    /**
+     * @return the smallest sort key greater than {@code sortKey}, ignoring the todo {@code excludedId}
+     */
+    Optional<String> findSortKeyAfter(String sortKey, Long excludedId);
+
+    /**
+     * @return the greatest sort key smaller than {@code sortKey}, ignoring the todo {@code excludedId}
+     */
+    Optional<String> findSortKeyBefore(String sortKey, Long excludedId);
+
+    /**
+     * Moves a todo by writing its sort key only
+     *
+     * @return number of todos updated, 0 for an unknown id
+     */
+    int updateSortKey(Long id, String sortKey);
+
+    /**
+     * @return whether a sort key is longer than {@code maxLength}, or todos share a key or have none
+     */
+    boolean needsSortKeyRebalance(int maxLength);
+
+    /**
+     * @return the ids of all todos in list order, locked until the surrounding transaction ends where the store
+     * supports it
+     */
+    List<Long> findAllIdsInListOrderForUpdate();
+
+    /**
+     * Writes the sort keys of several todos in one batch, unknown ids are ignored
+     */
+    void updateSortKeys(Map<Long, String> sortKeys);
 }
@@ -0,0 +1,27 @@
+package com.example.todo.infrastructure.batch;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Where Spring Batch keeps its job metadata
+ *
+ * @param jobRepository     {@code resourceless} keeps only the running execution in memory, enough for idempotent
+ *                          jobs such as {@code deleteCompletedTodosJob} that never restart; {@code jdbc} stores every
+ *                          execution in the {@code BATCH_*} tables for restarts and history
+ * @param metadataRetention how long finished executions stay in the {@code BATCH_*} tables in {@code jdbc} mode
+ * @param housekeepingCron  when the executions past {@code metadataRetention} are pruned in {@code jdbc} mode
+ */
+@ConfigurationProperties(prefix = "todo.batch")
+public record BatchJobRepositoryProperties(
+        @DefaultValue("resourceless") RepositoryType jobRepository,
+        @DefaultValue("30d") Duration metadataRetention,
+        @DefaultValue("0 30 2 * * ?") String housekeepingCron) {
+
+    public enum RepositoryType {
+        RESOURCELESS,
+        JDBC
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.todo.infrastructure.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.Step;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.infrastructure.repeat.RepeatStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Job pruning the Spring Batch metadata, only needed when it is stored in the database
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "todo.batch", name = "job-repository", havingValue = "jdbc")
+@Slf4j
+public class BatchMetadataHousekeepingConfig {
+
+    @Bean
+    public BatchMetadataPruner batchMetadataPruner(JdbcTemplate jdbcTemplate, BatchJobRepositoryProperties properties) {
+        return new BatchMetadataPruner(jdbcTemplate, properties.metadataRetention());
+    }
+
+    @Bean
+    public Job pruneBatchMetadataJob(JobRepository jobRepository, Step pruneBatchMetadataStep) {
+        return new JobBuilder("pruneBatchMetadataJob", jobRepository)
+                .start(pruneBatchMetadataStep)
+                .build();
+    }
+
+    @Bean
+    public Step pruneBatchMetadataStep(JobRepository jobRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       BatchMetadataPruner batchMetadataPruner) {
+        return new StepBuilder("pruneBatchMetadataStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    contribution.incrementWriteCount(batchMetadataPruner.prune());
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+}
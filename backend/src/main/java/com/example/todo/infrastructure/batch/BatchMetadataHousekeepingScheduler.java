@@ -0,0 +1,48 @@
+package com.example.todo.infrastructure.batch;
+
+import com.example.todo.infrastructure.limit.Bulkhead;
+import com.example.todo.infrastructure.persistence.lock.JdbcLeaseLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.job.Job;
+import org.springframework.batch.core.job.parameters.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Configuration
+@ConditionalOnProperty(prefix = "todo.batch", name = "job-repository", havingValue = "jdbc")
+@RequiredArgsConstructor
+@Slf4j
+public class BatchMetadataHousekeepingScheduler {
+
+    static final String PRUNE_BATCH_METADATA_LOCK = "pruneBatchMetadataJob";
+
+    @Lazy
+    private final JobOperator jobLauncher;
+    @Lazy
+    private final Job pruneBatchMetadataJob;
+    private final Bulkhead batchBulkhead;
+    private final JdbcLeaseLock schedulerLock;
+
+    @Scheduled(cron = "${todo.batch.housekeeping-cron:0 30 2 * * ?}")
+    public void runPruneBatchMetadataJob() {
+        if (!batchBulkhead.tryRun(() -> schedulerLock.runExclusively(PRUNE_BATCH_METADATA_LOCK,
+                lease -> startPruneBatchMetadataJob(lease.fencingToken())))) {
+            log.warn("Skipping batch metadata housekeeping, the batch bulkhead is full");
+        }
+    }
+
+    private void startPruneBatchMetadataJob(long fencingToken) {
+        try {
+            jobLauncher.start(pruneBatchMetadataJob, new JobParametersBuilder()
+                    .addLong("time", System.currentTimeMillis())
+                    .addLong("fencingToken", fencingToken)
+                    .toJobParameters());
+        } catch (Exception e) {
+            log.error("Error running batch metadata housekeeping job", e);
+        }
+    }
+}
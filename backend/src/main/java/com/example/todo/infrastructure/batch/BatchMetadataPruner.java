@@ -0,0 +1,57 @@
+package com.example.todo.infrastructure.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Deletes finished job executions older than the retention period from the {@code BATCH_*} tables,
+ * then the job instances left without executions
+ */
+@Slf4j
+public class BatchMetadataPruner {
+
+    private static final String OLD_EXECUTIONS =
+            "SELECT JOB_EXECUTION_ID FROM BATCH_JOB_EXECUTION WHERE END_TIME < ?";
+    private static final String OLD_STEP_EXECUTIONS =
+            "SELECT STEP_EXECUTION_ID FROM BATCH_STEP_EXECUTION WHERE JOB_EXECUTION_ID IN (" + OLD_EXECUTIONS + ")";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration retention;
+    private final Clock clock;
+
+    public BatchMetadataPruner(JdbcTemplate jdbcTemplate, Duration retention) {
+        this(jdbcTemplate, retention, Clock.systemDefaultZone());
+    }
+
+    BatchMetadataPruner(JdbcTemplate jdbcTemplate, Duration retention, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retention = retention;
+        this.clock = clock;
+    }
+
+    /**
+     * @return number of job executions deleted
+     */
+    public int prune() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now(clock).minus(retention));
+        // Children first, the tables reference each other without cascades
+        jdbcTemplate.update("DELETE FROM BATCH_STEP_EXECUTION_CONTEXT WHERE STEP_EXECUTION_ID IN ("
+                + OLD_STEP_EXECUTIONS + ")", cutoff);
+        jdbcTemplate.update("DELETE FROM BATCH_STEP_EXECUTION WHERE JOB_EXECUTION_ID IN (" + OLD_EXECUTIONS + ")",
+                cutoff);
+        jdbcTemplate.update("DELETE FROM BATCH_JOB_EXECUTION_CONTEXT WHERE JOB_EXECUTION_ID IN ("
+                + OLD_EXECUTIONS + ")", cutoff);
+        jdbcTemplate.update("DELETE FROM BATCH_JOB_EXECUTION_PARAMS WHERE JOB_EXECUTION_ID IN ("
+                + OLD_EXECUTIONS + ")", cutoff);
+        int executions = jdbcTemplate.update("DELETE FROM BATCH_JOB_EXECUTION WHERE END_TIME < ?", cutoff);
+        int instances = jdbcTemplate.update("DELETE FROM BATCH_JOB_INSTANCE i WHERE NOT EXISTS "
+                + "(SELECT 1 FROM BATCH_JOB_EXECUTION e WHERE e.JOB_INSTANCE_ID = i.JOB_INSTANCE_ID)");
+        log.info("Pruned {} job executions and {} job instances finished before {}", executions, instances, cutoff);
+        return executions;
+    }
+}
@@ -1,7 +1,7 @@
 package com.example.todo.infrastructure.batch;
 
-import com.example.todo.domain.model.Todo;
-import com.example.todo.domain.port.TodoRepository;
+import com.example.todo.infrastructure.persistence.lock.JdbcLeaseLock;
+import com.example.todo.infrastructure.persistence.retention.TrickleRetentionPurger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -16,14 +16,21 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import java.util.List;
-
+/**
+ * Nightly catch-up of the retention purge: deletes the completed todos past {@code todo.retention.retain} that
+ * the continuous purge left behind, one slice per tasklet run so every slice commits in its own short transaction.
+ * <p>
+ * Before each slice the {@code fencingToken} the job was started with is checked against the lock table, so a node
+ * that lost the {@code deleteCompletedTodosJob} lease stops instead of purging next to the new holder. A run
+ * started without a token, by hand, is not fenced.
+ */
 @Configuration
 @RequiredArgsConstructor
 @Slf4j
 public class DeleteCompletedTodosBatchConfig {
 
-    private final TodoRepository todoRepository;
+    private final TrickleRetentionPurger retentionPurger;
+    private final JdbcLeaseLock schedulerLock;
 
     @Bean
     public Job deleteCompletedTodosJob(JobRepository jobRepository, Step deleteCompletedTodosStep) {
@@ -44,19 +51,19 @@ public class DeleteCompletedTodosBatchConfig {
     @Bean
     public Tasklet deleteCompletedTodosTasklet() {
         return (contribution, chunkContext) -> {
-            log.info("Starting batch job to delete completed todos");
-            
-            List<Todo> completedTodos = todoRepository.findCompletedTodos();
-            
-            if (completedTodos.isEmpty()) {
-                log.info("No completed todos found to delete");
-            } else {
-                log.info("Found {} completed todos to delete", completedTodos.size());
-                todoRepository.deleteAll(completedTodos);
-                log.info("Successfully deleted {} completed todos", completedTodos.size());
+            if (chunkContext.getStepContext().getJobParameters().get("fencingToken") instanceof Long fencingToken
+                    && !schedulerLock.isHeld(TodoBatchScheduler.DELETE_COMPLETED_TODOS_LOCK, fencingToken)) {
+                throw new IllegalStateException("Lost the " + TodoBatchScheduler.DELETE_COMPLETED_TODOS_LOCK
+                        + " lock with fencing token " + fencingToken + ", stopping the purge");
+            }
+            int deleted = retentionPurger.deleteSlice();
+            if (deleted == 0) {
+                log.info("No more completed todos past their retention period to delete");
+                return RepeatStatus.FINISHED;
             }
-            
-            return RepeatStatus.FINISHED;
+            contribution.incrementWriteCount(deleted);
+            log.debug("Deleted a slice of {} completed todos", deleted);
+            return RepeatStatus.CONTINUABLE;
         };
     }
 }
@@ -0,0 +1,14 @@
+package com.example.todo.infrastructure.batch;
+
+import org.springframework.batch.core.configuration.support.JdbcDefaultBatchConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Job repository in the {@code BATCH_*} tables of the application database, created by the Flyway migrations.
+ * Replaces the resourceless repository that Spring Boot configures otherwise.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "todo.batch", name = "job-repository", havingValue = "jdbc")
+public class JdbcJobRepositoryConfig extends JdbcDefaultBatchConfiguration {
+}
@@ -1,12 +1,18 @@
 package com.example.todo.infrastructure.batch;
 
+import com.example.todo.application.service.TodosChangedEvent;
+import com.example.todo.infrastructure.limit.Bulkhead;
+import com.example.todo.infrastructure.persistence.lock.JdbcLeaseLock;
+import com.example.todo.infrastructure.persistence.lock.Lease;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.job.Job;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.job.parameters.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 
@@ -16,20 +22,43 @@ import org.springframework.scheduling.annotation.Scheduled;
 @Slf4j
 public class TodoBatchScheduler {
 
+    static final String DELETE_COMPLETED_TODOS_LOCK = "deleteCompletedTodosJob";
+
+    // Lazy so the batch infrastructure is only created when the job first runs
+    @Lazy
     private final JobOperator jobLauncher;
+    @Lazy
     private final Job deleteCompletedTodosJob;
+    private final Bulkhead batchBulkhead;
+    private final JdbcLeaseLock schedulerLock;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // Run every day at 2 AM
+    // Run every day at 2 AM, a catch-up for whatever the retention purger left behind
     @Scheduled(cron = "0 0 2 * * ?")
     public void runDeleteCompletedTodosJob() {
+        if (!batchBulkhead.tryRun(this::runDeleteCompletedTodosJobExclusively)) {
+            log.warn("Skipping delete completed todos job, the batch bulkhead is full");
+        }
+    }
+
+    // Every node fires the trigger, only the one holding the lock starts the job
+    private void runDeleteCompletedTodosJobExclusively() {
+        if (!schedulerLock.runExclusively(DELETE_COMPLETED_TODOS_LOCK, this::startDeleteCompletedTodosJob)) {
+            log.info("Skipping delete completed todos job, another node holds the lock");
+        }
+    }
+
+    private void startDeleteCompletedTodosJob(Lease lease) {
         try {
             log.info("Triggering scheduled job to delete completed todos");
             
             JobParameters jobParameters = new JobParametersBuilder()
                     .addLong("time", System.currentTimeMillis())
+                    .addLong("fencingToken", lease.fencingToken())
                     .toJobParameters();
 
             jobLauncher.start(deleteCompletedTodosJob, jobParameters);
+            eventPublisher.publishEvent(TodosChangedEvent.all());
             
             log.info("Completed scheduled job to delete completed todos");
         } catch (Exception e) {
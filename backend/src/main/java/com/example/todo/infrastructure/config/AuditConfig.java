@@ -0,0 +1,41 @@
+package com.example.todo.infrastructure.config;
+
+import com.example.todo.infrastructure.persistence.audit.AsyncTodoAuditLog;
+import com.example.todo.infrastructure.persistence.audit.AuditProperties;
+import com.example.todo.infrastructure.persistence.audit.JdbcTodoAuditHistory;
+import com.example.todo.infrastructure.web.filter.AuditActorFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Audit history of the changes made through {@link com.example.todo.application.service.TodoService}, buffered in
+ * memory and written to the {@code todo_audit} table in batches by a background writer
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "todo.audit", name = "enabled", havingValue = "true")
+public class AuditConfig {
+
+    @Bean
+    public AsyncTodoAuditLog asyncTodoAuditLog(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                               ObjectMapper objectMapper, AuditProperties properties,
+                                               MeterRegistry meterRegistry) {
+        return new AsyncTodoAuditLog(jdbcTemplate, new TransactionTemplate(transactionManager), objectMapper,
+                properties, meterRegistry);
+    }
+
+    @Bean
+    public JdbcTodoAuditHistory jdbcTodoAuditHistory(JdbcTemplate jdbcTemplate) {
+        return new JdbcTodoAuditHistory(jdbcTemplate);
+    }
+
+    @Bean
+    public AuditActorFilter auditActorFilter(AuditProperties properties) {
+        return new AuditActorFilter(properties.trustUserHeader());
+    }
+}
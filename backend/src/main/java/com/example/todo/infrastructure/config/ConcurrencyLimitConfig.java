@@ -0,0 +1,36 @@
+package com.example.todo.infrastructure.config;
+
+import com.example.todo.infrastructure.limit.Bulkhead;
+import com.example.todo.infrastructure.limit.ConcurrencyLimitProperties;
+import com.example.todo.infrastructure.limit.GradientConcurrencyLimiter;
+import com.example.todo.infrastructure.web.filter.ConcurrencyLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Load shedding of the REST API and the bulkhead that keeps the batch job from starving it
+ */
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    @ConditionalOnWebApplication
+    @ConditionalOnProperty(prefix = "todo.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public ConcurrencyLimitFilter concurrencyLimitFilter(ConcurrencyLimitProperties properties,
+                                                         MeterRegistry meterRegistry) {
+        return new ConcurrencyLimitFilter(
+                new GradientConcurrencyLimiter("reads", properties.reads(), properties.tolerance(),
+                        properties.smoothing(), meterRegistry),
+                new GradientConcurrencyLimiter("writes", properties.writes(), properties.tolerance(),
+                        properties.smoothing(), meterRegistry),
+                properties.retryAfter());
+    }
+
+    @Bean
+    public Bulkhead batchBulkhead(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        return new Bulkhead("batch", properties.batch().maxConcurrent(), meterRegistry);
+    }
+}
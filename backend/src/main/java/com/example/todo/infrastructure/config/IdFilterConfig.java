@@ -0,0 +1,40 @@
+package com.example.todo.infrastructure.config;
+
+import com.example.todo.application.service.TodoIdFilter;
+import com.example.todo.domain.port.TodoRepository;
+import com.example.todo.infrastructure.persistence.idfilter.BloomTodoIdFilter;
+import com.example.todo.infrastructure.persistence.idfilter.IdFilterProperties;
+import com.example.todo.infrastructure.persistence.sharding.ShardedTodoPersistenceAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Selects how {@link com.example.todo.application.service.TodoService} screens todo ids before querying:
+ * not at all, or with a Bloom filter of live ids when {@code todo.id-filter.enabled=true}
+ */
+@Configuration
+public class IdFilterConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "todo.id-filter", name = "enabled", havingValue = "true")
+    public BloomTodoIdFilter bloomTodoIdFilter(TodoRepository todoRepository,
+                                               PlatformTransactionManager transactionManager,
+                                               IdFilterProperties properties, MeterRegistry meterRegistry,
+                                               ObjectProvider<ShardedTodoPersistenceAdapter> sharding) {
+        // Every shard draws ids from its own sequence, the low bits of an id name the shard
+        int idPartitionBits = sharding.getIfAvailable() != null ? ShardedTodoPersistenceAdapter.SHARD_BITS : 0;
+        return new BloomTodoIdFilter(todoRepository, new TransactionTemplate(transactionManager), properties,
+                idPartitionBits, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "todo.id-filter", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public TodoIdFilter allowAllTodoIdFilter() {
+        return TodoIdFilter.ALLOW_ALL;
+    }
+}
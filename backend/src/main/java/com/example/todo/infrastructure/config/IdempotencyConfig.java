@@ -0,0 +1,38 @@
+package com.example.todo.infrastructure.config;
+
+import com.example.todo.infrastructure.persistence.audit.AuditProperties;
+import com.example.todo.infrastructure.persistence.idempotency.IdempotencyProperties;
+import com.example.todo.infrastructure.persistence.idempotency.IdempotencyStore;
+import com.example.todo.infrastructure.persistence.idempotency.InMemoryIdempotencyStore;
+import com.example.todo.infrastructure.persistence.idempotency.JdbcIdempotencyStore;
+import com.example.todo.infrastructure.web.filter.IdempotencyFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@code Idempotency-Key} support for the REST API, with the response store selected by {@code todo.idempotency.store}
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "todo.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "todo.idempotency", name = "store", havingValue = "jdbc")
+    public JdbcIdempotencyStore jdbcIdempotencyStore(JdbcTemplate jdbcTemplate, IdempotencyProperties properties) {
+        return new JdbcIdempotencyStore(jdbcTemplate, properties.ttl(), properties.lockTimeout());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "todo.idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+    public InMemoryIdempotencyStore inMemoryIdempotencyStore(IdempotencyProperties properties) {
+        return new InMemoryIdempotencyStore(properties.maxEntries(), properties.ttl(), properties.lockTimeout());
+    }
+
+    @Bean
+    public IdempotencyFilter idempotencyFilter(IdempotencyStore store, IdempotencyProperties properties,
+                                               AuditProperties auditProperties) {
+        return new IdempotencyFilter(store, properties.lockTimeout(), auditProperties.trustUserHeader());
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.todo.infrastructure.config;
+
+import com.example.todo.domain.port.TodoRepository;
+import com.example.todo.infrastructure.importer.ImportProperties;
+import com.example.todo.infrastructure.importer.TodoImporter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Bulk import through {@link TodoRepository}, so imported todos are spread over the shards while todos are sharded
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "todo.import", name = "enabled", havingValue = "true")
+public class ImportConfig {
+
+    @Bean
+    public TodoImporter todoImporter(TodoRepository todoRepository, PlatformTransactionManager transactionManager,
+                                     ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher,
+                                     ImportProperties properties, MeterRegistry meterRegistry) {
+        return new TodoImporter(todoRepository, new TransactionTemplate(transactionManager), objectMapper,
+                eventPublisher, properties, meterRegistry);
+    }
+}
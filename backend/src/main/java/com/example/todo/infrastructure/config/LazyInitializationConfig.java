@@ -0,0 +1,59 @@
+package com.example.todo.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.List;
+
+/**
+ * Defers creation of beans that are not needed to serve the todo API until first use,
+ * so a new replica can take traffic sooner. Disable with {@code todo.startup.lazy-init.enabled=false}.
+ */
+@Configuration(proxyBeanMethods = false)
+public class LazyInitializationConfig {
+
+    /**
+     * Packages of beans that are only needed by Swagger UI, the H2 console or batch jobs
+     */
+    static final List<String> NON_HOT_PACKAGES = List.of(
+            "org.springdoc.",
+            "io.swagger.",
+            "org.springframework.boot.h2console.",
+            "org.springframework.batch.",
+            "org.springframework.boot.batch.");
+
+    @Bean
+    static BeanFactoryPostProcessor lazyNonHotBeansPostProcessor(Environment environment) {
+        return beanFactory -> {
+            if (environment.getProperty("todo.startup.lazy-init.enabled", Boolean.class, true)) {
+                markNonHotBeansLazy(beanFactory);
+            }
+        };
+    }
+
+    private static void markNonHotBeansLazy(ConfigurableListableBeanFactory beanFactory) {
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            String declaringClass = declaringClassName(definition);
+            if (declaringClass != null && NON_HOT_PACKAGES.stream().anyMatch(declaringClass::startsWith)) {
+                definition.setLazyInit(true);
+            }
+        }
+    }
+
+    private static String declaringClassName(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            if (factoryMethod != null) {
+                return factoryMethod.getDeclaringClassName();
+            }
+        }
+        return definition.getBeanClassName();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.todo.infrastructure.config;
+
+import com.example.todo.domain.port.TodoRepository;
+import com.example.todo.infrastructure.persistence.lock.JdbcLeaseLock;
+import com.example.todo.infrastructure.persistence.ordering.OrderingProperties;
+import com.example.todo.infrastructure.persistence.ordering.SortKeyRebalancer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Background rebalancing of the sort keys, moves themselves only ever write one row
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "todo.ordering", name = "enabled", havingValue = "true")
+public class OrderingConfig {
+
+    @Bean
+    public SortKeyRebalancer sortKeyRebalancer(TodoRepository todoRepository,
+                                               PlatformTransactionManager transactionManager,
+                                               JdbcLeaseLock schedulerLock, OrderingProperties properties,
+                                               ApplicationEventPublisher eventPublisher,
+                                               MeterRegistry meterRegistry) {
+        return new SortKeyRebalancer(todoRepository, new TransactionTemplate(transactionManager), schedulerLock,
+                properties, eventPublisher, meterRegistry);
+    }
+}
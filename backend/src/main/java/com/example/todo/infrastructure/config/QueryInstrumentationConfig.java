@@ -0,0 +1,39 @@
+package com.example.todo.infrastructure.config;
+
+import com.example.todo.infrastructure.persistence.instrumentation.InstrumentedDataSourcePostProcessor;
+import com.example.todo.infrastructure.persistence.instrumentation.QueryInstrumentationListener;
+import com.example.todo.infrastructure.persistence.instrumentation.QueryInstrumentationProperties;
+import com.example.todo.infrastructure.web.filter.StatementStatisticsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC statement metrics, slow-query log and N+1 detection, replacing {@code spring.jpa.show-sql}
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "todo.query-instrumentation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryInstrumentationConfig {
+
+    @Bean
+    public static InstrumentedDataSourcePostProcessor instrumentedDataSourcePostProcessor(
+            ObjectProvider<QueryInstrumentationListener> listener) {
+        return new InstrumentedDataSourcePostProcessor(listener);
+    }
+
+    @Bean
+    public QueryInstrumentationListener queryInstrumentationListener(MeterRegistry meterRegistry,
+                                                                     QueryInstrumentationProperties properties) {
+        return new QueryInstrumentationListener(meterRegistry, properties.slowQueryThreshold());
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public StatementStatisticsFilter statementStatisticsFilter(MeterRegistry meterRegistry,
+                                                               QueryInstrumentationProperties properties) {
+        return new StatementStatisticsFilter(meterRegistry, properties.nPlusOneThreshold());
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.todo.infrastructure.config;
+
+import com.example.todo.application.service.ReactiveTodoService;
+import com.example.todo.domain.port.ReactiveTodoRepository;
+import com.example.todo.infrastructure.persistence.adapter.R2dbcTodoPersistenceAdapter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Reactive adapter pair, active when the application runs on WebFlux ({@code reactive} profile).
+ * <p>
+ * Boot skips the JDBC {@link javax.sql.DataSource} once an R2DBC connection factory exists, but Flyway and the
+ * batch job still need it, so it is declared here from the usual {@code spring.datasource} properties.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveStackConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public R2dbcTodoPersistenceAdapter r2dbcTodoPersistenceAdapter(DatabaseClient databaseClient) {
+        return new R2dbcTodoPersistenceAdapter(databaseClient);
+    }
+
+    @Bean
+    public ReactiveTodoService reactiveTodoService(ReactiveTodoRepository reactiveTodoRepository) {
+        return new ReactiveTodoService(reactiveTodoRepository);
+    }
+}
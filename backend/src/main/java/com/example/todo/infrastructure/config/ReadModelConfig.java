@@ -0,0 +1,31 @@
+package com.example.todo.infrastructure.config;
+
+import com.example.todo.domain.port.TodoRepository;
+import com.example.todo.infrastructure.web.mapper.TodoDtoMapper;
+import com.example.todo.infrastructure.web.readmodel.TodoListReadModel;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Serves todo reads from pre-serialized JSON kept up to date by the mutations of
+ * {@link com.example.todo.application.service.TodoService}. Only for a single node: writes of other nodes are not
+ * seen until the next full rebuild.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "todo.read-model", name = "enabled", havingValue = "true")
+public class ReadModelConfig {
+
+    @Bean
+    public TodoListReadModel todoListReadModel(TodoRepository todoRepository, TodoDtoMapper todoDtoMapper,
+                                               ObjectMapper objectMapper,
+                                               PlatformTransactionManager transactionManager,
+                                               MeterRegistry meterRegistry) {
+        return new TodoListReadModel(todoRepository, todoDtoMapper, objectMapper,
+                new TransactionTemplate(transactionManager), meterRegistry);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.todo.infrastructure.config;
+
+import com.example.todo.infrastructure.persistence.routing.ReplicaProperties;
+import com.example.todo.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.example.todo.infrastructure.web.filter.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read/write splitting: read-only transactions run on the replica pools, everything else on the primary.
+ * <p>
+ * The application's {@link DataSource} is a {@link LazyConnectionDataSourceProxy} that fetches the physical
+ * connection on the first statement, after the transaction manager marked the connection read-only, and then
+ * picks the primary or the replicas accordingly.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "todo.datasource.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(defaultCandidate = false)
+    public ReplicaRoutingDataSource replicaDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                      DataSourceProperties properties,
+                                                      ReplicaProperties replicaProperties) {
+        List<DataSource> replicas = new ArrayList<>();
+        for (String url : replicaProperties.urls()) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(url)
+                    .username(replicaProperties.username() != null
+                            ? replicaProperties.username() : properties.determineUsername())
+                    .password(replicaProperties.password() != null
+                            ? replicaProperties.password() : properties.determinePassword())
+                    .build();
+            replica.setPoolName("replica-" + replicas.size());
+            replica.setMaximumPoolSize(replicaProperties.maximumPoolSize());
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replicas) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(replicas);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReplicaProperties replicaProperties) {
+        return new ReadYourWritesFilter(replicaProperties.stickiness());
+    }
+}
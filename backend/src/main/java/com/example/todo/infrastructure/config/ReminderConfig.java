@@ -0,0 +1,29 @@
+package com.example.todo.infrastructure.config;
+
+import com.example.todo.domain.port.TodoRepository;
+import com.example.todo.infrastructure.reminder.ReminderProperties;
+import com.example.todo.infrastructure.reminder.ReminderScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Reminders of open todos, fired from an in-process timing wheel loaded with the next window of reminders
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "todo.reminders", name = "enabled", havingValue = "true")
+public class ReminderConfig {
+
+    @Bean(initMethod = "start")
+    public ReminderScheduler reminderScheduler(TodoRepository todoRepository,
+                                               PlatformTransactionManager transactionManager,
+                                               ApplicationEventPublisher eventPublisher,
+                                               ReminderProperties properties, MeterRegistry meterRegistry) {
+        return new ReminderScheduler(todoRepository, new TransactionTemplate(transactionManager), eventPublisher,
+                properties, meterRegistry);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.todo.infrastructure.config;
+
+import com.example.todo.domain.port.TodoRepository;
+import com.example.todo.infrastructure.persistence.lock.JdbcLeaseLock;
+import com.example.todo.infrastructure.persistence.retention.RetentionProperties;
+import com.example.todo.infrastructure.persistence.retention.TrickleRetentionPurger;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Retention of completed todos, purged continuously while {@code todo.retention.enabled} is on and by the
+ * nightly batch job as a catch-up either way
+ */
+@Configuration
+public class RetentionConfig {
+
+    @Bean
+    public TrickleRetentionPurger trickleRetentionPurger(TodoRepository todoRepository,
+                                                         PlatformTransactionManager transactionManager,
+                                                         JdbcLeaseLock schedulerLock,
+                                                         RetentionProperties properties,
+                                                         ApplicationEventPublisher eventPublisher,
+                                                         MeterRegistry meterRegistry) {
+        return new TrickleRetentionPurger(todoRepository, new TransactionTemplate(transactionManager),
+                schedulerLock, properties, eventPublisher, meterRegistry);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.todo.infrastructure.config;
+
+import com.example.todo.infrastructure.persistence.lock.JdbcLeaseLock;
+import com.example.todo.infrastructure.persistence.lock.LeaseLockProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Lock in the shared database that lets only one node at a time run a scheduled job
+ */
+@Configuration
+public class SchedulerLockConfig {
+
+    @Bean
+    public JdbcLeaseLock schedulerLock(JdbcTemplate jdbcTemplate, LeaseLockProperties properties,
+                                       MeterRegistry meterRegistry) {
+        return new JdbcLeaseLock(jdbcTemplate, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.todo.infrastructure.config;
+
+import com.example.todo.infrastructure.persistence.instrumentation.InstrumentedDataSourcePostProcessor;
+import com.example.todo.infrastructure.persistence.instrumentation.QueryInstrumentationListener;
+import com.example.todo.infrastructure.persistence.sharding.ShardedTodoPersistenceAdapter;
+import com.example.todo.infrastructure.persistence.sharding.ShardingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Stores todos on the shards listed in {@code todo.sharding.urls} instead of {@code spring.datasource}, which
+ * keeps the batch metadata and the idempotency keys. Every shard is migrated with the application's Flyway
+ * scripts on startup.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "todo.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    @Primary
+    public ShardedTodoPersistenceAdapter shardedTodoPersistenceAdapter(
+            ShardingProperties shardingProperties,
+            DataSourceProperties dataSourceProperties,
+            ObjectProvider<QueryInstrumentationListener> instrumentation) {
+        List<DataSource> shards = new ArrayList<>();
+        for (String url : shardingProperties.urls()) {
+            HikariDataSource shard = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(url)
+                    .username(shardingProperties.username() != null
+                            ? shardingProperties.username() : dataSourceProperties.determineUsername())
+                    .password(shardingProperties.password() != null
+                            ? shardingProperties.password() : dataSourceProperties.determinePassword())
+                    .build();
+            shard.setPoolName("shard-" + shards.size());
+            shard.setMaximumPoolSize(shardingProperties.maximumPoolSize());
+            Flyway.configure().dataSource(shard).load().migrate();
+
+            QueryInstrumentationListener listener = instrumentation.getIfAvailable();
+            shards.add(listener != null ? InstrumentedDataSourcePostProcessor.instrument(shard, listener) : shard);
+        }
+        return new ShardedTodoPersistenceAdapter(shards);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.todo.infrastructure.config;
+
+import com.example.todo.application.service.TodoTagIndex;
+import com.example.todo.domain.port.TodoRepository;
+import com.example.todo.infrastructure.persistence.tagindex.BitmapTodoTagIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Selects how {@link com.example.todo.application.service.TodoService} resolves filters on tags and completion
+ * status: by reading all todos, or with bitmaps in memory when {@code todo.tag-index.enabled=true}
+ */
+@Configuration
+public class TagIndexConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "todo.tag-index", name = "enabled", havingValue = "true")
+    public BitmapTodoTagIndex bitmapTodoTagIndex(TodoRepository todoRepository,
+                                                 PlatformTransactionManager transactionManager,
+                                                 MeterRegistry meterRegistry) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        // Lookups run inside TodoService's read-only transactions, which read from a replica when enabled
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return new BitmapTodoTagIndex(todoRepository, transactionTemplate, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "todo.tag-index", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public TodoTagIndex noTodoTagIndex() {
+        return TodoTagIndex.NONE;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.todo.infrastructure.config;
+
+import com.example.todo.infrastructure.persistence.idfilter.BloomTodoIdFilter;
+import com.example.todo.infrastructure.persistence.tagindex.BitmapTodoTagIndex;
+import com.example.todo.infrastructure.reminder.ReminderScheduler;
+import com.example.todo.infrastructure.warmup.StartupWarmup;
+import com.example.todo.infrastructure.warmup.WarmupEndpoint;
+import com.example.todo.infrastructure.warmup.WarmupProperties;
+import com.example.todo.infrastructure.web.readmodel.TodoListReadModel;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Warm-up that delays readiness until the pool is open, the caches are loaded and the hot paths are compiled
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "todo.startup.warmup", name = "enabled", havingValue = "true")
+public class WarmupConfig {
+
+    @Bean
+    public StartupWarmup startupWarmup(WarmupProperties properties, DataSource dataSource,
+                                       ObjectProvider<TodoListReadModel> readModel,
+                                       ObjectProvider<BloomTodoIdFilter> idFilter,
+                                       ObjectProvider<BitmapTodoTagIndex> tagIndex,
+                                       ObjectProvider<ReminderScheduler> reminderScheduler,
+                                       Environment environment) {
+        // The scheduled rebuilds also run at startup, but asynchronously; these finish before readiness
+        Map<String, Supplier<String>> caches = new LinkedHashMap<>();
+        readModel.ifAvailable(model -> caches.put("read-model", () -> model.current().size() + " todos"));
+        idFilter.ifAvailable(filter -> caches.put("id-filter", () -> {
+            filter.rebuild();
+            return "rebuilt";
+        }));
+        tagIndex.ifAvailable(index -> caches.put("tag-index", () -> {
+            index.rebuild();
+            return "rebuilt";
+        }));
+        reminderScheduler.ifAvailable(scheduler -> caches.put("reminders", () -> {
+            scheduler.reload();
+            return "loaded";
+        }));
+        return new StartupWarmup(properties, dataSource, caches, environment);
+    }
+
+    @Bean
+    public WarmupEndpoint warmupEndpoint(StartupWarmup startupWarmup) {
+        return new WarmupEndpoint(startupWarmup);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.todo.infrastructure.config;
+
+import com.example.todo.infrastructure.web.filter.FirstRequestTimingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Servlet filters around the REST API that depend on infrastructure beans such as the meter registry
+ */
+@Configuration
+public class WebFilterConfig {
+
+    @Bean
+    public FirstRequestTimingFilter firstRequestTimingFilter(MeterRegistry meterRegistry) {
+        return new FirstRequestTimingFilter(meterRegistry);
+    }
+}
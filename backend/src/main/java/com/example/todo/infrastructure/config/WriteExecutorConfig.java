@@ -0,0 +1,36 @@
+package com.example.todo.infrastructure.config;
+
+import com.example.todo.application.service.TodoWriteExecutor;
+import com.example.todo.application.service.TransactionalTodoWriteExecutor;
+import com.example.todo.infrastructure.persistence.groupcommit.GroupCommitProperties;
+import com.example.todo.infrastructure.persistence.groupcommit.GroupCommitTodoWriteExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+
+/**
+ * Selects how {@link com.example.todo.application.service.TodoService} commits mutations:
+ * one transaction per operation, or group commit when {@code todo.group-commit.enabled=true}
+ */
+@Configuration
+public class WriteExecutorConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "todo.group-commit", name = "enabled", havingValue = "true")
+    public TodoWriteExecutor groupCommitTodoWriteExecutor(DataSource dataSource,
+                                                          PlatformTransactionManager transactionManager,
+                                                          GroupCommitProperties properties,
+                                                          MeterRegistry meterRegistry) {
+        return new GroupCommitTodoWriteExecutor(dataSource, transactionManager, properties, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "todo.group-commit", name = "enabled", havingValue = "false", matchIfMissing = true)
+    public TodoWriteExecutor transactionalTodoWriteExecutor() {
+        return new TransactionalTodoWriteExecutor();
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.todo.infrastructure.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * RFC 4180 CSV with a header row naming the columns, {@code title} required and {@code description},
+ * {@code completed}, {@code dueAt}, {@code remindAt} and {@code tags} optional, in any order and case.
+ * <p>
+ * Records are parsed from a fixed buffer one at a time. Quoted fields may contain commas, line breaks and doubled
+ * quotes, both {@code \n} and {@code \r\n} end a record and blank lines are skipped. A record with the wrong number
+ * of fields or an unterminated quote becomes a malformed row instead of failing the import.
+ */
+final class CsvRowReader implements RowReader {
+
+    private static final List<String> COLUMNS = List.of("title", "description", "completed", "dueat", "remindat",
+            "tags");
+    private static final int TITLE = 0;
+    private static final int DESCRIPTION = 1;
+    private static final int COMPLETED = 2;
+    private static final int DUE_AT = 3;
+    private static final int REMIND_AT = 4;
+    private static final int TAGS = 5;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader in;
+    private final char[] buffer = new char[8192];
+    private int position;
+    private int limit;
+    private final StringBuilder field = new StringBuilder();
+    private final List<String> fields = new ArrayList<>();
+    private boolean unterminated;
+    /**
+     * Index of each known column in a record, -1 for absent columns
+     */
+    private final int[] indexes = new int[COLUMNS.size()];
+    private final int width;
+    private long number;
+
+    /**
+     * Reads the header row
+     *
+     * @throws ImportFormatException if there is none, or it lacks {@code title} or names unknown or duplicate columns
+     */
+    CsvRowReader(Reader in) throws IOException {
+        this.in = in;
+        if (!readRecord()) {
+            throw new ImportFormatException("The CSV input has no header row");
+        }
+        Arrays.fill(indexes, -1);
+        for (int i = 0; i < fields.size(); i++) {
+            String name = fields.get(i).strip();
+            if (i == 0 && !name.isEmpty() && name.charAt(0) == BYTE_ORDER_MARK) {
+                name = name.substring(1);
+            }
+            int column = COLUMNS.indexOf(name.toLowerCase(Locale.ROOT));
+            if (column < 0) {
+                throw new ImportFormatException("Unknown CSV column '" + name + "', expected " + COLUMNS);
+            }
+            if (indexes[column] >= 0) {
+                throw new ImportFormatException("Duplicate CSV column '" + name + "'");
+            }
+            indexes[column] = i;
+        }
+        if (indexes[TITLE] < 0) {
+            throw new ImportFormatException("The CSV header has no title column");
+        }
+        width = fields.size();
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        while (readRecord()) {
+            if (fields.size() == 1 && fields.getFirst().isEmpty() && !unterminated) {
+                continue;
+            }
+            number++;
+            if (unterminated) {
+                return ImportRow.malformed(number, "Unterminated quoted field");
+            }
+            if (fields.size() != width) {
+                return ImportRow.malformed(number, "Expected " + width + " fields but found " + fields.size());
+            }
+            String tags = field(TAGS);
+            return new ImportRow(number, field(TITLE), field(DESCRIPTION), field(COMPLETED), field(DUE_AT),
+                    field(REMIND_AT), tags == null ? List.of() : Arrays.asList(tags.split(",")), null);
+        }
+        return null;
+    }
+
+    private String field(int column) {
+        return indexes[column] < 0 ? null : fields.get(indexes[column]);
+    }
+
+    /**
+     * Reads the next record into {@link #fields}
+     *
+     * @return {@code false} at the end of the input
+     */
+    private boolean readRecord() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        unterminated = false;
+        int c = read();
+        if (c == -1) {
+            return false;
+        }
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    unterminated = true;
+                    fields.add(field.toString());
+                    return true;
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        // Closing quote, the character after it is handled unquoted
+                        quoted = false;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                fields.add(field.toString());
+                return true;
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit) {
+            limit = in.read(buffer);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position++];
+    }
+}
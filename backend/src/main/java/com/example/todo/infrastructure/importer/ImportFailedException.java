@@ -0,0 +1,19 @@
+package com.example.todo.infrastructure.importer;
+
+/**
+ * Thrown when a chunk cannot be written. The chunks committed before it stay imported, so the import can be resumed
+ * by skipping {@link ImportProgress#rows()} of the committed progress.
+ */
+public class ImportFailedException extends RuntimeException {
+
+    private final ImportProgress committed;
+
+    public ImportFailedException(ImportProgress committed, Throwable cause) {
+        super("Import failed after " + committed.rows() + " rows", cause);
+        this.committed = committed;
+    }
+
+    public ImportProgress getCommitted() {
+        return committed;
+    }
+}
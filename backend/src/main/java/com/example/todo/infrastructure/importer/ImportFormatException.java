@@ -0,0 +1,11 @@
+package com.example.todo.infrastructure.importer;
+
+/**
+ * Thrown when the input cannot be imported at all, before any row is read
+ */
+public class ImportFormatException extends RuntimeException {
+
+    public ImportFormatException(String message) {
+        super(message);
+    }
+}
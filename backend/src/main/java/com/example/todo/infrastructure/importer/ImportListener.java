@@ -0,0 +1,20 @@
+package com.example.todo.infrastructure.importer;
+
+import java.io.IOException;
+
+/**
+ * Receives the outcome of an import while it runs, on the importing thread
+ */
+public interface ImportListener {
+
+    /**
+     * @param row   number of the rejected row, counting from 1 after the CSV header
+     * @param error why it was rejected
+     */
+    void rejected(long row, String error) throws IOException;
+
+    /**
+     * Called after each chunk is committed
+     */
+    void committed(ImportProgress progress) throws IOException;
+}
@@ -0,0 +1,12 @@
+package com.example.todo.infrastructure.importer;
+
+/**
+ * State of an import after a committed chunk
+ *
+ * @param rows     rows read so far, skipped ones included, an import resumed with {@code skip} set to this
+ *                 continues right after the last committed chunk
+ * @param imported rows inserted so far
+ * @param rejected rows rejected so far
+ */
+public record ImportProgress(long rows, long imported, long rejected) {
+}
@@ -0,0 +1,18 @@
+package com.example.todo.infrastructure.importer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Bulk import of todos from CSV or NDJSON
+ *
+ * @param enabled       whether {@code POST /api/todos/import} is served
+ * @param chunkSize     rows inserted and committed together, progress is reported after each chunk
+ * @param maxConcurrent imports running at the same time, each holds one database connection while a chunk commits
+ */
+@ConfigurationProperties(prefix = "todo.import")
+public record ImportProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("5000") int chunkSize,
+        @DefaultValue("1") int maxConcurrent) {
+}
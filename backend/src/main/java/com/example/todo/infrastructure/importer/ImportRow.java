@@ -0,0 +1,18 @@
+package com.example.todo.infrastructure.importer;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * One row of the input as read, before validation. Timestamps and the completed flag are still text.
+ *
+ * @param number row number, counting from 1 after the CSV header
+ * @param error  why the row could not be read, the other fields are {@code null} then
+ */
+record ImportRow(long number, String title, String description, String completed, String dueAt, String remindAt,
+                 Collection<String> tags, String error) {
+
+    static ImportRow malformed(long number, String error) {
+        return new ImportRow(number, null, null, null, null, null, List.of(), error);
+    }
+}
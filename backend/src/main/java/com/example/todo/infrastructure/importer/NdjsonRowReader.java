@@ -0,0 +1,55 @@
+package com.example.todo.infrastructure.importer;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Newline delimited JSON, one object per line with the properties of a create request plus {@code completed}.
+ * Blank lines are skipped, a line that is not such an object becomes a malformed row.
+ */
+final class NdjsonRowReader implements RowReader {
+
+    private final BufferedReader in;
+    private final ObjectMapper objectMapper;
+    private long number;
+
+    NdjsonRowReader(BufferedReader in, ObjectMapper objectMapper) {
+        this.in = in;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            number++;
+            Line parsed;
+            try {
+                parsed = objectMapper.readValue(line, Line.class);
+            } catch (JacksonException e) {
+                return ImportRow.malformed(number, "Malformed JSON: " + e.getOriginalMessage());
+            }
+            if (parsed == null) {
+                return ImportRow.malformed(number, "Expected a JSON object");
+            }
+            return new ImportRow(number, parsed.title(), parsed.description(),
+                    parsed.completed() == null ? null : parsed.completed().toString(),
+                    parsed.dueAt(), parsed.remindAt(), parsed.tags() == null ? List.of() : parsed.tags(), null);
+        }
+        return null;
+    }
+
+    /**
+     * Timestamps are bound as text, so they are validated and reported like those of a CSV row
+     */
+    record Line(String title, String description, Boolean completed, String dueAt, String remindAt,
+                List<String> tags) {
+    }
+}
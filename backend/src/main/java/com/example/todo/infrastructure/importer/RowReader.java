@@ -0,0 +1,14 @@
+package com.example.todo.infrastructure.importer;
+
+import java.io.IOException;
+
+/**
+ * Reads the rows of an import one at a time, so the input is never held in memory as a whole
+ */
+interface RowReader {
+
+    /**
+     * @return the next row, {@code null} at the end of the input
+     */
+    ImportRow next() throws IOException;
+}
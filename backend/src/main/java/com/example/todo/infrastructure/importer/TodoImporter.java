@@ -0,0 +1,238 @@
+package com.example.todo.infrastructure.importer;
+
+import com.example.todo.application.service.TodoActor;
+import com.example.todo.application.service.TodoAuditEvent;
+import com.example.todo.application.service.TodoAuditEvent.Action;
+import com.example.todo.application.service.TodosChangedEvent;
+import com.example.todo.domain.model.SortKeys;
+import com.example.todo.domain.model.Tags;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.port.TodoRepository;
+import com.example.todo.infrastructure.limit.Bulkhead;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Imports todos from a stream of CSV or NDJSON rows without holding the input in memory.
+ * <p>
+ * Rows are read one at a time and validated like create requests, rejected rows are reported and skipped. Valid
+ * rows are collected into chunks of {@code todo.import.chunk-size}, each written with
+ * {@link TodoRepository#insertAll(List)} and committed on its own, so memory stays flat and a failure loses at most
+ * the chunk being written. Reading the input only as fast as chunks commit is the backpressure towards the client.
+ * With sharding every shard commits its part of a chunk on its own, so a failed chunk may be partly written.
+ * <p>
+ * Imported todos are appended to the end of the list in input order. Each chunk publishes the ids it inserted
+ * with one {@link TodosChangedEvent}, so derived state reloads only those todos, and a {@link TodoAuditEvent} per
+ * todo, so the history records who imported it.
+ */
+@Slf4j
+public class TodoImporter {
+
+    public enum Format { CSV, NDJSON }
+
+    static final int MAX_TITLE_LENGTH = 255;
+    static final int MAX_DESCRIPTION_LENGTH = 1000;
+
+    private final TodoRepository todoRepository;
+    private final TransactionOperations transactionOperations;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final Bulkhead bulkhead;
+    private final Counter imported;
+    private final Counter rejected;
+
+    public TodoImporter(TodoRepository todoRepository, TransactionOperations transactionOperations,
+                        ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher,
+                        ImportProperties properties, MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        this.transactionOperations = transactionOperations;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = properties.chunkSize();
+        this.bulkhead = new Bulkhead("import", properties.maxConcurrent(), meterRegistry);
+        this.imported = Counter.builder("todo.import.rows")
+                .description("Rows read by bulk imports")
+                .tag("outcome", "imported")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("todo.import.rows")
+                .description("Rows read by bulk imports")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Imports all rows of the input after the first {@code skip}
+     *
+     * @param skip rows to skip without validating them, the {@code rows} of the last progress of an interrupted
+     *             import to resume it
+     * @return the final progress, empty without reading anything if {@code todo.import.max-concurrent} imports
+     * are running already
+     * @throws ImportFormatException if the CSV header is malformed, before anything is imported
+     * @throws ImportFailedException if a chunk cannot be written, with the progress committed before it
+     */
+    public Optional<ImportProgress> tryImport(Format format, InputStream input, long skip, ImportListener listener)
+            throws IOException {
+        AtomicReference<ImportProgress> result = new AtomicReference<>();
+        try {
+            if (!bulkhead.tryRun(() -> {
+                try {
+                    result.set(importRows(reader(format, input), skip, listener));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            })) {
+                return Optional.empty();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return Optional.of(result.get());
+    }
+
+    private RowReader reader(Format format, InputStream input) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return switch (format) {
+            case CSV -> new CsvRowReader(reader);
+            case NDJSON -> new NdjsonRowReader(reader, objectMapper);
+        };
+    }
+
+    ImportProgress importRows(RowReader reader, long skip, ImportListener listener) throws IOException {
+        String actor = TodoActor.current();
+        List<Todo> chunk = new ArrayList<>(chunkSize);
+        ImportProgress committed = new ImportProgress(skip, 0, 0);
+        long rows = 0;
+        long rejectedRows = 0;
+        ImportRow row;
+        while ((row = reader.next()) != null) {
+            rows = row.number();
+            if (rows <= skip) {
+                continue;
+            }
+            String error = row.error();
+            if (error == null) {
+                try {
+                    chunk.add(toTodo(row));
+                } catch (IllegalArgumentException e) {
+                    error = e.getMessage();
+                }
+            }
+            if (error != null) {
+                rejectedRows++;
+                rejected.increment();
+                listener.rejected(rows, error);
+            }
+            if (chunk.size() == chunkSize) {
+                committed = write(chunk, actor, committed, rows, rejectedRows);
+                listener.committed(committed);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            committed = write(chunk, actor, committed, rows, rejectedRows);
+            listener.committed(committed);
+        }
+        ImportProgress done = new ImportProgress(rows, committed.imported(), rejectedRows);
+        log.info("Imported {} todos, rejected {} of {} rows", done.imported(), done.rejected(), done.rows());
+        return done;
+    }
+
+    /**
+     * Inserts and commits a chunk, then empties it
+     *
+     * @param committed progress before the chunk, reported if it fails
+     * @return the progress after the chunk
+     */
+    private ImportProgress write(List<Todo> chunk, String actor, ImportProgress committed, long rows,
+                                 long rejectedRows) {
+        try {
+            transactionOperations.executeWithoutResult(status -> {
+                String sortKey = todoRepository.findLastSortKey().orElse(null);
+                for (Todo todo : chunk) {
+                    sortKey = SortKeys.after(sortKey);
+                    todo.setSortKey(sortKey);
+                }
+                List<Long> ids = todoRepository.insertAll(chunk);
+                eventPublisher.publishEvent(TodosChangedEvent.of(ids));
+                LocalDateTime at = LocalDateTime.now();
+                for (int i = 0; i < chunk.size(); i++) {
+                    Todo todo = chunk.get(i);
+                    todo.setId(ids.get(i));
+                    eventPublisher.publishEvent(new TodoAuditEvent(todo.getId(), Action.CREATED, actor, at, null,
+                            todo));
+                }
+            });
+        } catch (RuntimeException e) {
+            throw new ImportFailedException(committed, e);
+        }
+        imported.increment(chunk.size());
+        ImportProgress progress = new ImportProgress(rows, committed.imported() + chunk.size(), rejectedRows);
+        chunk.clear();
+        return progress;
+    }
+
+    /**
+     * @throws IllegalArgumentException with the reason if the row is not a valid todo
+     */
+    static Todo toTodo(ImportRow row) {
+        String title = row.title();
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("Title is required");
+        }
+        if (title.length() > MAX_TITLE_LENGTH) {
+            throw new IllegalArgumentException("Title is longer than " + MAX_TITLE_LENGTH + " characters");
+        }
+        String description = row.description() == null || row.description().isEmpty() ? null : row.description();
+        if (description != null && description.length() > MAX_DESCRIPTION_LENGTH) {
+            throw new IllegalArgumentException("Description is longer than " + MAX_DESCRIPTION_LENGTH + " characters");
+        }
+        Set<String> tags = Tags.parse(row.tags()).orElseThrow(() -> new IllegalArgumentException(
+                "Tags must be at most " + Tags.MAX_TAGS + " lower case words of up to " + Tags.MAX_LENGTH
+                        + " letters, digits, - or _"));
+        Todo todo = new Todo(title, description);
+        todo.setCompleted(completed(row.completed()));
+        todo.setDueAt(dateTime("dueAt", row.dueAt()));
+        todo.setRemindAt(dateTime("remindAt", row.remindAt()));
+        todo.setTags(tags);
+        return todo;
+    }
+
+    private static boolean completed(String value) {
+        if (value == null || value.isEmpty() || value.equalsIgnoreCase("false")) {
+            return false;
+        }
+        if (value.equalsIgnoreCase("true")) {
+            return true;
+        }
+        throw new IllegalArgumentException("Completed must be true or false");
+    }
+
+    private static LocalDateTime dateTime(String name, String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(name + " must be a date and time like 2026-01-20T17:00:00");
+        }
+    }
+}
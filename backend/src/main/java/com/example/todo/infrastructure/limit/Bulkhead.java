@@ -0,0 +1,49 @@
+package com.example.todo.infrastructure.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * Fixed cap on concurrent executions of a background workload, so it can never take more than its share
+ * of threads and database connections away from interactive traffic
+ */
+public class Bulkhead {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final Counter rejected;
+
+    public Bulkhead(String name, int maxConcurrent, MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrent);
+        this.maxConcurrent = maxConcurrent;
+        Gauge.builder("todo.bulkhead.in-flight", this, bulkhead -> bulkhead.maxConcurrent - bulkhead.permits.availablePermits())
+                .description("Executions currently inside the bulkhead")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("todo.bulkhead.rejected")
+                .description("Executions rejected because the bulkhead was full")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the task if a permit is free
+     *
+     * @return whether the task ran
+     */
+    public boolean tryRun(Runnable task) {
+        if (!permits.tryAcquire()) {
+            rejected.increment();
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.todo.infrastructure.limit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Adaptive concurrency limits of the REST API and the bulkhead of the batch job
+ *
+ * @param enabled    whether API requests beyond the limit are shed
+ * @param reads      limit of read requests ({@code GET}, {@code HEAD})
+ * @param writes     limit of all other requests
+ * @param tolerance  how much the current latency may exceed the long-term latency before the limit shrinks
+ * @param smoothing  weight of a new limit estimate, between 0 and 1
+ * @param retryAfter {@code Retry-After} sent with rejected requests
+ * @param batch      bulkhead of the batch job
+ */
+@ConfigurationProperties(prefix = "todo.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue Limit reads,
+        @DefaultValue Limit writes,
+        @DefaultValue("1.5") double tolerance,
+        @DefaultValue("0.2") double smoothing,
+        @DefaultValue("1s") Duration retryAfter,
+        @DefaultValue Batch batch) {
+
+    /**
+     * @param initialLimit limit before any latency has been observed
+     * @param minLimit     the limit never drops below this
+     * @param maxLimit     the limit never grows above this
+     */
+    public record Limit(
+            @DefaultValue("20") int initialLimit,
+            @DefaultValue("4") int minLimit,
+            @DefaultValue("200") int maxLimit) {
+    }
+
+    /**
+     * @param maxConcurrent maximum concurrently running batch jobs, each holds at most one database connection
+     */
+    public record Batch(@DefaultValue("1") int maxConcurrent) {
+    }
+}
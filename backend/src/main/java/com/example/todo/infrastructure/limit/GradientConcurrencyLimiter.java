@@ -0,0 +1,109 @@
+package com.example.todo.infrastructure.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to the observed latency, following the gradient algorithm of Netflix's
+ * concurrency-limits.
+ * <p>
+ * A slow moving average of the response time approximates the latency without queueing. While the current
+ * latency stays within {@code tolerance} of it the limit grows by a queue allowance of {@code sqrt(limit)}, once
+ * requests start to queue the limit shrinks with the ratio of both. Failed requests shrink the limit by 10%.
+ * The limit only grows while it is actually used, so an idle service does not drift to the maximum.
+ */
+public class GradientConcurrencyLimiter {
+
+    private static final int LONG_WINDOW = 600;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ConcurrencyLimitProperties.Limit bounds;
+    private final double tolerance;
+    private final double smoothing;
+    private final Counter rejected;
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+
+    public GradientConcurrencyLimiter(String group, ConcurrencyLimitProperties.Limit bounds, double tolerance,
+                                      double smoothing, MeterRegistry meterRegistry) {
+        this.bounds = bounds;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.estimatedLimit = bounds.initialLimit();
+        this.limit = bounds.initialLimit();
+        Gauge.builder("todo.concurrency.limit", this, GradientConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("group", group)
+                .register(meterRegistry);
+        Gauge.builder("todo.concurrency.in-flight", inFlight, AtomicInteger::get)
+                .description("Requests currently executing")
+                .tag("group", group)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("todo.concurrency.rejected")
+                .description("Requests rejected because the concurrency limit was reached")
+                .tag("group", group)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return whether the request may execute, a granted request must be ended with {@link #release}
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @param rttNanos how long the request took
+     * @param dropped  whether the request failed in a way that hints at overload
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int current = inFlight.getAndDecrement();
+        onSample(rttNanos, current, dropped);
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtSample, boolean dropped) {
+        double newLimit;
+        if (dropped) {
+            newLimit = estimatedLimit * BACKOFF_RATIO;
+        } else {
+            longRttNanos = longRttNanos == 0
+                    ? rttNanos
+                    : longRttNanos + (rttNanos - longRttNanos) / LONG_WINDOW;
+            // After a load spike the average stays inflated for a long time, let it recover faster
+            if (longRttNanos / rttNanos > 2) {
+                longRttNanos *= 0.95;
+            }
+            if (inFlightAtSample < estimatedLimit / 2) {
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+            newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        }
+
+        newLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(bounds.minLimit(), Math.min(bounds.maxLimit(), newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.todo.infrastructure.persistence.adapter;
+
+import com.example.todo.domain.model.Tags;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.port.ReactiveTodoRepository;
+import io.r2dbc.spi.Readable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Reactive outbound adapter for persistence, runs plain SQL over R2DBC against the Flyway-managed schema
+ * <p>
+ * Ids come from the same {@code todo_sequence} as the JPA entity, so both adapters can share a database.
+ */
+public class R2dbcTodoPersistenceAdapter implements ReactiveTodoRepository {
+
+    private static final String COLUMNS =
+            "id, title, description, completed, created_at, updated_at, sort_key, due_at, remind_at, tags";
+
+    private final DatabaseClient databaseClient;
+
+    public R2dbcTodoPersistenceAdapter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    @Override
+    public Mono<Todo> save(Todo todo) {
+        return todo.getId() == null ? insert(todo) : update(todo);
+    }
+
+    @Override
+    public Mono<Todo> findById(Long id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM todos WHERE id = :id")
+                .bind("id", id)
+                .map(R2dbcTodoPersistenceAdapter::toDomain)
+                .one();
+    }
+
+    @Override
+    public Flux<Todo> findAll() {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM todos ORDER BY sort_key, id")
+                .map(R2dbcTodoPersistenceAdapter::toDomain)
+                .all();
+    }
+
+    @Override
+    public Mono<Void> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM todos WHERE id = :id")
+                .bind("id", id)
+                .then();
+    }
+
+    @Override
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("SELECT 1 FROM todos WHERE id = :id")
+                .bind("id", id)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    @Override
+    public Mono<String> findLastSortKey() {
+        return databaseClient.sql("SELECT MAX(sort_key) FROM todos")
+                .map(row -> Optional.ofNullable(row.get(0, String.class)))
+                .one()
+                .flatMap(Mono::justOrEmpty);
+    }
+
+    private Mono<Todo> insert(Todo todo) {
+        return databaseClient.sql("SELECT NEXT VALUE FOR todo_sequence")
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .flatMap(id -> bindSortKey(bindColumns(databaseClient.sql(
+                                "INSERT INTO todos (" + COLUMNS + ") "
+                                        + "VALUES (:id, :title, :description, :completed, :createdAt, :updatedAt, "
+                                        + ":sortKey, :dueAt, :remindAt, :tags)"), todo), todo)
+                        .bind("id", id)
+                        .then()
+                        .then(Mono.fromSupplier(() -> withId(todo, id))));
+    }
+
+    private Mono<Todo> update(Todo todo) {
+        return bindColumns(databaseClient.sql(
+                        "UPDATE todos SET title = :title, description = :description, completed = :completed, "
+                                + "created_at = :createdAt, updated_at = :updatedAt, due_at = :dueAt, "
+                                + "remind_at = :remindAt, tags = :tags WHERE id = :id"), todo)
+                .bind("id", todo.getId())
+                .then()
+                .thenReturn(todo);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindColumns(DatabaseClient.GenericExecuteSpec spec, Todo todo) {
+        DatabaseClient.GenericExecuteSpec bound = spec.bind("title", todo.getTitle())
+                .bind("completed", todo.isCompleted())
+                .bind("createdAt", todo.getCreatedAt())
+                .bind("updatedAt", todo.getUpdatedAt());
+        bound = bindNullable(bound, "dueAt", todo.getDueAt());
+        bound = bindNullable(bound, "remindAt", todo.getRemindAt());
+        String tags = Tags.join(todo.getTags());
+        bound = tags == null ? bound.bindNull("tags", String.class) : bound.bind("tags", tags);
+        return todo.getDescription() == null
+                ? bound.bindNull("description", String.class)
+                : bound.bind("description", todo.getDescription());
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec, String name,
+                                                                  LocalDateTime value) {
+        return value == null ? spec.bindNull(name, LocalDateTime.class) : spec.bind(name, value);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindSortKey(DatabaseClient.GenericExecuteSpec spec, Todo todo) {
+        return todo.getSortKey() == null
+                ? spec.bindNull("sortKey", String.class)
+                : spec.bind("sortKey", todo.getSortKey());
+    }
+
+    private static Todo withId(Todo todo, Long id) {
+        todo.setId(id);
+        return todo;
+    }
+
+    private static Todo toDomain(Readable row) {
+        Todo todo = new Todo();
+        todo.setId(row.get("id", Long.class));
+        todo.setTitle(row.get("title", String.class));
+        todo.setDescription(row.get("description", String.class));
+        todo.setCompleted(Boolean.TRUE.equals(row.get("completed", Boolean.class)));
+        todo.setCreatedAt(row.get("created_at", LocalDateTime.class));
+        todo.setUpdatedAt(row.get("updated_at", LocalDateTime.class));
+        todo.setSortKey(row.get("sort_key", String.class));
+        todo.setDueAt(row.get("due_at", LocalDateTime.class));
+        todo.setRemindAt(row.get("remind_at", LocalDateTime.class));
+        todo.setTags(Tags.split(row.get("tags", String.class)));
+        return todo;
+    }
+}
@@ -1,18 +1,37 @@
 package com.example.todo.infrastructure.persistence.adapter;
 
+import com.example.todo.domain.model.Tags;
 import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoField;
 import com.example.todo.domain.port.TodoRepository;
 import com.example.todo.infrastructure.persistence.entity.TodoEntity;
 import com.example.todo.infrastructure.persistence.mapper.TodoMapper;
 import com.example.todo.infrastructure.persistence.repository.JpaTodoRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
 
 /**
  * Outbound adapter for persistence
+ * <p>
+ * Batch writes of many rows go through JDBC in the surrounding transaction and bypass the persistence context.
+ * Bulk changes read the ids of the rows they changed back from an H2 data change delta table
+ * ({@code SELECT id FROM FINAL TABLE (UPDATE ...)}), in the same statement; the persistence context is flushed
+ * before and cleared after them.
  */
 @Component
 @RequiredArgsConstructor
@@ -20,6 +39,8 @@ public class TodoPersistenceAdapter implements TodoRepository {
 
     private final JpaTodoRepository jpaTodoRepository;
     private final TodoMapper todoMapper;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public Todo save(Todo todo) {
@@ -36,11 +57,36 @@ public class TodoPersistenceAdapter implements TodoRepository {
 
     @Override
     public List<Todo> findAll() {
-        return jpaTodoRepository.findAll().stream()
+        return jpaTodoRepository.findAllInListOrder().stream()
                 .map(todoMapper::toDomain)
                 .toList();
     }
 
+    @Override
+    public List<Todo> findAll(Set<TodoField> fields) {
+        StringJoiner select = new StringJoiner(", ", "SELECT ", " FROM TodoEntity t ORDER BY t.sortKey, t.id");
+        fields.forEach(field -> select.add("t." + field.property()));
+        return entityManager.createQuery(select.toString(), Tuple.class)
+                .getResultStream()
+                .map(tuple -> toDomain(tuple, fields))
+                .toList();
+    }
+
+    @Override
+    public List<Todo> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaTodoRepository.findAllByIdInListOrder(ids).stream()
+                .map(todoMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Long> findAllIds() {
+        return jpaTodoRepository.findAllIds();
+    }
+
     @Override
     public void deleteById(Long id) {
         jpaTodoRepository.deleteById(id);
@@ -65,4 +111,157 @@ public class TodoPersistenceAdapter implements TodoRepository {
                 .toList();
         jpaTodoRepository.deleteAll(entities);
     }
+
+    @Override
+    public List<Long> insertAll(List<Todo> todos) {
+        if (todos.isEmpty()) {
+            return List.of();
+        }
+        // Drawn up front, a batch insert cannot return the ids it generated
+        List<Long> ids = jdbcTemplate.queryForList("SELECT NEXT VALUE FOR todo_sequence FROM SYSTEM_RANGE(1, ?)",
+                Long.class, todos.size());
+        List<Object[]> batch = new ArrayList<>(todos.size());
+        for (int i = 0; i < todos.size(); i++) {
+            Todo todo = todos.get(i);
+            batch.add(new Object[]{ids.get(i), todo.getTitle(), todo.getDescription(), todo.isCompleted(),
+                    todo.getCreatedAt(), todo.getUpdatedAt(), todo.getSortKey(), todo.getDueAt(), todo.getRemindAt(),
+                    Tags.join(todo.getTags())});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO todos (id, title, description, completed, created_at, updated_at,"
+                + " sort_key, due_at, remind_at, tags) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+        return ids;
+    }
+
+    @Override
+    public List<Long> updateCompleted(Collection<Long> ids, boolean completed, LocalDateTime updatedAt) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        List<Object> args = new ArrayList<>(ids.size() + 3);
+        args.add(completed);
+        args.add(updatedAt);
+        args.add(completed);
+        args.addAll(ids);
+        return changedIds("SELECT id FROM FINAL TABLE (UPDATE todos SET completed = ?, updated_at = ? "
+                + "WHERE completed <> ? AND id IN (" + String.join(", ", Collections.nCopies(ids.size(), "?"))
+                + "))", args.toArray());
+    }
+
+    @Override
+    public List<Long> completeAll(LocalDateTime updatedAt) {
+        return changedIds("SELECT id FROM FINAL TABLE (UPDATE todos SET completed = TRUE, updated_at = ? "
+                + "WHERE completed = FALSE)", updatedAt);
+    }
+
+    @Override
+    public List<Long> deleteCompleted() {
+        return changedIds("SELECT id FROM OLD TABLE (DELETE FROM todos WHERE completed = TRUE)");
+    }
+
+    @Override
+    public List<Long> findCompletedIdsUpdatedBefore(LocalDateTime cutoff, int limit) {
+        return jpaTodoRepository.findCompletedIdsUpdatedBefore(cutoff, Limit.of(limit));
+    }
+
+    @Override
+    public int deleteCompletedUpdatedBefore(Collection<Long> ids, LocalDateTime cutoff) {
+        return ids.isEmpty() ? 0 : jpaTodoRepository.deleteCompletedUpdatedBefore(ids, cutoff);
+    }
+
+    @Override
+    public long countCompletedUpdatedBefore(LocalDateTime cutoff) {
+        return jpaTodoRepository.countCompletedUpdatedBefore(cutoff);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestCompletedUpdateBefore(LocalDateTime cutoff) {
+        return jpaTodoRepository.findOldestCompletedUpdateBefore(cutoff);
+    }
+
+    @Override
+    public List<Todo> findPendingReminders(LocalDateTime from, LocalDateTime to) {
+        return jpaTodoRepository.findPendingReminders(from, to).stream()
+                .map(row -> {
+                    Todo todo = new Todo();
+                    todo.setId((Long) row[0]);
+                    todo.setRemindAt((LocalDateTime) row[1]);
+                    return todo;
+                })
+                .toList();
+    }
+
+    @Override
+    public Optional<String> findLastSortKey() {
+        return jpaTodoRepository.findLastSortKey();
+    }
+
+    @Override
+    public Map<Long, String> findSortKeys(Collection<Long> ids) {
+        Map<Long, String> sortKeys = HashMap.newHashMap(ids.size());
+        if (!ids.isEmpty()) {
+            for (Object[] row : jpaTodoRepository.findSortKeys(ids)) {
+                sortKeys.put((Long) row[0], (String) row[1]);
+            }
+        }
+        return sortKeys;
+    }
+
+    @Override
+    public Optional<String> findSortKeyAfter(String sortKey, Long excludedId) {
+        return jpaTodoRepository.findSortKeyAfter(sortKey, excludedId);
+    }
+
+    @Override
+    public Optional<String> findSortKeyBefore(String sortKey, Long excludedId) {
+        return jpaTodoRepository.findSortKeyBefore(sortKey, excludedId);
+    }
+
+    @Override
+    public int updateSortKey(Long id, String sortKey) {
+        return jpaTodoRepository.updateSortKey(id, sortKey);
+    }
+
+    @Override
+    public boolean needsSortKeyRebalance(int maxLength) {
+        return jpaTodoRepository.needsSortKeyRebalance(maxLength);
+    }
+
+    @Override
+    public List<Long> findAllIdsInListOrderForUpdate() {
+        return jpaTodoRepository.findAllIdsInListOrderForUpdate();
+    }
+
+    @Override
+    public void updateSortKeys(Map<Long, String> sortKeys) {
+        List<Object[]> batch = new ArrayList<>(sortKeys.size());
+        sortKeys.forEach((id, sortKey) -> batch.add(new Object[]{sortKey, id}));
+        jdbcTemplate.batchUpdate("UPDATE todos SET sort_key = ? WHERE id = ?", batch);
+    }
+
+    private static Todo toDomain(Tuple tuple, Set<TodoField> fields) {
+        Todo todo = new Todo();
+        int index = 0;
+        for (TodoField field : fields) {
+            Object value = tuple.get(index++);
+            switch (field) {
+                case ID -> todo.setId((Long) value);
+                case TITLE -> todo.setTitle((String) value);
+                case DESCRIPTION -> todo.setDescription((String) value);
+                case COMPLETED -> todo.setCompleted((Boolean) value);
+                case CREATED_AT -> todo.setCreatedAt((LocalDateTime) value);
+                case UPDATED_AT -> todo.setUpdatedAt((LocalDateTime) value);
+                case DUE_AT -> todo.setDueAt((LocalDateTime) value);
+                case REMIND_AT -> todo.setRemindAt((LocalDateTime) value);
+                case TAGS -> todo.setTags(Tags.split((String) value));
+            }
+        }
+        return todo;
+    }
+
+    private List<Long> changedIds(String sql, Object... args) {
+        entityManager.flush();
+        List<Long> ids = jdbcTemplate.queryForList(sql, Long.class, args);
+        entityManager.clear();
+        return ids;
+    }
 }
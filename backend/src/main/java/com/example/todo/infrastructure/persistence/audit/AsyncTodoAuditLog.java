@@ -0,0 +1,170 @@
+package com.example.todo.infrastructure.persistence.audit;
+
+import com.example.todo.application.service.TodoAuditEvent;
+import com.example.todo.domain.model.Todo;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+import tools.jackson.databind.ObjectMapper;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Records the {@link TodoAuditEvent}s of committed changes in the append-only {@code todo_audit} table, off the
+ * request path.
+ * <p>
+ * After commit, the committing thread only stores the event in an {@link AuditRingBuffer}. A single writer thread
+ * polls the buffer and inserts what it finds as one JDBC batch in one transaction, so the rows of a burst share a
+ * round trip and a commit, and serializes the states to JSON there.
+ * <p>
+ * Overflow: when the writer falls behind and the buffer is full, the committing thread waits up to
+ * {@code todo.audit.overflow-timeout} for room. After that the entry is dropped, counted in
+ * {@code todo.audit.dropped} and logged with its todo, action and actor, so a slow audit table never blocks
+ * writes for longer than that. A batch that fails to insert is counted in {@code todo.audit.failed} and logged the
+ * same way. Entries still buffered when the application stops are written before the writer ends.
+ */
+@Slf4j
+public class AsyncTodoAuditLog implements AutoCloseable {
+
+    static final int MAX_ACTOR_LENGTH = 64;
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+    private static final String INSERT = "INSERT INTO todo_audit "
+            + "(todo_id, action, actor, occurred_at, before_state, after_state) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final AuditRingBuffer buffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final ObjectMapper objectMapper;
+    private final long overflowTimeoutNanos;
+    private final TodoAuditEvent[] batch;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    /**
+     * @param transactionOperations commits each batch, a read-write transaction keeps it on the primary when read
+     *                              replicas are enabled
+     */
+    public AsyncTodoAuditLog(JdbcTemplate jdbcTemplate, TransactionOperations transactionOperations,
+                             ObjectMapper objectMapper, AuditProperties properties, MeterRegistry meterRegistry) {
+        this.buffer = new AuditRingBuffer(properties.bufferSize());
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.objectMapper = objectMapper;
+        this.overflowTimeoutNanos = properties.overflowTimeout().toNanos();
+        this.batch = new TodoAuditEvent[properties.batchSize()];
+        this.written = Counter.builder("todo.audit.written")
+                .description("Audit entries written to the todo_audit table")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("todo.audit.dropped")
+                .description("Audit entries dropped because the buffer stayed full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("todo.audit.failed")
+                .description("Audit entries lost because their batch failed to insert")
+                .register(meterRegistry);
+        Gauge.builder("todo.audit.backlog", buffer, AuditRingBuffer::size)
+                .description("Audit entries waiting for the writer")
+                .register(meterRegistry);
+        this.writer = Thread.ofPlatform().name("todo-audit-writer").daemon().start(this::writeLoop);
+    }
+
+    /**
+     * Hands the event of a committed change to the writer, mutations rolled back are not recorded
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoAudited(TodoAuditEvent event) {
+        if (!running || !buffer.offer(event, overflowTimeoutNanos)) {
+            dropped.increment();
+            lost("dropped", event);
+        }
+    }
+
+    /**
+     * Stops accepting entries and writes the buffered ones before the writer thread ends
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        writer.join();
+    }
+
+    private void writeLoop() {
+        while (running || buffer.size() > 0) {
+            int count = buffer.poll(batch);
+            if (count == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            try {
+                write(count);
+                written.increment(count);
+            } catch (RuntimeException e) {
+                log.error("Writing {} audit entries failed", count, e);
+                failed.increment(count);
+                for (int i = 0; i < count; i++) {
+                    lost("not written", batch[i]);
+                }
+            } finally {
+                Arrays.fill(batch, 0, count, null);
+            }
+        }
+    }
+
+    private void write(int count) {
+        transactionOperations.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT,
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        TodoAuditEvent event = batch[i];
+                        if (event.todoId() == null) {
+                            ps.setNull(1, Types.BIGINT);
+                        } else {
+                            ps.setLong(1, event.todoId());
+                        }
+                        ps.setString(2, event.action().name());
+                        ps.setString(3, actor(event));
+                        ps.setTimestamp(4, Timestamp.valueOf(event.at()));
+                        ps.setString(5, state(event, event.before()));
+                        ps.setString(6, state(event, event.after()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return count;
+                    }
+                }));
+    }
+
+    private String state(TodoAuditEvent event, Todo todo) {
+        if (todo == null) {
+            return null;
+        }
+        if (event.action() == TodoAuditEvent.Action.MOVED) {
+            return objectMapper.writeValueAsString(Collections.singletonMap("sortKey", todo.getSortKey()));
+        }
+        return objectMapper.writeValueAsString(todo);
+    }
+
+    private static String actor(TodoAuditEvent event) {
+        String actor = event.actor();
+        return actor.length() > MAX_ACTOR_LENGTH ? actor.substring(0, MAX_ACTOR_LENGTH) : actor;
+    }
+
+    private static void lost(String reason, TodoAuditEvent event) {
+        log.warn("Audit entry {}: {} of todo {} by {} at {}", reason, event.action(), event.todoId(), event.actor(),
+                event.at());
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.todo.infrastructure.persistence.audit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Audit history of the changes made through {@code TodoService}
+ *
+ * @param enabled         whether changes are recorded and {@code GET /api/todos/{id}/history} is served
+ * @param bufferSize      entries waiting for the writer, rounded up to a power of two
+ * @param batchSize       maximum number of entries inserted in one transaction
+ * @param overflowTimeout how long a committing thread waits for room in a full buffer before the entry is dropped,
+ *                        counted and logged instead
+ * @param trustUserHeader whether the {@code X-User} header names the actor of requests without an authenticated
+ *                        user, only for deployments behind a proxy that authenticates users and sets the header
+ */
+@ConfigurationProperties(prefix = "todo.audit")
+public record AuditProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("8192") int bufferSize,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("10ms") Duration overflowTimeout,
+        @DefaultValue("false") boolean trustUserHeader) {
+}
@@ -0,0 +1,116 @@
+package com.example.todo.infrastructure.persistence.audit;
+
+import com.example.todo.application.service.TodoAuditEvent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded ring of audit events, lock-free for any number of producers and a single consumer.
+ * <p>
+ * The slots are allocated once. A producer claims the next sequence with a compare-and-set on the claim cursor,
+ * fails fast when that sequence would overwrite a slot the consumer has not read yet, stores its event and then
+ * publishes the sequence in the slot. The consumer reads slots in sequence order up to the first one not published
+ * yet, so a slow producer holds back the events claimed after it but never loses or reorders them, and releases
+ * the slots it read by advancing its cursor.
+ */
+final class AuditRingBuffer {
+
+    private static final long FULL_PARK_NANOS = 50_000;
+
+    private final TodoAuditEvent[] events;
+    // Sequence last published in each slot, written after the event so the consumer sees the event once it sees it
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    // Next sequence the consumer reads, slots before it may be reused
+    private volatile long consumed;
+
+    /**
+     * @param capacity rounded up to a power of two
+     */
+    AuditRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Unsupported capacity " + capacity);
+        }
+        int size = Math.max(1, Integer.highestOneBit(capacity - 1) << 1);
+        this.events = new TodoAuditEvent[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            published.set(i, -1);
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * @return whether the event was stored, false if the buffer was full
+     */
+    boolean offer(TodoAuditEvent event) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= events.length) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        int slot = (int) sequence & mask;
+        events[slot] = event;
+        published.set(slot, sequence);
+        return true;
+    }
+
+    /**
+     * Offers the event until it is stored or the timeout has passed, parking between attempts
+     *
+     * @return whether the event was stored
+     */
+    boolean offer(TodoAuditEvent event, long timeoutNanos) {
+        if (offer(event)) {
+            return true;
+        }
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (deadline - System.nanoTime() > 0) {
+            LockSupport.parkNanos(Math.min(FULL_PARK_NANOS, deadline - System.nanoTime()));
+            if (offer(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Moves the published events, oldest first, into {@code batch} and frees their slots. Only one thread may
+     * poll.
+     *
+     * @return number of events moved to the start of {@code batch}
+     */
+    int poll(TodoAuditEvent[] batch) {
+        long next = consumed;
+        int count = 0;
+        while (count < batch.length) {
+            int slot = (int) next & mask;
+            if (published.get(slot) != next) {
+                break;
+            }
+            batch[count++] = events[slot];
+            events[slot] = null;
+            next++;
+        }
+        if (count > 0) {
+            consumed = next;
+        }
+        return count;
+    }
+
+    /**
+     * @return events claimed but not polled yet, including those still being stored
+     */
+    int size() {
+        return (int) (claimed.get() - consumed);
+    }
+
+    int capacity() {
+        return events.length;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.todo.infrastructure.persistence.audit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+
+/**
+ * Reads the audit history of a todo in keyset pages over the {@code (todo_id, id)} index, newest first, so every
+ * page costs the same however far back it is
+ */
+public class JdbcTodoAuditHistory {
+
+    private static final String SELECT = "SELECT id, todo_id, action, actor, occurred_at, before_state, after_state "
+            + "FROM todo_audit WHERE todo_id = ? ";
+    private static final RowMapper<TodoAuditEntry> ROW_MAPPER = (rs, rowNum) -> new TodoAuditEntry(
+            rs.getLong("id"), rs.getLong("todo_id"), rs.getString("action"), rs.getString("actor"),
+            rs.getTimestamp("occurred_at").toLocalDateTime(), rs.getString("before_state"),
+            rs.getString("after_state"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcTodoAuditHistory(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param beforeId only entries older than this one, {@code null} for the newest
+     * @return at most {@code limit} entries of the todo, newest first, also after it was deleted
+     */
+    public List<TodoAuditEntry> findByTodoId(long todoId, Long beforeId, int limit) {
+        if (beforeId == null) {
+            return jdbcTemplate.query(SELECT + "ORDER BY id DESC LIMIT ?", ROW_MAPPER, todoId, limit);
+        }
+        return jdbcTemplate.query(SELECT + "AND id < ? ORDER BY id DESC LIMIT ?", ROW_MAPPER, todoId, beforeId,
+                limit);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.todo.infrastructure.persistence.audit;
+
+import java.time.LocalDateTime;
+
+/**
+ * A row of the {@code todo_audit} table
+ *
+ * @param id     increases in the order the entries were written, the keyset of the history pages
+ * @param before state before the change as JSON, {@code null} if not recorded
+ * @param after  state after the change as JSON, {@code null} if not recorded
+ */
+public record TodoAuditEntry(long id, Long todoId, String action, String actor, LocalDateTime occurredAt,
+                             String before, String after) {
+}
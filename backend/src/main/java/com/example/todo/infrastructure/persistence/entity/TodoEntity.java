@@ -35,4 +35,14 @@ public class TodoEntity {
     
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+
+    @Column(length = 255)
+    private String sortKey;
+
+    private LocalDateTime dueAt;
+
+    private LocalDateTime remindAt;
+
+    @Column(length = 400)
+    private String tags;
 }
@@ -0,0 +1,22 @@
+package com.example.todo.infrastructure.persistence.groupcommit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Group commit of todo mutations
+ *
+ * @param enabled       whether mutations are queued and committed in groups instead of one by one
+ * @param maxBatchSize  maximum number of operations committed together
+ * @param maxDelay      longest time the writer waits for more operations after the first one of a batch
+ * @param queueCapacity maximum number of queued operations, callers block while the queue is full
+ */
+@ConfigurationProperties(prefix = "todo.group-commit")
+public record GroupCommitProperties(
+        boolean enabled,
+        @DefaultValue("64") int maxBatchSize,
+        @DefaultValue("5ms") Duration maxDelay,
+        @DefaultValue("1024") int queueCapacity) {
+}
@@ -0,0 +1,295 @@
+package com.example.todo.infrastructure.persistence.groupcommit;
+
+import com.example.todo.application.service.TodoWriteExecutor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.ResourceHolderSynchronization;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Commits concurrent mutations together to pay one commit, and with a durable store one fsync, per batch.
+ * <p>
+ * Callers enqueue their operation into a bounded queue and wait for its result. A single writer thread takes
+ * the first waiting operation, keeps collecting until the batch is full or {@code maxDelay} has passed, runs the
+ * whole batch in one transaction (Hibernate batches the JDBC statements) and completes every caller.
+ * <p>
+ * Every operation runs after a JDBC savepoint and is flushed before the next one starts. If it throws, only its
+ * own changes are rolled back to the savepoint, the persistence context is cleared and the after-commit listeners
+ * of the events it published are unregistered; the failing operation gets its exception and the rest of the batch
+ * still commits together. Only if the commit itself fails, or an
+ * operation marked the whole transaction rollback-only, are the other operations retried one transaction each.
+ * <p>
+ * Operations still queued when the writer stops, or enqueued while it stops, fail with a
+ * {@link RejectedExecutionException} instead of waiting forever.
+ */
+@Slf4j
+public class GroupCommitTodoWriteExecutor implements TodoWriteExecutor, AutoCloseable {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final BlockingQueue<PendingWrite<?>> queue;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final DistributionSummary batchSizes;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    /**
+     * @param dataSource the data source whose connection {@code transactionManager} binds, savepoints are set on it
+     */
+    public GroupCommitTodoWriteExecutor(DataSource dataSource,
+                                        PlatformTransactionManager transactionManager,
+                                        GroupCommitProperties properties,
+                                        MeterRegistry meterRegistry) {
+        this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+        this.dataSource = dataSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxBatchSize = properties.maxBatchSize();
+        this.maxDelayNanos = properties.maxDelay().toNanos();
+        this.batchSizes = DistributionSummary.builder("todo.group-commit.batch.size")
+                .description("Operations committed per group commit")
+                .register(meterRegistry);
+        this.writer = Thread.ofPlatform().name("todo-group-commit").daemon().start(this::writeLoop);
+    }
+
+    @Override
+    public <T> T execute(Supplier<T> operation) {
+        if (Thread.currentThread() == writer || TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Nested use case, or the caller already has a transaction to join
+            return transactionTemplate.execute(status -> operation.get());
+        }
+        if (!running) {
+            throw shutDown();
+        }
+
+        PendingWrite<T> write = new PendingWrite<>(operation);
+        try {
+            queue.put(write);
+            // close() may have stopped the writer after the check above, take the write back if nobody will run it
+            if (!running && queue.remove(write)) {
+                throw shutDown();
+            }
+            return write.result.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for group commit", e);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stops accepting new operations and commits the queued ones before the writer thread ends, operations that
+     * could not be committed any more are failed
+     */
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        writer.join();
+    }
+
+    private void writeLoop() {
+        List<PendingWrite<?>> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite<?> first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    PendingWrite<?> next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                batch.forEach(write -> write.result.completeExceptionally(shutDown()));
+            } catch (RuntimeException e) {
+                log.error("Group commit of {} operations failed", batch.size(), e);
+                batch.forEach(write -> write.result.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+
+        PendingWrite<?> abandoned;
+        while ((abandoned = queue.poll()) != null) {
+            abandoned.result.completeExceptionally(shutDown());
+        }
+    }
+
+    private static RejectedExecutionException shutDown() {
+        return new RejectedExecutionException("Group commit writer is shut down");
+    }
+
+    private void commit(List<PendingWrite<?>> batch) {
+        batchSizes.record(batch.size());
+        boolean committed;
+        try {
+            committed = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                Connection connection = DataSourceUtils.getConnection(dataSource);
+                try {
+                    for (PendingWrite<?> write : batch) {
+                        runToSavepoint(connection, status, write);
+                    }
+                } finally {
+                    DataSourceUtils.releaseConnection(connection, dataSource);
+                }
+                return true;
+            }));
+        } catch (RuntimeException e) {
+            log.debug("Group commit of {} operations failed, retrying them one by one", batch.size(), e);
+            committed = false;
+        }
+
+        for (PendingWrite<?> write : batch) {
+            if (committed) {
+                write.complete();
+            } else if (write.failure != null) {
+                write.result.completeExceptionally(write.failure);
+            } else {
+                commitAlone(write);
+            }
+        }
+    }
+
+    /**
+     * Rolls back to a savepoint taken before the operation if it fails, leaving the rest of the batch in place
+     */
+    private static void runToSavepoint(Connection connection, TransactionStatus status, PendingWrite<?> write) {
+        try {
+            List<TransactionSynchronization> before = TransactionSynchronizationManager.getSynchronizations();
+            Savepoint savepoint = connection.setSavepoint();
+            if (write.run(status)) {
+                connection.releaseSavepoint(savepoint);
+            } else {
+                connection.rollback(savepoint);
+                clearPersistenceContext();
+                dropSynchronizationsSince(before);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not use a savepoint: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Drops what a rolled back operation left in the persistence context, so the commit does not flush it after
+     * all. Everything the earlier operations changed was already flushed.
+     */
+    private static void clearPersistenceContext() {
+        for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (resource instanceof EntityManagerHolder holder) {
+                holder.getEntityManager().clear();
+            }
+        }
+    }
+
+    /**
+     * Unregisters what a rolled back operation registered, such as the {@code @TransactionalEventListener}s of its
+     * events, so the commit of the batch does not deliver them. Resource synchronizations stay, they release what
+     * the operation opened rather than announce what it changed.
+     */
+    private static void dropSynchronizationsSince(List<TransactionSynchronization> before) {
+        List<TransactionSynchronization> current = TransactionSynchronizationManager.getSynchronizations();
+        if (current.size() == before.size()) {
+            return;
+        }
+        Set<TransactionSynchronization> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        kept.addAll(before);
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+        for (TransactionSynchronization synchronization : current) {
+            if (kept.contains(synchronization) || synchronization instanceof ResourceHolderSynchronization<?, ?>) {
+                TransactionSynchronizationManager.registerSynchronization(synchronization);
+            }
+        }
+    }
+
+    private void commitAlone(PendingWrite<?> write) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!write.run(status)) {
+                    status.setRollbackOnly();
+                }
+            });
+        } catch (RuntimeException e) {
+            write.failure = e;
+        }
+        write.complete();
+    }
+
+    private static final class PendingWrite<T> {
+
+        private final Supplier<T> operation;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private T value;
+        private RuntimeException failure;
+
+        private PendingWrite(Supplier<T> operation) {
+            this.operation = operation;
+        }
+
+        /**
+         * Flushes right away, so constraint violations surface for this operation and not at the commit
+         *
+         * @return whether the operation completed without throwing
+         */
+        private boolean run(TransactionStatus status) {
+            try {
+                value = operation.get();
+                status.flush();
+                failure = null;
+                return true;
+            } catch (RuntimeException e) {
+                failure = e;
+                return false;
+            }
+        }
+
+        private void complete() {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(value);
+            }
+        }
+    }
+}
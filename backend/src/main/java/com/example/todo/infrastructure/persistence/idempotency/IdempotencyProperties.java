@@ -0,0 +1,30 @@
+package com.example.todo.infrastructure.persistence.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key handling of the REST API
+ *
+ * @param enabled     whether the {@code Idempotency-Key} header is honoured
+ * @param store       where responses are kept: {@code memory} for a single node, {@code jdbc} to share them
+ *                    between nodes through the database
+ * @param ttl         how long a response is replayed
+ * @param maxEntries  maximum number of keys kept by the in-memory store, the oldest are evicted first
+ * @param lockTimeout how long a duplicate waits for the in-flight request, also the lifetime of a reservation
+ */
+@ConfigurationProperties(prefix = "todo.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("memory") StoreType store,
+        @DefaultValue("1h") Duration ttl,
+        @DefaultValue("10000") int maxEntries,
+        @DefaultValue("10s") Duration lockTimeout) {
+
+    public enum StoreType {
+        MEMORY,
+        JDBC
+    }
+}
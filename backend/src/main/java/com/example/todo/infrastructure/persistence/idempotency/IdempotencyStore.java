@@ -0,0 +1,34 @@
+package com.example.todo.infrastructure.persistence.idempotency;
+
+import java.util.Optional;
+
+/**
+ * Remembers the responses of requests carrying an {@code Idempotency-Key} header.
+ * <p>
+ * A key is first reserved by the request executing it, then either completed with the response or
+ * released again so a retry can execute. Expired entries are evicted by the implementation.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * @return the completed response for the key, empty while the key is unknown, reserved or expired
+     */
+    Optional<IdempotentResponse> find(String key);
+
+    /**
+     * Reserves the key for the caller
+     *
+     * @return whether the caller now owns the key, {@code false} when another request reserved or completed it
+     */
+    boolean reserve(String key);
+
+    /**
+     * Stores the response of the request that reserved the key
+     */
+    void complete(String key, IdempotentResponse response);
+
+    /**
+     * Releases a reservation without storing a response
+     */
+    void release(String key);
+}
@@ -0,0 +1,13 @@
+package com.example.todo.infrastructure.persistence.idempotency;
+
+/**
+ * Response of the first request with an idempotency key, replayed for every repeat
+ *
+ * @param status      HTTP status code
+ * @param contentType content type of the body, may be {@code null}
+ * @param body        response body
+ * @param requestHash hash of the query string and body of the request that produced it, a repeat with another
+ *                    request is rejected instead of replayed. {@code null} for responses stored before it was kept.
+ */
+public record IdempotentResponse(int status, String contentType, byte[] body, String requestHash) {
+}
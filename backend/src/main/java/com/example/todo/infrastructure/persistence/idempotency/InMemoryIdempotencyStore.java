@@ -0,0 +1,84 @@
+package com.example.todo.infrastructure.persistence.idempotency;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded, TTL-evicted idempotency store of a single node.
+ * Keys are evicted oldest first once {@code maxEntries} is reached.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Map<String, Entry> entries;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    private final Clock clock;
+
+    public InMemoryIdempotencyStore(int maxEntries, Duration ttl, Duration lockTimeout) {
+        this(maxEntries, ttl, lockTimeout, Clock.systemUTC());
+    }
+
+    InMemoryIdempotencyStore(int maxEntries, Duration ttl, Duration lockTimeout, Clock clock) {
+        this.ttl = ttl;
+        this.lockTimeout = lockTimeout;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public synchronized Optional<IdempotentResponse> find(String key) {
+        return Optional.ofNullable(live(key)).map(Entry::response);
+    }
+
+    @Override
+    public synchronized boolean reserve(String key) {
+        if (live(key) != null) {
+            return false;
+        }
+        entries.put(key, new Entry(null, clock.instant().plus(lockTimeout)));
+        return true;
+    }
+
+    @Override
+    public synchronized void complete(String key, IdempotentResponse response) {
+        // Re-insert so the completed key moves to the young end of the eviction order
+        entries.remove(key);
+        entries.put(key, new Entry(response, clock.instant().plus(ttl)));
+    }
+
+    @Override
+    public synchronized void release(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.response() == null) {
+            entries.remove(key);
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private Entry live(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && !entry.expiresAt().isAfter(clock.instant())) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * @param response stored response, {@code null} while the key is reserved
+     */
+    private record Entry(IdempotentResponse response, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.todo.infrastructure.persistence.idempotency;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Idempotency store in the {@code idempotency_keys} table, shared by all nodes using the same database.
+ * The primary key makes reservations atomic across nodes; expired rows are purged periodically.
+ */
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    private final Clock clock;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, Duration ttl, Duration lockTimeout) {
+        this(jdbcTemplate, ttl, lockTimeout, Clock.systemUTC());
+    }
+
+    JdbcIdempotencyStore(JdbcTemplate jdbcTemplate, Duration ttl, Duration lockTimeout, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+        this.lockTimeout = lockTimeout;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<IdempotentResponse> find(String key) {
+        return jdbcTemplate.query(
+                        "SELECT status, content_type, body, request_hash FROM idempotency_keys "
+                                + "WHERE idempotency_key = ? AND status IS NOT NULL AND expires_at > ?",
+                        (rs, rowNum) -> new IdempotentResponse(rs.getInt("status"), rs.getString("content_type"),
+                                rs.getBytes("body"), rs.getString("request_hash")),
+                        key, now())
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public boolean reserve(String key) {
+        try {
+            insertReservation(key);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // Take over an expired entry, at most one node wins the delete
+            if (jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = ? AND expires_at <= ?",
+                    key, now()) == 0) {
+                return false;
+            }
+            try {
+                insertReservation(key);
+                return true;
+            } catch (DuplicateKeyException lost) {
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public void complete(String key, IdempotentResponse response) {
+        jdbcTemplate.update(
+                "UPDATE idempotency_keys SET status = ?, content_type = ?, body = ?, request_hash = ?, expires_at = ? "
+                        + "WHERE idempotency_key = ?",
+                response.status(), response.contentType(), response.body(), response.requestHash(), expiresIn(ttl),
+                key);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update("DELETE FROM idempotency_keys WHERE idempotency_key = ? AND status IS NULL", key);
+    }
+
+    /**
+     * @return number of expired entries deleted
+     */
+    @Scheduled(fixedDelayString = "${todo.idempotency.purge-interval:5m}")
+    public int purgeExpired() {
+        return jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at <= ?", now());
+    }
+
+    private void insertReservation(String key) {
+        jdbcTemplate.update("INSERT INTO idempotency_keys (idempotency_key, expires_at) VALUES (?, ?)",
+                key, expiresIn(lockTimeout));
+    }
+
+    private Timestamp now() {
+        return Timestamp.from(clock.instant());
+    }
+
+    private Timestamp expiresIn(Duration duration) {
+        return Timestamp.from(clock.instant().plus(duration));
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.todo.infrastructure.persistence.idfilter;
+
+import com.example.todo.application.service.TodoIdFilter;
+import com.example.todo.application.service.TodosChangedEvent;
+import com.example.todo.domain.port.TodoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link TodoIdFilter} backed by a Bloom filter of the ids in the database.
+ * <p>
+ * The filter is built from all ids at startup and every {@code todo.id-filter.rebuild-interval}, and todos
+ * created through {@code TodoService} are added after commit. A Bloom filter cannot remove values, so deleted ids
+ * keep reaching the database until the next rebuild drops them.
+ * <p>
+ * The filter only answers for ids up to the highest id the last rebuild read from the database, its watermark.
+ * Ids are drawn from a sequence that only grows, so todos created later, by this node or another one, have higher
+ * ids and always pass. With {@code idPartitionBits} the low bits of an id name the sequence it was drawn from
+ * (the shard), and each sequence has its own watermark. Ids added locally never raise a watermark, which would
+ * hide todos other nodes created in between. Changes of all todos, such as an import, clear the filter until it
+ * is rebuilt, which happens within a second. A todo committed on another node while a rebuild reads the ids, with
+ * an id below one that rebuild already saw, is rejected until the next rebuild.
+ */
+@Slf4j
+public class BloomTodoIdFilter implements TodoIdFilter {
+
+    private static final int MIN_CAPACITY = 1024;
+
+    private final TodoRepository todoRepository;
+    private final TransactionOperations transactionOperations;
+    private final double falsePositiveRate;
+    private final int idPartitionMask;
+    private final Counter rejected;
+    private volatile Snapshot snapshot;
+    private List<Long> addedDuringRebuild;
+    private long invalidations;
+
+    public BloomTodoIdFilter(TodoRepository todoRepository, TransactionOperations transactionOperations,
+                             IdFilterProperties properties, MeterRegistry meterRegistry) {
+        this(todoRepository, transactionOperations, properties, 0, meterRegistry);
+    }
+
+    /**
+     * @param transactionOperations runs the rebuild query, a read-write transaction keeps it on the primary
+     *                              when read replicas are enabled
+     * @param idPartitionBits       number of low id bits naming the sequence an id was drawn from, 0 for one
+     *                              sequence
+     */
+    public BloomTodoIdFilter(TodoRepository todoRepository, TransactionOperations transactionOperations,
+                             IdFilterProperties properties, int idPartitionBits, MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        this.transactionOperations = transactionOperations;
+        this.falsePositiveRate = properties.falsePositiveRate();
+        this.idPartitionMask = (1 << idPartitionBits) - 1;
+        this.rejected = Counter.builder("todo.id-filter.rejected")
+                .description("Lookups of todo ids answered as not found without querying the database")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean mightExist(long id) {
+        Snapshot current = snapshot;
+        if (current == null || id > current.watermarks()[partitionOf(id)] || current.filter().mightContain(id)) {
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Adds created todos after commit, changes of existing todos add ids that are already in the filter. Changes
+     * of all todos clear the filter, so nothing is rejected until {@link #rebuildIfCleared()} replaces it.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodosChanged(TodosChangedEvent event) {
+        if (event.allTodos()) {
+            clear();
+        } else {
+            for (Long id : event.ids()) {
+                add(id);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds a filter cleared by a change of all todos, or one that was never built
+     */
+    @Scheduled(fixedDelayString = "${todo.id-filter.cleared-rebuild-delay:1s}")
+    public void rebuildIfCleared() {
+        if (snapshot == null) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Replaces the filter with one built from the ids in the database, runs at startup as well
+     */
+    @Scheduled(fixedDelayString = "${todo.id-filter.rebuild-interval:10m}")
+    public void rebuild() {
+        try {
+            long invalidationsBefore;
+            synchronized (this) {
+                addedDuringRebuild = new ArrayList<>();
+                invalidationsBefore = invalidations;
+            }
+            List<Long> ids = transactionOperations.execute(status -> todoRepository.findAllIds());
+            // Room to grow until the next rebuild without exceeding the false positive rate
+            LongBloomFilter next = LongBloomFilter.create(Math.max(2L * ids.size(), MIN_CAPACITY), falsePositiveRate);
+            long[] watermarks = new long[idPartitionMask + 1];
+            Arrays.fill(watermarks, Long.MIN_VALUE);
+            for (Long id : ids) {
+                next.add(id);
+                int partition = partitionOf(id);
+                watermarks[partition] = Math.max(watermarks[partition], id);
+            }
+            synchronized (this) {
+                // Ids created while the query ran may be missing from its result
+                for (Long id : addedDuringRebuild) {
+                    next.add(id);
+                }
+                addedDuringRebuild = null;
+                if (invalidations != invalidationsBefore) {
+                    // All todos changed while the query ran, its result may already be incomplete
+                    log.debug("Todos changed while rebuilding the todo id filter, rebuilding again");
+                    return;
+                }
+                snapshot = new Snapshot(next, watermarks);
+            }
+            log.debug("Rebuilt the todo id filter with {} ids in {} bits", ids.size(), next.bitSize());
+        } catch (Exception e) {
+            synchronized (this) {
+                addedDuringRebuild = null;
+            }
+            log.error("Error rebuilding the todo id filter", e);
+        }
+    }
+
+    private synchronized void clear() {
+        snapshot = null;
+        invalidations++;
+    }
+
+    private synchronized void add(long id) {
+        Snapshot current = snapshot;
+        if (current != null) {
+            current.filter().add(id);
+        }
+        if (addedDuringRebuild != null) {
+            addedDuringRebuild.add(id);
+        }
+    }
+
+    private int partitionOf(long id) {
+        return (int) (id & idPartitionMask);
+    }
+
+    /**
+     * The filter and the highest id the rebuild read per id partition, the filter answers only up to those
+     */
+    private record Snapshot(LongBloomFilter filter, long[] watermarks) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.todo.infrastructure.persistence.idfilter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Bloom filter of live todo ids rejecting lookups of unknown ids before they reach the database
+ *
+ * @param enabled           whether lookups of ids the filter rules out are answered with 404 right away
+ * @param falsePositiveRate share of unknown ids that still reach the database, at the expected number of todos
+ * @param rebuildInterval   delay between two rebuilds from the database, which drop deleted ids and pick up ids
+ *                          created outside this node's {@code TodoService} below the previous highest id
+ */
+@ConfigurationProperties(prefix = "todo.id-filter")
+public record IdFilterProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0.01") double falsePositiveRate,
+        @DefaultValue("10m") Duration rebuildInterval) {
+}
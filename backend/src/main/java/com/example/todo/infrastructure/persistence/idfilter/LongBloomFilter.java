@@ -0,0 +1,82 @@
+package com.example.todo.infrastructure.persistence.idfilter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of {@code long} values, safe for concurrent adds and lookups.
+ * <p>
+ * The bit positions come from two halves of one SplitMix64 hash combined by double hashing, so a lookup hashes
+ * once and never allocates.
+ */
+final class LongBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int hashes;
+
+    private LongBloomFilter(long bits, int hashes) {
+        this.words = new AtomicLongArray((int) ((bits + 63) >>> 6));
+        this.bits = (long) words.length() << 6;
+        this.hashes = hashes;
+    }
+
+    /**
+     * @param expected          number of values the filter is sized for
+     * @param falsePositiveRate probability that {@link #mightContain(long)} is wrong once {@code expected} values
+     *                          were added
+     */
+    static LongBloomFilter create(long expected, double falsePositiveRate) {
+        if (expected < 1) {
+            throw new IllegalArgumentException("Expected number of values must be positive: " + expected);
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        long bits = Math.max(64, (long) Math.ceil(-expected * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        int hashes = Math.max(1, (int) Math.round((double) bits / expected * Math.log(2)));
+        return new LongBloomFilter(bits, hashes);
+    }
+
+    void add(long value) {
+        long hash = mix(value);
+        int first = (int) hash;
+        int second = (int) (hash >>> 32);
+        for (int i = 0; i < hashes; i++) {
+            long bit = index(first + i * second);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.weakCompareAndSetVolatile(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    boolean mightContain(long value) {
+        long hash = mix(value);
+        int first = (int) hash;
+        int second = (int) (hash >>> 32);
+        for (int i = 0; i < hashes; i++) {
+            long bit = index(first + i * second);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitSize() {
+        return bits;
+    }
+
+    private long index(int combined) {
+        return (combined & 0xFFFFFFFFL) % bits;
+    }
+
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.todo.infrastructure.persistence.instrumentation;
+
+import java.util.List;
+
+/**
+ * One round trip to the database, a JDBC batch counts as a single one
+ *
+ * @param shape      normalized statement
+ * @param parameters bound parameters of the first batch entry, in index order
+ */
+public record ExecutedStatement(StatementShape shape, List<Object> parameters) {
+}
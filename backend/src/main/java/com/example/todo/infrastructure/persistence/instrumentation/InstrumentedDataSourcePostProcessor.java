@@ -0,0 +1,38 @@
+package com.example.todo.infrastructure.persistence.instrumentation;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's {@code dataSource} bean in a datasource-proxy that reports to the
+ * {@link QueryInstrumentationListener}. Pools behind it stay reachable through {@link DataSource#unwrap}.
+ */
+public class InstrumentedDataSourcePostProcessor implements BeanPostProcessor {
+
+    static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    private final ObjectProvider<QueryInstrumentationListener> listener;
+
+    public InstrumentedDataSourcePostProcessor(ObjectProvider<QueryInstrumentationListener> listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || !beanName.equals(DATA_SOURCE_BEAN_NAME)) {
+            return bean;
+        }
+        return instrument(dataSource, listener.getObject());
+    }
+
+    public static DataSource instrument(DataSource dataSource, QueryInstrumentationListener listener) {
+        return ProxyDataSourceBuilder.create(DATA_SOURCE_BEAN_NAME, dataSource)
+                .listener(listener)
+                .methodListener(listener)
+                .proxyResultSet()
+                .buildProxy();
+    }
+}
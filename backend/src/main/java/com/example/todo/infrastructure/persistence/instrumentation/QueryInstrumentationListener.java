@@ -0,0 +1,168 @@
+package com.example.todo.infrastructure.persistence.instrumentation;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listener of the instrumenting data source proxy.
+ * <p>
+ * Per statement shape it records the latency histogram {@code todo.jdbc.statement} and the rows read or written,
+ * {@code todo.jdbc.statement.rows}. Rows of a query are counted as the result set is read and recorded when it is
+ * closed. Statements at or above the threshold go to the {@code ...QueryInstrumentationListener.slow} logger with
+ * their parameters as key/value pairs, every statement is logged at debug level.
+ */
+@Slf4j
+public class QueryInstrumentationListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final Logger slowQueryLog = LoggerFactory.getLogger(QueryInstrumentationListener.class.getName() + ".slow");
+
+    private final ThreadLocal<PendingRows> pendingRows = new ThreadLocal<>();
+    private final Map<StatementShape, Meters> meters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryThresholdMillis;
+
+    public QueryInstrumentationListener(MeterRegistry meterRegistry, Duration slowQueryThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThresholdMillis = slowQueryThreshold.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        flushPendingRows();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            StatementShape shape = StatementShape.of(queryInfo.getQuery());
+            List<Object> parameters = parameters(queryInfo);
+            Meters statementMeters = meters.computeIfAbsent(shape, this::register);
+            statementMeters.latency().record(execInfo.getElapsedTime(), TimeUnit.MILLISECONDS);
+            StatementCapture.record(new ExecutedStatement(shape, parameters));
+
+            if (execInfo.getResult() instanceof ResultSet) {
+                pendingRows.set(new PendingRows(statementMeters));
+            } else {
+                statementMeters.rows().record(updateCount(execInfo.getResult()));
+            }
+
+            if (execInfo.getElapsedTime() >= slowQueryThresholdMillis) {
+                slowQueryLog.atWarn()
+                        .addKeyValue("elapsedMs", execInfo.getElapsedTime())
+                        .addKeyValue("operation", shape.operation())
+                        .addKeyValue("table", shape.table())
+                        .addKeyValue("batchSize", execInfo.isBatch() ? execInfo.getBatchSize() : 1)
+                        .addKeyValue("success", execInfo.isSuccess())
+                        .addKeyValue("statement", shape.sql())
+                        .addKeyValue("parameters", parameters)
+                        .log("Slow statement took {} ms: {}", execInfo.getElapsedTime(), shape.sql());
+            } else if (log.isDebugEnabled()) {
+                log.debug("{} ms {} {}", execInfo.getElapsedTime(), shape.sql(), parameters);
+            }
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (!(executionContext.getTarget() instanceof ResultSet)) {
+            return;
+        }
+        PendingRows pending = pendingRows.get();
+        if (pending == null) {
+            return;
+        }
+        String method = executionContext.getMethod().getName();
+        if (method.equals("next") && Boolean.TRUE.equals(executionContext.getResult())) {
+            pending.rows++;
+        } else if (method.equals("close")) {
+            flushPendingRows();
+        }
+    }
+
+    private void flushPendingRows() {
+        PendingRows pending = pendingRows.get();
+        if (pending != null) {
+            pendingRows.remove();
+            pending.meters.rows().record(pending.rows);
+        }
+    }
+
+    private Meters register(StatementShape shape) {
+        return new Meters(
+                Timer.builder("todo.jdbc.statement")
+                        .description("JDBC statement execution time per statement shape")
+                        .tag("operation", shape.operation())
+                        .tag("table", shape.table())
+                        .tag("statement", shape.sql())
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                DistributionSummary.builder("todo.jdbc.statement.rows")
+                        .description("Rows read or written per statement execution")
+                        .tag("operation", shape.operation())
+                        .tag("table", shape.table())
+                        .tag("statement", shape.sql())
+                        .register(meterRegistry));
+    }
+
+    private static List<Object> parameters(QueryInfo queryInfo) {
+        if (queryInfo.getParametersList().isEmpty()) {
+            return List.of();
+        }
+        List<ParameterSetOperation> operations = queryInfo.getParametersList().getFirst();
+        List<Object> parameters = new ArrayList<>(operations.size());
+        for (ParameterSetOperation operation : operations) {
+            Object[] args = operation.getArgs();
+            boolean hasValue = args.length > 1 && !ParameterSetOperation.isSetNullParameterOperation(operation);
+            parameters.add(hasValue ? args[1] : null);
+        }
+        return parameters;
+    }
+
+    private static long updateCount(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof int[] counts) {
+            long total = 0;
+            for (int count : counts) {
+                total += Math.max(count, 0);
+            }
+            return total;
+        }
+        return 0;
+    }
+
+    private record Meters(Timer latency, DistributionSummary rows) {
+    }
+
+    private static final class PendingRows {
+        private final Meters meters;
+        private long rows;
+
+        private PendingRows(Meters meters) {
+            this.meters = meters;
+        }
+    }
+}
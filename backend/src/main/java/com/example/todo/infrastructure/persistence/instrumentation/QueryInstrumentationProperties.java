@@ -0,0 +1,20 @@
+package com.example.todo.infrastructure.persistence.instrumentation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * JDBC statement instrumentation
+ *
+ * @param enabled            whether the application's data source is wrapped by the instrumenting proxy
+ * @param slowQueryThreshold statements running at least this long are written to the slow-query log
+ * @param nPlusOneThreshold  executions of the same select shape within one request that are reported as N+1
+ */
+@ConfigurationProperties(prefix = "todo.query-instrumentation")
+public record QueryInstrumentationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("200ms") Duration slowQueryThreshold,
+        @DefaultValue("3") int nPlusOneThreshold) {
+}
@@ -0,0 +1,49 @@
+package com.example.todo.infrastructure.persistence.instrumentation;
+
+/**
+ * Collects the statements executed on the current thread into a {@link StatementLog} until closed
+ * <pre>{@code
+ * try (StatementCapture capture = StatementCapture.start()) {
+ *     todoService.deleteTodo(id);
+ *     int roundTrips = capture.log().count();
+ * }
+ * }</pre>
+ * Captures nest, the inner one restores the outer one when closed.
+ */
+public final class StatementCapture implements AutoCloseable {
+
+    private static final ThreadLocal<StatementCapture> CURRENT = new ThreadLocal<>();
+
+    private final StatementLog log = new StatementLog();
+    private final StatementCapture outer;
+
+    private StatementCapture(StatementCapture outer) {
+        this.outer = outer;
+    }
+
+    public static StatementCapture start() {
+        StatementCapture capture = new StatementCapture(CURRENT.get());
+        CURRENT.set(capture);
+        return capture;
+    }
+
+    static void record(ExecutedStatement statement) {
+        StatementCapture capture = CURRENT.get();
+        if (capture != null) {
+            capture.log.add(statement);
+        }
+    }
+
+    public StatementLog log() {
+        return log;
+    }
+
+    @Override
+    public void close() {
+        if (outer == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(outer);
+        }
+    }
+}
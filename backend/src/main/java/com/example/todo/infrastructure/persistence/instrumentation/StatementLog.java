@@ -0,0 +1,84 @@
+package com.example.todo.infrastructure.persistence.instrumentation;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Statements executed by one unit of work, usually an HTTP request, and the N+1 patterns among them
+ */
+public class StatementLog {
+
+    private final List<ExecutedStatement> statements = new ArrayList<>();
+
+    public synchronized void add(ExecutedStatement statement) {
+        statements.add(statement);
+    }
+
+    public synchronized List<ExecutedStatement> statements() {
+        return List.copyOf(statements);
+    }
+
+    public synchronized int count() {
+        return statements.size();
+    }
+
+    public synchronized int count(String operation) {
+        return (int) statements.stream()
+                .filter(statement -> statement.shape().operation().equals(operation))
+                .count();
+    }
+
+    /**
+     * Reports select shapes executed at least {@code threshold} times (a query per row of an earlier result)
+     * and rows read more than once by key (e.g. {@code existsById} followed by {@code deleteById}, or a
+     * {@code merge} of a detached entity re-reading what was just loaded)
+     */
+    public synchronized List<Finding> findings(int threshold) {
+        Map<StatementShape, Integer> shapes = new LinkedHashMap<>();
+        Map<List<Object>, Integer> reads = new LinkedHashMap<>();
+        Map<List<Object>, StatementShape> readShapes = new LinkedHashMap<>();
+        for (ExecutedStatement statement : statements) {
+            StatementShape shape = statement.shape();
+            if (!shape.isSelect() || shape.table().equals("none")) {
+                continue;
+            }
+            shapes.merge(shape, 1, Integer::sum);
+            if (!statement.parameters().isEmpty()) {
+                List<Object> key = List.of(shape.table(), statement.parameters());
+                reads.merge(key, 1, Integer::sum);
+                readShapes.putIfAbsent(key, shape);
+            }
+        }
+
+        List<Finding> findings = new ArrayList<>();
+        shapes.forEach((shape, executions) -> {
+            if (executions >= threshold) {
+                findings.add(new Finding(Finding.Kind.REPEATED_QUERY, shape, executions));
+            }
+        });
+        reads.forEach((key, executions) -> {
+            StatementShape shape = readShapes.get(key);
+            if (executions > 1 && shapes.get(shape) < threshold) {
+                findings.add(new Finding(Finding.Kind.REDUNDANT_READ, shape, executions));
+            }
+        });
+        return findings;
+    }
+
+    /**
+     * @param kind       pattern found
+     * @param shape      first statement of the pattern
+     * @param executions how often it was executed
+     */
+    public record Finding(Kind kind, StatementShape shape, int executions) {
+
+        public enum Kind {
+            /** The same select ran once per row of an earlier result */
+            REPEATED_QUERY,
+            /** The same rows were read more than once */
+            REDUNDANT_READ
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.todo.infrastructure.persistence.instrumentation;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * SQL with literals and whitespace normalized, so all executions of one statement share metrics
+ *
+ * @param operation first keyword in lower case, e.g. {@code select}, or the keyword of the change a
+ *                  {@code SELECT ... FROM FINAL TABLE (UPDATE ...)} reads the rows of
+ * @param table     table the statement reads or writes, or the sequence it draws from
+ * @param sql       normalized statement text
+ */
+public record StatementShape(String operation, String table, String sql) {
+
+    private static final int CACHE_SIZE = 1024;
+    private static final Map<String, StatementShape> CACHE = new ConcurrentHashMap<>();
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern TABLE = Pattern.compile(
+            "\\b(?:from|into|update|next value for)\\s+([\\w.\"]+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DELTA_TABLE = Pattern.compile(
+            "\\bfrom (?:final|old|new) table \\( ?(update|delete|insert|merge)\\b", Pattern.CASE_INSENSITIVE);
+
+    public static StatementShape of(String sql) {
+        StatementShape shape = CACHE.get(sql);
+        if (shape == null) {
+            shape = parse(sql);
+            if (CACHE.size() < CACHE_SIZE) {
+                CACHE.put(sql, shape);
+            }
+        }
+        return shape;
+    }
+
+    public boolean isSelect() {
+        return operation.equals("select");
+    }
+
+    private static StatementShape parse(String sql) {
+        String normalized = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = PARAMETER_LIST.matcher(normalized).replaceAll("(?)");
+
+        int end = normalized.indexOf(' ');
+        String operation = (end < 0 ? normalized : normalized.substring(0, end)).toLowerCase(Locale.ROOT);
+        if (operation.equals("with")) {
+            operation = "select";
+        }
+        String statement = normalized;
+        Matcher delta = DELTA_TABLE.matcher(normalized);
+        if (delta.find()) {
+            operation = delta.group(1).toLowerCase(Locale.ROOT);
+            statement = normalized.substring(delta.start(1));
+        }
+        Matcher table = TABLE.matcher(statement);
+        return new StatementShape(operation,
+                table.find() ? table.group(1).replace("\"", "").toLowerCase(Locale.ROOT) : "none",
+                normalized);
+    }
+}
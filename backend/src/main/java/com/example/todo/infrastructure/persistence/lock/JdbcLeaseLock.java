@@ -0,0 +1,201 @@
+package com.example.todo.infrastructure.persistence.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Lease-based lock in the {@code scheduler_locks} table, shared by all nodes using the same database.
+ * <p>
+ * A node holds a lock until its lease expires. While a task runs, a heartbeat extends the lease every
+ * {@code heartbeat-interval}, so a lease only expires when its holder died or lost the database. Any node may
+ * then take the lock over, which increments its fencing token. The holder may take its own lock again at any time,
+ * so a task repeated every few seconds stays on one node despite {@code lock-at-least-for}.
+ * <p>
+ * Expiry times are computed and compared by the database, never on the clocks of the nodes, so a node whose clock
+ * is off neither takes a valid lease over nor keeps an expired one. Locally a lease counts as valid for {@code ttl}
+ * on the monotonic clock from the moment it was requested, which ends no later than the row it was written to.
+ */
+@Slf4j
+public class JdbcLeaseLock implements AutoCloseable {
+
+    private static final String EXPIRES_IN = "DATEADD(MILLISECOND, ?, LOCALTIMESTAMP)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LeaseLockProperties properties;
+    private final String owner;
+    private final ScheduledExecutorService heartbeats;
+    private final MeterRegistry meterRegistry;
+
+    public JdbcLeaseLock(JdbcTemplate jdbcTemplate, LeaseLockProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.owner = properties.owner() != null ? properties.owner() : defaultOwner();
+        this.meterRegistry = meterRegistry;
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("lease-heartbeat")
+                .daemon(true)
+                .factory());
+    }
+
+    public String owner() {
+        return owner;
+    }
+
+    /**
+     * Runs the task if the lock is free, its lease expired or this node holds it, extending the lease while the task
+     * runs
+     *
+     * @return whether the task ran
+     */
+    public boolean runExclusively(String name, Consumer<Lease> task) {
+        Optional<Lease> acquired = tryAcquire(name);
+        if (acquired.isEmpty()) {
+            return false;
+        }
+        Lease lease = acquired.get();
+        long interval = properties.heartbeatInterval().toMillis();
+        ScheduledFuture<?> heartbeat = heartbeats.scheduleWithFixedDelay(() -> renew(lease), interval, interval,
+                TimeUnit.MILLISECONDS);
+        try {
+            task.accept(lease);
+            return true;
+        } finally {
+            heartbeat.cancel(false);
+            release(lease);
+        }
+    }
+
+    /**
+     * @return the lease if the lock was free, its lease expired or this node held it
+     */
+    public Optional<Lease> tryAcquire(String name) {
+        long now = System.nanoTime();
+        Optional<Lease> lease = insert(name, now).or(() -> takeOver(name, now));
+        if (lease.isPresent()) {
+            counter(name, "acquired").increment();
+            log.debug("Acquired lock {} with fencing token {}", name, lease.get().fencingToken());
+        } else {
+            counter(name, "busy").increment();
+        }
+        return lease;
+    }
+
+    /**
+     * Extends the lease by {@code ttl}
+     *
+     * @return false if another node took the lock over, the lease is then marked lost
+     */
+    public boolean renew(Lease lease) {
+        long now = System.nanoTime();
+        try {
+            if (update(lease, properties.ttl())) {
+                lease.extendTo(now + properties.ttl().toNanos());
+                return true;
+            }
+            lease.markLost();
+            counter(lease.name(), "lost").increment();
+            log.warn("Lost lock {} with fencing token {} to another node", lease.name(), lease.fencingToken());
+            return false;
+        } catch (DataAccessException e) {
+            log.warn("Could not renew lock {}, the lease stays valid until it expires", lease.name(), e);
+            return lease.isValidAt(now);
+        }
+    }
+
+    /**
+     * Gives the lock back, but not before {@code lock-at-least-for} has passed since it was acquired
+     */
+    public void release(Lease lease) {
+        Duration held = Duration.ofNanos(System.nanoTime() - lease.acquiredAt());
+        Duration remaining = properties.lockAtLeastFor().minus(held);
+        try {
+            update(lease, remaining.isNegative() ? Duration.ZERO : remaining);
+        } catch (DataAccessException e) {
+            log.warn("Could not release lock {}, it is freed when the lease expires", lease.name(), e);
+        }
+        lease.markLost();
+    }
+
+    /**
+     * @return whether this node still holds the lease, checked against the lock table
+     */
+    public boolean isHeld(Lease lease) {
+        return lease.isValidAt(System.nanoTime()) && isHeld(lease.name(), lease.fencingToken());
+    }
+
+    /**
+     * Checks the fencing token a task was started with before it goes on, for tasks that don't have the lease itself,
+     * such as a batch job started with the token as a parameter
+     *
+     * @return whether this node holds the lock with that token and its lease has not expired
+     */
+    public boolean isHeld(String name, long fencingToken) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM scheduler_locks "
+                        + "WHERE lock_name = ? AND owner = ? AND fencing_token = ? AND expires_at > LOCALTIMESTAMP",
+                Integer.class, name, owner, fencingToken) == 1;
+    }
+
+    @Override
+    public void close() {
+        heartbeats.shutdownNow();
+    }
+
+    private Optional<Lease> insert(String name, long now) {
+        try {
+            jdbcTemplate.update("INSERT INTO scheduler_locks (lock_name, owner, fencing_token, expires_at) "
+                    + "VALUES (?, ?, 1, " + EXPIRES_IN + ")", name, owner, properties.ttl().toMillis());
+            return Optional.of(new Lease(name, owner, 1, now, now + properties.ttl().toNanos()));
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<Lease> takeOver(String name, long now) {
+        if (jdbcTemplate.update("UPDATE scheduler_locks SET owner = ?, fencing_token = fencing_token + 1, "
+                        + "expires_at = " + EXPIRES_IN + " "
+                        + "WHERE lock_name = ? AND (expires_at <= LOCALTIMESTAMP OR owner = ?)",
+                owner, properties.ttl().toMillis(), name, owner) == 0) {
+            return Optional.empty();
+        }
+        return jdbcTemplate.queryForList("SELECT fencing_token FROM scheduler_locks WHERE lock_name = ? AND owner = ?",
+                        Long.class, name, owner)
+                .stream()
+                .findFirst()
+                .map(token -> new Lease(name, owner, token, now, now + properties.ttl().toNanos()));
+    }
+
+    /**
+     * Sets the lease to expire after the given time from now on the database clock, if it still has its token
+     */
+    private boolean update(Lease lease, Duration expiresIn) {
+        return jdbcTemplate.update("UPDATE scheduler_locks SET expires_at = " + EXPIRES_IN + " "
+                        + "WHERE lock_name = ? AND owner = ? AND fencing_token = ?",
+                expiresIn.toMillis(), lease.name(), lease.owner(), lease.fencingToken()) == 1;
+    }
+
+    private Counter counter(String name, String outcome) {
+        return Counter.builder("todo.lease-lock.outcomes")
+                .description("Lease lock acquisitions, attempts on a busy lock and leases lost to another node")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String defaultOwner() {
+        return ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
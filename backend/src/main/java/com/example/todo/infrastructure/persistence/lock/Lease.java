@@ -0,0 +1,58 @@
+package com.example.todo.infrastructure.persistence.lock;
+
+/**
+ * A lease held on a named lock.
+ * <p>
+ * The fencing token increases with every new holder of the lock, so work tagged with it can be told apart from
+ * work of an earlier holder that lost the lease without noticing.
+ */
+public final class Lease {
+
+    private final String name;
+    private final String owner;
+    private final long fencingToken;
+    // System.nanoTime() values, the database decides when the lease really expires
+    private final long acquiredAt;
+    private volatile long expiresAt;
+    private volatile boolean lost;
+
+    Lease(String name, String owner, long fencingToken, long acquiredAt, long expiresAt) {
+        this.name = name;
+        this.owner = owner;
+        this.fencingToken = fencingToken;
+        this.acquiredAt = acquiredAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String owner() {
+        return owner;
+    }
+
+    public long fencingToken() {
+        return fencingToken;
+    }
+
+    long acquiredAt() {
+        return acquiredAt;
+    }
+
+    void extendTo(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    void markLost() {
+        this.lost = true;
+    }
+
+    /**
+     * @param now a {@link System#nanoTime()} value
+     * @return whether the lease is still held at that time, as far as this node knows
+     */
+    public boolean isValidAt(long now) {
+        return !lost && now - expiresAt < 0;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.todo.infrastructure.persistence.lock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Lease lock that keeps scheduled jobs from running on several nodes at once
+ *
+ * @param ttl               how long a lease is valid without a heartbeat, other nodes take it over afterwards
+ * @param heartbeatInterval how often the holder extends its lease while the job runs, well below {@code ttl}
+ * @param lockAtLeastFor    minimum time a lease is held even if the job finishes sooner, covers the clock skew
+ *                          between nodes firing the same cron trigger
+ * @param owner             name of this node in the lock table, defaults to the host, process and a random suffix
+ */
+@ConfigurationProperties(prefix = "todo.lease-lock")
+public record LeaseLockProperties(
+        @DefaultValue("60s") Duration ttl,
+        @DefaultValue("20s") Duration heartbeatInterval,
+        @DefaultValue("1m") Duration lockAtLeastFor,
+        String owner) {
+}
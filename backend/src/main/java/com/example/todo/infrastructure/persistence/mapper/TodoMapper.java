@@ -1,5 +1,6 @@
 package com.example.todo.infrastructure.persistence.mapper;
 
+import com.example.todo.domain.model.Tags;
 import com.example.todo.domain.model.Todo;
 import com.example.todo.infrastructure.persistence.entity.TodoEntity;
 import org.springframework.stereotype.Component;
@@ -15,6 +16,10 @@ public class TodoMapper {
         entity.setCompleted(todo.isCompleted());
         entity.setCreatedAt(todo.getCreatedAt());
         entity.setUpdatedAt(todo.getUpdatedAt());
+        entity.setSortKey(todo.getSortKey());
+        entity.setDueAt(todo.getDueAt());
+        entity.setRemindAt(todo.getRemindAt());
+        entity.setTags(Tags.join(todo.getTags()));
         return entity;
     }
 
@@ -26,6 +31,10 @@ public class TodoMapper {
         todo.setCompleted(entity.isCompleted());
         todo.setCreatedAt(entity.getCreatedAt());
         todo.setUpdatedAt(entity.getUpdatedAt());
+        todo.setSortKey(entity.getSortKey());
+        todo.setDueAt(entity.getDueAt());
+        todo.setRemindAt(entity.getRemindAt());
+        todo.setTags(Tags.split(entity.getTags()));
         return todo;
     }
 }
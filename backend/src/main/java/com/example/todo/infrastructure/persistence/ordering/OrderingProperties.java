@@ -0,0 +1,21 @@
+package com.example.todo.infrastructure.persistence.ordering;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Background rewrite of the sort keys that order the list
+ *
+ * @param enabled            whether the rebalancer runs
+ * @param maxKeyLength       keys get rewritten once one is longer, repeated moves into the same gap grow a key by
+ *                           about one character every six moves
+ * @param rebalanceInterval  delay between two checks whether the keys need a rewrite
+ */
+@ConfigurationProperties(prefix = "todo.ordering")
+public record OrderingProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("24") int maxKeyLength,
+        @DefaultValue("10m") Duration rebalanceInterval) {
+}
@@ -0,0 +1,93 @@
+package com.example.todo.infrastructure.persistence.ordering;
+
+import com.example.todo.application.service.TodosChangedEvent;
+import com.example.todo.domain.model.SortKeys;
+import com.example.todo.domain.port.TodoRepository;
+import com.example.todo.infrastructure.persistence.lock.JdbcLeaseLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Rewrites all sort keys once moves made one longer than {@code todo.ordering.max-key-length}, or some todos
+ * share a key or have none, which happens with concurrent moves on several nodes or rows inserted directly.
+ * <p>
+ * The check is a single aggregate over the {@code (sort_key, id)} index every {@code todo.ordering.rebalance-interval}.
+ * The rewrite locks all rows in list order and gives them the shortest evenly spaced keys in one transaction,
+ * so the order stays exactly as it was. It runs on one node at a time under the scheduler lock. Both go through
+ * {@link TodoRepository}, so sharded todos are rebalanced across all shards.
+ */
+@Slf4j
+public class SortKeyRebalancer {
+
+    static final String REBALANCE_SORT_KEYS_LOCK = "rebalanceSortKeys";
+
+    private final TodoRepository todoRepository;
+    private final TransactionOperations transactionOperations;
+    private final JdbcLeaseLock schedulerLock;
+    private final OrderingProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter rewritten;
+
+    public SortKeyRebalancer(TodoRepository todoRepository, TransactionOperations transactionOperations,
+                             JdbcLeaseLock schedulerLock, OrderingProperties properties,
+                             ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        this.transactionOperations = transactionOperations;
+        this.schedulerLock = schedulerLock;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.rewritten = Counter.builder("todo.ordering.rewritten")
+                .description("Sort keys rewritten by the rebalancer")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.ordering.rebalance-interval:10m}",
+            initialDelayString = "${todo.ordering.rebalance-interval:10m}")
+    public void rebalanceIfNeeded() {
+        try {
+            if (needsRebalance() && !schedulerLock.runExclusively(REBALANCE_SORT_KEYS_LOCK, lease -> rebalance())) {
+                log.info("Skipping sort key rebalance, another node holds the lock");
+            }
+        } catch (Exception e) {
+            log.error("Error rebalancing sort keys", e);
+        }
+    }
+
+    /**
+     * @return whether a key is too long, missing or shared by several todos
+     */
+    boolean needsRebalance() {
+        return todoRepository.needsSortKeyRebalance(properties.maxKeyLength());
+    }
+
+    /**
+     * Rewrites the keys of all todos, keeping their order
+     *
+     * @return number of todos rewritten
+     */
+    public int rebalance() {
+        Integer count = transactionOperations.execute(status -> {
+            List<Long> ids = todoRepository.findAllIdsInListOrderForUpdate();
+            List<String> keys = SortKeys.between(null, null, ids.size());
+            Map<Long, String> sortKeys = HashMap.newHashMap(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                sortKeys.put(ids.get(i), keys.get(i));
+            }
+            todoRepository.updateSortKeys(sortKeys);
+            eventPublisher.publishEvent(TodosChangedEvent.all());
+            return ids.size();
+        });
+        int rebalanced = count != null ? count : 0;
+        rewritten.increment(rebalanced);
+        log.info("Rebalanced the sort keys of {} todos", rebalanced);
+        return rebalanced;
+    }
+}
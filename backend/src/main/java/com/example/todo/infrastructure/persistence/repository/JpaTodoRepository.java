@@ -1,15 +1,72 @@
 package com.example.todo.infrastructure.persistence.repository;
 
 import com.example.todo.infrastructure.persistence.entity.TodoEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface JpaTodoRepository extends JpaRepository<TodoEntity, Long> {
     
     @Query("SELECT t FROM TodoEntity t WHERE t.completed = true")
     List<TodoEntity> findCompletedTodos();
+
+    @Query("SELECT t FROM TodoEntity t ORDER BY t.sortKey, t.id")
+    List<TodoEntity> findAllInListOrder();
+
+    @Query("SELECT t FROM TodoEntity t WHERE t.id IN :ids ORDER BY t.sortKey, t.id")
+    List<TodoEntity> findAllByIdInListOrder(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t.id FROM TodoEntity t")
+    List<Long> findAllIds();
+
+    @Query("SELECT t.id FROM TodoEntity t WHERE t.completed = true AND t.updatedAt < :cutoff ORDER BY t.updatedAt")
+    List<Long> findCompletedIdsUpdatedBefore(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    // Bulk statements bypass the persistence context, which is flushed before and cleared after them
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TodoEntity t WHERE t.id IN :ids AND t.completed = true AND t.updatedAt < :cutoff")
+    int deleteCompletedUpdatedBefore(@Param("ids") Collection<Long> ids, @Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT COUNT(t) FROM TodoEntity t WHERE t.completed = true AND t.updatedAt < :cutoff")
+    long countCompletedUpdatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT MIN(t.updatedAt) FROM TodoEntity t WHERE t.completed = true AND t.updatedAt < :cutoff")
+    Optional<LocalDateTime> findOldestCompletedUpdateBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT t.id, t.remindAt FROM TodoEntity t "
+            + "WHERE t.remindAt >= :from AND t.remindAt < :to AND t.completed = false")
+    List<Object[]> findPendingReminders(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT MAX(t.sortKey) FROM TodoEntity t")
+    Optional<String> findLastSortKey();
+
+    @Query("SELECT t.id, t.sortKey FROM TodoEntity t WHERE t.id IN :ids")
+    List<Object[]> findSortKeys(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT MIN(t.sortKey) FROM TodoEntity t WHERE t.sortKey > :sortKey AND t.id <> :excludedId")
+    Optional<String> findSortKeyAfter(@Param("sortKey") String sortKey, @Param("excludedId") Long excludedId);
+
+    @Query("SELECT MAX(t.sortKey) FROM TodoEntity t WHERE t.sortKey < :sortKey AND t.id <> :excludedId")
+    Optional<String> findSortKeyBefore(@Param("sortKey") String sortKey, @Param("excludedId") Long excludedId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TodoEntity t SET t.sortKey = :sortKey WHERE t.id = :id")
+    int updateSortKey(@Param("id") Long id, @Param("sortKey") String sortKey);
+
+    // COUNT(DISTINCT) skips nulls, so the difference counts both missing and duplicate keys
+    @Query("SELECT CASE WHEN COUNT(t) > COUNT(DISTINCT t.sortKey) "
+            + "OR COALESCE(MAX(LENGTH(t.sortKey)), 0) > :maxLength THEN true ELSE false END FROM TodoEntity t")
+    boolean needsSortKeyRebalance(@Param("maxLength") int maxLength);
+
+    @Query(value = "SELECT id FROM todos ORDER BY sort_key, id FOR UPDATE", nativeQuery = true)
+    List<Long> findAllIdsInListOrderForUpdate();
 }
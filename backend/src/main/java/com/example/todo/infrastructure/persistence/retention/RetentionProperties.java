@@ -0,0 +1,33 @@
+package com.example.todo.infrastructure.persistence.retention;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Continuous purge of completed todos
+ *
+ * @param enabled                whether the purger runs continuously, the nightly batch job purges through it
+ *                               either way as a catch-up
+ * @param retain                 how long a completed todo is kept after its last update
+ * @param interval               delay between two slices
+ * @param maxRowsPerSecond       average delete rate the purger never exceeds, a slice holds at most
+ *                               {@code maxRowsPerSecond * interval} rows
+ * @param maxTransactionDuration slices taking longer are halved until they fit again
+ */
+@ConfigurationProperties(prefix = "todo.retention")
+public record RetentionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("24h") Duration retain,
+        @DefaultValue("5s") Duration interval,
+        @DefaultValue("100") int maxRowsPerSecond,
+        @DefaultValue("50ms") Duration maxTransactionDuration) {
+
+    /**
+     * @return the largest number of rows a single slice may delete
+     */
+    public int maxSliceSize() {
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxRowsPerSecond * interval.toMillis() / 1000));
+    }
+}
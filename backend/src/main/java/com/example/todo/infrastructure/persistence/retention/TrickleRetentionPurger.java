@@ -0,0 +1,153 @@
+package com.example.todo.infrastructure.persistence.retention;
+
+import com.example.todo.application.service.TodosChangedEvent;
+import com.example.todo.domain.port.TodoRepository;
+import com.example.todo.infrastructure.persistence.lock.JdbcLeaseLock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deletes completed todos past their retention period in small slices every {@code todo.retention.interval},
+ * so the backlog never builds up to a nightly burst.
+ * <p>
+ * Each slice reads the ids of the oldest rows from the {@code (completed, updated_at)} index and deletes them
+ * with a single statement per database, that is a single short transaction. The slice size is capped by the
+ * configured rows per second and halved whenever a slice takes longer than
+ * {@code todo.retention.max-transaction-duration}, then grows back slowly once slices are fast again. The nightly
+ * batch job deletes the same slices back to back as a catch-up, also while the continuous purge is disabled.
+ * <p>
+ * Every node fires the schedule, only the one holding the {@code retentionPurge} lease purges and refreshes the
+ * backlog metrics, the others skip. The holder takes its lease again on every run, so the purge stays on one node
+ * until that node stops and its lease expires.
+ */
+@Slf4j
+public class TrickleRetentionPurger {
+
+    static final String RETENTION_PURGE_LOCK = "retentionPurge";
+
+    private final TodoRepository todoRepository;
+    private final TransactionOperations transactionOperations;
+    private final JdbcLeaseLock schedulerLock;
+    private final RetentionProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final Counter deleted;
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private volatile int sliceSize;
+
+    public TrickleRetentionPurger(TodoRepository todoRepository, TransactionOperations transactionOperations,
+                                  JdbcLeaseLock schedulerLock, RetentionProperties properties,
+                                  ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry) {
+        this(todoRepository, transactionOperations, schedulerLock, properties, eventPublisher, meterRegistry,
+                Clock.systemDefaultZone());
+    }
+
+    TrickleRetentionPurger(TodoRepository todoRepository, TransactionOperations transactionOperations,
+                           JdbcLeaseLock schedulerLock, RetentionProperties properties,
+                           ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry, Clock clock) {
+        this.todoRepository = todoRepository;
+        this.transactionOperations = transactionOperations;
+        this.schedulerLock = schedulerLock;
+        this.properties = properties;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.sliceSize = properties.maxSliceSize();
+        this.deleted = Counter.builder("todo.retention.deleted")
+                .description("Completed todos deleted by the retention purger")
+                .register(meterRegistry);
+        Gauge.builder("todo.retention.backlog", backlog, AtomicLong::get)
+                .description("Completed todos past their retention period still waiting to be deleted")
+                .register(meterRegistry);
+        TimeGauge.builder("todo.retention.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("How long the oldest todo of the backlog has been past its retention period")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Deletes one slice of the backlog and refreshes the backlog metrics while holding the lock, unless
+     * {@code todo.retention.enabled} is off
+     *
+     * @return number of todos deleted, 0 as well when another node holds the lock
+     */
+    @Scheduled(fixedDelayString = "${todo.retention.interval:5s}", initialDelayString = "${todo.retention.interval:5s}")
+    public int purgeSlice() {
+        if (!properties.enabled()) {
+            return 0;
+        }
+        try {
+            AtomicInteger count = new AtomicInteger();
+            schedulerLock.runExclusively(RETENTION_PURGE_LOCK, lease -> {
+                count.set(deleteSlice());
+                refreshBacklog();
+            });
+            return count.get();
+        } catch (Exception e) {
+            log.error("Error purging completed todos", e);
+            return 0;
+        }
+    }
+
+    /**
+     * Deletes the oldest completed todos past their retention period, at most one slice, in one transaction
+     *
+     * @return number of todos deleted, 0 once the backlog is empty
+     */
+    public int deleteSlice() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(properties.retain());
+        long start = System.nanoTime();
+        Integer count = transactionOperations.execute(status -> {
+            List<Long> ids = todoRepository.findCompletedIdsUpdatedBefore(cutoff, sliceSize);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            // The condition is checked again in case a todo was reopened in between
+            int purged = todoRepository.deleteCompletedUpdatedBefore(ids, cutoff);
+            eventPublisher.publishEvent(TodosChangedEvent.of(ids));
+            return purged;
+        });
+        if (count == null || count == 0) {
+            return 0;
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        deleted.increment(count);
+        adjustSliceSize(elapsed);
+        log.debug("Purged {} completed todos in {} ms, next slice {}", count, elapsed.toMillis(), sliceSize);
+        return count;
+    }
+
+    int sliceSize() {
+        return sliceSize;
+    }
+
+    private void adjustSliceSize(Duration elapsed) {
+        int max = properties.maxSliceSize();
+        if (elapsed.compareTo(properties.maxTransactionDuration()) > 0) {
+            sliceSize = Math.max(1, sliceSize / 2);
+        } else {
+            sliceSize = Math.min(max, sliceSize + Math.max(1, max / 10));
+        }
+    }
+
+    private void refreshBacklog() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(properties.retain());
+        backlog.set(todoRepository.countCompletedUpdatedBefore(cutoff));
+        lagMillis.set(todoRepository.findOldestCompletedUpdateBefore(cutoff)
+                .map(oldest -> Duration.between(oldest, cutoff).toMillis())
+                .orElse(0L));
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.todo.infrastructure.persistence.routing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Read replicas that serve read-only transactions
+ *
+ * @param enabled         whether read-only transactions are routed to the replicas
+ * @param urls            JDBC URL of every replica, each gets its own connection pool
+ * @param username        replica user, defaults to {@code spring.datasource.username}
+ * @param password        replica password, defaults to {@code spring.datasource.password}
+ * @param maximumPoolSize maximum connections per replica pool
+ * @param stickiness      how long reads of a client stay on the primary after it changed data
+ */
+@ConfigurationProperties(prefix = "todo.datasource.replica")
+public record ReplicaProperties(
+        boolean enabled,
+        @DefaultValue List<String> urls,
+        String username,
+        String password,
+        @DefaultValue("10") int maximumPoolSize,
+        @DefaultValue("5s") Duration stickiness) {
+}
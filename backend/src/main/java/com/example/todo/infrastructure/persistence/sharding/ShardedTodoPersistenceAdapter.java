@@ -0,0 +1,604 @@
+package com.example.todo.infrastructure.persistence.sharding;
+
+import com.example.todo.domain.model.Tags;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoField;
+import com.example.todo.domain.port.TodoRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Outbound adapter that spreads todos over several databases.
+ * <p>
+ * The low {@value #SHARD_BITS} bits of an id are the index of the shard that owns the row, the bits above are
+ * drawn from that shard's {@code todo_sequence}. New todos go to the shards round-robin, every other single-row
+ * operation is routed by its id. {@link #findAll()} and {@link #findCompletedTodos()} query all shards in
+ * parallel and merge the per-shard results, each ordered by sort key or creation time, into one ordered list.
+ * {@link #deleteAll(List)} deletes on all affected shards in parallel, {@link #insertAll(List)} inserts on all of
+ * them.
+ * <p>
+ * Each statement commits on its own shard, there are no transactions spanning statements or shards. The
+ * neighbour lookups of a move read all shards but are not isolated from concurrent moves on other shards, and
+ * {@link #findAllIdsInListOrderForUpdate()} locks nothing. {@link #needsSortKeyRebalance(int)} only finds keys
+ * shared within a shard, todos on different shards with the same key are still listed in a stable order by id.
+ */
+public class ShardedTodoPersistenceAdapter implements TodoRepository, AutoCloseable {
+
+    public static final int SHARD_BITS = 10;
+    static final int MAX_SHARDS = 1 << SHARD_BITS;
+
+    private static final String COLUMNS =
+            "id, title, description, completed, created_at, updated_at, sort_key, due_at, remind_at, tags";
+    private static final Comparator<Todo> CREATION_ORDER =
+            Comparator.comparing(Todo::getCreatedAt).thenComparing(Todo::getId);
+    private static final Comparator<Todo> UPDATE_ORDER =
+            Comparator.comparing(Todo::getUpdatedAt).thenComparing(Todo::getId);
+    private static final Comparator<Todo> LIST_ORDER = Comparator
+            .comparing(Todo::getSortKey, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(Todo::getId);
+    private static final RowMapper<Todo> ROW_MAPPER = (rs, rowNum) -> {
+        Todo todo = new Todo();
+        todo.setId(rs.getLong("id"));
+        todo.setTitle(rs.getString("title"));
+        todo.setDescription(rs.getString("description"));
+        todo.setCompleted(rs.getBoolean("completed"));
+        todo.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+        todo.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+        todo.setSortKey(rs.getString("sort_key"));
+        todo.setDueAt(rs.getObject("due_at", LocalDateTime.class));
+        todo.setRemindAt(rs.getObject("remind_at", LocalDateTime.class));
+        todo.setTags(Tags.split(rs.getString("tags")));
+        return todo;
+    };
+
+    private final List<DataSource> dataSources;
+    private final List<JdbcTemplate> shards;
+    private final ExecutorService executor;
+    private final AtomicInteger nextShard = new AtomicInteger();
+
+    public ShardedTodoPersistenceAdapter(List<? extends DataSource> dataSources) {
+        if (dataSources.isEmpty() || dataSources.size() > MAX_SHARDS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_SHARDS + " shards are supported");
+        }
+        this.dataSources = List.copyOf(dataSources);
+        this.shards = this.dataSources.stream().map(JdbcTemplate::new).toList();
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(shards.size(), runnable -> {
+            Thread thread = new Thread(runnable, "todo-shard-" + threads.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    static int shardOf(long id) {
+        return (int) (id & (MAX_SHARDS - 1));
+    }
+
+    static long idOf(long sequenceValue, int shard) {
+        return sequenceValue << SHARD_BITS | shard;
+    }
+
+    @Override
+    public Todo save(Todo todo) {
+        if (todo.getId() == null) {
+            int shard = Math.floorMod(nextShard.getAndIncrement(), shards.size());
+            Long sequenceValue = shards.get(shard).queryForObject("SELECT NEXT VALUE FOR todo_sequence", Long.class);
+            todo.setId(idOf(sequenceValue, shard));
+            insert(shards.get(shard), todo);
+            return todo;
+        }
+        JdbcTemplate shard = owner(todo.getId()).orElseThrow(() -> new IllegalArgumentException(
+                "Id " + todo.getId() + " belongs to shard " + shardOf(todo.getId()) + " which is not configured"));
+        int updated = shard.update(
+                "UPDATE todos SET title = ?, description = ?, completed = ?, created_at = ?, updated_at = ?, "
+                        + "sort_key = ?, due_at = ?, remind_at = ?, tags = ? WHERE id = ?",
+                todo.getTitle(), todo.getDescription(), todo.isCompleted(), todo.getCreatedAt(), todo.getUpdatedAt(),
+                todo.getSortKey(), todo.getDueAt(), todo.getRemindAt(), Tags.join(todo.getTags()), todo.getId());
+        if (updated == 0) {
+            insert(shard, todo);
+        }
+        return todo;
+    }
+
+    @Override
+    public Optional<Todo> findById(Long id) {
+        return owner(id).flatMap(shard -> shard.query("SELECT " + COLUMNS + " FROM todos WHERE id = ?", ROW_MAPPER, id)
+                .stream()
+                .findFirst());
+    }
+
+    @Override
+    public List<Todo> findAll() {
+        return scatterGather("SELECT " + COLUMNS + " FROM todos ORDER BY sort_key, id", LIST_ORDER);
+    }
+
+    /**
+     * Also reads {@code id} and {@code sort_key} to merge the shards in list order, the id is cleared afterwards
+     * unless requested
+     */
+    @Override
+    public List<Todo> findAll(Set<TodoField> fields) {
+        Set<TodoField> read = EnumSet.of(TodoField.ID);
+        read.addAll(fields);
+        String sql = read.stream()
+                .map(ShardedTodoPersistenceAdapter::column)
+                .collect(Collectors.joining(", ", "SELECT sort_key, ", " FROM todos ORDER BY sort_key, id"));
+        RowMapper<Todo> rowMapper = (rs, rowNum) -> {
+            Todo todo = new Todo();
+            todo.setSortKey(rs.getString("sort_key"));
+            for (TodoField field : read) {
+                switch (field) {
+                    case ID -> todo.setId(rs.getLong("id"));
+                    case TITLE -> todo.setTitle(rs.getString("title"));
+                    case DESCRIPTION -> todo.setDescription(rs.getString("description"));
+                    case COMPLETED -> todo.setCompleted(rs.getBoolean("completed"));
+                    case CREATED_AT -> todo.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+                    case UPDATED_AT -> todo.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+                    case DUE_AT -> todo.setDueAt(rs.getObject("due_at", LocalDateTime.class));
+                    case REMIND_AT -> todo.setRemindAt(rs.getObject("remind_at", LocalDateTime.class));
+                    case TAGS -> todo.setTags(Tags.split(rs.getString("tags")));
+                }
+            }
+            return todo;
+        };
+        List<CompletableFuture<List<Todo>>> results = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> shard.query(sql, rowMapper), executor))
+                .toList();
+        join(results);
+        List<Todo> todos = merge(results.stream().map(CompletableFuture::join).toList(), LIST_ORDER);
+        if (!fields.contains(TodoField.ID)) {
+            for (Todo todo : todos) {
+                todo.setId(null);
+            }
+        }
+        return todos;
+    }
+
+    @Override
+    public List<Todo> findAllById(Collection<Long> ids) {
+        List<CompletableFuture<List<Todo>>> results = groupByShard(ids).entrySet().stream()
+                .map(entry -> CompletableFuture.supplyAsync(() -> shards.get(entry.getKey()).query(
+                        "SELECT " + COLUMNS + " FROM todos WHERE id IN (" + placeholders(entry.getValue())
+                                + ") ORDER BY sort_key, id",
+                        ROW_MAPPER, entry.getValue().toArray()), executor))
+                .toList();
+        join(results);
+        return merge(results.stream().map(CompletableFuture::join).toList(), LIST_ORDER);
+    }
+
+    @Override
+    public List<Long> findAllIds() {
+        List<CompletableFuture<List<Long>>> results = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(
+                        () -> shard.queryForList("SELECT id FROM todos", Long.class), executor))
+                .toList();
+        join(results);
+        List<Long> ids = new ArrayList<>();
+        results.forEach(result -> ids.addAll(result.join()));
+        return ids;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        owner(id).ifPresent(shard -> shard.update("DELETE FROM todos WHERE id = ?", id));
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return owner(id)
+                .map(shard -> !shard.queryForList("SELECT 1 FROM todos WHERE id = ?", Integer.class, id).isEmpty())
+                .orElse(false);
+    }
+
+    @Override
+    public List<Todo> findCompletedTodos() {
+        return scatterGather("SELECT " + COLUMNS + " FROM todos WHERE completed = TRUE ORDER BY created_at, id",
+                CREATION_ORDER);
+    }
+
+    @Override
+    public void deleteAll(List<Todo> todos) {
+        Map<Integer, List<Object[]>> idsByShard = todos.stream()
+                .filter(todo -> shardOf(todo.getId()) < shards.size())
+                .collect(Collectors.groupingBy(todo -> shardOf(todo.getId()),
+                        Collectors.mapping(todo -> new Object[]{todo.getId()}, Collectors.toList())));
+        join(idsByShard.entrySet().stream()
+                .map(entry -> CompletableFuture.runAsync(() -> shards.get(entry.getKey())
+                        .batchUpdate("DELETE FROM todos WHERE id = ?", entry.getValue()), executor))
+                .toList());
+    }
+
+    /**
+     * Spreads the todos over the shards round-robin like {@link #save(Todo)}, each shard draws the ids of its share
+     * from its own sequence and inserts them with one batch
+     */
+    @Override
+    public List<Long> insertAll(List<Todo> todos) {
+        Map<Integer, List<Integer>> positions = new HashMap<>();
+        for (int i = 0; i < todos.size(); i++) {
+            int shard = Math.floorMod(nextShard.getAndIncrement(), shards.size());
+            positions.computeIfAbsent(shard, key -> new ArrayList<>()).add(i);
+        }
+        Long[] ids = new Long[todos.size()];
+        join(positions.entrySet().stream()
+                .map(entry -> CompletableFuture.runAsync(
+                        () -> insertAll(entry.getKey(), todos, entry.getValue(), ids), executor))
+                .toList());
+        return List.of(ids);
+    }
+
+    /**
+     * Inserts the todos at {@code positions} on one shard, storing their ids at the same positions of {@code ids}
+     */
+    private void insertAll(int shard, List<Todo> todos, List<Integer> positions, Long[] ids) {
+        JdbcTemplate jdbcTemplate = shards.get(shard);
+        List<Long> drawn = jdbcTemplate.queryForList("SELECT NEXT VALUE FOR todo_sequence * " + MAX_SHARDS
+                + " + ? FROM SYSTEM_RANGE(1, ?)", Long.class, shard, positions.size());
+        List<Object[]> batch = new ArrayList<>(positions.size());
+        for (int i = 0; i < positions.size(); i++) {
+            Todo todo = todos.get(positions.get(i));
+            ids[positions.get(i)] = drawn.get(i);
+            batch.add(new Object[]{drawn.get(i), todo.getTitle(), todo.getDescription(), todo.isCompleted(),
+                    todo.getCreatedAt(), todo.getUpdatedAt(), todo.getSortKey(), todo.getDueAt(), todo.getRemindAt(),
+                    Tags.join(todo.getTags())});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO todos (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", batch);
+    }
+
+    @Override
+    public List<Long> updateCompleted(Collection<Long> ids, boolean completed, LocalDateTime updatedAt) {
+        return concat(groupByShard(ids).entrySet().stream()
+                .map(entry -> CompletableFuture.supplyAsync(() -> shards.get(entry.getKey()).queryForList(
+                        "SELECT id FROM FINAL TABLE (UPDATE todos SET completed = ?, updated_at = ? "
+                                + "WHERE completed <> ? AND id IN (" + placeholders(entry.getValue()) + "))",
+                        Long.class,
+                        Stream.concat(Stream.of(completed, updatedAt, completed), entry.getValue().stream()).toArray()),
+                        executor))
+                .toList());
+    }
+
+    @Override
+    public List<Long> completeAll(LocalDateTime updatedAt) {
+        return broadcast("SELECT id FROM FINAL TABLE (UPDATE todos SET completed = TRUE, updated_at = ? "
+                + "WHERE completed = FALSE)", updatedAt);
+    }
+
+    @Override
+    public List<Long> deleteCompleted() {
+        return broadcast("SELECT id FROM OLD TABLE (DELETE FROM todos WHERE completed = TRUE)");
+    }
+
+    @Override
+    public List<Long> findCompletedIdsUpdatedBefore(LocalDateTime cutoff, int limit) {
+        RowMapper<Todo> rowMapper = (rs, rowNum) -> {
+            Todo todo = new Todo();
+            todo.setId(rs.getLong("id"));
+            todo.setUpdatedAt(rs.getObject("updated_at", LocalDateTime.class));
+            return todo;
+        };
+        List<CompletableFuture<List<Todo>>> results = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> shard.query(
+                        "SELECT id, updated_at FROM todos WHERE completed = TRUE AND updated_at < ? "
+                                + "ORDER BY updated_at, id LIMIT ?",
+                        rowMapper, cutoff, limit), executor))
+                .toList();
+        join(results);
+        return merge(results.stream().map(CompletableFuture::join).toList(), UPDATE_ORDER).stream()
+                .limit(limit)
+                .map(Todo::getId)
+                .toList();
+    }
+
+    @Override
+    public int deleteCompletedUpdatedBefore(Collection<Long> ids, LocalDateTime cutoff) {
+        return sum(groupByShard(ids).entrySet().stream()
+                .map(entry -> CompletableFuture.supplyAsync(() -> shards.get(entry.getKey()).update(
+                        "DELETE FROM todos WHERE completed = TRUE AND updated_at < ? AND id IN ("
+                                + placeholders(entry.getValue()) + ")",
+                        Stream.concat(Stream.of(cutoff), entry.getValue().stream()).toArray()), executor))
+                .toList());
+    }
+
+    @Override
+    public long countCompletedUpdatedBefore(LocalDateTime cutoff) {
+        List<CompletableFuture<Long>> counts = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> shard.queryForObject(
+                        "SELECT COUNT(*) FROM todos WHERE completed = TRUE AND updated_at < ?", Long.class, cutoff),
+                        executor))
+                .toList();
+        join(counts);
+        return counts.stream().mapToLong(CompletableFuture::join).sum();
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestCompletedUpdateBefore(LocalDateTime cutoff) {
+        List<CompletableFuture<LocalDateTime>> results = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> shard.queryForObject(
+                        "SELECT MIN(updated_at) FROM todos WHERE completed = TRUE AND updated_at < ?",
+                        LocalDateTime.class, cutoff), executor))
+                .toList();
+        join(results);
+        return results.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder());
+    }
+
+    @Override
+    public List<Todo> findPendingReminders(LocalDateTime from, LocalDateTime to) {
+        RowMapper<Todo> rowMapper = (rs, rowNum) -> {
+            Todo todo = new Todo();
+            todo.setId(rs.getLong("id"));
+            todo.setRemindAt(rs.getObject("remind_at", LocalDateTime.class));
+            return todo;
+        };
+        List<CompletableFuture<List<Todo>>> results = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> shard.query(
+                        "SELECT id, remind_at FROM todos WHERE remind_at >= ? AND remind_at < ? AND completed = FALSE",
+                        rowMapper, from, to), executor))
+                .toList();
+        join(results);
+        return results.stream()
+                .flatMap(result -> result.join().stream())
+                .toList();
+    }
+
+    @Override
+    public Optional<String> findLastSortKey() {
+        return gatherSortKeys("SELECT MAX(sort_key) FROM todos").stream().max(Comparator.naturalOrder());
+    }
+
+    @Override
+    public Map<Long, String> findSortKeys(Collection<Long> ids) {
+        List<CompletableFuture<Map<Long, String>>> results = groupByShard(ids).entrySet().stream()
+                .map(entry -> CompletableFuture.supplyAsync(() -> {
+                    Map<Long, String> sortKeys = new HashMap<>();
+                    shards.get(entry.getKey()).query("SELECT id, sort_key FROM todos WHERE id IN ("
+                                    + placeholders(entry.getValue()) + ")",
+                            rs -> {
+                                sortKeys.put(rs.getLong("id"), rs.getString("sort_key"));
+                            }, entry.getValue().toArray());
+                    return sortKeys;
+                }, executor))
+                .toList();
+        join(results);
+        Map<Long, String> sortKeys = HashMap.newHashMap(ids.size());
+        results.forEach(result -> sortKeys.putAll(result.join()));
+        return sortKeys;
+    }
+
+    @Override
+    public Optional<String> findSortKeyAfter(String sortKey, Long excludedId) {
+        return gatherSortKeys("SELECT MIN(sort_key) FROM todos WHERE sort_key > ? AND id <> ?", sortKey, excludedId)
+                .stream()
+                .min(Comparator.naturalOrder());
+    }
+
+    @Override
+    public Optional<String> findSortKeyBefore(String sortKey, Long excludedId) {
+        return gatherSortKeys("SELECT MAX(sort_key) FROM todos WHERE sort_key < ? AND id <> ?", sortKey, excludedId)
+                .stream()
+                .max(Comparator.naturalOrder());
+    }
+
+    @Override
+    public int updateSortKey(Long id, String sortKey) {
+        return owner(id).map(shard -> shard.update("UPDATE todos SET sort_key = ? WHERE id = ?", sortKey, id))
+                .orElse(0);
+    }
+
+    @Override
+    public boolean needsSortKeyRebalance(int maxLength) {
+        // COUNT(DISTINCT) skips nulls, so the difference counts both missing and duplicate keys
+        List<CompletableFuture<Boolean>> results = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> shard.query(
+                        "SELECT COUNT(*) - COUNT(DISTINCT sort_key), COALESCE(MAX(LENGTH(sort_key)), 0) FROM todos",
+                        rs -> rs.next() && (rs.getLong(1) > 0 || rs.getInt(2) > maxLength)), executor))
+                .toList();
+        join(results);
+        return results.stream().anyMatch(result -> Boolean.TRUE.equals(result.join()));
+    }
+
+    @Override
+    public List<Long> findAllIdsInListOrderForUpdate() {
+        RowMapper<Todo> rowMapper = (rs, rowNum) -> {
+            Todo todo = new Todo();
+            todo.setId(rs.getLong("id"));
+            todo.setSortKey(rs.getString("sort_key"));
+            return todo;
+        };
+        List<CompletableFuture<List<Todo>>> results = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(
+                        () -> shard.query("SELECT id, sort_key FROM todos ORDER BY sort_key, id", rowMapper), executor))
+                .toList();
+        join(results);
+        return merge(results.stream().map(CompletableFuture::join).toList(), LIST_ORDER).stream()
+                .map(Todo::getId)
+                .toList();
+    }
+
+    @Override
+    public void updateSortKeys(Map<Long, String> sortKeys) {
+        Map<Integer, List<Object[]>> batches = sortKeys.entrySet().stream()
+                .filter(entry -> shardOf(entry.getKey()) < shards.size())
+                .collect(Collectors.groupingBy(entry -> shardOf(entry.getKey()),
+                        Collectors.mapping(entry -> new Object[]{entry.getValue(), entry.getKey()},
+                                Collectors.toList())));
+        join(batches.entrySet().stream()
+                .map(entry -> CompletableFuture.runAsync(() -> shards.get(entry.getKey())
+                        .batchUpdate("UPDATE todos SET sort_key = ? WHERE id = ?", entry.getValue()), executor))
+                .toList());
+    }
+
+    /**
+     * Ids by the index of their shard, ids of shards that are not configured are dropped
+     */
+    private Map<Integer, List<Long>> groupByShard(Collection<Long> ids) {
+        return ids.stream()
+                .filter(id -> shardOf(id) < shards.size())
+                .collect(Collectors.groupingBy(ShardedTodoPersistenceAdapter::shardOf));
+    }
+
+    private static String placeholders(List<?> values) {
+        return String.join(", ", Collections.nCopies(values.size(), "?"));
+    }
+
+    /**
+     * Runs the change on every shard in parallel, reading the ids of the changed rows back from its delta table
+     *
+     * @return ids of the affected rows of all shards
+     */
+    private List<Long> broadcast(String sql, Object... args) {
+        return concat(shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> shard.queryForList(sql, Long.class, args), executor))
+                .toList());
+    }
+
+    private static List<Long> concat(List<CompletableFuture<List<Long>>> ids) {
+        join(ids);
+        return ids.stream().flatMap(future -> future.join().stream()).toList();
+    }
+
+    private static int sum(List<CompletableFuture<Integer>> counts) {
+        join(counts);
+        return counts.stream().mapToInt(CompletableFuture::join).sum();
+    }
+
+    private static String column(TodoField field) {
+        return switch (field) {
+            case ID -> "id";
+            case TITLE -> "title";
+            case DESCRIPTION -> "description";
+            case COMPLETED -> "completed";
+            case CREATED_AT -> "created_at";
+            case UPDATED_AT -> "updated_at";
+            case DUE_AT -> "due_at";
+            case REMIND_AT -> "remind_at";
+            case TAGS -> "tags";
+        };
+    }
+
+    /**
+     * Runs the query on every shard in parallel and merges the results, which must be sorted in the given order
+     */
+    private List<Todo> scatterGather(String sql, Comparator<Todo> order) {
+        List<CompletableFuture<List<Todo>>> results = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> shard.query(sql, ROW_MAPPER), executor))
+                .toList();
+        join(results);
+        return merge(results.stream().map(CompletableFuture::join).toList(), order);
+    }
+
+    /**
+     * Runs a query for a single sort key on every shard in parallel
+     *
+     * @return the keys of the shards that returned one
+     */
+    private List<String> gatherSortKeys(String sql, Object... args) {
+        List<CompletableFuture<String>> results = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(
+                        () -> shard.queryForObject(sql, String.class, args), executor))
+                .toList();
+        join(results);
+        return results.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * K-way merge of sorted lists through a heap of the lists' heads
+     */
+    static <T> List<T> merge(List<List<T>> sortedLists, Comparator<? super T> order) {
+        record Cursor<T>(List<T> list, int index) {
+            T head() {
+                return list.get(index);
+            }
+        }
+        PriorityQueue<Cursor<T>> heads = new PriorityQueue<>(Math.max(1, sortedLists.size()),
+                Comparator.comparing(Cursor::head, order));
+        int size = 0;
+        for (List<T> list : sortedLists) {
+            size += list.size();
+            if (!list.isEmpty()) {
+                heads.add(new Cursor<>(list, 0));
+            }
+        }
+        List<T> merged = new ArrayList<>(size);
+        while (!heads.isEmpty()) {
+            Cursor<T> cursor = heads.poll();
+            merged.add(cursor.head());
+            if (cursor.index() + 1 < cursor.list().size()) {
+                heads.add(new Cursor<>(cursor.list(), cursor.index() + 1));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Shard owning the id, empty for ids that no configured shard can have generated
+     */
+    private Optional<JdbcTemplate> owner(long id) {
+        int shard = shardOf(id);
+        return shard < shards.size() ? Optional.of(shards.get(shard)) : Optional.empty();
+    }
+
+    private static void insert(JdbcTemplate shard, Todo todo) {
+        shard.update("INSERT INTO todos (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                todo.getId(), todo.getTitle(), todo.getDescription(), todo.isCompleted(), todo.getCreatedAt(),
+                todo.getUpdatedAt(), todo.getSortKey(), todo.getDueAt(), todo.getRemindAt(), Tags.join(todo.getTags()));
+    }
+
+    private static void join(List<? extends CompletableFuture<?>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        for (DataSource dataSource : dataSources) {
+            try {
+                if (dataSource.isWrapperFor(Closeable.class)) {
+                    dataSource.unwrap(Closeable.class).close();
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("Failed to close shard data source", e);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
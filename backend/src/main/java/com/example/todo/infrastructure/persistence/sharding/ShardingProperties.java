@@ -0,0 +1,24 @@
+package com.example.todo.infrastructure.persistence.sharding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Hash-sharded todo storage
+ *
+ * @param enabled         whether todos are stored on the shards instead of {@code spring.datasource}
+ * @param urls            JDBC URL of every shard, in a fixed order: the position is the shard id embedded in ids
+ * @param username        shard user, defaults to {@code spring.datasource.username}
+ * @param password        shard password, defaults to {@code spring.datasource.password}
+ * @param maximumPoolSize maximum connections per shard pool
+ */
+@ConfigurationProperties(prefix = "todo.sharding")
+public record ShardingProperties(
+        boolean enabled,
+        @DefaultValue List<String> urls,
+        String username,
+        String password,
+        @DefaultValue("10") int maximumPoolSize) {
+}
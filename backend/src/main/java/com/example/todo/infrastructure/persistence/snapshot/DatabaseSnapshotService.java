@@ -0,0 +1,109 @@
+package com.example.todo.infrastructure.persistence.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Creates binary snapshots of the file-backed H2 store.
+ * <p>
+ * A snapshot is H2's online {@code BACKUP}: a zip of the MVStore file taken in a consistent state while the
+ * database stays available. Restoring one is a file copy before the database is opened, see
+ * {@link SnapshotRestoreListener}, which is far faster than replaying inserts.
+ */
+@Component
+@EnableConfigurationProperties(SnapshotProperties.class)
+@Slf4j
+public class DatabaseSnapshotService {
+
+    static final String SNAPSHOT_PREFIX = "todo-";
+    static final String SNAPSHOT_SUFFIX = ".zip";
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SnapshotProperties properties;
+    private final Clock clock;
+
+    @Autowired
+    public DatabaseSnapshotService(JdbcTemplate jdbcTemplate, SnapshotProperties properties) {
+        this(jdbcTemplate, properties, Clock.systemDefaultZone());
+    }
+
+    DatabaseSnapshotService(JdbcTemplate jdbcTemplate, SnapshotProperties properties, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    public Path createSnapshot() {
+        Path directory = properties.directory().toAbsolutePath();
+        Path snapshot = directory.resolve(SNAPSHOT_PREFIX + TIMESTAMP.format(LocalDateTime.now(clock)) + SNAPSHOT_SUFFIX);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create snapshot directory " + directory, e);
+        }
+
+        long start = System.nanoTime();
+        jdbcTemplate.execute("BACKUP TO '" + snapshot.toString().replace("'", "''") + "'");
+        log.info("Created database snapshot {} in {} ms", snapshot, (System.nanoTime() - start) / 1_000_000);
+
+        deleteExpiredSnapshots();
+        return snapshot;
+    }
+
+    /**
+     * @return snapshots in the snapshot directory, newest first
+     */
+    public List<Path> listSnapshots() {
+        return listSnapshots(properties.directory());
+    }
+
+    static List<Path> listSnapshots(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(DatabaseSnapshotService::isSnapshot)
+                    .sorted(Comparator.comparing((Path path) -> path.getFileName().toString()).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list snapshots in " + directory, e);
+        }
+    }
+
+    static Optional<Path> newestSnapshot(Path directory) {
+        return listSnapshots(directory).stream().findFirst();
+    }
+
+    private static boolean isSnapshot(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+    }
+
+    private void deleteExpiredSnapshots() {
+        List<Path> snapshots = listSnapshots();
+        for (Path expired : snapshots.subList(Math.min(properties.retain(), snapshots.size()), snapshots.size())) {
+            try {
+                Files.deleteIfExists(expired);
+                log.info("Deleted expired database snapshot {}", expired);
+            } catch (IOException e) {
+                log.warn("Could not delete expired database snapshot {}", expired, e);
+            }
+        }
+    }
+}
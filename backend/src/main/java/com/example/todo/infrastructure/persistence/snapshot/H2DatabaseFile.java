@@ -0,0 +1,33 @@
+package com.example.todo.infrastructure.persistence.snapshot;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Location of the MVStore file of a file-backed H2 database, derived from its JDBC URL
+ */
+public record H2DatabaseFile(Path directory, String databaseName) {
+
+    private static final String FILE_URL_PREFIX = "jdbc:h2:file:";
+    static final String MV_STORE_SUFFIX = ".mv.db";
+
+    /**
+     * @return the database file, or empty for in-memory and server URLs
+     */
+    public static Optional<H2DatabaseFile> fromUrl(String jdbcUrl) {
+        if (jdbcUrl == null || !jdbcUrl.startsWith(FILE_URL_PREFIX)) {
+            return Optional.empty();
+        }
+        String location = jdbcUrl.substring(FILE_URL_PREFIX.length());
+        int settings = location.indexOf(';');
+        if (settings >= 0) {
+            location = location.substring(0, settings);
+        }
+        Path path = Path.of(location.replaceFirst("^~", System.getProperty("user.home"))).toAbsolutePath().normalize();
+        return Optional.of(new H2DatabaseFile(path.getParent(), path.getFileName().toString()));
+    }
+
+    public Path storeFile() {
+        return directory.resolve(databaseName + MV_STORE_SUFFIX);
+    }
+}
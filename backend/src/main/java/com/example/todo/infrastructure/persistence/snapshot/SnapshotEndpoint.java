@@ -0,0 +1,34 @@
+package com.example.todo.infrastructure.persistence.snapshot;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint to list and create database snapshots: {@code GET/POST /actuator/snapshot}
+ */
+@Component
+@Endpoint(id = "snapshot")
+@RequiredArgsConstructor
+public class SnapshotEndpoint {
+
+    private final DatabaseSnapshotService snapshotService;
+
+    @ReadOperation
+    public List<String> snapshots() {
+        return snapshotService.listSnapshots().stream()
+                .map(Path::toString)
+                .toList();
+    }
+
+    @WriteOperation
+    public Map<String, String> createSnapshot() {
+        return Map.of("snapshot", snapshotService.createSnapshot().toString());
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.todo.infrastructure.persistence.snapshot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Snapshot and restore settings of the file-backed H2 store
+ *
+ * @param directory   where snapshots are written
+ * @param retain      number of snapshots to keep, older ones are deleted
+ * @param interval    interval of automatic snapshots, none when unset
+ * @param restoreFrom snapshot file, or directory to take the newest snapshot from, restored at startup
+ * @param restoreMode when to restore at startup
+ */
+@ConfigurationProperties(prefix = "todo.snapshot")
+public record SnapshotProperties(
+        @DefaultValue("./snapshots") Path directory,
+        @DefaultValue("5") int retain,
+        Duration interval,
+        Path restoreFrom,
+        @DefaultValue("if-missing") RestoreMode restoreMode) {
+
+    public enum RestoreMode {
+        /**
+         * Restore only when the database file does not exist, e.g. on a fresh volume
+         */
+        IF_MISSING,
+        /**
+         * Always replace the database file with the snapshot
+         */
+        ALWAYS
+    }
+}
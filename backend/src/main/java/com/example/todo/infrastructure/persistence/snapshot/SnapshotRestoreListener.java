@@ -0,0 +1,91 @@
+package com.example.todo.infrastructure.persistence.snapshot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Restores the H2 store from a snapshot before the application context, and with it the
+ * database, is started. Registered in {@code META-INF/spring.factories} and only active
+ * when {@code todo.snapshot.restore-from} is set.
+ */
+@Slf4j
+public class SnapshotRestoreListener implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+
+    @Override
+    public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+        ConfigurableEnvironment environment = event.getEnvironment();
+        SnapshotProperties properties = Binder.get(environment)
+                .bindOrCreate("todo.snapshot", SnapshotProperties.class);
+        if (properties.restoreFrom() == null) {
+            return;
+        }
+
+        Optional<H2DatabaseFile> database = H2DatabaseFile.fromUrl(environment.getProperty("spring.datasource.url"));
+        if (database.isEmpty()) {
+            log.warn("Ignoring todo.snapshot.restore-from, spring.datasource.url is not a file-backed H2 database");
+            return;
+        }
+
+        Path source = properties.restoreFrom();
+        Optional<Path> snapshot = Files.isDirectory(source)
+                ? DatabaseSnapshotService.newestSnapshot(source)
+                : Optional.of(source).filter(Files::isRegularFile);
+        if (snapshot.isEmpty()) {
+            log.warn("No database snapshot found at {}, starting without restore", source);
+            return;
+        }
+
+        restore(snapshot.get(), database.get(), properties.restoreMode());
+    }
+
+    /**
+     * @return whether the store file was replaced by the snapshot
+     */
+    static boolean restore(Path snapshot, H2DatabaseFile database, SnapshotProperties.RestoreMode mode) {
+        Path storeFile = database.storeFile();
+        if (mode == SnapshotProperties.RestoreMode.IF_MISSING && Files.exists(storeFile)) {
+            log.info("Database {} exists, not restoring snapshot {}", storeFile, snapshot);
+            return false;
+        }
+
+        long start = System.nanoTime();
+        try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(snapshot))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.getName().endsWith(H2DatabaseFile.MV_STORE_SUFFIX)) {
+                    replace(storeFile, zip);
+                    log.info("Restored database {} from snapshot {} in {} ms",
+                            storeFile, snapshot, (System.nanoTime() - start) / 1_000_000);
+                    return true;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot restore database snapshot " + snapshot, e);
+        }
+        throw new IllegalStateException("Snapshot " + snapshot + " does not contain an H2 store file");
+    }
+
+    private static void replace(Path storeFile, InputStream content) throws IOException {
+        Files.createDirectories(storeFile.getParent());
+        Path temporary = Files.createTempFile(storeFile.getParent(), storeFile.getFileName().toString(), ".restore");
+        try {
+            Files.copy(content, temporary, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temporary, storeFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.todo.infrastructure.persistence.snapshot;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Takes a snapshot every {@code todo.snapshot.interval}
+ */
+@Component
+@ConditionalOnProperty(prefix = "todo.snapshot", name = "interval")
+@RequiredArgsConstructor
+@Slf4j
+public class SnapshotScheduler {
+
+    private final DatabaseSnapshotService snapshotService;
+
+    @Scheduled(fixedDelayString = "${todo.snapshot.interval}", initialDelayString = "${todo.snapshot.interval}")
+    public void createSnapshot() {
+        try {
+            snapshotService.createSnapshot();
+        } catch (Exception e) {
+            log.error("Error creating scheduled database snapshot", e);
+        }
+    }
+}
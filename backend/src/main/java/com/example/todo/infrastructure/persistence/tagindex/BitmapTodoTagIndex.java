@@ -0,0 +1,213 @@
+package com.example.todo.infrastructure.persistence.tagindex;
+
+import com.example.todo.application.service.TodoTagIndex;
+import com.example.todo.application.service.TodosChangedEvent;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoField;
+import com.example.todo.domain.port.TodoRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link TodoTagIndex} backed by one {@link IdBitmap} per tag, one of completed todos and one of all todos. A filter
+ * is the intersection of the bitmaps of its tags with the completed bitmap, or minus it for open todos.
+ * <p>
+ * The bitmaps are built from the id, completion status and tags of all todos at startup and every
+ * {@code todo.tag-index.rebuild-interval}. Todos changed through {@code TodoService} are only marked after commit;
+ * the next lookup reads them again by id before answering, so a write costs no extra statement and a read sees the
+ * writes of this node.
+ */
+@Slf4j
+public class BitmapTodoTagIndex implements TodoTagIndex {
+
+    private static final Set<TodoField> INDEXED_FIELDS = EnumSet.of(TodoField.ID, TodoField.COMPLETED, TodoField.TAGS);
+    private static final int CHUNK_SIZE = 1000;
+
+    private final TodoRepository todoRepository;
+    private final TransactionOperations transactionOperations;
+    private final Set<Long> changedIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean allChanged = new AtomicBoolean(true);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IdBitmap> byTag = new HashMap<>();
+    private final IdBitmap all = new IdBitmap();
+    private final IdBitmap completed = new IdBitmap();
+
+    /**
+     * @param transactionOperations runs the rebuild and refresh queries, a new read-write transaction keeps them on
+     *                              the primary when read replicas are enabled, even inside a read-only lookup
+     */
+    public BitmapTodoTagIndex(TodoRepository todoRepository, TransactionOperations transactionOperations,
+                              MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        this.transactionOperations = transactionOperations;
+        Gauge.builder("todo.tag-index.tags", this, BitmapTodoTagIndex::tagCount)
+                .description("Distinct tags in the tag index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reads the todos changed since the last lookup first, through {@code transactionOperations} rather than the
+     * caller's read-only transaction: a lagging replica would leave their stale tags in the index until the next
+     * rebuild
+     */
+    @Override
+    public Optional<List<Long>> find(Set<String> tags, Boolean completedStatus) {
+        if (hasChanges()) {
+            transactionOperations.executeWithoutResult(status -> refreshIfChanged());
+        }
+        lock.readLock().lock();
+        try {
+            List<IdBitmap> included = new ArrayList<>(tags.size() + 1);
+            for (String tag : tags) {
+                IdBitmap bitmap = byTag.get(tag);
+                if (bitmap == null) {
+                    return Optional.of(List.of());
+                }
+                included.add(bitmap);
+            }
+            if (Boolean.TRUE.equals(completedStatus)) {
+                included.add(completed);
+            }
+            if (included.isEmpty()) {
+                included.add(all);
+            }
+            List<Long> ids = new ArrayList<>();
+            IdBitmap.intersect(included, Boolean.FALSE.equals(completedStatus) ? completed : null, ids::add);
+            return Optional.of(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Marks the changed todos, the next lookup reads them again
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodosChanged(TodosChangedEvent event) {
+        if (event.allTodos()) {
+            allChanged.set(true);
+        } else {
+            changedIds.addAll(event.ids());
+        }
+    }
+
+    /**
+     * Rebuilds the bitmaps from all todos, runs at startup as well
+     */
+    @Scheduled(fixedDelayString = "${todo.tag-index.rebuild-interval:10m}")
+    public void rebuild() {
+        try {
+            allChanged.set(true);
+            transactionOperations.executeWithoutResult(status -> refreshIfChanged());
+        } catch (Exception e) {
+            log.error("Error rebuilding the tag index", e);
+        }
+    }
+
+    int tagCount() {
+        lock.readLock().lock();
+        try {
+            return byTag.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean hasChanges() {
+        return allChanged.get() || !changedIds.isEmpty();
+    }
+
+    private void refreshIfChanged() {
+        if (!hasChanges()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (allChanged.getAndSet(false)) {
+                // Todos changed while the query runs are marked again and read by the next lookup
+                changedIds.clear();
+                rebuildAll();
+            } else {
+                applyChanges();
+            }
+        } catch (RuntimeException e) {
+            // Marks may have been drained without being applied
+            allChanged.set(true);
+            throw e;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void rebuildAll() {
+        List<Todo> todos = todoRepository.findAll(INDEXED_FIELDS);
+        byTag.clear();
+        all.clear();
+        completed.clear();
+        for (Todo todo : todos) {
+            add(todo);
+        }
+        log.debug("Rebuilt the tag index with {} todos and {} tags", todos.size(), byTag.size());
+    }
+
+    private void applyChanges() {
+        List<Long> ids = new ArrayList<>();
+        for (Iterator<Long> it = changedIds.iterator(); it.hasNext(); ) {
+            ids.add(it.next());
+            it.remove();
+        }
+        for (int start = 0; start < ids.size(); start += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(start, Math.min(ids.size(), start + CHUNK_SIZE));
+            List<Todo> todos = todoRepository.findAllById(chunk);
+            for (Long id : chunk) {
+                remove(id);
+            }
+            for (Todo todo : todos) {
+                add(todo);
+            }
+        }
+    }
+
+    private void add(Todo todo) {
+        long id = todo.getId();
+        all.add(id);
+        if (todo.isCompleted()) {
+            completed.add(id);
+        }
+        for (String tag : todo.getTags()) {
+            byTag.computeIfAbsent(tag, key -> new IdBitmap()).add(id);
+        }
+    }
+
+    /**
+     * Tags are not kept per todo, so the id is removed from every tag
+     */
+    private void remove(long id) {
+        all.remove(id);
+        completed.remove(id);
+        for (Iterator<IdBitmap> it = byTag.values().iterator(); it.hasNext(); ) {
+            IdBitmap bitmap = it.next();
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                it.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package com.example.todo.infrastructure.persistence.tagindex;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Compressed bitmap of non-negative {@code long} ids, not thread-safe.
+ * <p>
+ * As in a Roaring bitmap, ids are split into chunks of {@code 2^16} by their high bits. A chunk of at most
+ * {@value #ARRAY_MAX} ids is a sorted array of their low bits, 2 bytes per id, a fuller one a bitset of 8 KB. Ids
+ * from the sequence are dense, so a tag on most todos takes about one bit per todo and a rare tag two bytes per
+ * tagged todo. Intersections work chunk by chunk on a single bitset, so they never allocate per id.
+ */
+final class IdBitmap {
+
+    static final int ARRAY_MAX = 4096;
+
+    private static final int CHUNK_BITS = 16;
+    private static final int WORDS = 1 << (CHUNK_BITS - 6);
+
+    private long[] keys = new long[4];
+    private Chunk[] chunks = new Chunk[4];
+    private int chunkCount;
+    private long cardinality;
+
+    void add(long id) {
+        long key = id >>> CHUNK_BITS;
+        int index = find(key);
+        if (index < 0) {
+            index = -index - 1;
+            insertChunk(index, key, new ArrayChunk());
+        }
+        Chunk chunk = chunks[index];
+        int before = chunk.cardinality;
+        chunks[index] = chunk.add((char) id);
+        cardinality += chunks[index].cardinality - before;
+    }
+
+    void remove(long id) {
+        int index = find(id >>> CHUNK_BITS);
+        if (index < 0) {
+            return;
+        }
+        Chunk chunk = chunks[index];
+        int before = chunk.cardinality;
+        Chunk after = chunk.remove((char) id);
+        cardinality -= before - after.cardinality;
+        if (after.cardinality == 0) {
+            System.arraycopy(keys, index + 1, keys, index, chunkCount - index - 1);
+            System.arraycopy(chunks, index + 1, chunks, index, chunkCount - index - 1);
+            chunks[--chunkCount] = null;
+        } else {
+            chunks[index] = after;
+        }
+    }
+
+    boolean contains(long id) {
+        int index = find(id >>> CHUNK_BITS);
+        return index >= 0 && chunks[index].contains((char) id);
+    }
+
+    void clear() {
+        Arrays.fill(chunks, 0, chunkCount, null);
+        chunkCount = 0;
+        cardinality = 0;
+    }
+
+    long cardinality() {
+        return cardinality;
+    }
+
+    boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Hands the ids that are in every bitmap of {@code included} and not in {@code excluded} to {@code ids}, in
+     * ascending order
+     *
+     * @param included at least one bitmap
+     * @param excluded {@code null} to exclude nothing
+     */
+    static void intersect(List<IdBitmap> included, IdBitmap excluded, LongConsumer ids) {
+        IdBitmap smallest = included.getFirst();
+        for (IdBitmap bitmap : included) {
+            if (bitmap.chunkCount < smallest.chunkCount) {
+                smallest = bitmap;
+            }
+        }
+        long[] words = new long[WORDS];
+        long[] scratch = new long[WORDS];
+        chunks:
+        for (int i = 0; i < smallest.chunkCount; i++) {
+            long key = smallest.keys[i];
+            smallest.chunks[i].copyTo(words);
+            for (IdBitmap other : included) {
+                if (other == smallest) {
+                    continue;
+                }
+                int index = other.find(key);
+                if (index < 0) {
+                    continue chunks;
+                }
+                other.chunks[index].andInto(words, scratch);
+            }
+            if (excluded != null) {
+                int index = excluded.find(key);
+                if (index >= 0) {
+                    excluded.chunks[index].andNotInto(words);
+                }
+            }
+            long base = key << CHUNK_BITS;
+            for (int word = 0; word < WORDS; word++) {
+                long bits = words[word];
+                while (bits != 0) {
+                    ids.accept(base | ((long) word << 6) | Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+        }
+    }
+
+    private int find(long key) {
+        return Arrays.binarySearch(keys, 0, chunkCount, key);
+    }
+
+    private void insertChunk(int index, long key, Chunk chunk) {
+        if (chunkCount == keys.length) {
+            keys = Arrays.copyOf(keys, chunkCount * 2);
+            chunks = Arrays.copyOf(chunks, chunkCount * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, chunkCount - index);
+        System.arraycopy(chunks, index, chunks, index + 1, chunkCount - index);
+        keys[index] = key;
+        chunks[index] = chunk;
+        chunkCount++;
+    }
+
+    /**
+     * Low 16 bits of the ids sharing the same high bits
+     */
+    private abstract static class Chunk {
+
+        int cardinality;
+
+        abstract boolean contains(char low);
+
+        /**
+         * @return the chunk holding the result, this one or a converted one
+         */
+        abstract Chunk add(char low);
+
+        /**
+         * @return the chunk holding the result, this one or a converted one
+         */
+        abstract Chunk remove(char low);
+
+        abstract void copyTo(long[] words);
+
+        /**
+         * Clears the bits of {@code words} that are not in this chunk
+         */
+        abstract void andInto(long[] words, long[] scratch);
+
+        /**
+         * Clears the bits of {@code words} that are in this chunk
+         */
+        abstract void andNotInto(long[] words);
+    }
+
+    private static final class ArrayChunk extends Chunk {
+
+        private char[] values = new char[4];
+
+        @Override
+        boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        @Override
+        Chunk add(char low) {
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                return toBitset().add(low);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, cardinality * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Chunk remove(char low) {
+            int index = Arrays.binarySearch(values, 0, cardinality, low);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        void copyTo(long[] words) {
+            Arrays.fill(words, 0);
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+        }
+
+        @Override
+        void andInto(long[] words, long[] scratch) {
+            Arrays.fill(scratch, 0);
+            for (int i = 0; i < cardinality; i++) {
+                char value = values[i];
+                scratch[value >>> 6] |= words[value >>> 6] & (1L << value);
+            }
+            System.arraycopy(scratch, 0, words, 0, words.length);
+        }
+
+        @Override
+        void andNotInto(long[] words) {
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] &= ~(1L << values[i]);
+            }
+        }
+
+        private BitsetChunk toBitset() {
+            BitsetChunk bitset = new BitsetChunk();
+            copyTo(bitset.words);
+            bitset.cardinality = cardinality;
+            return bitset;
+        }
+    }
+
+    private static final class BitsetChunk extends Chunk {
+
+        private final long[] words = new long[WORDS];
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        Chunk add(char low) {
+            long bit = 1L << low;
+            if ((words[low >>> 6] & bit) == 0) {
+                words[low >>> 6] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Chunk remove(char low) {
+            long bit = 1L << low;
+            if ((words[low >>> 6] & bit) != 0) {
+                words[low >>> 6] &= ~bit;
+                cardinality--;
+                // Half the threshold, so a chunk at the boundary does not convert back and forth
+                if (cardinality <= ARRAY_MAX / 2) {
+                    return toArray();
+                }
+            }
+            return this;
+        }
+
+        @Override
+        void copyTo(long[] target) {
+            System.arraycopy(words, 0, target, 0, WORDS);
+        }
+
+        @Override
+        void andInto(long[] target, long[] scratch) {
+            for (int i = 0; i < WORDS; i++) {
+                target[i] &= words[i];
+            }
+        }
+
+        @Override
+        void andNotInto(long[] target) {
+            for (int i = 0; i < WORDS; i++) {
+                target[i] &= ~words[i];
+            }
+        }
+
+        private ArrayChunk toArray() {
+            ArrayChunk array = new ArrayChunk();
+            array.values = new char[Math.max(4, cardinality)];
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                long bits = words[i];
+                while (bits != 0) {
+                    array.values[count++] = (char) ((i << 6) | Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+            array.cardinality = count;
+            return array;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.todo.infrastructure.persistence.tagindex;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * In-memory index of tags and completion status answering filtered list reads with ids
+ *
+ * @param enabled         whether filters are resolved by the index instead of reading all todos
+ * @param rebuildInterval delay between two rebuilds from the database, which pick up changes made outside this
+ *                        node's {@code TodoService}
+ */
+@ConfigurationProperties(prefix = "todo.tag-index")
+public record TagIndexProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10m") Duration rebuildInterval) {
+}
@@ -0,0 +1,23 @@
+package com.example.todo.infrastructure.reminder;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Reminders fired from an in-process timing wheel
+ *
+ * @param enabled        whether reminders are loaded and fired
+ * @param tick           resolution of the wheel, reminders fire up to one tick late
+ * @param window         how far ahead reminders are loaded into the wheel
+ * @param reloadInterval delay between two loads of the window, which pick up reminders set on other nodes, keep it
+ *                       well below {@code window}
+ */
+@ConfigurationProperties(prefix = "todo.reminders")
+public record ReminderProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1s") Duration tick,
+        @DefaultValue("10m") Duration window,
+        @DefaultValue("1m") Duration reloadInterval) {
+}
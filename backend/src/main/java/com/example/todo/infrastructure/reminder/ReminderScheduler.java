@@ -0,0 +1,273 @@
+package com.example.todo.infrastructure.reminder;
+
+import com.example.todo.application.service.TodosChangedEvent;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.port.TodoRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fires the reminders of open todos from a {@link TimingWheel} instead of scanning the table for due rows.
+ * <p>
+ * Every {@code todo.reminders.reload-interval}, and at startup, the reminders of the next {@code todo.reminders.window}
+ * are read from the {@code (remind_at, completed)} index and loaded into the wheel, so a restart picks up where the
+ * last load left off. Changes made through {@code TodoService} only mark their ids after commit; the next tick re-reads
+ * those todos and schedules, moves or cancels their reminder. Due reminders are checked against the database once more
+ * before a {@link TodoReminderEvent} is published, so a todo completed or rescheduled on another node is not reminded.
+ * <p>
+ * The wheel is advanced every {@code todo.reminders.tick} by its own {@code todo-reminder-tick} thread from
+ * {@link #start()}, not by the shared task scheduler, so a slow snapshot or purge does not hold reminders back.
+ * <p>
+ * Reminders that came due while no node was running are not fired, and every node fires the reminders it loaded.
+ */
+@Slf4j
+public class ReminderScheduler implements AutoCloseable {
+
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_LEVELS = 4;
+    private static final int CHUNK_SIZE = 1000;
+    private static final Duration STOP_TIMEOUT = Duration.ofSeconds(10);
+
+    private final TodoRepository todoRepository;
+    private final TransactionOperations transactionOperations;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+    private final long tickMillis;
+    private final Duration window;
+    private final Counter fired;
+    private final Timer delay;
+    private final Set<Long> changedIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean allChanged = new AtomicBoolean();
+    private final TimingWheel wheel;
+    private ScheduledExecutorService ticker;
+    // Reminders before this instant are in the wheel, later ones are left to the next load
+    private Instant loadedUntil;
+
+    /**
+     * @param transactionOperations runs the queries, a read-write transaction keeps them on the primary
+     *                              when read replicas are enabled
+     */
+    public ReminderScheduler(TodoRepository todoRepository, TransactionOperations transactionOperations,
+                             ApplicationEventPublisher eventPublisher, ReminderProperties properties,
+                             MeterRegistry meterRegistry) {
+        this(todoRepository, transactionOperations, eventPublisher, properties, meterRegistry,
+                Clock.systemDefaultZone());
+    }
+
+    ReminderScheduler(TodoRepository todoRepository, TransactionOperations transactionOperations,
+                      ApplicationEventPublisher eventPublisher, ReminderProperties properties,
+                      MeterRegistry meterRegistry, Clock clock) {
+        this.todoRepository = todoRepository;
+        this.transactionOperations = transactionOperations;
+        this.eventPublisher = eventPublisher;
+        this.clock = clock;
+        this.tickMillis = Math.max(1, properties.tick().toMillis());
+        this.window = properties.window();
+        this.wheel = new TimingWheel(WHEEL_BITS, WHEEL_LEVELS, Math.floorDiv(clock.millis(), tickMillis), 0);
+        this.loadedUntil = clock.instant();
+        this.fired = Counter.builder("todo.reminders.fired")
+                .description("Reminders fired for open todos")
+                .register(meterRegistry);
+        this.delay = Timer.builder("todo.reminders.delay")
+                .description("Time between the reminder of a todo and its firing")
+                .register(meterRegistry);
+        Gauge.builder("todo.reminders.pending", this, ReminderScheduler::pending)
+                .description("Reminders loaded into the timing wheel")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts ticking the wheel on a dedicated thread, at a fixed rate so a late tick is followed by a quicker one
+     */
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("todo-reminder-tick")
+                .daemon(true)
+                .factory());
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops ticking, waiting for a running tick to finish
+     */
+    @Override
+    public void close() throws InterruptedException {
+        ScheduledExecutorService stopping;
+        synchronized (this) {
+            stopping = ticker;
+            ticker = null;
+        }
+        if (stopping != null) {
+            stopping.shutdown();
+            stopping.awaitTermination(STOP_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Marks the changed todos, the next tick re-reads them so nothing is queried on the request path
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodosChanged(TodosChangedEvent event) {
+        if (event.allTodos()) {
+            allChanged.set(true);
+        } else {
+            changedIds.addAll(event.ids());
+        }
+    }
+
+    /**
+     * Applies the changed todos to the wheel and fires the reminders that are due
+     */
+    public void tick() {
+        try {
+            synchronized (this) {
+                if (allChanged.getAndSet(false)) {
+                    changedIds.clear();
+                    load();
+                } else {
+                    applyChanges();
+                }
+                advance();
+            }
+        } catch (Exception e) {
+            log.error("Error firing todo reminders", e);
+        }
+    }
+
+    /**
+     * Loads the reminders of the next window into the wheel, runs at startup as well
+     */
+    @Scheduled(fixedDelayString = "${todo.reminders.reload-interval:1m}")
+    public void reload() {
+        try {
+            synchronized (this) {
+                advance();
+                load();
+            }
+        } catch (Exception e) {
+            log.error("Error loading todo reminders", e);
+        }
+    }
+
+    synchronized int pending() {
+        return wheel.size();
+    }
+
+    private void load() {
+        Instant from = Instant.ofEpochMilli(wheel.currentTick() * tickMillis);
+        Instant to = clock.instant().plus(window);
+        List<Todo> todos = transactionOperations.execute(status ->
+                todoRepository.findPendingReminders(toLocalDateTime(from), toLocalDateTime(to)));
+        loadedUntil = to;
+        Set<Long> loaded = new HashSet<>();
+        for (Todo todo : todos) {
+            if (schedule(todo.getId(), todo.getRemindAt())) {
+                loaded.add(todo.getId());
+            }
+        }
+        // Reminders moved out of the window or cancelled on another node
+        for (long id : wheel.ids()) {
+            if (!loaded.contains(id)) {
+                wheel.cancel(id);
+            }
+        }
+        log.debug("Loaded {} todo reminders until {}", loaded.size(), to);
+    }
+
+    private void applyChanges() {
+        if (changedIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>();
+        for (Iterator<Long> it = changedIds.iterator(); it.hasNext(); ) {
+            ids.add(it.next());
+            it.remove();
+        }
+        for (int start = 0; start < ids.size(); start += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(start, Math.min(ids.size(), start + CHUNK_SIZE));
+            List<Todo> todos = transactionOperations.execute(status -> todoRepository.findAllById(chunk));
+            Set<Long> found = new HashSet<>();
+            for (Todo todo : todos) {
+                found.add(todo.getId());
+                if (todo.isCompleted() || todo.getRemindAt() == null || !schedule(todo.getId(), todo.getRemindAt())) {
+                    wheel.cancel(todo.getId());
+                }
+            }
+            for (Long id : chunk) {
+                if (!found.contains(id)) {
+                    wheel.cancel(id);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return whether the reminder is in the wheel, reminders past the current tick or beyond the loaded window are not
+     */
+    private boolean schedule(long id, LocalDateTime remindAt) {
+        Instant at = remindAt.atZone(clock.getZone()).toInstant();
+        if (!at.isBefore(loadedUntil)) {
+            return false;
+        }
+        // Rounded up, so a reminder never fires before its time
+        long deadline = Math.floorDiv(at.toEpochMilli() + tickMillis - 1, tickMillis);
+        if (deadline <= wheel.currentTick()) {
+            return false;
+        }
+        wheel.schedule(id, deadline);
+        return true;
+    }
+
+    private void advance() {
+        List<Long> due = new ArrayList<>();
+        wheel.advance(Math.floorDiv(clock.millis(), tickMillis), due::add);
+        for (int start = 0; start < due.size(); start += CHUNK_SIZE) {
+            fire(due.subList(start, Math.min(due.size(), start + CHUNK_SIZE)));
+        }
+    }
+
+    private void fire(List<Long> ids) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<Todo> todos = transactionOperations.execute(status -> todoRepository.findAllById(ids));
+        for (Todo todo : todos) {
+            // Completed or rescheduled since it was loaded
+            if (todo.isCompleted() || todo.getRemindAt() == null || todo.getRemindAt().isAfter(now)) {
+                continue;
+            }
+            log.info("Reminder for todo {} '{}' due at {}", todo.getId(), todo.getTitle(), todo.getDueAt());
+            fired.increment();
+            delay.record(Duration.between(todo.getRemindAt(), now));
+            eventPublisher.publishEvent(new TodoReminderEvent(todo.getId(), todo.getTitle(), todo.getDueAt(),
+                    todo.getRemindAt()));
+        }
+    }
+
+    private LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, clock.getZone());
+    }
+}
@@ -0,0 +1,288 @@
+package com.example.todo.infrastructure.reminder;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * Hierarchical timing wheel of {@code long} ids, not thread-safe.
+ * <p>
+ * Level 0 has one slot per tick, every level above one slot per full turn of the level below, so {@code levels}
+ * wheels of {@code 2^wheelBits} slots span {@code 2^(wheelBits * levels)} ticks. An entry sits in the lowest level
+ * whose span reaches its deadline and drops a level each time the level above turns to its slot. Scheduling and
+ * cancelling are O(1), advancing costs O(1) per tick plus at most one move per level for each entry.
+ * <p>
+ * Entries live in parallel arrays linked by index, with an open addressing index from id to entry, so there is no
+ * object per entry and a million entries take 40 to 80 MB, depending on how far the arrays have grown.
+ */
+final class TimingWheel {
+
+    private static final int NONE = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    private final int wheelBits;
+    private final int slotMask;
+    private final int levels;
+    private final int[] heads;
+    private long currentTick;
+    private int size;
+
+    // Entries, doubly linked per slot, free entries are singly linked through next
+    private long[] ids;
+    private long[] deadlines;
+    private int[] slots;
+    private int[] next;
+    private int[] prev;
+    private int allocated;
+    private int free = NONE;
+
+    // Open addressing with linear probing, each bucket holds an entry or NONE
+    private int[] index;
+    private int indexMask;
+
+    TimingWheel(int wheelBits, int levels, long startTick, int initialCapacity) {
+        if (wheelBits < 1 || wheelBits > 16 || levels < 1 || (long) wheelBits * levels > 62) {
+            throw new IllegalArgumentException("Unsupported wheel of " + levels + " levels of 2^" + wheelBits + " slots");
+        }
+        this.wheelBits = wheelBits;
+        this.slotMask = (1 << wheelBits) - 1;
+        this.levels = levels;
+        this.heads = new int[levels << wheelBits];
+        Arrays.fill(heads, NONE);
+        this.currentTick = startTick;
+        int capacity = Math.max(MIN_CAPACITY, initialCapacity);
+        this.ids = new long[capacity];
+        this.deadlines = new long[capacity];
+        this.slots = new int[capacity];
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+        this.index = new int[Integer.highestOneBit(capacity - 1) << 2];
+        Arrays.fill(index, NONE);
+        this.indexMask = index.length - 1;
+    }
+
+    /**
+     * Schedules the id, replacing its previous deadline. Deadlines that are not after the current tick expire on
+     * the next one.
+     */
+    void schedule(long id, long deadlineTick) {
+        int entry = find(id);
+        if (entry == NONE) {
+            entry = allocate();
+            ids[entry] = id;
+            addToIndex(entry);
+            size++;
+        } else {
+            unlink(entry);
+        }
+        deadlines[entry] = Math.max(deadlineTick, currentTick + 1);
+        link(entry);
+    }
+
+    /**
+     * @return whether the id was scheduled
+     */
+    boolean cancel(long id) {
+        int entry = find(id);
+        if (entry == NONE) {
+            return false;
+        }
+        unlink(entry);
+        removeFromIndex(entry);
+        release(entry);
+        return true;
+    }
+
+    boolean contains(long id) {
+        return find(id) != NONE;
+    }
+
+    /**
+     * Moves the wheel forward tick by tick, handing the ids whose deadline is reached to {@code expired}. The
+     * callback must not modify the wheel.
+     */
+    void advance(long tick, LongConsumer expired) {
+        while (currentTick < tick) {
+            if (size == 0) {
+                // Nothing to cascade or expire
+                currentTick = tick;
+                return;
+            }
+            currentTick++;
+            // Top down, so entries dropping from several levels up land in the right slot of level 0
+            for (int level = levels - 1; level > 0; level--) {
+                int shift = level * wheelBits;
+                if ((currentTick & ((1L << shift) - 1)) == 0) {
+                    cascade(slot(level, currentTick >>> shift));
+                }
+            }
+            expire(slot(0, currentTick), expired);
+        }
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return the scheduled ids, in no particular order
+     */
+    long[] ids() {
+        long[] result = new long[size];
+        int count = 0;
+        for (int entry : index) {
+            if (entry != NONE) {
+                result[count++] = ids[entry];
+            }
+        }
+        return result;
+    }
+
+    private void cascade(int slot) {
+        int entry = heads[slot];
+        heads[slot] = NONE;
+        while (entry != NONE) {
+            int following = next[entry];
+            link(entry);
+            entry = following;
+        }
+    }
+
+    private void expire(int slot, LongConsumer expired) {
+        int entry = heads[slot];
+        heads[slot] = NONE;
+        while (entry != NONE) {
+            int following = next[entry];
+            long id = ids[entry];
+            removeFromIndex(entry);
+            release(entry);
+            expired.accept(id);
+            entry = following;
+        }
+    }
+
+    private int slotFor(long deadline) {
+        long tick = Math.max(deadline, currentTick);
+        for (int level = 0; level < levels; level++) {
+            int shift = level * wheelBits;
+            if ((tick >>> shift) - (currentTick >>> shift) <= slotMask) {
+                return slot(level, tick >>> shift);
+            }
+        }
+        // Beyond the span of the wheel: park in the farthest slot of the top level and place it again from there
+        int shift = (levels - 1) * wheelBits;
+        return slot(levels - 1, (currentTick >>> shift) + slotMask);
+    }
+
+    private int slot(int level, long position) {
+        return (level << wheelBits) | (int) (position & slotMask);
+    }
+
+    private void link(int entry) {
+        int slot = slotFor(deadlines[entry]);
+        int head = heads[slot];
+        slots[entry] = slot;
+        prev[entry] = NONE;
+        next[entry] = head;
+        if (head != NONE) {
+            prev[head] = entry;
+        }
+        heads[slot] = entry;
+    }
+
+    private void unlink(int entry) {
+        int before = prev[entry];
+        int after = next[entry];
+        if (before == NONE) {
+            heads[slots[entry]] = after;
+        } else {
+            next[before] = after;
+        }
+        if (after != NONE) {
+            prev[after] = before;
+        }
+    }
+
+    private int allocate() {
+        if (free != NONE) {
+            int entry = free;
+            free = next[entry];
+            return entry;
+        }
+        if (allocated == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            deadlines = Arrays.copyOf(deadlines, capacity);
+            slots = Arrays.copyOf(slots, capacity);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+        }
+        return allocated++;
+    }
+
+    private void release(int entry) {
+        next[entry] = free;
+        free = entry;
+        size--;
+    }
+
+    private int find(long id) {
+        for (int bucket = bucket(id); ; bucket = (bucket + 1) & indexMask) {
+            int entry = index[bucket];
+            if (entry == NONE || ids[entry] == id) {
+                return entry;
+            }
+        }
+    }
+
+    private void addToIndex(int entry) {
+        // At most half full, so probe sequences stay short
+        if ((size + 1) * 2 > index.length) {
+            int[] old = index;
+            index = new int[old.length * 2];
+            Arrays.fill(index, NONE);
+            indexMask = index.length - 1;
+            for (int existing : old) {
+                if (existing != NONE) {
+                    insert(existing);
+                }
+            }
+        }
+        insert(entry);
+    }
+
+    private void insert(int entry) {
+        int bucket = bucket(ids[entry]);
+        while (index[bucket] != NONE) {
+            bucket = (bucket + 1) & indexMask;
+        }
+        index[bucket] = entry;
+    }
+
+    /**
+     * Backward shift deletion, moves later entries of the probe sequence into the gap instead of leaving a tombstone
+     */
+    private void removeFromIndex(int entry) {
+        int gap = bucket(ids[entry]);
+        while (index[gap] != entry) {
+            gap = (gap + 1) & indexMask;
+        }
+        for (int bucket = (gap + 1) & indexMask; index[bucket] != NONE; bucket = (bucket + 1) & indexMask) {
+            int home = bucket(ids[index[bucket]]);
+            // The entry may move back unless its home bucket lies after the gap
+            if (((bucket - home) & indexMask) >= ((bucket - gap) & indexMask)) {
+                index[gap] = index[bucket];
+                gap = bucket;
+            }
+        }
+        index[gap] = NONE;
+    }
+
+    private int bucket(long id) {
+        long hash = id * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & indexMask;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.todo.infrastructure.reminder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published once the reminder of an open todo is due
+ */
+public record TodoReminderEvent(Long id, String title, LocalDateTime dueAt, LocalDateTime remindAt) {
+}
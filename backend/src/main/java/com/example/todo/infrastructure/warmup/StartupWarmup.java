@@ -0,0 +1,196 @@
+package com.example.todo.infrastructure.warmup;
+
+import com.example.todo.infrastructure.warmup.WarmupReport.Outcome;
+import com.example.todo.infrastructure.warmup.WarmupReport.Step;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Warms up a starting instance before it reports readiness. Application runners complete before Spring Boot
+ * publishes {@code ReadinessState.ACCEPTING_TRAFFIC}, so {@code /actuator/health/readiness} stays
+ * {@code OUT_OF_SERVICE} until this returns, while the server already accepts the warm-up's own requests.
+ * <p>
+ * The steps run on a separate thread in order: open every connection of the primary pool, build the caches and
+ * indexes that would otherwise be loaded by the first requests or scheduled tasks, then send {@code rounds} of
+ * synthetic API requests over loopback so the controllers, {@code TodoService}, the filters and Jackson are
+ * compiled before real traffic arrives. The requests only read or are rejected by validation, a warm-up never
+ * changes data. After {@code timeout} readiness is reported anyway and the remaining steps are abandoned.
+ */
+@Slf4j
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(5);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+    private static final String INVALID_CREATE_REQUEST = """
+            {"title":"Warm-up","description":"Rejected by validation","dueAt":"2026-01-20T17:00:00",\
+            "remindAt":"2026-01-20T09:00:00","tags":["warm-up","not a tag"]}""";
+
+    private final WarmupProperties properties;
+    private final DataSource dataSource;
+    private final Map<String, Supplier<String>> caches;
+    private final Environment environment;
+    private final List<Step> steps = new CopyOnWriteArrayList<>();
+    private volatile String running;
+    private volatile boolean stopped;
+    private volatile WarmupReport report;
+
+    /**
+     * @param caches primers of caches and indexes by name, each returning what it loaded
+     */
+    public StartupWarmup(WarmupProperties properties, DataSource dataSource, Map<String, Supplier<String>> caches,
+                         Environment environment) {
+        this.properties = properties;
+        this.dataSource = dataSource;
+        this.caches = caches;
+        this.environment = environment;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        long start = System.nanoTime();
+        Thread worker = Thread.ofPlatform().name("startup-warmup").daemon().start(this::warmUp);
+        boolean finished = worker.join(properties.timeout());
+        stopped = true;
+        String unfinished = finished ? null : running;
+        report = new WarmupReport(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), unfinished,
+                List.copyOf(steps));
+        if (finished) {
+            log.info("Warmed up in {} ms: {}", report.tookMillis(), report.steps());
+        } else {
+            log.warn("Warm-up timed out after {} ms in step {}, reporting readiness anyway: {}",
+                    report.tookMillis(), unfinished, report.steps());
+        }
+    }
+
+    /**
+     * @return what the warm-up did, {@code null} until it is over
+     */
+    public WarmupReport getReport() {
+        return report;
+    }
+
+    private void warmUp() {
+        HikariDataSource pool = hikariPool();
+        if (pool != null) {
+            step("connection-pool", () -> fillConnectionPool(pool.getMaximumPoolSize()));
+        } else {
+            steps.add(new Step("connection-pool", Outcome.SKIPPED, "Not a Hikari pool", 0));
+        }
+        caches.forEach(this::step);
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port != null) {
+            step("api", () -> sendRequests(port));
+        } else {
+            steps.add(new Step("api", Outcome.SKIPPED, "No web server", 0));
+        }
+    }
+
+    private void step(String name, Supplier<String> action) {
+        if (stopped) {
+            return;
+        }
+        running = name;
+        long start = System.nanoTime();
+        Outcome outcome = Outcome.DONE;
+        String detail;
+        try {
+            detail = action.get();
+        } catch (RuntimeException e) {
+            log.warn("Warm-up step {} failed", name, e);
+            outcome = Outcome.FAILED;
+            detail = e.getMessage();
+        }
+        steps.add(new Step(name, outcome, detail, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+    }
+
+    private HikariDataSource hikariPool() {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Holds connections until the pool has opened all of them, validating each so a lazy proxy fetches it
+     */
+    private String fillConnectionPool(int size) {
+        List<Connection> connections = new ArrayList<>(size);
+        try {
+            while (connections.size() < size && !stopped) {
+                Connection connection = dataSource.getConnection();
+                connections.add(connection);
+                connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+            }
+            return connections.size() + " connections";
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not open a connection: " + e.getMessage(), e);
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.debug("Error returning a warm-up connection", e);
+                }
+            }
+        }
+    }
+
+    private String sendRequests(int port) {
+        String base = "http://localhost:" + port + "/api/todos";
+        List<HttpRequest> round = List.of(
+                get(base),
+                get(base + "?fields=id,title,completed"),
+                get(base + "?tags=warm-up&completed=false"),
+                get(base + "/" + Long.MAX_VALUE),
+                HttpRequest.newBuilder(URI.create(base))
+                        .timeout(REQUEST_TIMEOUT)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(INVALID_CREATE_REQUEST))
+                        .build());
+        int rounds = 0;
+        long serverErrors = 0;
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build()) {
+            while (rounds < properties.rounds() && !stopped) {
+                for (HttpRequest request : round) {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() >= 500) {
+                        serverErrors++;
+                    }
+                }
+                rounds++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return rounds * round.size() + " requests in " + rounds + " rounds, " + serverErrors + " server errors";
+    }
+
+    private static HttpRequest get(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).timeout(REQUEST_TIMEOUT).GET().build();
+    }
+}
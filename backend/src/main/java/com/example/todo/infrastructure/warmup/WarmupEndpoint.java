@@ -0,0 +1,20 @@
+package com.example.todo.infrastructure.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+/**
+ * Actuator endpoint reporting what the startup warm-up did: {@code GET /actuator/warmup}, not found until it is over
+ */
+@Endpoint(id = "warmup")
+@RequiredArgsConstructor
+public class WarmupEndpoint {
+
+    private final StartupWarmup startupWarmup;
+
+    @ReadOperation
+    public WarmupReport report() {
+        return startupWarmup.getReport();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.todo.infrastructure.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Warm-up of a starting instance before it reports readiness
+ *
+ * @param enabled whether readiness waits for the warm-up
+ * @param timeout longest the warm-up may delay readiness, it is abandoned after that
+ * @param rounds  rounds of synthetic API requests, enough for the JIT to compile the hot paths
+ */
+@ConfigurationProperties(prefix = "todo.startup.warmup")
+public record WarmupProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("30s") Duration timeout,
+        @DefaultValue("2000") int rounds) {
+}
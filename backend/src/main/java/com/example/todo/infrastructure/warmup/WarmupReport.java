@@ -0,0 +1,21 @@
+package com.example.todo.infrastructure.warmup;
+
+import java.util.List;
+
+/**
+ * What the warm-up did before the instance reported readiness
+ *
+ * @param tookMillis time from the start of the warm-up to readiness
+ * @param unfinished step that was still running when the timeout expired, {@code null} if all steps finished
+ * @param steps      finished steps in the order they ran
+ */
+public record WarmupReport(long tookMillis, String unfinished, List<Step> steps) {
+
+    public enum Outcome { DONE, SKIPPED, FAILED }
+
+    /**
+     * @param detail what the step did, or why it was skipped or failed
+     */
+    public record Step(String name, Outcome outcome, String detail, long tookMillis) {
+    }
+}
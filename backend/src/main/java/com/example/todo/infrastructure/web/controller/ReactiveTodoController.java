@@ -0,0 +1,96 @@
+package com.example.todo.infrastructure.web.controller;
+
+import com.example.todo.application.service.ReactiveTodoService;
+import com.example.todo.domain.model.Tags;
+import com.example.todo.domain.model.TodoField;
+import com.example.todo.infrastructure.web.dto.CreateTodoRequest;
+import com.example.todo.infrastructure.web.dto.TodoDto;
+import com.example.todo.infrastructure.web.dto.UpdateTodoRequest;
+import com.example.todo.infrastructure.web.mapper.TodoDtoMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Inbound adapter for the REST API on WebFlux, same contract as {@link TodoController}
+ * <p>
+ * A plain JSON list is read into memory first, so a slow client never keeps a database connection.
+ * {@code Accept: application/x-ndjson} streams the list one todo per line instead, with the client's demand
+ * propagated back to the R2DBC result, holding one pooled connection until the client has read it all.
+ */
+@RestController
+@RequestMapping("/api/todos")
+@CrossOrigin(origins = "http://localhost:4200")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTodoController {
+
+    private final ReactiveTodoService todoService;
+    private final TodoDtoMapper todoDtoMapper;
+
+    public ReactiveTodoController(ReactiveTodoService todoService, TodoDtoMapper todoDtoMapper) {
+        this.todoService = todoService;
+        this.todoDtoMapper = todoDtoMapper;
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<List<TodoDto>> getAllTodos() {
+        return todoService.getAllTodos()
+                .map(todoDtoMapper::toDto)
+                .collectList();
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TodoDto> streamAllTodos() {
+        return todoService.getAllTodos()
+                .map(todoDtoMapper::toDto);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<TodoDto> getTodoById(@PathVariable Long id) {
+        return todoService.getTodoById(id)
+                .map(todoDtoMapper::toDto);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<TodoDto>> createTodo(@RequestBody CreateTodoRequest request) {
+        Optional<Set<String>> tags = TodoController.tagsOf(request);
+        if (tags.isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return todoService.createTodo(request.getTitle(), request.getDescription(), request.getDueAt(),
+                        request.getRemindAt(), tags.get())
+                .map(todo -> ResponseEntity.status(HttpStatus.CREATED).body(todoDtoMapper.toDto(todo)));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<TodoDto>> updateTodo(@PathVariable Long id, @RequestBody UpdateTodoRequest request) {
+        Set<TodoField> cleared = TodoController.clearedFieldsOf(request);
+        Optional<Set<String>> tags = request.getTags() == null ? Optional.empty() : Tags.parse(request.getTags());
+        if (cleared == null || request.getTags() != null && tags.isEmpty()) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return todoService.updateTodo(id, request.getTitle(), request.getDescription(), request.getDueAt(),
+                        request.getRemindAt(), tags.orElse(null), cleared)
+                .map(todo -> ResponseEntity.ok(todoDtoMapper.toDto(todo)));
+    }
+
+    @PatchMapping("/{id}/toggle")
+    public Mono<TodoDto> toggleTodoCompletion(@PathVariable Long id) {
+        return todoService.toggleTodoCompletion(id)
+                .map(todoDtoMapper::toDto);
+    }
+
+    @DeleteMapping("/{id}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public Mono<Void> deleteTodo(@PathVariable Long id) {
+        return todoService.deleteTodo(id);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.todo.infrastructure.web.controller;
+
+import com.example.todo.infrastructure.reminder.TodoReminderEvent;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Streams the reminders fired on this node as server-sent events.
+ * <p>
+ * Reminders arrive on the {@code todo-reminder-tick} thread while {@code ReminderScheduler} holds its lock, so they
+ * are only queued here. Each stream has a bounded queue sent by a virtual thread of its own, and a client that falls
+ * {@value #QUEUE_CAPACITY} reminders behind is disconnected instead of holding back the wheel or other clients.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/reminders")
+@CrossOrigin(origins = "http://localhost:4200")
+@Tag(name = "Reminders", description = "Reminders of todos as they fire")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "todo.reminders", name = "enabled", havingValue = "true")
+public class ReminderStreamController {
+
+    static final int QUEUE_CAPACITY = 256;
+
+    private final List<ReminderStream> streams = new CopyOnWriteArrayList<>();
+
+    @Operation(
+        summary = "Stream reminders",
+        description = "Sends a 'reminder' event with the todo id, title, due date and reminder time whenever a reminder fires"
+    )
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamReminders() {
+        // No timeout, the stream stays open until the client goes away
+        return register(new SseEmitter(0L));
+    }
+
+    SseEmitter register(SseEmitter emitter) {
+        ReminderStream stream = new ReminderStream(emitter);
+        streams.add(stream);
+        emitter.onCompletion(() -> streams.remove(stream));
+        emitter.onTimeout(() -> streams.remove(stream));
+        emitter.onError(e -> streams.remove(stream));
+        return emitter;
+    }
+
+    /**
+     * Queues the reminder on every stream, never waits for a client
+     */
+    @EventListener
+    public void onReminder(TodoReminderEvent event) {
+        for (ReminderStream stream : streams) {
+            if (!stream.enqueue(event)) {
+                log.debug("Dropping reminder stream {} reminders behind", QUEUE_CAPACITY);
+                streams.remove(stream);
+            }
+        }
+    }
+
+    private static final class ReminderStream {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<TodoReminderEvent> pending = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        // Whether a sender thread is running, at most one per stream keeps the reminders in order
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile boolean closed;
+
+        ReminderStream(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * @return false when the stream failed, or its queue is full and it is then completed by its sender thread
+         */
+        boolean enqueue(TodoReminderEvent event) {
+            if (closed) {
+                return false;
+            }
+            boolean queued = pending.offer(event);
+            if (!queued) {
+                closed = true;
+            }
+            if (sending.compareAndSet(false, true)) {
+                Thread.ofVirtual().name("todo-reminder-stream").start(this::send);
+            }
+            return queued;
+        }
+
+        private void send() {
+            do {
+                TodoReminderEvent event;
+                while ((event = pending.poll()) != null) {
+                    if (closed) {
+                        // Completing takes the emitter's lock as well, so it is done here rather than on the tick thread
+                        emitter.complete();
+                        return;
+                    }
+                    try {
+                        emitter.send(SseEmitter.event()
+                                .name("reminder")
+                                .id(String.valueOf(event.id()))
+                                .data(event, MediaType.APPLICATION_JSON));
+                    } catch (IOException | IllegalStateException e) {
+                        log.debug("Dropping reminder stream", e);
+                        closed = true;
+                        return;
+                    }
+                }
+                sending.set(false);
+                // A reminder queued after the last poll but before the flag was cleared started no thread of its own
+            } while (!pending.isEmpty() && sending.compareAndSet(false, true));
+        }
+    }
+}
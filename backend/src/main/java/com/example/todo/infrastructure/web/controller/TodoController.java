@@ -1,10 +1,18 @@
 package com.example.todo.infrastructure.web.controller;
 
 import com.example.todo.application.service.TodoService;
+import com.example.todo.domain.model.Tags;
 import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoField;
+import com.example.todo.infrastructure.web.dto.BulkCompletionRequest;
+import com.example.todo.infrastructure.web.dto.BulkOperationResponse;
 import com.example.todo.infrastructure.web.dto.CreateTodoRequest;
+import com.example.todo.infrastructure.web.dto.MoveTodoRequest;
 import com.example.todo.infrastructure.web.dto.TodoDto;
+import com.example.todo.infrastructure.web.dto.UpdateTodoRequest;
+import com.example.todo.infrastructure.web.mapper.SparseTodoWriter;
 import com.example.todo.infrastructure.web.mapper.TodoDtoMapper;
+import com.example.todo.infrastructure.web.readmodel.TodoListReadModel;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,40 +20,120 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Inbound adapter for REST API
+ * <p>
+ * With the {@link TodoListReadModel} enabled, reads are answered from its pre-serialized JSON. Reads restricted to
+ * some fields with {@code ?fields=} select only those columns and serialize only those properties. Lists filtered
+ * with {@code ?tags=} or {@code ?completed=} are resolved to ids by the tag index and read by id.
  */
 @RestController
 @RequestMapping("/api/todos")
 @CrossOrigin(origins = "http://localhost:4200")
 @Tag(name = "Todo Management", description = "APIs for managing todos")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class TodoController {
 
+    // Same threshold as server.compression.min-response-size, below it gzip saves less than it costs
+    private static final int GZIP_MIN_SIZE = 2048;
+    private static final int ALL_FIELDS = TodoField.values().length;
+    private static final String FIELDS_DESCRIPTION =
+            "Comma separated properties to return, all if omitted: id, title, description, completed, createdAt, updatedAt, "
+                    + "dueAt, remindAt, tags";
+    private static final Set<TodoField> CLEARABLE_FIELDS =
+            EnumSet.of(TodoField.DUE_AT, TodoField.REMIND_AT, TodoField.TAGS);
+
     private final TodoService todoService;
     private final TodoDtoMapper todoDtoMapper;
+    private final SparseTodoWriter sparseTodoWriter;
+    private final ObjectProvider<TodoListReadModel> readModel;
 
-    public TodoController(TodoService todoService, TodoDtoMapper todoDtoMapper) {
+    public TodoController(TodoService todoService, TodoDtoMapper todoDtoMapper, SparseTodoWriter sparseTodoWriter,
+                          ObjectProvider<TodoListReadModel> readModel) {
         this.todoService = todoService;
         this.todoDtoMapper = todoDtoMapper;
+        this.sparseTodoWriter = sparseTodoWriter;
+        this.readModel = readModel;
     }
 
     @Operation(
         summary = "Get all todos",
         description = "Retrieves a list of all todos in the system"
     )
-    @ApiResponse(
-        responseCode = "200",
-        description = "Successfully retrieved list of todos",
-        content = @Content(mediaType = "application/json", schema = @Schema(implementation = TodoDto.class))
-    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved list of todos",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = TodoDto.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Unknown field, malformed tag or completion status",
+            content = @Content
+        )
+    })
     @GetMapping
-    public ResponseEntity<List<TodoDto>> getAllTodos() {
+    public ResponseEntity<?> getAllTodos(
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,title,completed")
+            @RequestParam(required = false) String fields,
+            @Parameter(description = "Comma separated tags, only todos having all of them are returned",
+                    example = "errands,home")
+            @RequestParam(required = false) String tags,
+            @Parameter(description = "Only completed todos if true, only open ones if false", example = "false")
+            @RequestParam(required = false) String completed,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+            String acceptEncoding) {
+        Set<TodoField> selected = null;
+        if (fields != null) {
+            selected = parseFields(fields);
+            if (selected == null) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        boolean sparse = selected != null && selected.size() < ALL_FIELDS;
+        if (tags != null || completed != null) {
+            Optional<Set<String>> required = tags == null ? Optional.of(Set.of()) : Tags.parse(tags);
+            if (required.isEmpty() || completed != null && !completed.equals("true") && !completed.equals("false")) {
+                return ResponseEntity.badRequest().build();
+            }
+            List<Todo> todos = todoService.findTodos(required.get(),
+                    completed == null ? null : completed.equals("true"));
+            if (sparse) {
+                return ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(sparseTodoWriter.write(todos, selected));
+            }
+            return ResponseEntity.ok(todos.stream().map(todoDtoMapper::toDto).toList());
+        }
+        if (sparse) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(sparseTodoWriter.write(todoService.getAllTodos(selected), selected));
+        }
+        TodoListReadModel model = readModel.getIfAvailable();
+        if (model != null) {
+            TodoListReadModel.Snapshot snapshot = model.current();
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (snapshot.json().length >= GZIP_MIN_SIZE && acceptsGzip(acceptEncoding)) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+            }
+            return response.body(snapshot.json());
+        }
         List<TodoDto> todos = todoService.getAllTodos().stream()
                 .map(todoDtoMapper::toDto)
                 .toList();
@@ -62,6 +150,11 @@ public class TodoController {
             description = "Successfully retrieved todo",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = TodoDto.class))
         ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Unknown field",
+            content = @Content
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Todo not found",
@@ -69,9 +162,31 @@ public class TodoController {
         )
     })
     @GetMapping("/{id}")
-    public ResponseEntity<TodoDto> getTodoById(
+    public ResponseEntity<?> getTodoById(
             @Parameter(description = "ID of the todo to retrieve", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @Parameter(description = FIELDS_DESCRIPTION, example = "id,title,completed")
+            @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            Set<TodoField> selected = parseFields(fields);
+            if (selected == null) {
+                return ResponseEntity.badRequest().build();
+            }
+            if (selected.size() < ALL_FIELDS) {
+                // A single row costs the same whatever its columns, only the body is trimmed
+                return ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(sparseTodoWriter.write(todoService.getTodoById(id), selected));
+            }
+        }
+        TodoListReadModel model = readModel.getIfAvailable();
+        if (model != null) {
+            Optional<byte[]> json = model.current().todo(id);
+            if (json.isPresent()) {
+                return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(json.get());
+            }
+            // Unknown to the read model, the service answers 404 or finds a todo created outside TodoService
+        }
         Todo todo = todoService.getTodoById(id);
         return ResponseEntity.ok(todoDtoMapper.toDto(todo));
     }
@@ -96,14 +211,20 @@ public class TodoController {
     public ResponseEntity<TodoDto> createTodo(
             @Parameter(description = "Todo creation request with title and description", required = true)
             @RequestBody CreateTodoRequest request) {
-        Todo todo = todoService.createTodo(request.getTitle(), request.getDescription());
+        Optional<Set<String>> tags = tagsOf(request);
+        if (tags.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        Todo todo = todoService.createTodo(request.getTitle(), request.getDescription(), request.getDueAt(),
+                request.getRemindAt(), tags.get());
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(todoDtoMapper.toDto(todo));
     }
 
     @Operation(
         summary = "Update a todo",
-        description = "Updates an existing todo's title and description"
+        description = "Updates an existing todo's title and description, and its due date, reminder and tags where "
+                + "given. Omitted ones are kept, the fields listed in clear are removed."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -111,6 +232,11 @@ public class TodoController {
             description = "Todo updated successfully",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = TodoDto.class))
         ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Malformed tag, too many tags, or a field in clear that cannot be removed or is also set",
+            content = @Content
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "Todo not found",
@@ -122,8 +248,14 @@ public class TodoController {
             @Parameter(description = "ID of the todo to update", required = true)
             @PathVariable Long id,
             @Parameter(description = "Todo update request with new title and description", required = true)
-            @RequestBody CreateTodoRequest request) {
-        Todo todo = todoService.updateTodo(id, request.getTitle(), request.getDescription());
+            @RequestBody UpdateTodoRequest request) {
+        Set<TodoField> cleared = clearedFieldsOf(request);
+        Optional<Set<String>> tags = request.getTags() == null ? Optional.empty() : Tags.parse(request.getTags());
+        if (cleared == null || request.getTags() != null && tags.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        Todo todo = todoService.updateTodo(id, request.getTitle(), request.getDescription(), request.getDueAt(),
+                request.getRemindAt(), tags.orElse(null), cleared);
         return ResponseEntity.ok(todoDtoMapper.toDto(todo));
     }
 
@@ -151,6 +283,45 @@ public class TodoController {
         return ResponseEntity.ok(todoDtoMapper.toDto(todo));
     }
 
+    @Operation(
+        summary = "Move a todo",
+        description = "Places a todo between two neighbours, only the moved todo is written"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "204",
+            description = "Todo moved successfully"
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "No neighbour given or the todo given as its own neighbour",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Todo or neighbour not found",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Neighbours no longer in that order, reload the list and retry",
+            content = @Content
+        )
+    })
+    @PatchMapping("/{id}/move")
+    public ResponseEntity<Void> moveTodo(
+            @Parameter(description = "ID of the todo to move", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Neighbours of the todo at its new position", required = true)
+            @RequestBody MoveTodoRequest request) {
+        if (request.getAfterId() == null && request.getBeforeId() == null
+                || id.equals(request.getAfterId()) || id.equals(request.getBeforeId())) {
+            return ResponseEntity.badRequest().build();
+        }
+        todoService.moveTodo(id, request.getAfterId(), request.getBeforeId());
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(
         summary = "Delete a todo",
         description = "Permanently deletes a todo from the system"
@@ -173,4 +344,115 @@ public class TodoController {
         todoService.deleteTodo(id);
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(
+        summary = "Set the completion status of several todos",
+        description = "Marks the given todos as completed or incomplete in a single statement"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Number of todos whose completion status changed",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkOperationResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Missing IDs or completion status",
+            content = @Content
+        )
+    })
+    @PatchMapping
+    public ResponseEntity<BulkOperationResponse> setTodosCompletion(
+            @Parameter(description = "IDs of the todos and their new completion status", required = true)
+            @RequestBody BulkCompletionRequest request) {
+        if (request.getIds() == null || request.getCompleted() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        int affected = todoService.setTodosCompletion(request.getIds(), request.getCompleted());
+        return ResponseEntity.ok(new BulkOperationResponse(affected));
+    }
+
+    @Operation(
+        summary = "Complete all todos",
+        description = "Marks every incomplete todo as completed in a single statement"
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Number of todos that were completed",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkOperationResponse.class))
+    )
+    @PostMapping("/complete-all")
+    public ResponseEntity<BulkOperationResponse> completeAllTodos() {
+        return ResponseEntity.ok(new BulkOperationResponse(todoService.completeAllTodos()));
+    }
+
+    @Operation(
+        summary = "Clear completed todos",
+        description = "Permanently deletes every completed todo in a single statement"
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Number of todos deleted",
+        content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkOperationResponse.class))
+    )
+    @DeleteMapping(params = "completed=true")
+    public ResponseEntity<BulkOperationResponse> deleteCompletedTodos() {
+        return ResponseEntity.ok(new BulkOperationResponse(todoService.deleteCompletedTodos()));
+    }
+
+    /**
+     * @return the normalized tags of the request, none if it has none, empty if a tag is malformed
+     */
+    static Optional<Set<String>> tagsOf(CreateTodoRequest request) {
+        return request.getTags() == null ? Optional.of(Set.of()) : Tags.parse(request.getTags());
+    }
+
+    /**
+     * @return the fields to remove, {@code null} if one cannot be removed or is also set by the request
+     */
+    static Set<TodoField> clearedFieldsOf(UpdateTodoRequest request) {
+        Set<TodoField> cleared = EnumSet.noneOf(TodoField.class);
+        if (request.getClear() == null) {
+            return cleared;
+        }
+        for (String name : request.getClear()) {
+            Optional<TodoField> field = TodoField.fromProperty(name);
+            if (field.isEmpty() || !CLEARABLE_FIELDS.contains(field.get())) {
+                return null;
+            }
+            cleared.add(field.get());
+        }
+        boolean alsoSet = cleared.contains(TodoField.DUE_AT) && request.getDueAt() != null
+                || cleared.contains(TodoField.REMIND_AT) && request.getRemindAt() != null
+                || cleared.contains(TodoField.TAGS) && request.getTags() != null;
+        return alsoSet ? null : cleared;
+    }
+
+    /**
+     * @return the fields in a comma separated list of property names, {@code null} if one is unknown or none given
+     */
+    private static Set<TodoField> parseFields(String fields) {
+        Set<TodoField> selected = EnumSet.noneOf(TodoField.class);
+        for (String name : fields.split(",")) {
+            Optional<TodoField> field = TodoField.fromProperty(name.trim());
+            if (field.isEmpty()) {
+                return null;
+            }
+            selected.add(field.get());
+        }
+        return selected;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 }
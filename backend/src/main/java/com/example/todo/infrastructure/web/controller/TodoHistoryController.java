@@ -0,0 +1,97 @@
+package com.example.todo.infrastructure.web.controller;
+
+import com.example.todo.infrastructure.persistence.audit.JdbcTodoAuditHistory;
+import com.example.todo.infrastructure.persistence.audit.TodoAuditEntry;
+import com.example.todo.infrastructure.web.dto.TodoHistoryEntryDto;
+import com.example.todo.infrastructure.web.dto.TodoHistoryPage;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Serves the audit history of a todo in keyset pages. Changes are written by a background writer, so the latest
+ * one may show up a few milliseconds after the request that made it.
+ */
+@RestController
+@RequestMapping("/api/todos")
+@CrossOrigin(origins = "http://localhost:4200")
+@Tag(name = "Todo History", description = "Audit history of the changes made to todos")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "todo.audit", name = "enabled", havingValue = "true")
+public class TodoHistoryController {
+
+    static final int MAX_LIMIT = 200;
+
+    private final JdbcTodoAuditHistory auditHistory;
+
+    public TodoHistoryController(JdbcTodoAuditHistory auditHistory) {
+        this.auditHistory = auditHistory;
+    }
+
+    @Operation(
+        summary = "Get the history of a todo",
+        description = "Lists who changed the todo when and how, newest change first, also after it was deleted"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Successfully retrieved a page of the history",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = TodoHistoryPage.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Limit out of range",
+            content = @Content
+        )
+    })
+    @GetMapping("/{id}/history")
+    public ResponseEntity<TodoHistoryPage> getHistory(
+            @Parameter(description = "ID of the todo", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Only changes older than this entry, the next value of the previous page")
+            @RequestParam(required = false) Long before,
+            @Parameter(description = "Maximum number of changes, 1 to " + MAX_LIMIT)
+            @RequestParam(defaultValue = "50") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        // One more than asked tells whether there is a next page
+        List<TodoAuditEntry> entries = auditHistory.findByTodoId(id, before, limit + 1);
+        boolean more = entries.size() > limit;
+        List<TodoHistoryEntryDto> page = entries.stream()
+                .limit(limit)
+                .map(TodoHistoryController::toDto)
+                .toList();
+        return ResponseEntity.ok(TodoHistoryPage.builder()
+                .entries(page)
+                .next(more ? page.getLast().getId() : null)
+                .build());
+    }
+
+    private static TodoHistoryEntryDto toDto(TodoAuditEntry entry) {
+        return TodoHistoryEntryDto.builder()
+                .id(entry.id())
+                .action(entry.action())
+                .actor(entry.actor())
+                .at(entry.occurredAt())
+                .before(entry.before())
+                .after(entry.after())
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.todo.infrastructure.web.controller;
+
+import com.example.todo.infrastructure.importer.ImportFailedException;
+import com.example.todo.infrastructure.importer.ImportFormatException;
+import com.example.todo.infrastructure.importer.ImportListener;
+import com.example.todo.infrastructure.importer.ImportProgress;
+import com.example.todo.infrastructure.importer.TodoImporter;
+import com.example.todo.infrastructure.importer.TodoImporter.Format;
+import com.example.todo.infrastructure.web.dto.ImportRejection;
+import com.example.todo.infrastructure.web.dto.ImportStatus;
+import com.example.todo.infrastructure.web.exception.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Optional;
+
+/**
+ * Streams bulk imports in both directions: rows are read from the request body while they are imported, and a
+ * line of NDJSON is written for every rejected row and flushed after every committed chunk.
+ * <p>
+ * An import that breaks off keeps the chunks committed so far. Sending the same input again with {@code skip} set
+ * to the {@code rows} of the last progress line resumes it without importing any row twice.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/todos")
+@CrossOrigin(origins = "http://localhost:4200")
+@Tag(name = "Todo Import", description = "Bulk import of todos from CSV or NDJSON")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "todo.import", name = "enabled", havingValue = "true")
+public class TodoImportController {
+
+    static final String CSV = "text/csv";
+    static final String NDJSON = "application/x-ndjson";
+
+    private static final byte NEWLINE = '\n';
+
+    private final TodoImporter importer;
+    private final ObjectMapper objectMapper;
+
+    public TodoImportController(TodoImporter importer, ObjectMapper objectMapper) {
+        this.importer = importer;
+        this.objectMapper = objectMapper;
+    }
+
+    @Operation(
+        summary = "Import todos from CSV",
+        description = "Reads a header row naming the columns title, description, completed, dueAt, remindAt and "
+                + "tags, only title is required. Tags are comma separated within their field."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lines of rejected rows and progress, the last one with done set unless the import failed",
+            content = @Content(mediaType = NDJSON, schema = @Schema(implementation = ImportStatus.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "Malformed header or negative skip", content = @Content),
+        @ApiResponse(responseCode = "503", description = "Another import is running", content = @Content)
+    })
+    @PostMapping(value = "/import", consumes = CSV, produces = NDJSON)
+    public void importCsv(
+            @Parameter(description = "Rows to skip, the rows of the last progress line to resume an import")
+            @RequestParam(defaultValue = "0") long skip,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        importTodos(Format.CSV, skip, request, response);
+    }
+
+    @Operation(
+        summary = "Import todos from NDJSON",
+        description = "Reads one JSON object per line with the properties of a create request and completed"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lines of rejected rows and progress, the last one with done set unless the import failed",
+            content = @Content(mediaType = NDJSON, schema = @Schema(implementation = ImportStatus.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "Negative skip", content = @Content),
+        @ApiResponse(responseCode = "503", description = "Another import is running", content = @Content)
+    })
+    @PostMapping(value = "/import", consumes = NDJSON, produces = NDJSON)
+    public void importNdjson(
+            @Parameter(description = "Rows to skip, the rows of the last progress line to resume an import")
+            @RequestParam(defaultValue = "0") long skip,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        importTodos(Format.NDJSON, skip, request, response);
+    }
+
+    private void importTodos(Format format, long skip, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (skip < 0) {
+            writeError(response, HttpStatus.BAD_REQUEST, "skip must not be negative");
+            return;
+        }
+        response.setContentType(NDJSON);
+        OutputStream out = response.getOutputStream();
+        ImportListener listener = new ImportListener() {
+            @Override
+            public void rejected(long row, String error) throws IOException {
+                writeLine(out, ImportRejection.builder().row(row).error(error).build());
+            }
+
+            @Override
+            public void committed(ImportProgress progress) throws IOException {
+                writeLine(out, status(progress, false, null));
+                out.flush();
+            }
+        };
+        try {
+            Optional<ImportProgress> result = importer.tryImport(format, request.getInputStream(), skip, listener);
+            if (result.isEmpty()) {
+                writeError(response, HttpStatus.SERVICE_UNAVAILABLE, "Another import is running, retry later");
+                return;
+            }
+            writeLine(out, status(result.get(), true, null));
+        } catch (ImportFormatException e) {
+            // Thrown before the first row, nothing has been written yet
+            writeError(response, HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (ImportFailedException e) {
+            log.error("Import failed", e);
+            if (!response.isCommitted()) {
+                response.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            }
+            ImportProgress committed = e.getCommitted();
+            writeLine(out, status(committed, false, "Import failed, resume with skip=" + committed.rows()));
+        }
+    }
+
+    private static ImportStatus status(ImportProgress progress, boolean done, String error) {
+        return ImportStatus.builder()
+                .rows(progress.rows())
+                .imported(progress.imported())
+                .rejected(progress.rejected())
+                .done(done)
+                .error(error)
+                .build();
+    }
+
+    private void writeLine(OutputStream out, Object line) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(line));
+        out.write(NEWLINE);
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(objectMapper.writeValueAsBytes(ErrorResponse.of(status, message)));
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.todo.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "Request object for setting the completion status of several todos")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCompletionRequest {
+
+    @Schema(description = "IDs of the todos to update, unknown IDs are ignored", example = "[1, 2, 3]",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<Long> ids;
+
+    @Schema(description = "New completion status", example = "true", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Boolean completed;
+}
@@ -0,0 +1,18 @@
+package com.example.todo.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "Result of an operation on several todos")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkOperationResponse {
+
+    @Schema(description = "Number of todos changed or deleted", example = "3")
+    private int affected;
+}
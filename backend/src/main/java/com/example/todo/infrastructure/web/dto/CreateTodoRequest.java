@@ -6,6 +6,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Schema(description = "Request object for creating or updating a todo")
 @Data
 @NoArgsConstructor
@@ -18,4 +21,14 @@ public class CreateTodoRequest {
     
     @Schema(description = "Detailed description of the todo", example = "Milk, eggs, bread, cheese")
     private String description;
+
+    @Schema(description = "When the todo is due, none if omitted", example = "2024-01-20T17:00:00")
+    private LocalDateTime dueAt;
+
+    @Schema(description = "When a reminder fires for the todo, none if omitted", example = "2024-01-20T09:00:00")
+    private LocalDateTime remindAt;
+
+    @Schema(description = "Tags of the todo, letters, digits, '-' and '_', at most 10 of at most 32 characters",
+            example = "[\"errands\", \"home\"]")
+    private List<String> tags;
 }
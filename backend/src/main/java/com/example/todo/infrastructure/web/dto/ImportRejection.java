@@ -0,0 +1,21 @@
+package com.example.todo.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "A row of an import that was not imported")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportRejection {
+
+    @Schema(description = "Number of the row, counting from 1 after the CSV header", example = "42")
+    private long row;
+
+    @Schema(description = "Why the row was rejected", example = "Title is required")
+    private String error;
+}
@@ -0,0 +1,32 @@
+package com.example.todo.infrastructure.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "Progress of an import, sent after every committed chunk and once more at the end")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportStatus {
+
+    @Schema(description = "Rows read so far, pass it as skip to resume an interrupted import", example = "10000")
+    private long rows;
+
+    @Schema(description = "Todos imported so far", example = "9998")
+    private long imported;
+
+    @Schema(description = "Rows rejected so far", example = "2")
+    private long rejected;
+
+    @Schema(description = "Whether the whole input was imported, only on the last line", example = "true")
+    private boolean done;
+
+    @Schema(description = "Why the import stopped, only on the last line of a failed import")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String error;
+}
@@ -0,0 +1,21 @@
+package com.example.todo.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "Request object for moving a todo between two neighbours, at least one is required")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MoveTodoRequest {
+
+    @Schema(description = "ID of the todo to place it after, omit to place it right before beforeId", example = "1")
+    private Long afterId;
+
+    @Schema(description = "ID of the todo to place it before, omit to place it right after afterId", example = "2")
+    private Long beforeId;
+}
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
 @Schema(description = "Todo data transfer object")
 @Data
@@ -32,4 +33,13 @@ public class TodoDto {
     
     @Schema(description = "Timestamp when the todo was last updated", example = "2024-01-15T14:20:00")
     private LocalDateTime updatedAt;
+
+    @Schema(description = "When the todo is due", example = "2024-01-20T17:00:00")
+    private LocalDateTime dueAt;
+
+    @Schema(description = "When a reminder fires for the todo", example = "2024-01-20T09:00:00")
+    private LocalDateTime remindAt;
+
+    @Schema(description = "Tags of the todo, lower case and sorted", example = "[\"errands\", \"home\"]")
+    private Set<String> tags;
 }
@@ -0,0 +1,41 @@
+package com.example.todo.infrastructure.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "A recorded change of a todo")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoHistoryEntryDto {
+
+    @Schema(description = "Identifier of the entry, increasing with every recorded change", example = "42")
+    private long id;
+
+    @Schema(description = "What was done: CREATED, UPDATED, COMPLETED, REOPENED, MOVED or DELETED",
+            example = "UPDATED")
+    private String action;
+
+    @Schema(description = "Who did it", example = "alice")
+    private String actor;
+
+    @Schema(description = "When it was done", example = "2024-01-15T14:20:00")
+    private LocalDateTime at;
+
+    @Schema(description = "State before the change, absent for a new todo and for bulk changes. Only the sortKey "
+            + "for moves.", example = "{\"title\":\"Buy groceries\",\"completed\":false}")
+    @JsonRawValue
+    private String before;
+
+    @Schema(description = "State after the change, absent for a deleted todo and for bulk changes. Only the "
+            + "sortKey for moves.", example = "{\"title\":\"Buy groceries\",\"completed\":true}")
+    @JsonRawValue
+    private String after;
+}
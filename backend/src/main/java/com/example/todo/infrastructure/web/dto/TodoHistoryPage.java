@@ -0,0 +1,24 @@
+package com.example.todo.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Schema(description = "A page of the history of a todo, newest change first")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoHistoryPage {
+
+    @Schema(description = "Recorded changes, newest first")
+    private List<TodoHistoryEntryDto> entries;
+
+    @Schema(description = "Value of the before parameter for the next, older page, absent on the last page",
+            example = "17")
+    private Long next;
+}
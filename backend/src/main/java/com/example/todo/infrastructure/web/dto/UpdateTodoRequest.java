@@ -0,0 +1,38 @@
+package com.example.todo.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Schema(description = "Request object for updating a todo, omitted due date, reminder and tags are kept")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UpdateTodoRequest {
+
+    @Schema(description = "Title of the todo", example = "Buy groceries", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String title;
+
+    @Schema(description = "Detailed description of the todo", example = "Milk, eggs, bread, cheese")
+    private String description;
+
+    @Schema(description = "When the todo is due, unchanged if omitted", example = "2024-01-20T17:00:00")
+    private LocalDateTime dueAt;
+
+    @Schema(description = "When a reminder fires for the todo, unchanged if omitted", example = "2024-01-20T09:00:00")
+    private LocalDateTime remindAt;
+
+    @Schema(description = "Tags of the todo replacing the current ones, unchanged if omitted, an empty list removes "
+            + "all", example = "[\"errands\", \"home\"]")
+    private List<String> tags;
+
+    @Schema(description = "Fields to remove: dueAt, remindAt or tags. A field cannot be set and removed at once.",
+            example = "[\"remindAt\"]")
+    private List<String> clear;
+}
@@ -0,0 +1,25 @@
+package com.example.todo.infrastructure.web.exception;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.http.HttpStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Error body of the API, a single small object instead of a map so error paths allocate little.
+ * Shared bodies have no timestamp, which is then left out of the JSON.
+ */
+public record ErrorResponse(@JsonInclude(JsonInclude.Include.NON_NULL) LocalDateTime timestamp,
+                            int status, String error, String message) {
+
+    public static ErrorResponse of(HttpStatus status, String message) {
+        return new ErrorResponse(LocalDateTime.now(), status.value(), status.getReasonPhrase(), message);
+    }
+
+    /**
+     * A body without a timestamp, built once and shared by every response
+     */
+    public static ErrorResponse shared(HttpStatus status, String message) {
+        return new ErrorResponse(null, status.value(), status.getReasonPhrase(), message);
+    }
+}
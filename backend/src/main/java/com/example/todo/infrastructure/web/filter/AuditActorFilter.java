@@ -0,0 +1,54 @@
+package com.example.todo.infrastructure.web.filter;
+
+import com.example.todo.application.service.TodoActor;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * Sets the {@link TodoActor} recorded in the audit history for the request: the authenticated user if the
+ * container authenticated one, otherwise {@value TodoActor#ANONYMOUS}. Only when the header is trusted, the
+ * {@value #USER_HEADER} header set by an authenticating proxy in front of the application comes in between; any
+ * client could set it otherwise. Malformed header values are ignored.
+ */
+public class AuditActorFilter extends OncePerRequestFilter {
+
+    static final String USER_HEADER = "X-User";
+    private static final Pattern VALID_USER = Pattern.compile("[\\p{Alnum}._@+-]{1,64}");
+
+    private final boolean trustUserHeader;
+
+    public AuditActorFilter(boolean trustUserHeader) {
+        this.trustUserHeader = trustUserHeader;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        TodoActor.set(actorOf(request, trustUserHeader));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TodoActor.clear();
+        }
+    }
+
+    static String actorOf(HttpServletRequest request, boolean trustUserHeader) {
+        String user = request.getRemoteUser();
+        if (user != null) {
+            return user;
+        }
+        String header = trustUserHeader ? request.getHeader(USER_HEADER) : null;
+        return header != null && VALID_USER.matcher(header).matches() ? header : TodoActor.ANONYMOUS;
+    }
+}
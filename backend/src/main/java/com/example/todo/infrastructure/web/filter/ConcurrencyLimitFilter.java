@@ -0,0 +1,74 @@
+package com.example.todo.infrastructure.web.filter;
+
+import com.example.todo.infrastructure.limit.GradientConcurrencyLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Sheds API requests beyond the adaptive concurrency limit with a fast {@code 503} and {@code Retry-After},
+ * instead of letting them queue in the servlet container. Reads and writes have separate limits, so a
+ * burst of slow writes cannot block reads and vice versa. Runs before all other API filters except the
+ * {@link IdempotencyFilter}, so replays and duplicates waiting for their original do not take a permit.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements Ordered {
+
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 10;
+
+    /**
+     * Runs for minutes under its own bulkhead, its latency would collapse the write limit
+     */
+    static final String IMPORT_PATH = "/api/todos/import";
+
+    private final GradientConcurrencyLimiter reads;
+    private final GradientConcurrencyLimiter writes;
+    private final String retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(GradientConcurrencyLimiter reads, GradientConcurrencyLimiter writes,
+                                  Duration retryAfter) {
+        this.reads = reads;
+        this.writes = writes;
+        this.retryAfterSeconds = Long.toString(Math.max(1, retryAfter.toSeconds()));
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !uri.startsWith("/api/") || uri.equals(IMPORT_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean read = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+        GradientConcurrencyLimiter limiter = read ? reads : writes;
+        if (!limiter.tryAcquire()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            ErrorResponses.write(response, HttpStatus.SERVICE_UNAVAILABLE,
+                    "Too many concurrent " + (read ? "reads" : "writes") + ", retry later");
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            limiter.release(System.nanoTime() - start, dropped);
+        }
+    }
+}
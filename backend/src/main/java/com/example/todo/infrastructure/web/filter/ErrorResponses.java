@@ -0,0 +1,26 @@
+package com.example.todo.infrastructure.web.filter;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Error bodies for responses written by filters, in the format of {@code GlobalExceptionHandler}
+ */
+final class ErrorResponses {
+
+    private ErrorResponses() {
+    }
+
+    static void write(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(("{\"timestamp\":\"" + LocalDateTime.now() + "\",\"status\":" + status.value()
+                + ",\"error\":\"" + status.getReasonPhrase() + "\",\"message\":\"" + message + "\"}")
+                .getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.todo.infrastructure.web.filter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records how long after JVM start the first API request completed, published as
+ * {@code application.first-request.time} next to Spring Boot's {@code application.ready.time}
+ */
+@Slf4j
+public class FirstRequestTimingFilter extends OncePerRequestFilter {
+
+    private final AtomicLong firstRequestMillis = new AtomicLong(-1);
+    private final long jvmStartMillis;
+
+    public FirstRequestTimingFilter(MeterRegistry meterRegistry) {
+        this(meterRegistry, ManagementFactory.getRuntimeMXBean().getStartTime());
+    }
+
+    FirstRequestTimingFilter(MeterRegistry meterRegistry, long jvmStartMillis) {
+        this.jvmStartMillis = jvmStartMillis;
+        TimeGauge.builder("application.first-request.time", firstRequestMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Time from JVM start until the first API request completed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return firstRequestMillis.get() >= 0 || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long elapsed = System.currentTimeMillis() - jvmStartMillis;
+            if (firstRequestMillis.compareAndSet(-1, elapsed)) {
+                log.info("First API request completed {} ms after JVM start", elapsed);
+            }
+        }
+    }
+
+    public long getFirstRequestMillis() {
+        return firstRequestMillis.get();
+    }
+}
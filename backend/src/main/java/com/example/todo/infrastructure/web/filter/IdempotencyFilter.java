@@ -0,0 +1,264 @@
+package com.example.todo.infrastructure.web.filter;
+
+import com.example.todo.infrastructure.persistence.idempotency.IdempotencyStore;
+import com.example.todo.infrastructure.persistence.idempotency.IdempotentResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Executes a mutating API request with an {@code Idempotency-Key} header at most once.
+ * <p>
+ * Keys are scoped to the actor, method and path, so clients cannot collide with or replay each other's
+ * responses. The first response with a status below 500 is stored together with a hash of the query string and
+ * body, and replayed for every repeat without reaching the controller; a repeat with a different query string or
+ * body is rejected with {@code 422}. A duplicate arriving while the first request is still running waits for it:
+ * on the same node on its in-flight future, across nodes by polling the store. Server errors are not stored, so a
+ * retry executes again.
+ * <p>
+ * Runs before the {@link ConcurrencyLimitFilter}, replays and waiting duplicates do not take a permit.
+ * <p>
+ * Imports are not covered: their streamed progress cannot be buffered for a replay, and an interrupted import is
+ * resumed with {@code ?skip=} instead.
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter implements Ordered {
+
+    public static final int ORDER = ConcurrencyLimitFilter.ORDER - 1;
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final long POLL_INTERVAL_MILLIS = 50;
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final ConcurrentMap<String, CompletableFuture<IdempotentResponse>> inFlight = new ConcurrentHashMap<>();
+    private final IdempotencyStore store;
+    private final Duration lockTimeout;
+    private final boolean trustUserHeader;
+
+    /**
+     * @param trustUserHeader whether the actor a key belongs to may come from the audit user header, as for the
+     *                        audit history
+     */
+    public IdempotencyFilter(IdempotencyStore store, Duration lockTimeout, boolean trustUserHeader) {
+        this.store = store;
+        this.lockTimeout = lockTimeout;
+        this.trustUserHeader = trustUserHeader;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(IDEMPOTENCY_KEY_HEADER) == null
+                || !MUTATING_METHODS.contains(request.getMethod())
+                || !request.getRequestURI().startsWith("/api/")
+                || request.getRequestURI().equals(ConcurrencyLimitFilter.IMPORT_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            ErrorResponses.write(response, HttpStatus.BAD_REQUEST,
+                    IDEMPOTENCY_KEY_HEADER + " must have between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        String key = AuditActorFilter.actorOf(request, trustUserHeader) + " " + request.getMethod() + " "
+                + request.getRequestURI() + " " + idempotencyKey;
+        BufferedRequest buffered = new BufferedRequest(request);
+        String requestHash = buffered.hash();
+        long deadline = System.nanoTime() + lockTimeout.toNanos();
+
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            Optional<IdempotentResponse> stored = store.find(key);
+            if (stored.isPresent()) {
+                replay(stored.get(), requestHash, response);
+                return;
+            }
+
+            CompletableFuture<IdempotentResponse> own = new CompletableFuture<>();
+            CompletableFuture<IdempotentResponse> running = inFlight.putIfAbsent(key, own);
+            if (running != null) {
+                IdempotentResponse result = await(running, deadline);
+                if (result != null) {
+                    replay(result, requestHash, response);
+                    return;
+                }
+                // The other request failed without a response to replay, try to execute ourselves
+                continue;
+            }
+
+            try {
+                if (store.reserve(key)) {
+                    own.complete(execute(key, buffered, requestHash, response, filterChain));
+                    return;
+                }
+            } finally {
+                own.complete(null);
+                inFlight.remove(key, own);
+            }
+            // Reserved by another node, wait until it stored its response or its reservation expired
+            sleep();
+        }
+
+        ErrorResponses.write(response, HttpStatus.CONFLICT,
+                "A request with the same " + IDEMPOTENCY_KEY_HEADER + " is still in progress");
+    }
+
+    /**
+     * @return the stored response, or {@code null} when the request failed and nothing was stored
+     */
+    private IdempotentResponse execute(String key, HttpServletRequest request, String requestHash,
+                                       HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        IdempotentResponse result = null;
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                result = new IdempotentResponse(wrapper.getStatus(), wrapper.getContentType(),
+                        wrapper.getContentAsByteArray(), requestHash);
+            }
+        } finally {
+            if (result != null) {
+                store.complete(key, result);
+            } else {
+                store.release(key);
+            }
+            wrapper.copyBodyToResponse();
+        }
+        return result;
+    }
+
+    private static IdempotentResponse await(CompletableFuture<IdempotentResponse> running, long deadline) {
+        try {
+            return running.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void replay(IdempotentResponse stored, String requestHash, HttpServletResponse response)
+            throws IOException {
+        if (stored.requestHash() != null && !stored.requestHash().equals(requestHash)) {
+            ErrorResponses.write(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                    IDEMPOTENCY_KEY_HEADER + " was already used for a different request");
+            return;
+        }
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    /**
+     * Reads the body up front so it can be hashed, and serves it again to the rest of the chain
+     */
+    private static final class BufferedRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private BufferedRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        private String hash() {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                String query = getQueryString();
+                digest.update((query != null ? query : "").getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+                return HexFormat.of().formatHex(digest.digest(body));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("The body is already buffered");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
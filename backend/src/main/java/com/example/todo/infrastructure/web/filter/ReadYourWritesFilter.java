@@ -0,0 +1,85 @@
+package com.example.todo.infrastructure.web.filter;
+
+import com.example.todo.infrastructure.persistence.routing.ReadYourWritesContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps a client's reads on the primary database for a while after it changed data.
+ * A mutating request sets a cookie holding the time until which the client is pinned,
+ * so stickiness survives across instances without any server-side state.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String COOKIE_NAME = "TODO_PRIMARY_UNTIL";
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final Duration stickiness;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(Duration stickiness) {
+        this(stickiness, Clock.systemUTC());
+    }
+
+    ReadYourWritesFilter(Duration stickiness, Clock clock) {
+        this.stickiness = stickiness;
+        this.clock = clock;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = clock.millis();
+        if (MUTATING_METHODS.contains(request.getMethod())) {
+            response.addCookie(pinnedUntil(now + stickiness.toMillis()));
+            ReadYourWritesContext.pinToPrimary();
+        } else if (pinnedUntil(request) > now) {
+            ReadYourWritesContext.pinToPrimary();
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    private Cookie pinnedUntil(long epochMillis) {
+        Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(epochMillis));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, stickiness.toSeconds()));
+        return cookie;
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.todo.infrastructure.web.filter;
+
+import com.example.todo.infrastructure.persistence.instrumentation.StatementCapture;
+import com.example.todo.infrastructure.persistence.instrumentation.StatementLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Captures the JDBC statements of every API request, publishes {@code todo.jdbc.statements.per-request} per route
+ * and reports N+1 patterns as warnings and as {@code todo.jdbc.n-plus-one}.
+ * <p>
+ * Statements that run on another thread, e.g. the group commit writer, are not attributed to the request.
+ */
+@Slf4j
+public class StatementStatisticsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+
+    public StatementStatisticsFilter(MeterRegistry meterRegistry, int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        try (StatementCapture capture = StatementCapture.start()) {
+            filterChain.doFilter(request, response);
+            report(request, capture.log());
+        }
+    }
+
+    private void report(HttpServletRequest request, StatementLog statements) {
+        String route = route(request);
+        DistributionSummary.builder("todo.jdbc.statements.per-request")
+                .description("JDBC round trips per API request")
+                .tag("method", request.getMethod())
+                .tag("route", route)
+                .register(meterRegistry)
+                .record(statements.count());
+
+        for (StatementLog.Finding finding : statements.findings(nPlusOneThreshold)) {
+            Counter.builder("todo.jdbc.n-plus-one")
+                    .description("Requests with repeated or redundant selects")
+                    .tag("kind", finding.kind().name())
+                    .tag("table", finding.shape().table())
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} on {} {}: {} x {}", finding.kind(), request.getMethod(), route,
+                    finding.executions(), finding.shape().sql());
+        }
+    }
+
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.todo.infrastructure.web.mapper;
+
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoField;
+import com.example.todo.infrastructure.web.dto.TodoDto;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes todos as JSON objects with only the requested fields, named and formatted like {@link TodoDto}.
+ * <p>
+ * Streams straight from the domain objects into the generator, no DTO or map is built per todo.
+ */
+@Component
+public class SparseTodoWriter {
+
+    private static final Map<TodoField, SerializableString> NAMES = new EnumMap<>(TodoField.class);
+
+    static {
+        for (TodoField field : TodoField.values()) {
+            NAMES.put(field, new SerializedString(field.property()));
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+
+    public SparseTodoWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return a JSON array of the todos
+     */
+    public byte[] write(List<Todo> todos, Set<TodoField> fields) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 + todos.size() * 16 * fields.size());
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.writeStartArray();
+            for (Todo todo : todos) {
+                write(generator, todo, fields);
+            }
+            generator.writeEndArray();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * @return a JSON object of the todo
+     */
+    public byte[] write(Todo todo, Set<TodoField> fields) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(32 * fields.size());
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            write(generator, todo, fields);
+        }
+        return out.toByteArray();
+    }
+
+    private static void write(JsonGenerator generator, Todo todo, Set<TodoField> fields) {
+        generator.writeStartObject();
+        for (TodoField field : fields) {
+            generator.writeName(NAMES.get(field));
+            switch (field) {
+                case ID -> {
+                    if (todo.getId() == null) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeNumber(todo.getId());
+                    }
+                }
+                case TITLE -> generator.writeString(todo.getTitle());
+                case DESCRIPTION -> generator.writeString(todo.getDescription());
+                case COMPLETED -> generator.writeBoolean(todo.isCompleted());
+                // Through the configured serializer, so timestamps look the same as in full responses
+                case CREATED_AT -> generator.writePOJO(todo.getCreatedAt());
+                case UPDATED_AT -> generator.writePOJO(todo.getUpdatedAt());
+                case DUE_AT -> generator.writePOJO(todo.getDueAt());
+                case REMIND_AT -> generator.writePOJO(todo.getRemindAt());
+                case TAGS -> generator.writePOJO(todo.getTags());
+            }
+        }
+        generator.writeEndObject();
+    }
+}
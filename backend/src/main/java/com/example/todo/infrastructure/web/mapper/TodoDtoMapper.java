@@ -15,6 +15,9 @@ public class TodoDtoMapper {
                 .completed(todo.isCompleted())
                 .createdAt(todo.getCreatedAt())
                 .updatedAt(todo.getUpdatedAt())
+                .dueAt(todo.getDueAt())
+                .remindAt(todo.getRemindAt())
+                .tags(todo.getTags())
                 .build();
     }
 }
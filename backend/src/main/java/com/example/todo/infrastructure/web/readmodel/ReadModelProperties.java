@@ -0,0 +1,20 @@
+package com.example.todo.infrastructure.web.readmodel;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * In-memory read model serving the todo list, for a single node only
+ *
+ * @param enabled         whether list and single todo reads are served from the read model, keep it off when
+ *                        several nodes write: their changes would be served stale until the next rebuild
+ * @param rebuildInterval delay between two full rebuilds, which pick up changes made outside {@code TodoService},
+ *                        such as direct database changes
+ */
+@ConfigurationProperties(prefix = "todo.read-model")
+public record ReadModelProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("1m") Duration rebuildInterval) {
+}
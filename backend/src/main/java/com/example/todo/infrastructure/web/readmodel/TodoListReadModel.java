@@ -0,0 +1,314 @@
+package com.example.todo.infrastructure.web.readmodel;
+
+import com.example.todo.application.service.TodosChangedEvent;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.port.TodoRepository;
+import com.example.todo.infrastructure.web.mapper.TodoDtoMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized JSON of every todo and of the whole list, kept in memory so reads do not touch the database.
+ * <p>
+ * Mutations of {@code TodoService} publish a {@link TodosChangedEvent}. After commit the changed ids are queued
+ * and the change version is incremented, so the next read sees that the current {@link Snapshot} is stale. That
+ * read reloads only the queued todos with one query, re-serializes them and swaps in a new immutable snapshot
+ * tagged with the change version it covers. Reloads run one at a time and always after the commits they cover,
+ * so the last reload of a todo sees its last committed state whatever order concurrent writers commit in.
+ * <p>
+ * Changes made outside {@code TodoService} are picked up by the full rebuild every
+ * {@code todo.read-model.rebuild-interval}. Nothing tells a node about the writes of another, so the read model
+ * is for a single node only; behind a load balancer a read could miss a write for a whole interval.
+ */
+@Slf4j
+public class TodoListReadModel {
+
+    private static final long NO_CHANGE = Long.MIN_VALUE;
+    private static final Comparator<Fragment> LIST_ORDER = Comparator
+            .comparing(Fragment::sortKey, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparingLong(Fragment::id);
+
+    private final TodoRepository todoRepository;
+    private final TodoDtoMapper todoDtoMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionOperations transactionOperations;
+    private final Set<Long> changedIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+    private final AtomicLong changeVersion = new AtomicLong();
+    private final AtomicLong oldestChangeNanos = new AtomicLong(NO_CHANGE);
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final Timer lag;
+    private final Counter incrementalRefreshes;
+    private final Counter fullRebuilds;
+    private volatile Snapshot snapshot;
+
+    /**
+     * @param transactionOperations runs the reloads, a read-write transaction keeps them on the primary
+     *                              when read replicas are enabled
+     */
+    public TodoListReadModel(TodoRepository todoRepository, TodoDtoMapper todoDtoMapper, ObjectMapper objectMapper,
+                             TransactionOperations transactionOperations, MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        this.todoDtoMapper = todoDtoMapper;
+        this.objectMapper = objectMapper;
+        this.transactionOperations = transactionOperations;
+        this.lag = Timer.builder("todo.read-model.lag")
+                .description("Time from the commit of a change until reads see it")
+                .register(meterRegistry);
+        this.incrementalRefreshes = Counter.builder("todo.read-model.refreshes")
+                .description("Snapshots built by the read model")
+                .tag("type", "incremental")
+                .register(meterRegistry);
+        this.fullRebuilds = Counter.builder("todo.read-model.refreshes")
+                .description("Snapshots built by the read model")
+                .tag("type", "full")
+                .register(meterRegistry);
+        Gauge.builder("todo.read-model.pending", this, TodoListReadModel::pendingChanges)
+                .description("Committed changes the current snapshot does not contain yet")
+                .register(meterRegistry);
+        TimeGauge.builder("todo.read-model.staleness", this, TimeUnit.NANOSECONDS, TodoListReadModel::stalenessNanos)
+                .description("Age of the oldest committed change the current snapshot does not contain yet")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues the changed todos for the next read, runs after commit so rolled back changes are never seen
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodosChanged(TodosChangedEvent event) {
+        if (event.allTodos()) {
+            rebuildRequested.set(true);
+        } else {
+            changedIds.addAll(event.ids());
+        }
+        oldestChangeNanos.compareAndSet(NO_CHANGE, System.nanoTime());
+        // Incremented last: a refresh covering this version has the ids queued above
+        changeVersion.incrementAndGet();
+    }
+
+    /**
+     * @return a snapshot containing every change committed before this call
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null && current.version() >= changeVersion.get()) {
+            return current;
+        }
+        return refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${todo.read-model.rebuild-interval:1m}",
+            initialDelayString = "${todo.read-model.rebuild-interval:1m}")
+    public void rebuild() {
+        rebuildRequested.set(true);
+        changeVersion.incrementAndGet();
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.error("Error rebuilding the todo read model", e);
+        }
+    }
+
+    private Snapshot refresh() {
+        refreshLock.lock();
+        try {
+            long version = changeVersion.get();
+            Snapshot current = snapshot;
+            if (current != null && current.version() >= version) {
+                // Refreshed by another thread while this one was waiting
+                return current;
+            }
+            long since = oldestChangeNanos.getAndSet(NO_CHANGE);
+            boolean full = rebuildRequested.getAndSet(false) || current == null;
+            Set<Long> ids = drainChangedIds();
+            Snapshot next;
+            try {
+                next = full ? build(version) : apply(current, ids, version);
+            } catch (RuntimeException e) {
+                // Keep the changes queued for the next read
+                changedIds.addAll(ids);
+                rebuildRequested.compareAndSet(false, full);
+                oldestChangeNanos.compareAndSet(NO_CHANGE, since);
+                throw e;
+            }
+            snapshot = next;
+            if (since != NO_CHANGE) {
+                lag.record(System.nanoTime() - since, TimeUnit.NANOSECONDS);
+            }
+            (full ? fullRebuilds : incrementalRefreshes).increment();
+            return next;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private Snapshot build(long version) {
+        List<Todo> todos = transactionOperations.execute(status -> todoRepository.findAll());
+        List<Fragment> fragments = new ArrayList<>(todos.size());
+        for (Todo todo : todos) {
+            fragments.add(fragment(todo));
+        }
+        fragments.sort(LIST_ORDER);
+        log.debug("Rebuilt the todo read model with {} todos", fragments.size());
+        return new Snapshot(version, fragments);
+    }
+
+    /**
+     * Replaces the fragments of the changed todos, todos that no longer exist are dropped
+     */
+    private Snapshot apply(Snapshot current, Set<Long> ids, long version) {
+        if (ids.isEmpty()) {
+            return new Snapshot(version, current.fragments);
+        }
+        List<Todo> todos = transactionOperations.execute(status -> todoRepository.findAllById(ids));
+        List<Fragment> fragments = new ArrayList<>(current.fragments.size() + todos.size());
+        for (Fragment fragment : current.fragments) {
+            if (!ids.contains(fragment.id())) {
+                fragments.add(fragment);
+            }
+        }
+        for (Todo todo : todos) {
+            fragments.add(fragment(todo));
+        }
+        // Nearly sorted, new and moved todos are appended at the end
+        fragments.sort(LIST_ORDER);
+        return new Snapshot(version, fragments);
+    }
+
+    private Set<Long> drainChangedIds() {
+        Set<Long> ids = new HashSet<>();
+        for (Iterator<Long> iterator = changedIds.iterator(); iterator.hasNext(); ) {
+            ids.add(iterator.next());
+            iterator.remove();
+        }
+        return ids;
+    }
+
+    private Fragment fragment(Todo todo) {
+        return new Fragment(todo.getId(), todo.getSortKey(),
+                objectMapper.writeValueAsBytes(todoDtoMapper.toDto(todo)));
+    }
+
+    private double pendingChanges() {
+        Snapshot current = snapshot;
+        return changeVersion.get() - (current != null ? current.version() : 0);
+    }
+
+    private double stalenessNanos() {
+        long since = oldestChangeNanos.get();
+        return since == NO_CHANGE ? 0 : System.nanoTime() - since;
+    }
+
+    private record Fragment(long id, String sortKey, byte[] json) {
+    }
+
+    /**
+     * Immutable state of the read model, the returned arrays are shared and must not be modified
+     */
+    public static final class Snapshot {
+
+        private final long version;
+        private final List<Fragment> fragments;
+        private final Map<Long, byte[]> todos;
+        private final byte[] json;
+        private volatile byte[] gzip;
+
+        private Snapshot(long version, List<Fragment> fragments) {
+            this.version = version;
+            this.fragments = fragments;
+            this.todos = HashMap.newHashMap(fragments.size());
+            int length = Math.max(2, fragments.size() + 1);
+            for (Fragment fragment : fragments) {
+                todos.put(fragment.id(), fragment.json());
+                length += fragment.json().length;
+            }
+            this.json = join(fragments, length);
+        }
+
+        public long version() {
+            return version;
+        }
+
+        /**
+         * @return the JSON array of all todos in list order
+         */
+        public byte[] json() {
+            return json;
+        }
+
+        /**
+         * @return {@link #json()} gzip compressed, compressed on first use
+         */
+        public byte[] gzip() {
+            byte[] compressed = gzip;
+            if (compressed == null) {
+                compressed = compress(json);
+                gzip = compressed;
+            }
+            return compressed;
+        }
+
+        /**
+         * @return the JSON object of the todo, empty if it did not exist when the snapshot was built
+         */
+        public Optional<byte[]> todo(Long id) {
+            return Optional.ofNullable(todos.get(id));
+        }
+
+        public int size() {
+            return fragments.size();
+        }
+
+        private static byte[] join(List<Fragment> fragments, int length) {
+            byte[] json = new byte[length];
+            int position = 0;
+            json[position++] = '[';
+            for (Fragment fragment : fragments) {
+                if (position > 1) {
+                    json[position++] = ',';
+                }
+                System.arraycopy(fragment.json(), 0, json, position, fragment.json().length);
+                position += fragment.json().length;
+            }
+            json[position] = ']';
+            return json;
+        }
+
+        private static byte[] compress(byte[] json) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(json);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,3 @@
+-- Hash of the query string and body of the request a response belongs to, so a key reused for another request is
+-- rejected instead of replaying the wrong response. NULL for responses stored before.
+ALTER TABLE idempotency_keys ADD COLUMN request_hash VARCHAR(64);
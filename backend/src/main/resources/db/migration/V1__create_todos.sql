@@ -0,0 +1,10 @@
+CREATE SEQUENCE todo_sequence START WITH 1 INCREMENT BY 1;
+
+CREATE TABLE todos (
+    id          BIGINT        NOT NULL PRIMARY KEY,
+    title       VARCHAR(255)  NOT NULL,
+    description VARCHAR(1000),
+    completed   BOOLEAN       NOT NULL,
+    created_at  TIMESTAMP(6)  NOT NULL,
+    updated_at  TIMESTAMP(6)  NOT NULL
+);
@@ -0,0 +1,11 @@
+-- Responses of requests with an Idempotency-Key header, used by the jdbc idempotency store.
+-- A row without status is a reservation of an in-flight request.
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(400) NOT NULL PRIMARY KEY,
+    status          INTEGER,
+    content_type    VARCHAR(255),
+    body            VARBINARY(1048576),
+    expires_at      TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
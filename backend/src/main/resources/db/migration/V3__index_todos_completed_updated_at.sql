@@ -0,0 +1,2 @@
+-- Lets the retention purger find and delete the oldest completed todos without scanning the table
+CREATE INDEX idx_todos_completed_updated_at ON todos (completed, updated_at);
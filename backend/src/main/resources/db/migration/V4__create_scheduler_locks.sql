@@ -0,0 +1,8 @@
+-- Leases of the jdbc lease lock, one row per lock name.
+-- Rows are never deleted so the fencing token keeps increasing across holders.
+CREATE TABLE scheduler_locks (
+    lock_name     VARCHAR(100) NOT NULL PRIMARY KEY,
+    owner         VARCHAR(255) NOT NULL,
+    fencing_token BIGINT       NOT NULL,
+    expires_at    TIMESTAMP(6) NOT NULL
+);
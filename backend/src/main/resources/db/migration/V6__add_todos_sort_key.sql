@@ -0,0 +1,16 @@
+-- Manual order of the list as fractional index keys, see SortKeys. Existing todos keep their creation order
+-- with keys 'd' followed by four base 62 digits of their rank. Rows inserted without a key sort first until the
+-- rebalancer gives them one.
+ALTER TABLE todos ADD COLUMN sort_key VARCHAR(255);
+
+MERGE INTO todos t
+USING (SELECT id, ROW_NUMBER() OVER (ORDER BY created_at, id) AS row_rank FROM todos) r
+ON t.id = r.id
+WHEN MATCHED THEN UPDATE SET sort_key = 'd'
+    || SUBSTRING('0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz', MOD(r.row_rank / 238328, 62) + 1, 1)
+    || SUBSTRING('0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz', MOD(r.row_rank / 3844, 62) + 1, 1)
+    || SUBSTRING('0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz', MOD(r.row_rank / 62, 62) + 1, 1)
+    || SUBSTRING('0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz', MOD(r.row_rank, 62) + 1, 1);
+
+-- Serves the list order and the neighbour lookups of a move from the index
+CREATE INDEX idx_todos_sort_key ON todos (sort_key, id);
@@ -0,0 +1,6 @@
+-- Due date and reminder of a todo, both optional
+ALTER TABLE todos ADD COLUMN due_at TIMESTAMP(6);
+ALTER TABLE todos ADD COLUMN remind_at TIMESTAMP(6);
+
+-- Serves the window query that loads upcoming reminders into the timing wheel
+CREATE INDEX idx_todos_remind_at ON todos (remind_at, completed);
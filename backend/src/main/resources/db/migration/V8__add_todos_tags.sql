@@ -0,0 +1,2 @@
+-- Tags of a todo, normalized and comma separated, queried through the in-memory tag index
+ALTER TABLE todos ADD COLUMN tags VARCHAR(400);
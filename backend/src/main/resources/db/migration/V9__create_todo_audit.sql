@@ -0,0 +1,14 @@
+-- Append-only audit history of the changes made through TodoService, written in batches by the audit writer.
+-- todo_id is NULL for statements changing the todos selected by a predicate, the states are JSON.
+CREATE TABLE todo_audit (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    todo_id      BIGINT,
+    action       VARCHAR(32)  NOT NULL,
+    actor        VARCHAR(64)  NOT NULL,
+    occurred_at  TIMESTAMP(6) NOT NULL,
+    before_state CHARACTER LARGE OBJECT,
+    after_state  CHARACTER LARGE OBJECT
+);
+
+-- Serves the keyset pages of GET /api/todos/{id}/history, newest first
+CREATE INDEX idx_todo_audit_todo_id ON todo_audit (todo_id, id);
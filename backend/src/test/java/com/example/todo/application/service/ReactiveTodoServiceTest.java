@@ -0,0 +1,124 @@
+package com.example.todo.application.service;
+
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.port.ReactiveTodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveTodoServiceTest {
+
+    @Mock
+    private ReactiveTodoRepository todoRepository;
+
+    @InjectMocks
+    private ReactiveTodoService todoService;
+
+    private Todo testTodo;
+
+    @BeforeEach
+    void setUp() {
+        testTodo = new Todo("Test Todo", "Test Description");
+        testTodo.setId(1L);
+    }
+
+    @Test
+    void shouldCreateTodoOnSubscription() {
+        // Given
+        when(todoRepository.findLastSortKey()).thenReturn(Mono.just("a5"));
+        when(todoRepository.save(any(Todo.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        // When
+        Mono<Todo> result = todoService.createTodo("New Todo", "New Description");
+
+        // Then
+        verifyNoInteractions(todoRepository);
+        StepVerifier.create(result)
+                .expectNextMatches(todo -> todo.getTitle().equals("New Todo") && !todo.isCompleted()
+                        && todo.getSortKey().compareTo("a5") > 0)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldStreamAllTodos() {
+        // Given
+        when(todoRepository.findAll()).thenReturn(Flux.just(testTodo, new Todo("Another", "Todo")));
+
+        // When & Then
+        StepVerifier.create(todoService.getAllTodos())
+                .expectNext(testTodo)
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFailWithNotFoundWhenTodoDoesNotExist() {
+        // Given
+        when(todoRepository.findById(99L)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(todoService.getTodoById(99L))
+                .expectError(TodoNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldUpdateTodo() {
+        // Given
+        when(todoRepository.findById(1L)).thenReturn(Mono.just(testTodo));
+        when(todoRepository.save(testTodo)).thenReturn(Mono.just(testTodo));
+
+        // When & Then
+        StepVerifier.create(todoService.updateTodo(1L, "Updated", "Updated Description"))
+                .expectNextMatches(todo -> todo.getTitle().equals("Updated"))
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldToggleCompletionBothWays() {
+        // Given
+        when(todoRepository.findById(1L)).thenReturn(Mono.just(testTodo));
+        when(todoRepository.save(testTodo)).thenReturn(Mono.just(testTodo));
+
+        // When & Then
+        StepVerifier.create(todoService.toggleTodoCompletion(1L))
+                .expectNextMatches(Todo::isCompleted)
+                .verifyComplete();
+        StepVerifier.create(todoService.toggleTodoCompletion(1L))
+                .expectNextMatches(todo -> !todo.isCompleted())
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldDeleteExistingTodo() {
+        // Given
+        when(todoRepository.existsById(1L)).thenReturn(Mono.just(true));
+        when(todoRepository.deleteById(1L)).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(todoService.deleteTodo(1L)).verifyComplete();
+        verify(todoRepository).deleteById(1L);
+    }
+
+    @Test
+    void shouldNotDeleteMissingTodo() {
+        // Given
+        when(todoRepository.existsById(99L)).thenReturn(Mono.just(false));
+
+        // When & Then
+        StepVerifier.create(todoService.deleteTodo(99L))
+                .expectError(TodoNotFoundException.class)
+                .verify();
+        verify(todoRepository, never()).deleteById(any());
+    }
+}
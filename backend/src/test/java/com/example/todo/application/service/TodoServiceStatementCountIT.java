@@ -0,0 +1,182 @@
+package com.example.todo.application.service;
+
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.port.TodoRepository;
+import com.example.todo.infrastructure.persistence.adapter.TodoPersistenceAdapter;
+import com.example.todo.infrastructure.persistence.idfilter.BloomTodoIdFilter;
+import com.example.todo.infrastructure.persistence.idfilter.IdFilterProperties;
+import com.example.todo.infrastructure.persistence.instrumentation.InstrumentedDataSourcePostProcessor;
+import com.example.todo.infrastructure.persistence.instrumentation.QueryInstrumentationListener;
+import com.example.todo.infrastructure.persistence.mapper.TodoMapper;
+import com.example.todo.infrastructure.persistence.repository.JpaTodoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.example.todo.infrastructure.persistence.instrumentation.StatementLogAssert.assertThatStatementsOf;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Round trips per use case. A change here is a change in database load per request, update the
+ * expectations only on purpose.
+ */
+@DataJpaTest
+@Import({TodoService.class, TransactionalTodoWriteExecutor.class, TodoPersistenceAdapter.class, TodoMapper.class,
+        TodoServiceStatementCountIT.InstrumentationConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+class TodoServiceStatementCountIT {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private JpaTodoRepository jpaTodoRepository;
+
+    @Autowired
+    private BloomTodoIdFilter idFilter;
+
+    private Long id;
+
+    @TestConfiguration
+    static class InstrumentationConfig {
+
+        @Bean
+        static InstrumentedDataSourcePostProcessor instrumentedDataSourcePostProcessor(
+                ObjectProvider<QueryInstrumentationListener> listener) {
+            return new InstrumentedDataSourcePostProcessor(listener);
+        }
+
+        @Bean
+        QueryInstrumentationListener queryInstrumentationListener() {
+            return new QueryInstrumentationListener(new SimpleMeterRegistry(), Duration.ofSeconds(1));
+        }
+
+        @Bean
+        BloomTodoIdFilter bloomTodoIdFilter(TodoRepository todoRepository,
+                                            PlatformTransactionManager transactionManager) {
+            return new BloomTodoIdFilter(todoRepository, new TransactionTemplate(transactionManager),
+                    new IdFilterProperties(true, 0.0001, Duration.ofMinutes(10)), new SimpleMeterRegistry());
+        }
+
+        @Bean
+        TodoTagIndex todoTagIndex() {
+            return TodoTagIndex.NONE;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jpaTodoRepository.deleteAll();
+        id = todoService.createTodo("Existing", "Description").getId();
+        idFilter.rebuild();
+    }
+
+    @Test
+    void createTodoDrawsAnIdAndInserts() {
+        assertThatStatementsOf(() -> todoService.createTodo("New", null))
+                .hasCount(2)
+                .hasCount("select", 1)
+                .hasCount("insert", 1);
+    }
+
+    @Test
+    void getAllTodosIsASingleSelect() {
+        // Given
+        todoService.createTodo("Second", null);
+
+        // When & Then
+        assertThatStatementsOf(() -> todoService.getAllTodos())
+                .hasCount(1)
+                .hasNoNPlusOne();
+    }
+
+    @Test
+    void getTodoByIdIsASingleSelect() {
+        assertThatStatementsOf(() -> todoService.getTodoById(id))
+                .hasCount(1);
+    }
+
+    @Test
+    void unknownIdsBelowTheHighestIdNeverReachTheDatabase() {
+        // Given
+        Long deletedBeforeRebuild = todoService.createTodo("Deleted", null).getId();
+        todoService.deleteTodo(deletedBeforeRebuild);
+        todoService.createTodo("Newest", null);
+        idFilter.rebuild();
+
+        // When & Then
+        assertThatStatementsOf(() -> assertThatThrownBy(() -> todoService.getTodoById(deletedBeforeRebuild))
+                .isInstanceOf(TodoNotFoundException.class))
+                .hasCount(0);
+        assertThatStatementsOf(() -> assertThatThrownBy(() -> todoService.deleteTodo(deletedBeforeRebuild))
+                .isInstanceOf(TodoNotFoundException.class))
+                .hasCount(0);
+    }
+
+    @Test
+    void updateTodoMergesIntoTheLoadedEntityWithoutASecondSelect() {
+        assertThatStatementsOf(() -> todoService.updateTodo(id, "Updated", null))
+                .hasCount(2)
+                .hasCount("select", 1)
+                .hasCount("update", 1)
+                .hasNoNPlusOne();
+    }
+
+    @Test
+    void toggleTodoCompletionMergesIntoTheLoadedEntityWithoutASecondSelect() {
+        assertThatStatementsOf(() -> todoService.toggleTodoCompletion(id))
+                .hasCount(2)
+                .hasCount("select", 1)
+                .hasCount("update", 1);
+    }
+
+    @Test
+    void deleteTodoReadsTheRowOnceBeforeDeleting() {
+        // The findById inside JpaRepository.deleteById finds the row loaded for the audit history
+        assertThatStatementsOf(() -> todoService.deleteTodo(id))
+                .hasCount(2)
+                .hasCount("select", 1)
+                .hasCount("delete", 1)
+                .hasNoNPlusOne();
+    }
+
+    @Test
+    void bulkCompletionIsASingleUpdate() {
+        // Given
+        Long second = todoService.createTodo("Second", null).getId();
+
+        // When & Then
+        assertThatStatementsOf(() -> todoService.setTodosCompletion(List.of(id, second), true))
+                .hasCount(1)
+                .hasCount("update", 1);
+        assertThatStatementsOf(() -> todoService.completeAllTodos())
+                .hasCount(1)
+                .hasCount("update", 1);
+    }
+
+    @Test
+    void clearCompletedIsASingleDelete() {
+        // Given
+        todoService.toggleTodoCompletion(id);
+
+        // When & Then
+        assertThatStatementsOf(() -> todoService.deleteCompletedTodos())
+                .hasCount(1)
+                .hasCount("delete", 1);
+    }
+}
@@ -5,16 +5,23 @@ import com.example.todo.domain.port.TodoRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,6 +30,18 @@ class TodoServiceTest {
     @Mock
     private TodoRepository todoRepository;
 
+    @Mock
+    private TodoIdFilter idFilter;
+
+    @Mock
+    private TodoTagIndex tagIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private TodoWriteExecutor writeExecutor = new TransactionalTodoWriteExecutor();
+
     @InjectMocks
     private TodoService todoService;
 
@@ -32,6 +51,7 @@ class TodoServiceTest {
     void setUp() {
         testTodo = new Todo("Test Todo", "Test Description");
         testTodo.setId(1L);
+        lenient().when(idFilter.mightExist(anyLong())).thenReturn(true);
     }
 
     @Test
@@ -47,6 +67,22 @@ class TodoServiceTest {
         // Then
         assertNotNull(result);
         verify(todoRepository, times(1)).save(any(Todo.class));
+        verify(eventPublisher).publishEvent(TodosChangedEvent.of(1L));
+    }
+
+    @Test
+    void shouldAppendNewTodosAfterTheLastSortKey() {
+        // Given
+        when(todoRepository.findLastSortKey()).thenReturn(Optional.of("a5"));
+        when(todoRepository.save(any(Todo.class))).thenReturn(testTodo);
+        ArgumentCaptor<Todo> saved = ArgumentCaptor.forClass(Todo.class);
+
+        // When
+        todoService.createTodo("New Todo", null);
+
+        // Then
+        verify(todoRepository).save(saved.capture());
+        assertTrue(saved.getValue().getSortKey().startsWith("a6"));
     }
 
     @Test
@@ -63,6 +99,40 @@ class TodoServiceTest {
         verify(todoRepository, times(1)).findAll();
     }
 
+    @Test
+    void shouldReadTodosFoundByTheTagIndexById() {
+        // Given
+        testTodo.setTags(Set.of("home"));
+        Todo retagged = new Todo("Retagged", null);
+        retagged.setId(2L);
+        when(tagIndex.find(Set.of("home"), false)).thenReturn(Optional.of(List.of(1L, 2L)));
+        when(todoRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(testTodo, retagged));
+
+        // When
+        List<Todo> result = todoService.findTodos(Set.of("home"), false);
+
+        // Then
+        assertEquals(List.of(testTodo), result);
+        verify(todoRepository, never()).findAll();
+    }
+
+    @Test
+    void shouldFilterAllTodosWithoutTagIndex() {
+        // Given
+        testTodo.setTags(Set.of("home"));
+        Todo completed = new Todo("Completed", null);
+        completed.setTags(Set.of("home"));
+        completed.markAsCompleted();
+        when(tagIndex.find(Set.of("home"), false)).thenReturn(Optional.empty());
+        when(todoRepository.findAll()).thenReturn(List.of(testTodo, completed, new Todo("Untagged", null)));
+
+        // When
+        List<Todo> result = todoService.findTodos(Set.of("home"), false);
+
+        // Then
+        assertEquals(List.of(testTodo), result);
+    }
+
     @Test
     void shouldGetTodoById() {
         // Given
@@ -78,6 +148,20 @@ class TodoServiceTest {
         verify(todoRepository, times(1)).findById(id);
     }
 
+    @Test
+    void shouldRejectIdsRuledOutByTheFilterWithoutQuerying() {
+        // Given
+        Long id = 999L;
+        when(idFilter.mightExist(id)).thenReturn(false);
+
+        // When & Then
+        TodoNotFoundException exception = assertThrows(TodoNotFoundException.class, () -> todoService.getTodoById(id));
+        assertEquals("Todo not found with id: 999", exception.getMessage());
+        assertThrows(TodoNotFoundException.class, () -> todoService.toggleTodoCompletion(id));
+        assertThrows(TodoNotFoundException.class, () -> todoService.deleteTodo(id));
+        verifyNoInteractions(todoRepository, writeExecutor, eventPublisher);
+    }
+
     @Test
     void shouldThrowExceptionWhenTodoNotFound() {
         // Given
@@ -107,6 +191,49 @@ class TodoServiceTest {
         verify(todoRepository, times(1)).save(testTodo);
     }
 
+    @Test
+    void shouldAuditTheStateBeforeAndAfterAnUpdateWithTheActorOfTheCallingThread() {
+        // Given
+        when(todoRepository.findById(1L)).thenReturn(Optional.of(testTodo));
+        when(todoRepository.save(testTodo)).thenReturn(testTodo);
+        TodoActor.set("alice");
+
+        // When
+        try {
+            todoService.updateTodo(1L, "Updated Title", "Updated Description");
+        } finally {
+            TodoActor.clear();
+        }
+
+        // Then
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        TodoAuditEvent audit = (TodoAuditEvent) events.getAllValues().get(1);
+        assertEquals(1L, audit.todoId());
+        assertEquals(TodoAuditEvent.Action.UPDATED, audit.action());
+        assertEquals("alice", audit.actor());
+        assertEquals("Test Todo", audit.before().getTitle());
+        assertEquals("Updated Title", audit.after().getTitle());
+    }
+
+    @Test
+    void shouldAuditDeletionWithTheDeletedState() {
+        // Given
+        when(todoRepository.findById(1L)).thenReturn(Optional.of(testTodo));
+
+        // When
+        todoService.deleteTodo(1L);
+
+        // Then
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        TodoAuditEvent audit = (TodoAuditEvent) events.getAllValues().get(1);
+        assertEquals(TodoAuditEvent.Action.DELETED, audit.action());
+        assertEquals(TodoActor.ANONYMOUS, audit.actor());
+        assertSame(testTodo, audit.before());
+        assertNull(audit.after());
+    }
+
     @Test
     void shouldToggleTodoFromIncompleteToComplete() {
         // Given
@@ -143,25 +270,162 @@ class TodoServiceTest {
     void shouldDeleteTodo() {
         // Given
         Long id = 1L;
-        when(todoRepository.existsById(id)).thenReturn(true);
+        when(todoRepository.findById(id)).thenReturn(Optional.of(testTodo));
 
         // When
         todoService.deleteTodo(id);
 
         // Then
-        verify(todoRepository, times(1)).existsById(id);
+        verify(todoRepository, times(1)).findById(id);
         verify(todoRepository, times(1)).deleteById(id);
+        verify(eventPublisher).publishEvent(TodosChangedEvent.of(id));
     }
 
     @Test
     void shouldThrowExceptionWhenDeletingNonExistentTodo() {
         // Given
         Long id = 999L;
-        when(todoRepository.existsById(id)).thenReturn(false);
+        when(todoRepository.findById(id)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(TodoNotFoundException.class, () -> todoService.deleteTodo(id));
-        verify(todoRepository, times(1)).existsById(id);
+        verify(todoRepository, times(1)).findById(id);
         verify(todoRepository, never()).deleteById(id);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldSetCompletionOfSeveralTodosInOneWrite() {
+        // Given
+        when(todoRepository.updateCompleted(eq(List.of(1L, 2L)), eq(true), any())).thenReturn(List.of(1L, 2L));
+
+        // When
+        int affected = todoService.setTodosCompletion(List.of(1L, 2L), true);
+
+        // Then
+        assertEquals(2, affected);
+        verify(writeExecutor).execute(any());
+        verify(todoRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(TodosChangedEvent.of(List.of(1L, 2L)));
+    }
+
+    @Test
+    void shouldAuditOnlyTheTodosWhoseCompletionChanged() {
+        // Given: 2 is already completed and 99 does not exist
+        when(todoRepository.updateCompleted(eq(List.of(1L, 2L, 99L)), eq(true), any())).thenReturn(List.of(1L));
+
+        // When
+        int affected = todoService.setTodosCompletion(List.of(1L, 2L, 99L), true);
+
+        // Then
+        assertEquals(1, affected);
+        List<TodoAuditEvent> audits = auditEvents();
+        assertEquals(List.of(1L), audits.stream().map(TodoAuditEvent::todoId).toList());
+        assertEquals(TodoAuditEvent.Action.COMPLETED, audits.getFirst().action());
+    }
+
+    @Test
+    void shouldCompleteAllTodos() {
+        // Given
+        when(todoRepository.completeAll(any())).thenReturn(List.of(1L, 2L, 3L));
+
+        // When
+        int affected = todoService.completeAllTodos();
+
+        // Then
+        assertEquals(3, affected);
+        verify(writeExecutor).execute(any());
+        verify(eventPublisher).publishEvent(TodosChangedEvent.all());
+        List<TodoAuditEvent> audits = auditEvents();
+        assertEquals(List.of(1L, 2L, 3L), audits.stream().map(TodoAuditEvent::todoId).toList());
+        assertTrue(audits.stream().allMatch(audit -> audit.action() == TodoAuditEvent.Action.COMPLETED));
+    }
+
+    @Test
+    void shouldDeleteCompletedTodos() {
+        // Given
+        when(todoRepository.deleteCompleted()).thenReturn(List.of(4L, 5L, 6L, 7L));
+
+        // When
+        int affected = todoService.deleteCompletedTodos();
+
+        // Then
+        assertEquals(4, affected);
+        verify(writeExecutor).execute(any());
+        List<TodoAuditEvent> audits = auditEvents();
+        assertEquals(List.of(4L, 5L, 6L, 7L), audits.stream().map(TodoAuditEvent::todoId).toList());
+        assertTrue(audits.stream().allMatch(audit -> audit.action() == TodoAuditEvent.Action.DELETED));
+    }
+
+    @Test
+    void shouldMoveTodoBetweenItsNeighboursWritingOnlyItsSortKey() {
+        // Given
+        when(todoRepository.findSortKeys(List.of(3L, 1L, 2L))).thenReturn(Map.of(1L, "a0", 2L, "a1", 3L, "a2"));
+
+        // When
+        todoService.moveTodo(3L, 1L, 2L);
+
+        // Then
+        verify(todoRepository).updateSortKey(3L, "a0V");
+        verify(todoRepository, never()).save(any(Todo.class));
+        verify(eventPublisher).publishEvent(TodosChangedEvent.of(3L));
+    }
+
+    @Test
+    void shouldMoveTodoRightAfterASingleNeighbour() {
+        // Given
+        when(todoRepository.findSortKeys(List.of(3L, 1L))).thenReturn(Map.of(1L, "a0", 3L, "a2"));
+        when(todoRepository.findSortKeyAfter("a0", 3L)).thenReturn(Optional.of("a1"));
+
+        // When
+        todoService.moveTodo(3L, 1L, null);
+
+        // Then
+        verify(todoRepository).updateSortKey(3L, "a0V");
+    }
+
+    @Test
+    void shouldMoveTodoToTheStartBeforeTheFirstTodo() {
+        // Given
+        when(todoRepository.findSortKeys(List.of(3L, 1L))).thenReturn(Map.of(1L, "a0", 3L, "a2"));
+        when(todoRepository.findSortKeyBefore("a0", 3L)).thenReturn(Optional.empty());
+
+        // When
+        todoService.moveTodo(3L, null, 1L);
+
+        // Then
+        verify(todoRepository).updateSortKey(3L, "Zz");
+    }
+
+    @Test
+    void shouldRejectMoveBetweenNeighboursThatAreNotInThatOrder() {
+        // Given
+        when(todoRepository.findSortKeys(List.of(3L, 2L, 1L))).thenReturn(Map.of(1L, "a0", 2L, "a1", 3L, "a2"));
+
+        // When & Then
+        assertThrows(TodoOrderConflictException.class, () -> todoService.moveTodo(3L, 2L, 1L));
+        verify(todoRepository, never()).updateSortKey(anyLong(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenMovingNextToNonExistentTodo() {
+        // Given
+        when(todoRepository.findSortKeys(List.of(3L, 99L))).thenReturn(Map.of(3L, "a2"));
+
+        // When & Then
+        TodoNotFoundException exception = assertThrows(TodoNotFoundException.class,
+                () -> todoService.moveTodo(3L, 99L, null));
+        assertEquals(99L, exception.getId());
+        verify(todoRepository, never()).updateSortKey(anyLong(), any());
+    }
+
+    private List<TodoAuditEvent> auditEvents() {
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+        return events.getAllValues().stream()
+                .filter(TodoAuditEvent.class::isInstance)
+                .map(TodoAuditEvent.class::cast)
+                .toList();
     }
 }
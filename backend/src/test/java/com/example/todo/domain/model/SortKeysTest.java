@@ -0,0 +1,92 @@
+package com.example.todo.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SortKeysTest {
+
+    @Test
+    void shouldGenerateKeysAtBothEndsAndInBetween() {
+        assertThat(SortKeys.between(null, null)).isEqualTo("a0");
+        assertThat(SortKeys.between("a0", null)).isEqualTo("a1");
+        assertThat(SortKeys.between("az", null)).isEqualTo("b00");
+        assertThat(SortKeys.between(null, "a0")).isEqualTo("Zz");
+        assertThat(SortKeys.between(null, "b00")).isEqualTo("az");
+        assertThat(SortKeys.between("a0", "a1")).isEqualTo("a0V");
+        assertThat(SortKeys.between("a0", "a2")).isEqualTo("a1");
+        assertThat(SortKeys.between("a0V", "a1")).isEqualTo("a0l");
+        assertThat(SortKeys.between("a0", "a0V")).isEqualTo("a0F");
+    }
+
+    @Test
+    void shouldKeepOrderOverManyRandomInserts() {
+        // Given
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>(List.of(SortKeys.between(null, null)));
+
+        // When
+        for (int i = 0; i < 2_000; i++) {
+            int position = random.nextInt(keys.size() + 1);
+            String before = position > 0 ? keys.get(position - 1) : null;
+            String after = position < keys.size() ? keys.get(position) : null;
+            keys.add(position, SortKeys.between(before, after));
+        }
+
+        // Then
+        assertThat(keys).isSorted().doesNotHaveDuplicates().allMatch(SortKeys::isValid);
+    }
+
+    @Test
+    void shouldGrowKeysSlowlyWhenInsertingIntoTheSameGap() {
+        // Given
+        String before = "a0";
+        String after = "a1";
+
+        // When
+        for (int i = 0; i < 60; i++) {
+            after = SortKeys.between(before, after);
+        }
+
+        // Then
+        assertThat(after.length()).isLessThanOrEqualTo(2 + 60 / 5);
+    }
+
+    @Test
+    void shouldGenerateShortEvenlySpacedKeysForRebalancing() {
+        // When
+        List<String> keys = SortKeys.between(null, null, 10_000);
+
+        // Then
+        assertThat(keys).hasSize(10_000).isSorted().doesNotHaveDuplicates();
+        assertThat(keys).allMatch(key -> key.length() <= 4);
+        assertThat(SortKeys.between("a0", "a1", 100)).hasSize(100).isSorted().doesNotHaveDuplicates()
+                .allMatch(key -> key.compareTo("a0") > 0 && key.compareTo("a1") < 0);
+    }
+
+    @Test
+    void shouldJitterAppendedKeysWithoutLeavingTheirGap() {
+        // When
+        String key = SortKeys.after("a5");
+
+        // Then
+        assertThat(key).startsWith("a6").hasSize(5).isGreaterThan("a5").isLessThan(SortKeys.between("a6", null));
+        assertThat(SortKeys.isValid(key)).isTrue();
+        assertThat(SortKeys.after(null)).startsWith("a0");
+    }
+
+    @Test
+    void shouldRejectMalformedOrUnorderedKeys() {
+        assertThatThrownBy(() -> SortKeys.between("a1", "a0")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SortKeys.between("a1", "a1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SortKeys.between("a10", null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SortKeys.between("b0", null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SortKeys.between("a!", null)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(SortKeys.isValid("0")).isFalse();
+    }
+}
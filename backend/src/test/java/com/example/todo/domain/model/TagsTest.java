@@ -0,0 +1,39 @@
+package com.example.todo.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TagsTest {
+
+    @Test
+    void shouldNormalizeTags() {
+        assertThat(Tags.parse(List.of(" Home", "errands", "home", "")))
+                .hasValueSatisfying(tags -> assertThat(tags).containsExactly("errands", "home"));
+        assertThat(Tags.parse("work,q3-planning")).hasValueSatisfying(tags ->
+                assertThat(tags).containsExactly("q3-planning", "work"));
+    }
+
+    @Test
+    void shouldRejectMalformedTags() {
+        assertThat(Tags.parse(List.of("a,b"))).isEmpty();
+        assertThat(Tags.parse(List.of("-home"))).isEmpty();
+        assertThat(Tags.parse(List.of("x".repeat(Tags.MAX_LENGTH + 1)))).isEmpty();
+        assertThat(Tags.parse(IntStream.rangeClosed(0, Tags.MAX_TAGS).mapToObj(i -> "t" + i).toList())).isEmpty();
+    }
+
+    @Test
+    void shouldRoundTripThroughTheColumn() {
+        Set<String> tags = Tags.parse(Arrays.asList("work", "home")).orElseThrow();
+
+        assertThat(Tags.join(tags)).isEqualTo("home,work");
+        assertThat(Tags.split(Tags.join(tags))).isEqualTo(tags);
+        assertThat(Tags.join(Set.of())).isNull();
+        assertThat(Tags.split(null)).isEmpty();
+    }
+}
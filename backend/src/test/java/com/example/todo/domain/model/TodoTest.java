@@ -2,6 +2,10 @@ package com.example.todo.domain.model;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class TodoTest {
@@ -101,4 +105,41 @@ class TodoTest {
         // Then
         assertTrue(todo.getUpdatedAt().isAfter(originalUpdatedAt));
     }
+
+    @Test
+    void shouldKeepDueDateReminderAndTagsThatAreNotGiven() {
+        // Given
+        Todo todo = new Todo("Test", "Description");
+        LocalDateTime dueAt = LocalDateTime.of(2026, 1, 20, 17, 0);
+        todo.reschedule(dueAt, dueAt.minusHours(8));
+        todo.setTags(Set.of("home"));
+
+        // When
+        todo.update("Renamed", null, null, null, null, Set.of());
+
+        // Then
+        assertEquals("Renamed", todo.getTitle());
+        assertNull(todo.getDescription());
+        assertEquals(dueAt, todo.getDueAt());
+        assertEquals(dueAt.minusHours(8), todo.getRemindAt());
+        assertEquals(Set.of("home"), todo.getTags());
+    }
+
+    @Test
+    void shouldClearAndReplaceOnlyTheGivenFields() {
+        // Given
+        Todo todo = new Todo("Test", "Description");
+        LocalDateTime dueAt = LocalDateTime.of(2026, 1, 20, 17, 0);
+        todo.reschedule(dueAt, dueAt.minusHours(8));
+        todo.setTags(Set.of("home"));
+
+        // When
+        todo.update("Test", "Description", dueAt.plusDays(1), null, null,
+                EnumSet.of(TodoField.REMIND_AT, TodoField.TAGS));
+
+        // Then
+        assertEquals(dueAt.plusDays(1), todo.getDueAt());
+        assertNull(todo.getRemindAt());
+        assertTrue(todo.getTags().isEmpty());
+    }
 }
@@ -0,0 +1,86 @@
+package com.example.todo.infrastructure.batch;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchMetadataPrunerTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-01T03:00:00Z");
+    private static final LocalDateTime NOW_LOCAL = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:batch-metadata", "sa", "", true);
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void shouldDeleteExecutionsFinishedBeforeTheRetentionPeriodWithTheirChildren() {
+        // Given
+        insertExecution(1, NOW_LOCAL.minusDays(40));
+        insertExecution(2, NOW_LOCAL.minusDays(31));
+        insertExecution(3, NOW_LOCAL.minusDays(1));
+
+        // When
+        int pruned = new BatchMetadataPruner(jdbcTemplate, Duration.ofDays(30), Clock.fixed(NOW, ZoneOffset.UTC)).prune();
+
+        // Then
+        assertThat(pruned).isEqualTo(2);
+        for (String table : new String[]{"BATCH_JOB_INSTANCE", "BATCH_JOB_EXECUTION", "BATCH_JOB_EXECUTION_PARAMS",
+                "BATCH_JOB_EXECUTION_CONTEXT", "BATCH_STEP_EXECUTION", "BATCH_STEP_EXECUTION_CONTEXT"}) {
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class)).as(table).isEqualTo(1);
+        }
+        assertThat(jdbcTemplate.queryForObject("SELECT JOB_EXECUTION_ID FROM BATCH_JOB_EXECUTION", Long.class)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldKeepRunningExecutions() {
+        // Given
+        insertExecution(1, null);
+
+        // When
+        int pruned = new BatchMetadataPruner(jdbcTemplate, Duration.ZERO, Clock.fixed(NOW, ZoneOffset.UTC)).prune();
+
+        // Then
+        assertThat(pruned).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM BATCH_JOB_INSTANCE", Integer.class)).isEqualTo(1);
+    }
+
+    private void insertExecution(long id, LocalDateTime endTime) {
+        Timestamp created = Timestamp.valueOf(endTime != null ? endTime.minusMinutes(1) : NOW_LOCAL);
+        Timestamp ended = endTime != null ? Timestamp.valueOf(endTime) : null;
+        jdbcTemplate.update("INSERT INTO BATCH_JOB_INSTANCE (JOB_INSTANCE_ID, VERSION, JOB_NAME, JOB_KEY) "
+                + "VALUES (?, 0, 'deleteCompletedTodosJob', ?)", id, "key-" + id);
+        jdbcTemplate.update("INSERT INTO BATCH_JOB_EXECUTION (JOB_EXECUTION_ID, VERSION, JOB_INSTANCE_ID, CREATE_TIME, "
+                + "START_TIME, END_TIME, STATUS) VALUES (?, 1, ?, ?, ?, ?, ?)",
+                id, id, created, created, ended, ended != null ? "COMPLETED" : "STARTED");
+        jdbcTemplate.update("INSERT INTO BATCH_JOB_EXECUTION_PARAMS VALUES (?, 'time', 'java.lang.Long', ?, 'Y')",
+                id, String.valueOf(id));
+        jdbcTemplate.update("INSERT INTO BATCH_JOB_EXECUTION_CONTEXT VALUES (?, '{}', NULL)", id);
+        jdbcTemplate.update("INSERT INTO BATCH_STEP_EXECUTION (STEP_EXECUTION_ID, VERSION, STEP_NAME, JOB_EXECUTION_ID, "
+                + "CREATE_TIME, END_TIME) VALUES (?, 1, 'deleteCompletedTodosStep', ?, ?, ?)", id, id, created, ended);
+        jdbcTemplate.update("INSERT INTO BATCH_STEP_EXECUTION_CONTEXT VALUES (?, '{}', NULL)", id);
+    }
+}
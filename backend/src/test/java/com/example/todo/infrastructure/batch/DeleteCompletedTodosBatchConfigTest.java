@@ -1,7 +1,7 @@
 package com.example.todo.infrastructure.batch;
 
-import com.example.todo.domain.model.Todo;
-import com.example.todo.domain.port.TodoRepository;
+import com.example.todo.infrastructure.persistence.lock.JdbcLeaseLock;
+import com.example.todo.infrastructure.persistence.retention.TrickleRetentionPurger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,24 +10,27 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.core.job.Job;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
 import org.springframework.batch.core.step.Step;
 import org.springframework.batch.core.step.StepContribution;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.infrastructure.repeat.RepeatStatus;
 import org.springframework.transaction.PlatformTransactionManager;
 
-import java.util.Collections;
-import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class DeleteCompletedTodosBatchConfigTest {
 
     @Mock
-    private TodoRepository todoRepository;
+    private TrickleRetentionPurger retentionPurger;
+
+    @Mock
+    private JdbcLeaseLock schedulerLock;
 
     @Mock
     private JobRepository jobRepository;
@@ -41,11 +44,17 @@ class DeleteCompletedTodosBatchConfigTest {
     @Mock
     private ChunkContext chunkContext;
 
+    @Mock
+    private StepContext stepContext;
+
     private DeleteCompletedTodosBatchConfig config;
 
     @BeforeEach
     void setUp() {
-        config = new DeleteCompletedTodosBatchConfig(todoRepository);
+        config = new DeleteCompletedTodosBatchConfig(retentionPurger, schedulerLock);
+        lenient().when(chunkContext.getStepContext()).thenReturn(stepContext);
+        lenient().when(stepContext.getJobParameters()).thenReturn(Map.of("time", 1L, "fencingToken", 3L));
+        lenient().when(schedulerLock.isHeld(TodoBatchScheduler.DELETE_COMPLETED_TODOS_LOCK, 3L)).thenReturn(true);
     }
 
     @Test
@@ -84,125 +93,80 @@ class DeleteCompletedTodosBatchConfigTest {
     }
 
     @Test
-    void taskletShouldDeleteCompletedTodos() throws Exception {
+    void taskletShouldDeleteOneSliceAndAskToRunAgain() throws Exception {
         // Given
         Tasklet tasklet = config.deleteCompletedTodosTasklet();
-
-        Todo todo1 = mock(Todo.class);
-        Todo todo2 = mock(Todo.class);
-        Todo todo3 = mock(Todo.class);
-
-        List<Todo> completedTodos = List.of(todo1, todo2, todo3);
-
-        when(todoRepository.findCompletedTodos()).thenReturn(completedTodos);
+        when(retentionPurger.deleteSlice()).thenReturn(500);
 
         // When
         RepeatStatus status = tasklet.execute(stepContribution, chunkContext);
 
         // Then
-        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
-        verify(todoRepository, times(1)).findCompletedTodos();
-        verify(todoRepository, times(1)).deleteAll(completedTodos);
+        assertThat(status).isEqualTo(RepeatStatus.CONTINUABLE);
+        verify(retentionPurger, times(1)).deleteSlice();
+        verify(stepContribution).incrementWriteCount(500);
     }
 
     @Test
-    void taskletShouldHandleEmptyCompletedTodosList() throws Exception {
+    void taskletShouldFinishOnceTheBacklogIsEmpty() throws Exception {
         // Given
         Tasklet tasklet = config.deleteCompletedTodosTasklet();
-
-        when(todoRepository.findCompletedTodos()).thenReturn(Collections.emptyList());
+        when(retentionPurger.deleteSlice()).thenReturn(0);
 
         // When
         RepeatStatus status = tasklet.execute(stepContribution, chunkContext);
 
         // Then
         assertThat(status).isEqualTo(RepeatStatus.FINISHED);
-        verify(todoRepository, times(1)).findCompletedTodos();
-        verify(todoRepository, never()).deleteAll(anyList());
+        verify(retentionPurger, times(1)).deleteSlice();
+        verifyNoInteractions(stepContribution);
     }
 
     @Test
-    void taskletShouldDeleteSingleCompletedTodo() throws Exception {
+    void taskletShouldDeleteSlicesUntilNothingIsLeft() throws Exception {
         // Given
         Tasklet tasklet = config.deleteCompletedTodosTasklet();
-
-        Todo todo = mock(Todo.class);
-        List<Todo> completedTodos = List.of(todo);
-
-        when(todoRepository.findCompletedTodos()).thenReturn(completedTodos);
+        when(retentionPurger.deleteSlice()).thenReturn(500, 500, 120, 0);
 
         // When
-        RepeatStatus status = tasklet.execute(stepContribution, chunkContext);
+        RepeatStatus status;
+        int runs = 0;
+        do {
+            status = tasklet.execute(stepContribution, chunkContext);
+            runs++;
+        } while (status.isContinuable());
 
         // Then
-        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
-        verify(todoRepository, times(1)).findCompletedTodos();
-        verify(todoRepository, times(1)).deleteAll(completedTodos);
+        assertThat(runs).isEqualTo(4);
+        verify(stepContribution, times(2)).incrementWriteCount(500);
+        verify(stepContribution).incrementWriteCount(120);
     }
 
     @Test
-    void taskletShouldDeleteMultipleCompletedTodos() throws Exception {
+    void taskletShouldStopOnceTheLeaseItWasStartedWithIsLost() {
         // Given
         Tasklet tasklet = config.deleteCompletedTodosTasklet();
+        when(schedulerLock.isHeld(TodoBatchScheduler.DELETE_COMPLETED_TODOS_LOCK, 3L)).thenReturn(false);
 
-        List<Todo> completedTodos = List.of(mock(Todo.class),
-                mock(Todo.class),
-                mock(Todo.class),
-                mock(Todo.class),
-                mock(Todo.class));
-
-        when(todoRepository.findCompletedTodos()).thenReturn(completedTodos);
-
-        // When
-        RepeatStatus status = tasklet.execute(stepContribution, chunkContext);
-
-        // Then
-        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
-        verify(todoRepository, times(1)).findCompletedTodos();
-        verify(todoRepository, times(1)).deleteAll(argThat(list -> list.size() == 5));
+        // When & Then
+        assertThatThrownBy(() -> tasklet.execute(stepContribution, chunkContext))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("fencing token 3");
+        verifyNoInteractions(retentionPurger, stepContribution);
     }
 
     @Test
-    void taskletShouldAlwaysReturnFinishedStatus() throws Exception {
+    void taskletShouldNotFenceARunStartedWithoutAToken() throws Exception {
         // Given
         Tasklet tasklet = config.deleteCompletedTodosTasklet();
-
-        when(todoRepository.findCompletedTodos()).thenReturn(Collections.emptyList());
+        when(stepContext.getJobParameters()).thenReturn(Map.of("time", 1L));
+        when(retentionPurger.deleteSlice()).thenReturn(0);
 
         // When
-        RepeatStatus status1 = tasklet.execute(stepContribution, chunkContext);
-
-        RepeatStatus status2 = tasklet.execute(stepContribution, chunkContext);
-
-        // Then
-        assertThat(status1).isEqualTo(RepeatStatus.FINISHED);
-        assertThat(status2).isEqualTo(RepeatStatus.FINISHED);
-    }
-
-    @Test
-    void taskletShouldCallRepositoryMethodsInCorrectOrder() throws Exception {
-        // Given
-        Tasklet tasklet = config.deleteCompletedTodosTasklet();
-        List<Todo> completedTodos = List.of(mock(Todo.class));
-
-        when(todoRepository.findCompletedTodos()).thenReturn(completedTodos);
-
-        // When
-        tasklet.execute(stepContribution, chunkContext);
+        RepeatStatus status = tasklet.execute(stepContribution, chunkContext);
 
         // Then
-        var inOrder = inOrder(todoRepository);
-        inOrder.verify(todoRepository).findCompletedTodos();
-        inOrder.verify(todoRepository).deleteAll(completedTodos);
-        inOrder.verifyNoMoreInteractions();
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        verify(schedulerLock, never()).isHeld(any(), anyLong());
     }
-
-    // Helper method to create Todo objects
-    /*private Todo createTodo(Long id, String title, boolean completed) {
-        Todo todo = mock(Todo.class);
-        when(todo.getId()).thenReturn(id);
-        when(todo.getTitle()).thenReturn(title);
-        when(todo.isCompleted()).thenReturn(completed);
-        return todo;
-    }*/
 }
@@ -0,0 +1,177 @@
+package com.example.todo.infrastructure.batch;
+
+import com.example.todo.TodoApplication;
+import com.example.todo.infrastructure.persistence.lock.JdbcLeaseLock;
+import com.example.todo.infrastructure.persistence.lock.Lease;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Several application contexts play the nodes of a cluster sharing one H2 file database
+ */
+class TodoBatchSchedulerClusterIT {
+
+    private static final int NODES = 3;
+
+    @TempDir
+    Path tempDir;
+
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @BeforeEach
+    void startNodes() {
+        for (int i = 0; i < NODES; i++) {
+            nodes.add(new SpringApplicationBuilder(TodoApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .run("--spring.datasource.url=jdbc:h2:file:" + tempDir.resolve("tododb") + ";DB_CLOSE_ON_EXIT=FALSE",
+                            "--spring.main.banner-mode=off",
+                            "--todo.retention.enabled=false",
+                            "--todo.lease-lock.owner=node-" + i,
+                            "--todo.lease-lock.ttl=1s",
+                            "--todo.lease-lock.heartbeat-interval=200ms",
+                            "--todo.lease-lock.lock-at-least-for=1m"));
+        }
+    }
+
+    @AfterEach
+    void stopNodes() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    void shouldRunTheJobOnOneNodeWhenAllNodesFireTogether() throws Exception {
+        // Given
+        JdbcTemplate jdbcTemplate = nodes.getFirst().getBean(JdbcTemplate.class);
+        LocalDateTime twoDaysAgo = LocalDateTime.now().minusDays(2);
+        for (long id = 1; id <= 10; id++) {
+            jdbcTemplate.update("INSERT INTO todos (id, title, completed, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                    id, "Todo " + id, id % 2 == 0, Timestamp.valueOf(twoDaysAgo), Timestamp.valueOf(twoDaysAgo));
+        }
+        jdbcTemplate.update("INSERT INTO todos (id, title, completed, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                11, "Completed an hour ago", true, Timestamp.valueOf(twoDaysAgo),
+                Timestamp.valueOf(LocalDateTime.now().minusHours(1)));
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> triggers = new ArrayList<>();
+
+        // When
+        for (ConfigurableApplicationContext node : nodes) {
+            TodoBatchScheduler scheduler = node.getBean(TodoBatchScheduler.class);
+            triggers.add(CompletableFuture.runAsync(() -> {
+                awaitQuietly(start);
+                scheduler.runDeleteCompletedTodosJob();
+            }));
+        }
+        start.countDown();
+        CompletableFuture.allOf(triggers.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(lockOutcomes("acquired")).isEqualTo(1);
+        assertThat(lockOutcomes("busy")).isEqualTo(NODES - 1);
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM todos ORDER BY id", Long.class))
+                .containsExactly(1L, 3L, 5L, 7L, 9L, 11L);
+    }
+
+    @Test
+    void shouldKeepTheLockWhileTheHolderSendsHeartbeats() {
+        // Given
+        JdbcLeaseLock holder = nodes.get(0).getBean(JdbcLeaseLock.class);
+        JdbcLeaseLock other = nodes.get(1).getBean(JdbcLeaseLock.class);
+        AtomicBoolean otherAcquired = new AtomicBoolean();
+        AtomicBoolean heldUntilTheEnd = new AtomicBoolean();
+
+        // When: the task outlives the ttl three times
+        boolean ran = holder.runExclusively("long-job", lease -> {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(3);
+            while (System.nanoTime() < deadline) {
+                otherAcquired.compareAndSet(false, other.tryAcquire("long-job").isPresent());
+                sleep(100);
+            }
+            heldUntilTheEnd.set(holder.isHeld(lease));
+        });
+
+        // Then
+        assertThat(ran).isTrue();
+        assertThat(otherAcquired).isFalse();
+        assertThat(heldUntilTheEnd).isTrue();
+    }
+
+    @Test
+    void shouldTakeOverTheLockOfADeadNode() throws Exception {
+        // Given: node 0 holds the lock and dies without releasing it
+        ConfigurableApplicationContext dying = nodes.getFirst();
+        JdbcLeaseLock dyingLock = dying.getBean(JdbcLeaseLock.class);
+        CountDownLatch acquired = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<Boolean> orphan = CompletableFuture.supplyAsync(() -> dyingLock.runExclusively("job", lease -> {
+            acquired.countDown();
+            awaitQuietly(finish);
+        }));
+        assertThat(acquired.await(10, TimeUnit.SECONDS)).isTrue();
+        dying.close();
+        JdbcLeaseLock survivor = nodes.get(1).getBean(JdbcLeaseLock.class);
+
+        // When
+        long start = System.nanoTime();
+        Lease lease = null;
+        while (lease == null && System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10)) {
+            lease = survivor.tryAcquire("job").orElse(null);
+            sleep(50);
+        }
+
+        // Then
+        assertThat(lease).isNotNull();
+        assertThat(lease.fencingToken()).isEqualTo(2);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(500);
+        finish.countDown();
+        orphan.get(10, TimeUnit.SECONDS);
+        assertThat(survivor.isHeld(lease)).isTrue();
+        assertThat(nodes.get(1).getBean(JdbcTemplate.class)
+                .queryForObject("SELECT owner FROM scheduler_locks WHERE lock_name = 'job'", String.class))
+                .isEqualTo("node-1");
+    }
+
+    private double lockOutcomes(String outcome) {
+        return nodes.stream()
+                .map(node -> node.getBean(MeterRegistry.class).find("todo.lease-lock.outcomes")
+                        .tag("name", TodoBatchScheduler.DELETE_COMPLETED_TODOS_LOCK)
+                        .tag("outcome", outcome)
+                        .counter())
+                .mapToDouble(counter -> counter == null ? 0 : counter.count())
+                .sum();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,17 +1,28 @@
 package com.example.todo.infrastructure.batch;
 
+import com.example.todo.application.service.TodosChangedEvent;
+import com.example.todo.infrastructure.limit.Bulkhead;
+import com.example.todo.infrastructure.persistence.lock.JdbcLeaseLock;
+import com.example.todo.infrastructure.persistence.lock.Lease;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.batch.core.job.Job;
 import org.springframework.batch.core.job.JobExecution;
 import org.springframework.batch.core.job.parameters.JobParameters;
 import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,9 +34,29 @@ class TodoBatchSchedulerTest {
     @Mock
     private Job deleteCompletedTodosJob;
 
+    @Spy
+    private Bulkhead batchBulkhead = new Bulkhead("batch", 1, new SimpleMeterRegistry());
+
+    @Mock
+    private JdbcLeaseLock schedulerLock;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TodoBatchScheduler scheduler;
 
+    @BeforeEach
+    void setUp() {
+        Lease lease = mock(Lease.class);
+        lenient().when(lease.fencingToken()).thenReturn(7L);
+        lenient().when(schedulerLock.runExclusively(eq(TodoBatchScheduler.DELETE_COMPLETED_TODOS_LOCK), any()))
+                .thenAnswer(invocation -> {
+                    invocation.<Consumer<Lease>>getArgument(1).accept(lease);
+                    return true;
+                });
+    }
+
     @Test
     void shouldTriggerJobWithParameters() throws Exception {
         // Mock the start method to return a dummy execution ID
@@ -39,6 +70,7 @@ class TodoBatchSchedulerTest {
         // and a parameter string containing "time="
         verify(jobOperator).start(any(Job.class), any(JobParameters.class));
         assertNotNull(deleteCompletedTodosJob);
+        verify(eventPublisher).publishEvent(TodosChangedEvent.all());
     }
 
     @Test
@@ -54,4 +86,42 @@ class TodoBatchSchedulerTest {
         assertNotNull(deleteCompletedTodosJob);
 
     }
+
+    @Test
+    void shouldSkipJobWhileAnotherRunHoldsTheBulkhead() throws Exception {
+        // Given
+        when(jobOperator.start(any(Job.class), any(JobParameters.class))).thenAnswer(invocation -> {
+            // A second trigger while the first run is still active
+            scheduler.runDeleteCompletedTodosJob();
+            return mock(JobExecution.class);
+        });
+
+        // When
+        scheduler.runDeleteCompletedTodosJob();
+
+        // Then
+        verify(jobOperator, times(1)).start(any(Job.class), any(JobParameters.class));
+    }
+
+    @Test
+    void shouldSkipJobWhileAnotherNodeHoldsTheLock() throws Exception {
+        // Given
+        when(schedulerLock.runExclusively(eq(TodoBatchScheduler.DELETE_COMPLETED_TODOS_LOCK), any())).thenReturn(false);
+
+        // When
+        scheduler.runDeleteCompletedTodosJob();
+
+        // Then
+        verify(jobOperator, never()).start(any(Job.class), any(JobParameters.class));
+    }
+
+    @Test
+    void shouldPassTheFencingTokenToTheJob() throws Exception {
+        // When
+        scheduler.runDeleteCompletedTodosJob();
+
+        // Then
+        verify(jobOperator).start(any(Job.class),
+                argThat((JobParameters parameters) -> Long.valueOf(7).equals(parameters.getLong("fencingToken"))));
+    }
 }
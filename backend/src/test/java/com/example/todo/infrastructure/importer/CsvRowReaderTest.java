@@ -0,0 +1,102 @@
+package com.example.todo.infrastructure.importer;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRowReaderTest {
+
+    @Test
+    void shouldMapColumnsByTheHeaderInAnyOrderAndCase() throws IOException {
+        // Given
+        CsvRowReader reader = reader("Tags,TITLE,completed\nhome,Buy milk,true\n");
+
+        // When
+        ImportRow row = reader.next();
+
+        // Then
+        assertThat(row.number()).isEqualTo(1);
+        assertThat(row.title()).isEqualTo("Buy milk");
+        assertThat(row.description()).isNull();
+        assertThat(row.completed()).isEqualTo("true");
+        assertThat(row.tags()).containsExactly("home");
+        assertThat(row.error()).isNull();
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void shouldReadQuotedFieldsWithSeparatorsLineBreaksAndQuotes() throws IOException {
+        // Given
+        CsvRowReader reader = reader("title,description,tags\r\n"
+                + "\"Buy milk, eggs\",\"Say \"\"hi\"\"\nto the baker\",\"home,errands\"\r\n");
+
+        // When
+        ImportRow row = reader.next();
+
+        // Then
+        assertThat(row.title()).isEqualTo("Buy milk, eggs");
+        assertThat(row.description()).isEqualTo("Say \"hi\"\nto the baker");
+        assertThat(row.tags()).containsExactly("home", "errands");
+    }
+
+    @Test
+    void shouldSkipBlankLinesAndAByteOrderMark() throws IOException {
+        // Given
+        CsvRowReader reader = reader("\uFEFFtitle\n\nBuy milk\n\r\nBuy eggs");
+
+        // When
+        List<ImportRow> rows = readAll(reader);
+
+        // Then
+        assertThat(rows).extracting(ImportRow::number).containsExactly(1L, 2L);
+        assertThat(rows).extracting(ImportRow::title).containsExactly("Buy milk", "Buy eggs");
+    }
+
+    @Test
+    void shouldTurnRecordsWithTheWrongNumberOfFieldsIntoMalformedRows() throws IOException {
+        // Given
+        CsvRowReader reader = reader("title,description\nBuy milk\nBuy eggs,Free range\n\"Buy bread");
+
+        // When
+        List<ImportRow> rows = readAll(reader);
+
+        // Then
+        assertThat(rows).extracting(ImportRow::error)
+                .containsExactly("Expected 2 fields but found 1", null, "Unterminated quoted field");
+    }
+
+    @Test
+    void shouldRejectHeadersWithoutTitleOrWithUnknownColumns() {
+        assertThatThrownBy(() -> reader(""))
+                .isInstanceOf(ImportFormatException.class)
+                .hasMessageContaining("no header row");
+        assertThatThrownBy(() -> reader("description\nMilk\n"))
+                .isInstanceOf(ImportFormatException.class)
+                .hasMessageContaining("no title column");
+        assertThatThrownBy(() -> reader("title,priority\nBuy milk,high\n"))
+                .isInstanceOf(ImportFormatException.class)
+                .hasMessageContaining("Unknown CSV column 'priority'");
+        assertThatThrownBy(() -> reader("title,Title\nBuy milk,Buy eggs\n"))
+                .isInstanceOf(ImportFormatException.class)
+                .hasMessageContaining("Duplicate CSV column 'Title'");
+    }
+
+    private static CsvRowReader reader(String csv) throws IOException {
+        return new CsvRowReader(new StringReader(csv));
+    }
+
+    private static List<ImportRow> readAll(CsvRowReader reader) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        ImportRow row;
+        while ((row = reader.next()) != null) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
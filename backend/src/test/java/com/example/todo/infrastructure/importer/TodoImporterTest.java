@@ -0,0 +1,250 @@
+package com.example.todo.infrastructure.importer;
+
+import com.example.todo.application.service.TodoActor;
+import com.example.todo.application.service.TodoAuditEvent;
+import com.example.todo.application.service.TodoAuditEvent.Action;
+import com.example.todo.application.service.TodosChangedEvent;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.port.TodoRepository;
+import com.example.todo.infrastructure.importer.TodoImporter.Format;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TodoImporterTest {
+
+    private TodoRepository todoRepository;
+    private PlatformTransactionManager transactionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private ApplicationEventPublisher eventPublisher;
+    private TodoImporter importer;
+    private final List<List<Todo>> chunks = new ArrayList<>();
+    private final RecordingListener listener = new RecordingListener();
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        // The importer reuses its chunk list, so keep copies of what was inserted
+        when(todoRepository.insertAll(any())).thenAnswer(invocation -> {
+            List<Todo> chunk = List.copyOf(invocation.<List<Todo>>getArgument(0));
+            long first = inserted().size() + 1;
+            chunks.add(chunk);
+            return LongStream.range(first, first + chunk.size()).boxed().toList();
+        });
+        when(todoRepository.findLastSortKey()).thenAnswer(invocation -> chunks.isEmpty()
+                ? Optional.of("a0") : Optional.of(chunks.getLast().getLast().getSortKey()));
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        meterRegistry = new SimpleMeterRegistry();
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        importer = new TodoImporter(todoRepository, new TransactionTemplate(transactionManager),
+                JsonMapper.builder().build(), eventPublisher, new ImportProperties(true, 2, 1), meterRegistry);
+    }
+
+    @Test
+    void shouldCommitEveryChunkAndAppendTheTodosInInputOrder() throws IOException {
+        // When
+        Optional<ImportProgress> result = importCsv("title\nOne\nTwo\nThree\nFour\nFive\n", 0);
+
+        // Then
+        assertThat(result).contains(new ImportProgress(5, 5, 0));
+        assertThat(listener.progress).containsExactly(
+                new ImportProgress(2, 2, 0), new ImportProgress(4, 4, 0), new ImportProgress(5, 5, 0));
+        assertThat(chunks).extracting(chunk -> chunk.stream().map(Todo::getTitle).toList())
+                .containsExactly(List.of("One", "Two"), List.of("Three", "Four"), List.of("Five"));
+        List<String> sortKeys = inserted().stream().map(Todo::getSortKey).toList();
+        assertThat(sortKeys).isSorted().doesNotHaveDuplicates().allMatch(key -> key.compareTo("a0") > 0);
+        verify(transactionManager, times(3)).commit(any());
+        verify(eventPublisher).publishEvent(TodosChangedEvent.of(List.of(1L, 2L)));
+        verify(eventPublisher).publishEvent(TodosChangedEvent.of(List.of(3L, 4L)));
+        verify(eventPublisher).publishEvent(TodosChangedEvent.of(List.of(5L)));
+        verify(eventPublisher, never()).publishEvent(TodosChangedEvent.all());
+        assertThat(meterRegistry.get("todo.import.rows").tag("outcome", "imported").counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldAuditEveryImportedTodoForTheActor() throws IOException {
+        // Given
+        TodoActor.set("alice");
+
+        // When
+        try {
+            importCsv("title\nOne\nTwo\nThree\n", 0);
+        } finally {
+            TodoActor.clear();
+        }
+
+        // Then
+        ArgumentCaptor<Object> events = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+        assertThat(events.getAllValues()).filteredOn(TodoAuditEvent.class::isInstance)
+                .map(TodoAuditEvent.class::cast)
+                .extracting(TodoAuditEvent::todoId, TodoAuditEvent::action, TodoAuditEvent::actor,
+                        event -> event.after().getTitle())
+                .containsExactly(
+                        tuple(1L, Action.CREATED, "alice", "One"),
+                        tuple(2L, Action.CREATED, "alice", "Two"),
+                        tuple(3L, Action.CREATED, "alice", "Three"));
+    }
+
+    @Test
+    void shouldRejectInvalidRowsAndImportTheRest() throws IOException {
+        // When
+        Optional<ImportProgress> result = importCsv("""
+                title,description,completed,dueAt,tags
+                "Buy milk, eggs","From the shop
+                on the corner",true,2026-01-20T17:00:00,"Home,errands"
+                ,No title,false,,
+                Call mom,,maybe,,
+                Pay rent,,false,tomorrow,
+                Water plants,,false,,"bad tag"
+                Book flight,,,,
+                """, 0);
+
+        // Then
+        assertThat(result).contains(new ImportProgress(6, 2, 4));
+        assertThat(listener.rejections).containsExactly(
+                "2: Title is required",
+                "3: Completed must be true or false",
+                "4: dueAt must be a date and time like 2026-01-20T17:00:00",
+                "5: Tags must be at most 10 lower case words of up to 32 letters, digits, - or _");
+        assertThat(inserted()).extracting(Todo::getTitle).containsExactly("Buy milk, eggs", "Book flight");
+        Todo first = inserted().getFirst();
+        assertThat(first.getDescription()).isEqualTo("From the shop\non the corner");
+        assertThat(first.isCompleted()).isTrue();
+        assertThat(first.getDueAt()).isEqualTo(LocalDateTime.of(2026, 1, 20, 17, 0));
+        assertThat(first.getTags()).containsExactlyInAnyOrder("errands", "home");
+        assertThat(meterRegistry.get("todo.import.rows").tag("outcome", "rejected").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldSkipTheRowsOfAnEarlierImportWhenResuming() throws IOException {
+        // When
+        Optional<ImportProgress> result = importCsv("title\nOne\nTwo\nThree\nFour\nFive\n", 3);
+
+        // Then
+        assertThat(result).contains(new ImportProgress(5, 2, 0));
+        assertThat(inserted()).extracting(Todo::getTitle).containsExactly("Four", "Five");
+    }
+
+    @Test
+    void shouldImportNdjsonAndRejectMalformedLines() throws IOException {
+        // Given
+        String ndjson = """
+                {"title":"Buy milk","tags":["home"],"remindAt":"2026-01-20T09:00:00"}
+
+                {"title":"Buy eggs"
+                {"title":"Call mom","completed":true}
+                """;
+
+        // When
+        Optional<ImportProgress> result = importer.tryImport(Format.NDJSON,
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), 0, listener);
+
+        // Then
+        assertThat(result).contains(new ImportProgress(3, 2, 1));
+        assertThat(listener.rejections).singleElement().asString().startsWith("2: Malformed JSON");
+        assertThat(inserted()).extracting(Todo::getTitle, Todo::isCompleted, Todo::getTags)
+                .containsExactly(
+                        tuple("Buy milk", false, Set.of("home")),
+                        tuple("Call mom", true, Set.of()));
+        assertThat(inserted().getFirst().getRemindAt()).isEqualTo(LocalDateTime.of(2026, 1, 20, 9, 0));
+    }
+
+    @Test
+    void shouldImportNothingWithoutATitleColumn() {
+        assertThatThrownBy(() -> importCsv("name\nBuy milk\n", 0))
+                .isInstanceOf(ImportFormatException.class);
+        verify(todoRepository, never()).insertAll(any());
+    }
+
+    @Test
+    void shouldKeepTheCommittedChunksAndReportThemWhenAChunkFails() {
+        // Given
+        doNothing().doThrow(new IllegalStateException("Listener failed"))
+                .when(eventPublisher).publishEvent(any(TodosChangedEvent.class));
+
+        // When & Then
+        assertThatThrownBy(() -> importCsv("title\nOne\nTwo\nThree\nFour\nFive\n", 0))
+                .isInstanceOfSatisfying(ImportFailedException.class, e ->
+                        assertThat(e.getCommitted()).isEqualTo(new ImportProgress(2, 2, 0)));
+        verify(transactionManager, times(1)).commit(any());
+        verify(transactionManager, times(1)).rollback(any());
+        assertThat(listener.progress).containsExactly(new ImportProgress(2, 2, 0));
+    }
+
+    @Test
+    void shouldRunOnlyOneImportAtATime() throws IOException {
+        // Given
+        List<Optional<ImportProgress>> concurrent = new ArrayList<>();
+        ImportListener nested = new RecordingListener() {
+            @Override
+            public void committed(ImportProgress progress) throws IOException {
+                concurrent.add(importCsv("title\nOther\n", 0));
+            }
+        };
+
+        // When
+        importer.tryImport(Format.CSV, input("title\nOne\nTwo\n"), 0, nested);
+
+        // Then
+        assertThat(concurrent).containsExactly(Optional.empty());
+        assertThat(importCsv("title\nThree\n", 0)).isPresent();
+    }
+
+    private List<Todo> inserted() {
+        return chunks.stream().flatMap(List::stream).toList();
+    }
+
+    private Optional<ImportProgress> importCsv(String csv, long skip) throws IOException {
+        return importer.tryImport(Format.CSV, input(csv), skip, listener);
+    }
+
+    private static ByteArrayInputStream input(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class RecordingListener implements ImportListener {
+
+        final List<String> rejections = new ArrayList<>();
+        final List<ImportProgress> progress = new ArrayList<>();
+
+        @Override
+        public void rejected(long row, String error) {
+            rejections.add(row + ": " + error);
+        }
+
+        @Override
+        public void committed(ImportProgress progress) throws IOException {
+            this.progress.add(progress);
+        }
+    }
+}
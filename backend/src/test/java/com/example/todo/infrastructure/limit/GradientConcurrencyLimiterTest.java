@@ -0,0 +1,95 @@
+package com.example.todo.infrastructure.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GradientConcurrencyLimiterTest {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter("reads",
+            new ConcurrencyLimitProperties.Limit(10, 2, 100), 1.5, 0.2, meterRegistry);
+
+    @Test
+    void shouldRejectRequestsBeyondTheLimit() {
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        // Then
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(10);
+        assertThat(meterRegistry.get("todo.concurrency.rejected").tag("group", "reads").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldGrowWhileFullyUsedAtStableLatency() {
+        // When
+        runAtFullLimit(50, RTT);
+
+        // Then
+        assertThat(limiter.getLimit()).isGreaterThan(10);
+    }
+
+    @Test
+    void shouldShrinkWhenLatencyRises() {
+        // Given
+        runAtFullLimit(50, RTT);
+        int grown = limiter.getLimit();
+
+        // When
+        runAtFullLimit(50, RTT * 10);
+
+        // Then
+        assertThat(limiter.getLimit()).isLessThan(grown);
+    }
+
+    @Test
+    void shouldBackOffOnDroppedRequestsDownToTheMinimum() {
+        // When
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(RTT, true);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(meterRegistry.get("todo.concurrency.limit").tag("group", "reads").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotGrowWhileMostlyIdle() {
+        // When
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(RTT, false);
+        }
+
+        // Then
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    /**
+     * Keeps the limiter saturated and releases one request per round with the given latency
+     */
+    private void runAtFullLimit(int rounds, long rttNanos) {
+        while (limiter.tryAcquire()) {
+            // fill up
+        }
+        for (int i = 0; i < rounds; i++) {
+            limiter.release(rttNanos, false);
+            while (limiter.tryAcquire()) {
+                // refill up to the new limit
+            }
+        }
+        while (limiter.getInFlight() > 0) {
+            limiter.release(rttNanos, false);
+        }
+    }
+}
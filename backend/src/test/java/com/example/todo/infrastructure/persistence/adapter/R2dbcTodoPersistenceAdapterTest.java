@@ -0,0 +1,113 @@
+package com.example.todo.infrastructure.persistence.adapter;
+
+import com.example.todo.domain.model.SortKeys;
+import com.example.todo.domain.model.Todo;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class R2dbcTodoPersistenceAdapterTest {
+
+    private R2dbcTodoPersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        DatabaseClient databaseClient = DatabaseClient.create(
+                ConnectionFactories.get("r2dbc:h2:mem:///" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1"));
+        databaseClient.sql("CREATE SEQUENCE todo_sequence START WITH 1 INCREMENT BY 1").then().block();
+        databaseClient.sql("""
+                CREATE TABLE todos (
+                    id BIGINT NOT NULL PRIMARY KEY, title VARCHAR(255) NOT NULL, description VARCHAR(1000),
+                    completed BOOLEAN NOT NULL, created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6) NOT NULL,
+                    sort_key VARCHAR(255), due_at TIMESTAMP(6), remind_at TIMESTAMP(6),
+                    tags VARCHAR(400))
+                """).then().block();
+        adapter = new R2dbcTodoPersistenceAdapter(databaseClient);
+    }
+
+    @Test
+    void shouldAssignIdsFromSequenceOnInsert() {
+        // When & Then
+        StepVerifier.create(adapter.save(new Todo("First", "Description")))
+                .expectNextMatches(todo -> todo.getId() == 1L)
+                .verifyComplete();
+        StepVerifier.create(adapter.save(new Todo("Second", null)))
+                .expectNextMatches(todo -> todo.getId() == 2L)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldUpdateExistingRow() {
+        // Given
+        Todo todo = adapter.save(new Todo("Title", "Description")).block();
+        todo.updateDetails("Updated", null);
+        todo.markAsCompleted();
+
+        // When
+        adapter.save(todo).block();
+
+        // Then
+        StepVerifier.create(adapter.findById(todo.getId()))
+                .assertNext(found -> {
+                    assertThat(found.getTitle()).isEqualTo("Updated");
+                    assertThat(found.getDescription()).isNull();
+                    assertThat(found.isCompleted()).isTrue();
+                    assertThat(found.getCreatedAt()).isNotNull();
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldStreamAllRowsInListOrderWithBoundedDemand() {
+        // Given
+        List<String> sortKeys = SortKeys.between(null, null, 5);
+        for (int i = 0; i < 5; i++) {
+            Todo todo = new Todo("Todo " + i, null);
+            // Later todos first
+            todo.setSortKey(sortKeys.get(4 - i));
+            adapter.save(todo).block();
+        }
+
+        // When & Then
+        StepVerifier.create(adapter.findAll(), 2)
+                .expectNextMatches(todo -> todo.getTitle().equals("Todo 4"))
+                .expectNextCount(1)
+                .thenRequest(3)
+                .expectNextCount(3)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldFindTheGreatestSortKey() {
+        // Given
+        StepVerifier.create(adapter.findLastSortKey()).verifyComplete();
+        Todo first = new Todo("First", null);
+        first.setSortKey("a1");
+        Todo second = new Todo("Second", null);
+        second.setSortKey("a0");
+        adapter.save(first).block();
+        adapter.save(second).block();
+
+        // When & Then
+        StepVerifier.create(adapter.findLastSortKey()).expectNext("a1").verifyComplete();
+    }
+
+    @Test
+    void shouldDeleteAndReportExistence() {
+        // Given
+        Long id = adapter.save(new Todo("Title", null)).block().getId();
+
+        // When & Then
+        StepVerifier.create(adapter.existsById(id)).expectNext(true).verifyComplete();
+        StepVerifier.create(adapter.deleteById(id)).verifyComplete();
+        StepVerifier.create(adapter.existsById(id)).expectNext(false).verifyComplete();
+        StepVerifier.create(adapter.findById(id)).verifyComplete();
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.todo.infrastructure.persistence.adapter;
 
 import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoField;
 import com.example.todo.infrastructure.persistence.entity.TodoEntity;
 import com.example.todo.infrastructure.persistence.repository.JpaTodoRepository;
 import org.junit.jupiter.api.Test;
@@ -9,8 +10,11 @@ import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -186,4 +190,174 @@ class TodoPersistenceAdapterIT {
         // Then
         assertEquals(0, jpaTodoRepository.count());
     }
+
+    @Test
+    void shouldUpdateCompletionOfTheGivenTodosThatChange() {
+        // Given
+        TodoEntity open = save("Open", false);
+        TodoEntity done = save("Done", true);
+        TodoEntity other = save("Other", false);
+        java.time.LocalDateTime updatedAt = java.time.LocalDateTime.now().plusMinutes(1);
+
+        // When
+        List<Long> updated = todoPersistenceAdapter.updateCompleted(List.of(open.getId(), done.getId(), 999_999L),
+                true, updatedAt);
+
+        // Then
+        assertEquals(List.of(open.getId()), updated);
+        assertTrue(jpaTodoRepository.findById(open.getId()).orElseThrow().isCompleted());
+        assertFalse(jpaTodoRepository.findById(other.getId()).orElseThrow().isCompleted());
+        assertEquals(List.of(), todoPersistenceAdapter.updateCompleted(List.of(), true, updatedAt));
+    }
+
+    @Test
+    void shouldCompleteAllAndDeleteCompletedTodos() {
+        // Given
+        TodoEntity open = save("Open", false);
+        TodoEntity done = save("Done", true);
+
+        // When
+        List<Long> completed = todoPersistenceAdapter.completeAll(java.time.LocalDateTime.now());
+        List<Long> deleted = todoPersistenceAdapter.deleteCompleted();
+
+        // Then
+        assertEquals(List.of(open.getId()), completed);
+        assertEquals(Set.of(open.getId(), done.getId()), Set.copyOf(deleted));
+        assertEquals(0, jpaTodoRepository.count());
+    }
+
+    @Test
+    void shouldReadOnlyTheRequestedFieldsInListOrder() {
+        // Given
+        TodoEntity first = save("First", true);
+        TodoEntity second = save("Second", false);
+
+        // When
+        List<Todo> todos = todoPersistenceAdapter.findAll(EnumSet.of(TodoField.ID, TodoField.TITLE, TodoField.COMPLETED));
+
+        // Then
+        assertEquals(List.of(first.getId(), second.getId()), todos.stream().map(Todo::getId).toList());
+        assertEquals("First", todos.get(0).getTitle());
+        assertTrue(todos.get(0).isCompleted());
+        assertFalse(todos.get(1).isCompleted());
+        assertNull(todos.get(0).getCreatedAt());
+        assertNull(todos.get(0).getUpdatedAt());
+    }
+
+    @Test
+    void shouldFindNeighbourSortKeysAndMoveByWritingOneRow() {
+        // Given
+        TodoEntity first = save("First", false, "a0");
+        save("Second", false, "a1");
+        TodoEntity third = save("Third", false, "a2");
+
+        // When
+        int moved = todoPersistenceAdapter.updateSortKey(third.getId(), "a0V");
+
+        // Then
+        assertEquals(1, moved);
+        assertEquals(Optional.of("a1"), todoPersistenceAdapter.findLastSortKey());
+        assertEquals(Optional.of("a1"), todoPersistenceAdapter.findSortKeyAfter("a0V", first.getId()));
+        assertEquals(Optional.of("a0"), todoPersistenceAdapter.findSortKeyBefore("a0V", third.getId()));
+        assertEquals(Optional.empty(), todoPersistenceAdapter.findSortKeyBefore("a0", third.getId()));
+        assertEquals(Map.of(first.getId(), "a0", third.getId(), "a0V"),
+                todoPersistenceAdapter.findSortKeys(List.of(first.getId(), third.getId(), 999L)));
+        assertEquals(List.of("First", "Third", "Second"),
+                todoPersistenceAdapter.findAll().stream().map(Todo::getTitle).toList());
+        assertEquals(0, todoPersistenceAdapter.updateSortKey(999L, "a5"));
+    }
+
+    @Test
+    void shouldFindCountAndDeleteCompletedTodosPastACutoffOldestFirst() {
+        // Given
+        java.time.LocalDateTime cutoff = java.time.LocalDateTime.of(2026, 1, 2, 12, 0);
+        TodoEntity oldest = saveUpdatedAt("Oldest", true, cutoff.minusHours(3));
+        TodoEntity older = saveUpdatedAt("Older", true, cutoff.minusHours(2));
+        saveUpdatedAt("Recent", true, cutoff.plusHours(1));
+        TodoEntity open = saveUpdatedAt("Open", false, cutoff.minusHours(5));
+
+        // When
+        List<Long> ids = todoPersistenceAdapter.findCompletedIdsUpdatedBefore(cutoff, 10);
+        long backlog = todoPersistenceAdapter.countCompletedUpdatedBefore(cutoff);
+        Optional<java.time.LocalDateTime> oldestUpdate = todoPersistenceAdapter.findOldestCompletedUpdateBefore(cutoff);
+        int deleted = todoPersistenceAdapter.deleteCompletedUpdatedBefore(List.of(oldest.getId(), open.getId()), cutoff);
+
+        // Then
+        assertEquals(List.of(oldest.getId(), older.getId()), ids);
+        assertEquals(List.of(oldest.getId()), todoPersistenceAdapter.findCompletedIdsUpdatedBefore(cutoff, 1));
+        assertEquals(2, backlog);
+        assertEquals(Optional.of(oldest.getUpdatedAt()), oldestUpdate);
+        assertEquals(1, deleted);
+        assertEquals(List.of(older.getId()), todoPersistenceAdapter.findCompletedIdsUpdatedBefore(cutoff, 10));
+        assertTrue(todoPersistenceAdapter.existsById(open.getId()));
+    }
+
+    @Test
+    void shouldDetectSortKeysToRebalanceAndRewriteThemInListOrder() {
+        // Given
+        TodoEntity first = save("First", false, "a0");
+        TodoEntity second = save("Second", false, "a0V");
+        assertFalse(todoPersistenceAdapter.needsSortKeyRebalance(3));
+        assertTrue(todoPersistenceAdapter.needsSortKeyRebalance(2));
+        TodoEntity unsorted = save("Unsorted", false, null);
+
+        // When
+        boolean needed = todoPersistenceAdapter.needsSortKeyRebalance(3);
+        List<Long> ids = todoPersistenceAdapter.findAllIdsInListOrderForUpdate();
+        todoPersistenceAdapter.updateSortKeys(Map.of(unsorted.getId(), "a0", first.getId(), "a1",
+                second.getId(), "a2"));
+
+        // Then
+        assertTrue(needed);
+        assertEquals(List.of(unsorted.getId(), first.getId(), second.getId()), ids);
+        assertEquals(Map.of(unsorted.getId(), "a0", first.getId(), "a1", second.getId(), "a2"),
+                todoPersistenceAdapter.findSortKeys(ids));
+        assertFalse(todoPersistenceAdapter.needsSortKeyRebalance(3));
+    }
+
+    @Test
+    void shouldInsertNewTodosInOneBatchWithIdsFromTheSequence() {
+        // Given
+        Todo first = new Todo("First", "Imported");
+        first.setSortKey("a1");
+        first.setTags(java.util.Set.of("home"));
+        Todo second = new Todo("Second", null);
+        second.setSortKey("a2");
+        second.setCompleted(true);
+
+        // When
+        List<Long> ids = todoPersistenceAdapter.insertAll(List.of(first, second));
+
+        // Then
+        List<Todo> todos = todoPersistenceAdapter.findAll();
+        assertEquals(todos.stream().map(Todo::getId).toList(), ids);
+        assertEquals(List.of("First", "Second"), todos.stream().map(Todo::getTitle).toList());
+        assertEquals(java.util.Set.of("home"), todos.get(0).getTags());
+        assertTrue(todos.get(1).isCompleted());
+        assertTrue(todos.get(0).getId() < todos.get(1).getId());
+        assertNull(first.getId());
+    }
+
+    private TodoEntity save(String title, boolean completed) {
+        return save(title, completed, null);
+    }
+
+    private TodoEntity saveUpdatedAt(String title, boolean completed, java.time.LocalDateTime updatedAt) {
+        return jpaTodoRepository.save(TodoEntity.builder()
+                .title(title)
+                .completed(completed)
+                .createdAt(updatedAt)
+                .updatedAt(updatedAt)
+                .build());
+    }
+
+    private TodoEntity save(String title, boolean completed, String sortKey) {
+        return jpaTodoRepository.save(TodoEntity.builder()
+                .title(title)
+                .completed(completed)
+                .createdAt(java.time.LocalDateTime.now())
+                .updatedAt(java.time.LocalDateTime.now())
+                .sortKey(sortKey)
+                .build());
+    }
 }
@@ -153,7 +153,7 @@ class TodoPersistenceAdapterTest {
 
         List<TodoEntity> entities = Arrays.asList(entity1, entity2, entity3);
 
-        when(jpaTodoRepository.findAll()).thenReturn(entities);
+        when(jpaTodoRepository.findAllInListOrder()).thenReturn(entities);
         when(todoMapper.toDomain(entity1)).thenReturn(todo1);
         when(todoMapper.toDomain(entity2)).thenReturn(todo2);
         when(todoMapper.toDomain(entity3)).thenReturn(todo3);
@@ -170,14 +170,14 @@ class TodoPersistenceAdapterTest {
         assertEquals("Todo 2", result.get(1).getTitle());
         assertEquals("Todo 3", result.get(2).getTitle());
 
-        verify(jpaTodoRepository, times(1)).findAll();
+        verify(jpaTodoRepository, times(1)).findAllInListOrder();
         verify(todoMapper, times(3)).toDomain(any(TodoEntity.class));
     }
 
     @Test
     void shouldReturnEmptyListWhenNoTodosExist() {
         // Given
-        when(jpaTodoRepository.findAll()).thenReturn(Collections.emptyList());
+        when(jpaTodoRepository.findAllInListOrder()).thenReturn(Collections.emptyList());
 
         // When
         List<Todo> result = todoPersistenceAdapter.findAll();
@@ -185,7 +185,7 @@ class TodoPersistenceAdapterTest {
         // Then
         assertTrue(result.isEmpty());
 
-        verify(jpaTodoRepository, times(1)).findAll();
+        verify(jpaTodoRepository, times(1)).findAllInListOrder();
         verify(todoMapper, never()).toDomain(any(TodoEntity.class));
     }
 
@@ -387,7 +387,7 @@ class TodoPersistenceAdapterTest {
         Todo testTodo = mock(Todo.class);
 
         List<TodoEntity> entities = List.of(testEntity);
-        when(jpaTodoRepository.findAll()).thenReturn(entities);
+        when(jpaTodoRepository.findAllInListOrder()).thenReturn(entities);
         when(todoMapper.toDomain(testEntity)).thenReturn(testTodo);
 
         // When
@@ -395,7 +395,7 @@ class TodoPersistenceAdapterTest {
 
         // Then
         var inOrder = inOrder(jpaTodoRepository, todoMapper);
-        inOrder.verify(jpaTodoRepository).findAll();
+        inOrder.verify(jpaTodoRepository).findAllInListOrder();
         inOrder.verify(todoMapper).toDomain(testEntity);
     }
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.example.todo.infrastructure.persistence.audit;
+
+import com.example.todo.application.service.TodoAuditEvent;
+import com.example.todo.application.service.TodoAuditEvent.Action;
+import com.example.todo.domain.model.Todo;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncTodoAuditLogTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 2, 12, 0);
+
+    private HikariDataSource dataSource;
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncTodoAuditLog auditLog;
+    private JdbcTodoAuditHistory history;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        meterRegistry = new SimpleMeterRegistry();
+        auditLog = new AsyncTodoAuditLog(jdbcTemplate, new TransactionTemplate(
+                new DataSourceTransactionManager(dataSource)), JsonMapper.builder().build(),
+                new AuditProperties(true, 16, 4, Duration.ofMillis(10), false), meterRegistry);
+        history = new JdbcTodoAuditHistory(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        auditLog.close();
+        dataSource.close();
+    }
+
+    @Test
+    void shouldWriteTheStatesBeforeAndAfterAChange() throws InterruptedException {
+        // Given
+        Todo before = todo(1L, "Buy milk");
+        Todo after = todo(1L, "Buy oat milk");
+
+        // When
+        auditLog.onTodoAudited(new TodoAuditEvent(1L, Action.UPDATED, "alice", NOW, before, after));
+        auditLog.close();
+
+        // Then
+        List<TodoAuditEntry> entries = history.findByTodoId(1L, null, 10);
+        assertThat(entries).singleElement().satisfies(entry -> {
+            assertThat(entry.action()).isEqualTo("UPDATED");
+            assertThat(entry.actor()).isEqualTo("alice");
+            assertThat(entry.occurredAt()).isEqualTo(NOW);
+            assertThat(entry.before()).contains("\"title\":\"Buy milk\"");
+            assertThat(entry.after()).contains("\"title\":\"Buy oat milk\"");
+        });
+        assertThat(meterRegistry.get("todo.audit.written").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRecordOnlyTheSortKeysOfAMove() throws InterruptedException {
+        // Given
+        Todo before = new Todo();
+        before.setId(1L);
+        before.setSortKey("a0");
+        Todo after = new Todo();
+        after.setId(1L);
+        after.setSortKey("a0V");
+
+        // When
+        auditLog.onTodoAudited(new TodoAuditEvent(1L, Action.MOVED, "alice", NOW, before, after));
+        auditLog.close();
+
+        // Then
+        assertThat(history.findByTodoId(1L, null, 10)).singleElement().satisfies(entry -> {
+            assertThat(entry.before()).isEqualTo("{\"sortKey\":\"a0\"}");
+            assertThat(entry.after()).isEqualTo("{\"sortKey\":\"a0V\"}");
+        });
+    }
+
+    @Test
+    void shouldPageTheHistoryOfATodoNewestFirst() throws InterruptedException {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            auditLog.onTodoAudited(new TodoAuditEvent(1L, Action.UPDATED, "alice", NOW.plusSeconds(i), null, null));
+            auditLog.onTodoAudited(new TodoAuditEvent(2L, Action.UPDATED, "bob", NOW.plusSeconds(i), null, null));
+        }
+        auditLog.onTodoAudited(new TodoAuditEvent(2L, Action.COMPLETED, "bob", NOW, null, null));
+        auditLog.close();
+
+        // When
+        List<TodoAuditEntry> first = history.findByTodoId(1L, null, 4);
+        List<TodoAuditEntry> second = history.findByTodoId(1L, first.getLast().id(), 4);
+        List<TodoAuditEntry> last = history.findByTodoId(1L, second.getLast().id(), 4);
+
+        // Then
+        assertThat(first).extracting(TodoAuditEntry::occurredAt)
+                .containsExactly(NOW.plusSeconds(9), NOW.plusSeconds(8), NOW.plusSeconds(7), NOW.plusSeconds(6));
+        assertThat(second).extracting(TodoAuditEntry::occurredAt)
+                .containsExactly(NOW.plusSeconds(5), NOW.plusSeconds(4), NOW.plusSeconds(3), NOW.plusSeconds(2));
+        assertThat(last).extracting(TodoAuditEntry::occurredAt)
+                .containsExactly(NOW.plusSeconds(1), NOW);
+        assertThat(meterRegistry.get("todo.audit.written").counter().count()).isEqualTo(21);
+    }
+
+    @Test
+    void shouldDropAndCountEntriesOnceClosed() throws InterruptedException {
+        // Given
+        auditLog.close();
+
+        // When
+        auditLog.onTodoAudited(new TodoAuditEvent(1L, Action.DELETED, "alice", NOW, todo(1L, "Buy milk"), null));
+
+        // Then
+        assertThat(meterRegistry.get("todo.audit.dropped").counter().count()).isEqualTo(1);
+        assertThat(history.findByTodoId(1L, null, 10)).isEmpty();
+    }
+
+    private static Todo todo(long id, String title) {
+        Todo todo = new Todo(title, null);
+        todo.setId(id);
+        return todo;
+    }
+}
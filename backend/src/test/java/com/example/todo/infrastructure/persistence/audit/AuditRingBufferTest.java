@@ -0,0 +1,133 @@
+package com.example.todo.infrastructure.persistence.audit;
+
+import com.example.todo.application.service.TodoAuditEvent;
+import com.example.todo.application.service.TodoAuditEvent.Action;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditRingBufferTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 2, 12, 0);
+
+    @Test
+    void shouldRoundTheCapacityUpToAPowerOfTwo() {
+        assertThat(new AuditRingBuffer(1).capacity()).isEqualTo(1);
+        assertThat(new AuditRingBuffer(8).capacity()).isEqualTo(8);
+        assertThat(new AuditRingBuffer(9).capacity()).isEqualTo(16);
+    }
+
+    @Test
+    void shouldHandOutEventsInTheOrderTheyWereOffered() {
+        // Given
+        AuditRingBuffer buffer = new AuditRingBuffer(8);
+        for (long id = 1; id <= 5; id++) {
+            buffer.offer(event(id));
+        }
+        TodoAuditEvent[] batch = new TodoAuditEvent[3];
+
+        // When
+        int first = buffer.poll(batch);
+        List<Long> ids = ids(batch, first);
+        int second = buffer.poll(batch);
+        ids.addAll(ids(batch, second));
+
+        // Then
+        assertThat(first).isEqualTo(3);
+        assertThat(second).isEqualTo(2);
+        assertThat(ids).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(buffer.poll(batch)).isZero();
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void shouldRejectEventsWhileFullAndReuseSlotsOncePolled() {
+        // Given
+        AuditRingBuffer buffer = new AuditRingBuffer(4);
+        for (long id = 1; id <= 4; id++) {
+            assertThat(buffer.offer(event(id))).isTrue();
+        }
+
+        // When
+        boolean offeredWhileFull = buffer.offer(event(5), TimeUnit.MILLISECONDS.toNanos(5));
+        TodoAuditEvent[] batch = new TodoAuditEvent[2];
+        buffer.poll(batch);
+        boolean offeredAfterPoll = buffer.offer(event(6));
+
+        // Then
+        assertThat(offeredWhileFull).isFalse();
+        assertThat(offeredAfterPoll).isTrue();
+        TodoAuditEvent[] rest = new TodoAuditEvent[4];
+        assertThat(ids(rest, buffer.poll(rest))).containsExactly(3L, 4L, 6L);
+    }
+
+    @Test
+    void shouldKeepEveryEventOfConcurrentProducersInTheirOrder() throws Exception {
+        // Given
+        int producers = 4;
+        int perProducer = 20_000;
+        AuditRingBuffer buffer = new AuditRingBuffer(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (long i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(event(base + i))) {
+                        Thread.onSpinWait();
+                    }
+                }
+            }));
+        }
+
+        // When
+        start.countDown();
+        Map<Long, Long> lastByProducer = new HashMap<>();
+        int received = 0;
+        boolean ordered = true;
+        TodoAuditEvent[] batch = new TodoAuditEvent[16];
+        while (received < producers * perProducer) {
+            int count = buffer.poll(batch);
+            for (int i = 0; i < count; i++) {
+                long id = batch[i].todoId();
+                Long previous = lastByProducer.put(id / perProducer, id);
+                ordered &= previous == null || previous == id - 1;
+            }
+            received += count;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertThat(ordered).isTrue();
+        assertThat(lastByProducer).hasSize(producers);
+        assertThat(buffer.size()).isZero();
+    }
+
+    private static List<Long> ids(TodoAuditEvent[] batch, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(batch[i].todoId());
+        }
+        return ids;
+    }
+
+    private static TodoAuditEvent event(long todoId) {
+        return new TodoAuditEvent(todoId, Action.UPDATED, "alice", NOW, null, null);
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.todo.infrastructure.persistence.groupcommit;
+
+import com.example.todo.application.service.TodoAuditEvent;
+import com.example.todo.application.service.TodoAuditEvent.Action;
+import com.example.todo.application.service.TodosChangedEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.event.TransactionalApplicationListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GroupCommitTodoWriteExecutorTest {
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private GroupCommitTodoWriteExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:group-commit", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE todos (title VARCHAR(255) PRIMARY KEY)");
+        meterRegistry = new SimpleMeterRegistry();
+        // A long delay so the operations submitted by a test always end up in the same batch
+        executor = new GroupCommitTodoWriteExecutor(dataSource, new DataSourceTransactionManager(dataSource),
+                new GroupCommitProperties(true, 3, Duration.ofSeconds(5), 16), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.close();
+        dataSource.destroy();
+    }
+
+    @Test
+    void shouldCommitConcurrentOperationsTogether() throws Exception {
+        // When
+        List<String> results = submitAll(insert("First"), insert("Second"), insert("Third"));
+
+        // Then
+        assertThat(results).containsExactlyInAnyOrder("First", "Second", "Third");
+        assertThat(titles()).containsExactlyInAnyOrder("First", "Second", "Third");
+        DistributionSummary batchSizes = meterRegistry.get("todo.group-commit.batch.size").summary();
+        assertThat(batchSizes.count()).isEqualTo(1);
+        assertThat(batchSizes.totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotFailOtherOperationsOfTheBatch() throws Exception {
+        // Given
+        Supplier<String> failing = () -> {
+            jdbcTemplate.update("INSERT INTO todos VALUES ('Failing')");
+            throw new IllegalStateException("Boom");
+        };
+
+        // When
+        List<Object> results = submitAllCatching(insert("First"), failing, insert("Third"));
+
+        // Then
+        assertThat(results).containsExactlyInAnyOrder("First", "Third", "Boom");
+        assertThat(titles()).containsExactlyInAnyOrder("First", "Third");
+    }
+
+    @Test
+    void shouldCommitTheRestOfTheBatchOnceWhenAnOperationFails() throws Exception {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        Supplier<String> missing = () -> {
+            runs.incrementAndGet();
+            throw new IllegalArgumentException("Not found");
+        };
+
+        // When
+        List<Object> results = submitAllCatching(counted(runs, insert("First")), missing,
+                counted(runs, insert("Third")));
+
+        // Then
+        assertThat(results).containsExactlyInAnyOrder("First", "Not found", "Third");
+        assertThat(runs).hasValue(3);
+        assertThat(titles()).containsExactlyInAnyOrder("First", "Third");
+        assertThat(meterRegistry.get("todo.group-commit.batch.size").summary().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotDeliverTheEventsOfAFailedOperation() throws Exception {
+        // Given
+        List<Object> delivered = new CopyOnWriteArrayList<>();
+        try (GenericApplicationContext events = new GenericApplicationContext()) {
+            events.addApplicationListener(TransactionalApplicationListener.<Object>forPayload(delivered::add));
+            events.refresh();
+            Supplier<String> failing = () -> {
+                jdbcTemplate.update("INSERT INTO todos VALUES ('Failing')");
+                events.publishEvent(TodosChangedEvent.of(2L));
+                events.publishEvent(new TodoAuditEvent(2L, Action.CREATED, "alice", LocalDateTime.now(), null, null));
+                throw new IllegalStateException("Boom");
+            };
+
+            // When
+            List<Object> results = submitAllCatching(publishing(events, 1L, insert("First")), failing,
+                    publishing(events, 3L, insert("Third")));
+
+            // Then
+            assertThat(results).containsExactlyInAnyOrder("First", "Boom", "Third");
+            assertThat(delivered).containsExactlyInAnyOrder(TodosChangedEvent.of(1L), TodosChangedEvent.of(3L));
+            assertThat(meterRegistry.get("todo.group-commit.batch.size").summary().count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldFailOnlyTheConflictingOperation() throws Exception {
+        // When
+        List<Object> results = submitAllCatching(insert("Same"), insert("Same"), insert("Other"));
+
+        // Then
+        assertThat(results).filteredOn("Same"::equals).hasSize(1);
+        assertThat(results).contains("Other");
+        assertThat(titles()).containsExactlyInAnyOrder("Same", "Other");
+    }
+
+    @Test
+    void shouldRejectOperationsAfterClose() throws InterruptedException {
+        // Given
+        executor.close();
+
+        // When & Then
+        assertThatThrownBy(() -> executor.execute(insert("Late")))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void shouldAnswerEveryCallerRacingClose() throws Exception {
+        // Given
+        executor.close();
+        executor = new GroupCommitTodoWriteExecutor(dataSource, new DataSourceTransactionManager(dataSource),
+                new GroupCommitProperties(true, 4, Duration.ofMillis(1), 2), meterRegistry);
+        try (ExecutorService callers = Executors.newFixedThreadPool(8)) {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                String title = "Todo " + i;
+                futures.add(callers.submit(() -> {
+                    try {
+                        return (Object) executor.execute(insert(title));
+                    } catch (RejectedExecutionException e) {
+                        return e.getMessage();
+                    }
+                }));
+            }
+
+            // When
+            executor.close();
+
+            // Then
+            for (Future<Object> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isNotNull();
+            }
+        }
+    }
+
+    private static Supplier<String> publishing(ApplicationEventPublisher events, Long id,
+                                               Supplier<String> operation) {
+        return () -> {
+            String result = operation.get();
+            events.publishEvent(TodosChangedEvent.of(id));
+            return result;
+        };
+    }
+
+    private static Supplier<String> counted(AtomicInteger runs, Supplier<String> operation) {
+        return () -> {
+            runs.incrementAndGet();
+            return operation.get();
+        };
+    }
+
+    private Supplier<String> insert(String title) {
+        return () -> {
+            jdbcTemplate.update("INSERT INTO todos VALUES (?)", title);
+            return title;
+        };
+    }
+
+    private List<String> titles() {
+        return jdbcTemplate.queryForList("SELECT title FROM todos", String.class);
+    }
+
+    @SafeVarargs
+    private List<String> submitAll(Supplier<String>... operations) throws Exception {
+        try (ExecutorService callers = Executors.newFixedThreadPool(operations.length)) {
+            List<Future<String>> futures = Arrays.stream(operations)
+                    .map(operation -> callers.submit(() -> executor.execute(operation)))
+                    .toList();
+            List<String> results = new ArrayList<>();
+            for (Future<String> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+    /**
+     * @return the result of every operation, or the message of the exception it failed with
+     */
+    @SafeVarargs
+    private List<Object> submitAllCatching(Supplier<String>... operations) throws Exception {
+        try (ExecutorService callers = Executors.newFixedThreadPool(operations.length)) {
+            List<Future<Object>> futures = Arrays.stream(operations)
+                    .map(operation -> callers.submit(() -> {
+                        try {
+                            return (Object) executor.execute(operation);
+                        } catch (RuntimeException e) {
+                            return e.getMessage();
+                        }
+                    }))
+                    .toList();
+            List<Object> results = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.todo.infrastructure.persistence.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryIdempotencyStoreTest {
+
+    private static final IdempotentResponse CREATED = new IdempotentResponse(201, "application/json", new byte[]{1}, "f00d");
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+    private final InMemoryIdempotencyStore store =
+            new InMemoryIdempotencyStore(2, Duration.ofMinutes(10), Duration.ofSeconds(10), clock);
+
+    @Test
+    void shouldGrantReservationOnlyOnce() {
+        assertThat(store.reserve("key")).isTrue();
+        assertThat(store.reserve("key")).isFalse();
+        assertThat(store.find("key")).isEmpty();
+    }
+
+    @Test
+    void shouldReplayCompletedResponseUntilItExpires() {
+        // Given
+        store.reserve("key");
+        store.complete("key", CREATED);
+
+        // When & Then
+        assertThat(store.find("key")).contains(CREATED);
+        clock.advance(Duration.ofMinutes(10));
+        assertThat(store.find("key")).isEmpty();
+        assertThat(store.reserve("key")).isTrue();
+    }
+
+    @Test
+    void shouldFreeReservationOnReleaseOrExpiry() {
+        // Given
+        store.reserve("released");
+        store.reserve("abandoned");
+
+        // When
+        store.release("released");
+        clock.advance(Duration.ofSeconds(10));
+
+        // Then
+        assertThat(store.reserve("released")).isTrue();
+        assertThat(store.reserve("abandoned")).isTrue();
+    }
+
+    @Test
+    void shouldEvictOldestEntriesBeyondCapacity() {
+        // When
+        for (String key : new String[]{"first", "second", "third"}) {
+            store.reserve(key);
+            store.complete(key, CREATED);
+        }
+
+        // Then
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.find("first")).isEmpty();
+        assertThat(store.find("third")).contains(CREATED);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.todo.infrastructure.persistence.idempotency;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JdbcIdempotencyStoreTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final IdempotentResponse CREATED =
+            new IdempotentResponse(201, "application/json", "{\"id\":1}".getBytes(), "f00d");
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:idempotency", "sa", "", true);
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void shouldShareReservationsAndResponsesBetweenNodes() {
+        // Given
+        JdbcIdempotencyStore node1 = store(NOW);
+        JdbcIdempotencyStore node2 = store(NOW);
+
+        // When
+        boolean reservedByNode1 = node1.reserve("POST /api/todos abc");
+        boolean reservedByNode2 = node2.reserve("POST /api/todos abc");
+        node1.complete("POST /api/todos abc", CREATED);
+
+        // Then
+        assertThat(reservedByNode1).isTrue();
+        assertThat(reservedByNode2).isFalse();
+        IdempotentResponse replayed = node2.find("POST /api/todos abc").orElseThrow();
+        assertThat(replayed.status()).isEqualTo(201);
+        assertThat(replayed.body()).isEqualTo(CREATED.body());
+        assertThat(replayed.requestHash()).isEqualTo("f00d");
+    }
+
+    @Test
+    void shouldTakeOverExpiredReservation() {
+        // Given
+        store(NOW).reserve("key");
+
+        // When & Then
+        assertThat(store(NOW.plusSeconds(5)).reserve("key")).isFalse();
+        assertThat(store(NOW.plusSeconds(10)).reserve("key")).isTrue();
+    }
+
+    @Test
+    void shouldReleaseReservationAndPurgeExpiredResponses() {
+        // Given
+        JdbcIdempotencyStore store = store(NOW);
+        store.reserve("released");
+        store.reserve("completed");
+        store.complete("completed", CREATED);
+
+        // When
+        store.release("released");
+        int purged = store(NOW.plus(Duration.ofHours(1))).purgeExpired();
+
+        // Then
+        assertThat(purged).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_keys", Integer.class)).isZero();
+    }
+
+    private JdbcIdempotencyStore store(Instant now) {
+        return new JdbcIdempotencyStore(jdbcTemplate, Duration.ofHours(1), Duration.ofSeconds(10),
+                Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
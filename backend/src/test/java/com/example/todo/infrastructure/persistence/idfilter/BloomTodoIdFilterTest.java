@@ -0,0 +1,164 @@
+package com.example.todo.infrastructure.persistence.idfilter;
+
+import com.example.todo.application.service.TodosChangedEvent;
+import com.example.todo.domain.port.TodoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BloomTodoIdFilterTest {
+
+    private TodoRepository todoRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private BloomTodoIdFilter idFilter;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        idFilter = new BloomTodoIdFilter(todoRepository, TransactionOperations.withoutTransaction(),
+                new IdFilterProperties(true, 0.01, Duration.ofMinutes(10)), meterRegistry);
+    }
+
+    @Test
+    void shouldLetEverythingThroughUntilBuilt() {
+        assertThat(idFilter.mightExist(1L)).isTrue();
+    }
+
+    @Test
+    void shouldRejectUnknownIdsBelowTheHighestId() {
+        // Given
+        when(todoRepository.findAllIds()).thenReturn(List.of(2L, 4L, 6L));
+
+        // When
+        idFilter.rebuild();
+
+        // Then
+        assertThat(idFilter.mightExist(4L)).isTrue();
+        assertThat(idFilter.mightExist(5L)).isFalse();
+        assertThat(idFilter.mightExist(7L)).isTrue();
+        assertThat(meterRegistry.get("todo.id-filter.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAcceptIdsCreatedAfterTheRebuild() {
+        // Given
+        when(todoRepository.findAllIds()).thenReturn(List.of(10L));
+        idFilter.rebuild();
+
+        // When
+        idFilter.onTodosChanged(TodosChangedEvent.of(List.of(3L, 12L)));
+
+        // Then
+        assertThat(idFilter.mightExist(3L)).isTrue();
+        assertThat(idFilter.mightExist(12L)).isTrue();
+        assertThat(idFilter.mightExist(9L)).isFalse();
+    }
+
+    @Test
+    void shouldAcceptIdsOtherNodesCreatedBelowALocallyCreatedId() {
+        // Given
+        when(todoRepository.findAllIds()).thenReturn(List.of(10L));
+        idFilter.rebuild();
+
+        // When another node created 11 before this node created 12
+        idFilter.onTodosChanged(TodosChangedEvent.of(12L));
+
+        // Then
+        assertThat(idFilter.mightExist(11L)).isTrue();
+    }
+
+    @Test
+    void shouldLetEverythingThroughAfterAChangeOfAllTodosUntilRebuilt() {
+        // Given
+        when(todoRepository.findAllIds()).thenReturn(List.of(10L));
+        idFilter.rebuild();
+
+        // When
+        idFilter.onTodosChanged(TodosChangedEvent.all());
+
+        // Then
+        assertThat(idFilter.mightExist(5L)).isTrue();
+
+        // When
+        when(todoRepository.findAllIds()).thenReturn(List.of(5L, 10L));
+        idFilter.rebuildIfCleared();
+
+        // Then
+        assertThat(idFilter.mightExist(5L)).isTrue();
+        assertThat(idFilter.mightExist(6L)).isFalse();
+        verify(todoRepository, times(2)).findAllIds();
+    }
+
+    @Test
+    void shouldNotInstallARebuildThatRanDuringAChangeOfAllTodos() {
+        // Given
+        when(todoRepository.findAllIds()).thenAnswer(invocation -> {
+            idFilter.onTodosChanged(TodosChangedEvent.all());
+            return List.of(10L);
+        });
+
+        // When
+        idFilter.rebuild();
+
+        // Then
+        assertThat(idFilter.mightExist(5L)).isTrue();
+    }
+
+    @Test
+    void shouldKeepAWatermarkPerIdPartition() {
+        // Given ids whose low bit names one of two shards
+        BloomTodoIdFilter sharded = new BloomTodoIdFilter(todoRepository, TransactionOperations.withoutTransaction(),
+                new IdFilterProperties(true, 0.01, Duration.ofMinutes(10)), 1, meterRegistry);
+        when(todoRepository.findAllIds()).thenReturn(List.of(20L, 21L, 41L));
+
+        // When
+        sharded.rebuild();
+
+        // Then
+        assertThat(sharded.mightExist(22L)).isTrue();
+        assertThat(sharded.mightExist(18L)).isFalse();
+        assertThat(sharded.mightExist(39L)).isFalse();
+        assertThat(sharded.mightExist(43L)).isTrue();
+    }
+
+    @Test
+    void shouldKeepIdsCreatedWhileRebuilding() {
+        // Given
+        when(todoRepository.findAllIds()).thenAnswer(invocation -> {
+            idFilter.onTodosChanged(TodosChangedEvent.of(5L));
+            return List.of(10L);
+        });
+
+        // When
+        idFilter.rebuild();
+
+        // Then
+        assertThat(idFilter.mightExist(5L)).isTrue();
+    }
+
+    @Test
+    void shouldKeepTheFalsePositiveRateNearTheConfiguredOne() {
+        // Given
+        LongBloomFilter filter = LongBloomFilter.create(10_000, 0.01);
+        LongStream.range(0, 10_000).forEach(id -> filter.add(id * 2));
+
+        // When
+        long falsePositives = LongStream.range(0, 10_000).filter(id -> filter.mightContain(id * 2 + 1)).count();
+
+        // Then
+        assertThat(LongStream.range(0, 10_000).allMatch(id -> filter.mightContain(id * 2))).isTrue();
+        assertThat(falsePositives).isLessThan(200);
+    }
+}
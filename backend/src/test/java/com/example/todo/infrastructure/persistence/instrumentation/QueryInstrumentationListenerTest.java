@@ -0,0 +1,87 @@
+package com.example.todo.infrastructure.persistence.instrumentation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryInstrumentationListenerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SingleConnectionDataSource target;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        target = new SingleConnectionDataSource("jdbc:h2:mem:" + UUID.randomUUID(), "sa", "", true);
+        QueryInstrumentationListener listener = new QueryInstrumentationListener(meterRegistry, Duration.ZERO);
+        jdbcTemplate = new JdbcTemplate(InstrumentedDataSourcePostProcessor.instrument(target, listener));
+        jdbcTemplate.execute("CREATE TABLE todos (id BIGINT PRIMARY KEY, title VARCHAR(255))");
+    }
+
+    @AfterEach
+    void tearDown() {
+        target.destroy();
+    }
+
+    @Test
+    void shouldRecordLatencyAndRowsPerStatementShape() {
+        // Given
+        jdbcTemplate.update("INSERT INTO todos VALUES (1, 'First'), (2, 'Second'), (3, 'Third')");
+
+        // When
+        jdbcTemplate.queryForList("SELECT title FROM todos WHERE id > ?", String.class, 0);
+        jdbcTemplate.queryForList("SELECT title FROM todos WHERE id > ?", String.class, 2);
+
+        // Then
+        String select = "SELECT title FROM todos WHERE id > ?";
+        assertThat(meterRegistry.get("todo.jdbc.statement").tag("statement", select).timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("todo.jdbc.statement.rows").tag("statement", select).summary().totalAmount())
+                .isEqualTo(4);
+        assertThat(meterRegistry.get("todo.jdbc.statement.rows").tag("operation", "insert").summary().totalAmount())
+                .isEqualTo(3);
+    }
+
+    @Test
+    void shouldCollectStatementsWithParametersIntoTheCurrentCapture() {
+        // When
+        StatementLog log;
+        try (StatementCapture capture = StatementCapture.start()) {
+            jdbcTemplate.update("INSERT INTO todos VALUES (?, ?)", 1, "First");
+            jdbcTemplate.queryForList("SELECT title FROM todos WHERE id = ?", String.class, 1);
+            log = capture.log();
+        }
+        jdbcTemplate.queryForList("SELECT title FROM todos", String.class);
+
+        // Then
+        assertThat(log.count()).isEqualTo(2);
+        assertThat(log.statements().get(1).parameters()).containsExactly(1);
+        assertThat(log.statements().get(1).shape().table()).isEqualTo("todos");
+    }
+
+    @Test
+    void shouldOnlyInstrumentTheApplicationDataSource() {
+        // Given
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("listener", new QueryInstrumentationListener(meterRegistry, Duration.ZERO));
+        InstrumentedDataSourcePostProcessor postProcessor =
+                new InstrumentedDataSourcePostProcessor(beanFactory.getBeanProvider(QueryInstrumentationListener.class));
+
+        // When
+        Object instrumented = postProcessor.postProcessAfterInitialization(target, "dataSource");
+        Object replica = postProcessor.postProcessAfterInitialization(target, "replicaDataSource");
+
+        // Then
+        assertThat(instrumented).isNotSameAs(target).isInstanceOf(DataSource.class);
+        assertThat(replica).isSameAs(target);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.todo.infrastructure.persistence.instrumentation;
+
+import org.assertj.core.api.AbstractAssert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AssertJ assertions on the statements an action sends through the instrumented data source, to pin the
+ * number of round trips of a use case:
+ * <pre>{@code
+ * assertThatStatementsOf(() -> todoService.deleteTodo(id))
+ *         .hasCount(3)
+ *         .hasCount("select", 2)
+ *         .hasCount("delete", 1);
+ * }</pre>
+ */
+public class StatementLogAssert extends AbstractAssert<StatementLogAssert, StatementLog> {
+
+    private static final int N_PLUS_ONE_THRESHOLD = 3;
+
+    private StatementLogAssert(StatementLog actual) {
+        super(actual, StatementLogAssert.class);
+    }
+
+    public static StatementLogAssert assertThatStatementsOf(Runnable action) {
+        try (StatementCapture capture = StatementCapture.start()) {
+            action.run();
+            return new StatementLogAssert(capture.log());
+        }
+    }
+
+    public StatementLogAssert hasCount(int expected) {
+        assertThat(actual.count())
+                .as("statements executed: %s", actual.statements())
+                .isEqualTo(expected);
+        return this;
+    }
+
+    public StatementLogAssert hasCount(String operation, int expected) {
+        assertThat(actual.count(operation))
+                .as("%s statements executed: %s", operation, actual.statements())
+                .isEqualTo(expected);
+        return this;
+    }
+
+    public StatementLogAssert hasNoNPlusOne() {
+        assertThat(actual.findings(N_PLUS_ONE_THRESHOLD)).as("N+1 findings").isEmpty();
+        return this;
+    }
+
+    public StatementLogAssert hasNPlusOne(StatementLog.Finding.Kind kind) {
+        assertThat(actual.findings(N_PLUS_ONE_THRESHOLD)).as("N+1 findings")
+                .extracting(StatementLog.Finding::kind)
+                .contains(kind);
+        return this;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.todo.infrastructure.persistence.instrumentation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementLogTest {
+
+    @Test
+    void shouldNormalizeLiteralsAndParameterLists() {
+        // When
+        StatementShape shape = StatementShape.of("SELECT *\n  FROM Todos WHERE title = 'it''s' AND id IN (?, ?, ?) LIMIT 10");
+
+        // Then
+        assertThat(shape.sql()).isEqualTo("SELECT * FROM Todos WHERE title = ? AND id IN (?) LIMIT ?");
+        assertThat(shape.operation()).isEqualTo("select");
+        assertThat(shape.table()).isEqualTo("todos");
+        assertThat(StatementShape.of("select next value for todo_sequence").table()).isEqualTo("todo_sequence");
+        assertThat(StatementShape.of("update todos set title=? where id=?").operation()).isEqualTo("update");
+    }
+
+    @Test
+    void shouldClassifyAChangeReadBackThroughADeltaTableByTheChange() {
+        // When
+        StatementShape update = StatementShape.of(
+                "SELECT id FROM FINAL TABLE (UPDATE todos SET completed = ? WHERE completed = ?)");
+        StatementShape delete = StatementShape.of("SELECT id FROM OLD TABLE (DELETE FROM todos WHERE completed = ?)");
+
+        // Then
+        assertThat(update.operation()).isEqualTo("update");
+        assertThat(update.table()).isEqualTo("todos");
+        assertThat(delete.operation()).isEqualTo("delete");
+        assertThat(delete.table()).isEqualTo("todos");
+    }
+
+    @Test
+    void shouldReportSelectRepeatedPerRowOfAnEarlierResult() {
+        // Given
+        StatementLog log = new StatementLog();
+        log.add(statement("select id from todos", List.of()));
+        for (long id = 1; id <= 3; id++) {
+            log.add(statement("select * from tags where todo_id=?", List.of(id)));
+        }
+
+        // When
+        List<StatementLog.Finding> findings = log.findings(3);
+
+        // Then
+        assertThat(findings).singleElement().satisfies(finding -> {
+            assertThat(finding.kind()).isEqualTo(StatementLog.Finding.Kind.REPEATED_QUERY);
+            assertThat(finding.shape().table()).isEqualTo("tags");
+            assertThat(finding.executions()).isEqualTo(3);
+        });
+    }
+
+    @Test
+    void shouldReportRowsReadTwiceByKey() {
+        // Given
+        StatementLog log = new StatementLog();
+        log.add(statement("select count(*) from todos where id=?", List.of(7L)));
+        log.add(statement("select id, title from todos where id=?", List.of(7L)));
+        log.add(statement("delete from todos where id=?", List.of(7L)));
+
+        // When & Then
+        assertThat(log.findings(3)).extracting(StatementLog.Finding::kind)
+                .containsExactly(StatementLog.Finding.Kind.REDUNDANT_READ);
+        assertThat(log.count()).isEqualTo(3);
+        assertThat(log.count("select")).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotReportDistinctReads() {
+        // Given
+        StatementLog log = new StatementLog();
+        log.add(statement("select * from todos where id=?", List.of(1L)));
+        log.add(statement("select * from todos where id=?", List.of(2L)));
+        log.add(statement("select next value for todo_sequence", List.of()));
+
+        // When & Then
+        assertThat(log.findings(3)).isEmpty();
+    }
+
+    private static ExecutedStatement statement(String sql, List<Object> parameters) {
+        return new ExecutedStatement(StatementShape.of(sql), parameters);
+    }
+}
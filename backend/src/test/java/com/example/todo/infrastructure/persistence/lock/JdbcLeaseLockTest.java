@@ -0,0 +1,191 @@
+package com.example.todo.infrastructure.persistence.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Expiry is decided by the database clock, so leases are expired by moving their row into the past
+ */
+class JdbcLeaseLockTest {
+
+    private static final String LOCK = "job";
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private final List<JdbcLeaseLock> nodes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:lease-lock", "sa", "", true);
+        Flyway.configure().dataSource(dataSource).load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(JdbcLeaseLock::close);
+        dataSource.destroy();
+    }
+
+    @Test
+    void shouldLetOtherNodesTakeOverOnlyAfterTheLeaseExpired() {
+        // Given
+        Lease lease = node("node-1").tryAcquire(LOCK).orElseThrow();
+
+        // When & Then
+        assertThat(lease.fencingToken()).isEqualTo(1);
+        assertThat(node("node-2").tryAcquire(LOCK)).isEmpty();
+        expire();
+        Lease takenOver = node("node-2").tryAcquire(LOCK).orElseThrow();
+        assertThat(takenOver.owner()).isEqualTo("node-2");
+        assertThat(takenOver.fencingToken()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldSetTheExpiryFromTheDatabaseClock() {
+        // When
+        node("node-1").tryAcquire(LOCK).orElseThrow();
+
+        // Then
+        assertThat(secondsUntilExpiry()).isBetween(55L, 60L);
+    }
+
+    @Test
+    void shouldKeepTheLeaseWhileTheHolderRenewsIt() {
+        // Given
+        JdbcLeaseLock holder = node("node-1");
+        Lease lease = holder.tryAcquire(LOCK).orElseThrow();
+        expireIn(Duration.ofSeconds(1));
+
+        // When
+        boolean renewed = holder.renew(lease);
+
+        // Then
+        assertThat(renewed).isTrue();
+        assertThat(secondsUntilExpiry()).isBetween(55L, 60L);
+        assertThat(node("node-2").tryAcquire(LOCK)).isEmpty();
+        assertThat(holder.isHeld(lease)).isTrue();
+        assertThat(holder.isHeld(LOCK, 1)).isTrue();
+    }
+
+    @Test
+    void shouldNotCountAnExpiredLeaseAsHeld() {
+        // Given
+        JdbcLeaseLock holder = node("node-1");
+        Lease lease = holder.tryAcquire(LOCK).orElseThrow();
+
+        // When
+        expire();
+
+        // Then
+        assertThat(holder.isHeld(lease)).isFalse();
+        assertThat(holder.isHeld(LOCK, lease.fencingToken())).isFalse();
+    }
+
+    @Test
+    void shouldFenceOffAHolderThatLostItsLease() {
+        // Given
+        JdbcLeaseLock formerHolder = node("node-1");
+        Lease stale = formerHolder.tryAcquire(LOCK).orElseThrow();
+        expire();
+        JdbcLeaseLock holder = node("node-2");
+        Lease current = holder.tryAcquire(LOCK).orElseThrow();
+
+        // When
+        boolean renewed = formerHolder.renew(stale);
+        formerHolder.release(stale);
+
+        // Then
+        assertThat(renewed).isFalse();
+        assertThat(formerHolder.isHeld(stale)).isFalse();
+        assertThat(formerHolder.isHeld(LOCK, stale.fencingToken())).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT owner FROM scheduler_locks WHERE lock_name = ?", String.class, LOCK))
+                .isEqualTo("node-2");
+        assertThat(node("node-3").tryAcquire(LOCK)).isEmpty();
+        assertThat(holder.isHeld(current)).isTrue();
+        assertThat(holder.isHeld(LOCK, current.fencingToken())).isTrue();
+    }
+
+    @Test
+    void shouldHoldTheLockAtLeastForTheConfiguredTimeAfterRelease() {
+        // Given
+        JdbcLeaseLock holder = node("node-1");
+        Lease lease = holder.tryAcquire(LOCK).orElseThrow();
+
+        // When
+        holder.release(lease);
+
+        // Then
+        assertThat(secondsUntilExpiry()).isBetween(55L, 60L);
+        assertThat(node("node-2").tryAcquire(LOCK)).isEmpty();
+        expire();
+        assertThat(node("node-2").tryAcquire(LOCK)).isPresent();
+    }
+
+    @Test
+    void shouldLetTheHolderTakeItsLockAgainBeforeTheMinimumHoldPassed() {
+        // Given
+        JdbcLeaseLock holder = node("node-1");
+        holder.release(holder.tryAcquire(LOCK).orElseThrow());
+
+        // When
+        Lease again = holder.tryAcquire(LOCK).orElseThrow();
+
+        // Then
+        assertThat(again.fencingToken()).isEqualTo(2);
+        assertThat(node("node-2").tryAcquire(LOCK)).isEmpty();
+    }
+
+    @Test
+    void shouldRunTaskWithTheLeaseAndReleaseItAfterwards() {
+        // Given
+        LeaseLockProperties properties = new LeaseLockProperties(Duration.ofSeconds(60), Duration.ofSeconds(20),
+                Duration.ZERO, "node-1");
+        AtomicLong fencingToken = new AtomicLong();
+
+        // When
+        boolean ran;
+        try (JdbcLeaseLock lock = new JdbcLeaseLock(jdbcTemplate, properties, new SimpleMeterRegistry())) {
+            ran = lock.runExclusively(LOCK, lease -> fencingToken.set(lease.fencingToken()));
+        }
+
+        // Then
+        assertThat(ran).isTrue();
+        assertThat(fencingToken).hasValue(1);
+        assertThat(node("node-2").tryAcquire(LOCK).orElseThrow().fencingToken()).isEqualTo(2);
+    }
+
+    private JdbcLeaseLock node(String owner) {
+        LeaseLockProperties properties = new LeaseLockProperties(Duration.ofSeconds(60), Duration.ofSeconds(20),
+                Duration.ofMinutes(1), owner);
+        JdbcLeaseLock node = new JdbcLeaseLock(jdbcTemplate, properties, new SimpleMeterRegistry());
+        nodes.add(node);
+        return node;
+    }
+
+    private void expire() {
+        expireIn(Duration.ofMillis(-1));
+    }
+
+    private void expireIn(Duration duration) {
+        jdbcTemplate.update("UPDATE scheduler_locks SET expires_at = DATEADD(MILLISECOND, ?, LOCALTIMESTAMP) "
+                + "WHERE lock_name = ?", duration.toMillis(), LOCK);
+    }
+
+    private long secondsUntilExpiry() {
+        return jdbcTemplate.queryForObject("SELECT DATEDIFF(SECOND, LOCALTIMESTAMP, expires_at) FROM scheduler_locks "
+                + "WHERE lock_name = ?", Long.class, LOCK);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.todo.infrastructure.persistence.ordering;
+
+import com.example.todo.application.service.TodosChangedEvent;
+import com.example.todo.domain.model.SortKeys;
+import com.example.todo.domain.port.TodoRepository;
+import com.example.todo.infrastructure.persistence.lock.JdbcLeaseLock;
+import com.example.todo.infrastructure.persistence.lock.Lease;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SortKeyRebalancerTest {
+
+    private TodoRepository todoRepository;
+    private JdbcLeaseLock schedulerLock;
+    private SimpleMeterRegistry meterRegistry;
+    private ApplicationEventPublisher eventPublisher;
+    private SortKeyRebalancer rebalancer;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        schedulerLock = mock(JdbcLeaseLock.class);
+        when(schedulerLock.runExclusively(eq(SortKeyRebalancer.REBALANCE_SORT_KEYS_LOCK), any()))
+                .thenAnswer(invocation -> {
+                    invocation.<Consumer<Lease>>getArgument(1).accept(mock(Lease.class));
+                    return true;
+                });
+        meterRegistry = new SimpleMeterRegistry();
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        rebalancer = new SortKeyRebalancer(todoRepository, TransactionOperations.withoutTransaction(), schedulerLock,
+                new OrderingProperties(true, 6, Duration.ofMinutes(10)), eventPublisher, meterRegistry);
+    }
+
+    @Test
+    void shouldLeaveShortDistinctKeysAlone() {
+        // Given
+        when(todoRepository.needsSortKeyRebalance(6)).thenReturn(false);
+
+        // When
+        rebalancer.rebalanceIfNeeded();
+
+        // Then
+        verify(schedulerLock, never()).runExclusively(any(), any());
+        verify(todoRepository, never()).updateSortKeys(any());
+        assertThat(meterRegistry.get("todo.ordering.rewritten").counter().count()).isZero();
+    }
+
+    @Test
+    void shouldRewriteAllKeysInTheCurrentListOrder() {
+        // Given
+        when(todoRepository.needsSortKeyRebalance(6)).thenReturn(true);
+        when(todoRepository.findAllIdsInListOrderForUpdate()).thenReturn(List.of(2L, 1L, 3L));
+
+        // When
+        rebalancer.rebalanceIfNeeded();
+
+        // Then
+        ArgumentCaptor<Map<Long, String>> sortKeys = ArgumentCaptor.captor();
+        verify(todoRepository).updateSortKeys(sortKeys.capture());
+        assertThat(sortKeys.getValue().entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(Comparator.naturalOrder()))
+                .map(Map.Entry::getKey)).containsExactly(2L, 1L, 3L);
+        assertThat(sortKeys.getValue().values()).doesNotHaveDuplicates()
+                .allMatch(SortKeys::isValid)
+                .allMatch(key -> key.length() <= 6);
+        assertThat(meterRegistry.get("todo.ordering.rewritten").counter().count()).isEqualTo(3);
+        verify(eventPublisher).publishEvent(TodosChangedEvent.all());
+    }
+}
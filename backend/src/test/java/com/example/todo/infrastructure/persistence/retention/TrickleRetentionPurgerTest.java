@@ -0,0 +1,151 @@
+package com.example.todo.infrastructure.persistence.retention;
+
+import com.example.todo.application.service.TodosChangedEvent;
+import com.example.todo.domain.port.TodoRepository;
+import com.example.todo.infrastructure.persistence.lock.JdbcLeaseLock;
+import com.example.todo.infrastructure.persistence.lock.Lease;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TrickleRetentionPurgerTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-02T12:00:00Z");
+    private static final LocalDateTime CUTOFF = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).minusHours(24);
+
+    private TodoRepository todoRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private ApplicationEventPublisher eventPublisher;
+    private JdbcLeaseLock schedulerLock;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        schedulerLock = mock(JdbcLeaseLock.class);
+        when(schedulerLock.runExclusively(eq(TrickleRetentionPurger.RETENTION_PURGE_LOCK), any()))
+                .thenAnswer(invocation -> {
+                    invocation.<Consumer<Lease>>getArgument(1).accept(null);
+                    return true;
+                });
+    }
+
+    @Test
+    void shouldDeleteTheOldestCompletedTodosPastTheRetentionPeriodAndRefreshTheBacklog() {
+        // Given
+        when(todoRepository.findCompletedIdsUpdatedBefore(CUTOFF, 2)).thenReturn(List.of(1L, 2L));
+        when(todoRepository.deleteCompletedUpdatedBefore(List.of(1L, 2L), CUTOFF)).thenReturn(2);
+        when(todoRepository.countCompletedUpdatedBefore(CUTOFF)).thenReturn(1L);
+        when(todoRepository.findOldestCompletedUpdateBefore(CUTOFF)).thenReturn(Optional.of(CUTOFF.minusHours(1)));
+        TrickleRetentionPurger purger = purger(true, 2, Duration.ofSeconds(1));
+
+        // When
+        int deleted = purger.purgeSlice();
+
+        // Then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(meterRegistry.get("todo.retention.deleted").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("todo.retention.backlog").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("todo.retention.lag").timeGauge().value(TimeUnit.HOURS)).isEqualTo(1);
+        verify(eventPublisher).publishEvent(TodosChangedEvent.of(List.of(1L, 2L)));
+    }
+
+    @Test
+    void shouldReportAnEmptyBacklogOnceCaughtUp() {
+        // Given
+        when(todoRepository.findCompletedIdsUpdatedBefore(eq(CUTOFF), anyInt())).thenReturn(List.of());
+        when(todoRepository.findOldestCompletedUpdateBefore(CUTOFF)).thenReturn(Optional.empty());
+        TrickleRetentionPurger purger = purger(true, 10, Duration.ofSeconds(1));
+
+        // When
+        int deleted = purger.purgeSlice();
+
+        // Then
+        assertThat(deleted).isZero();
+        assertThat(meterRegistry.get("todo.retention.backlog").gauge().value()).isZero();
+        assertThat(meterRegistry.get("todo.retention.lag").timeGauge().value(TimeUnit.MILLISECONDS)).isZero();
+        verify(todoRepository, never()).deleteCompletedUpdatedBefore(any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldHalveTheSliceWhenItExceedsTheTransactionBudget() {
+        // Given
+        when(todoRepository.findCompletedIdsUpdatedBefore(eq(CUTOFF), anyInt())).thenAnswer(invocation ->
+                LongStream.rangeClosed(1, invocation.<Integer>getArgument(1)).boxed().toList());
+        when(todoRepository.deleteCompletedUpdatedBefore(any(), eq(CUTOFF)))
+                .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(0).size());
+        TrickleRetentionPurger purger = purger(true, 8, Duration.ZERO);
+
+        // When
+        int first = purger.purgeSlice();
+        int second = purger.purgeSlice();
+
+        // Then
+        assertThat(first).isEqualTo(8);
+        assertThat(second).isEqualTo(4);
+        assertThat(purger.sliceSize()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldOnlyDeleteSlicesOnRequestWhileTheContinuousPurgeIsDisabled() {
+        // Given
+        when(todoRepository.findCompletedIdsUpdatedBefore(CUTOFF, 5)).thenReturn(List.of(7L));
+        when(todoRepository.deleteCompletedUpdatedBefore(List.of(7L), CUTOFF)).thenReturn(1);
+        TrickleRetentionPurger purger = purger(false, 5, Duration.ofSeconds(1));
+
+        // When
+        int scheduled = purger.purgeSlice();
+        int requested = purger.deleteSlice();
+
+        // Then
+        assertThat(scheduled).isZero();
+        assertThat(requested).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSkipTheSliceWhileAnotherNodeHoldsTheLock() {
+        // Given
+        when(schedulerLock.runExclusively(eq(TrickleRetentionPurger.RETENTION_PURGE_LOCK), any())).thenReturn(false);
+        TrickleRetentionPurger purger = purger(true, 5, Duration.ofSeconds(1));
+
+        // When
+        int deleted = purger.purgeSlice();
+
+        // Then
+        assertThat(deleted).isZero();
+        verifyNoInteractions(todoRepository, eventPublisher);
+    }
+
+    private TrickleRetentionPurger purger(boolean enabled, int maxRowsPerSecond, Duration maxTransactionDuration) {
+        RetentionProperties properties = new RetentionProperties(enabled, Duration.ofHours(24), Duration.ofSeconds(1),
+                maxRowsPerSecond, maxTransactionDuration);
+        return new TrickleRetentionPurger(todoRepository, TransactionOperations.withoutTransaction(), schedulerLock,
+                properties, eventPublisher, meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+}
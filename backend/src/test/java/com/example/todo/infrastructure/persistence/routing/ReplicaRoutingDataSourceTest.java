@@ -0,0 +1,112 @@
+package com.example.todo.infrastructure.persistence.routing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Separate in-memory H2 databases stand in for the primary and the replicas, each
+ * knows its own name so the tests can tell where a statement ran
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private SingleConnectionDataSource primary;
+    private SingleConnectionDataSource replica0;
+    private SingleConnectionDataSource replica1;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica0 = database("replica-0");
+        replica1 = database("replica-1");
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, List.of(replica0, replica1)));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+        primary.destroy();
+        replica0.destroy();
+        replica1.destroy();
+    }
+
+    @Test
+    void shouldRunReadWriteTransactionsOnThePrimary() {
+        assertThat(originOf(readWrite)).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldSpreadReadOnlyTransactionsOverTheReplicas() {
+        // When
+        String first = originOf(readOnly);
+        String second = originOf(readOnly);
+        String third = originOf(readOnly);
+
+        // Then
+        assertThat(List.of(first, second)).containsExactlyInAnyOrder("replica-0", "replica-1");
+        assertThat(third).isEqualTo(first);
+    }
+
+    @Test
+    void shouldRunReadOnlyTransactionsOnThePrimaryWhenPinned() {
+        // Given
+        ReadYourWritesContext.pinToPrimary();
+
+        // When & Then
+        assertThat(originOf(readOnly)).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldCloseOnlyTheReplicas() {
+        // Given
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica0));
+
+        // When
+        routing.close();
+
+        // Then
+        assertThatThrownBy(() -> replica0.getConnection().createStatement()).isInstanceOf(SQLException.class);
+        assertThat(new JdbcTemplate(primary).queryForObject("SELECT name FROM origin", String.class)).isEqualTo("primary");
+    }
+
+    @Test
+    void shouldRequireAtLeastOneReplica() {
+        assertThatThrownBy(() -> new ReplicaRoutingDataSource(primary, List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String originOf(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM origin", String.class));
+    }
+
+    private static SingleConnectionDataSource database(String name) {
+        SingleConnectionDataSource dataSource =
+                new SingleConnectionDataSource("jdbc:h2:mem:routing-" + name, "sa", "", true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE origin (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO origin VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,335 @@
+package com.example.todo.infrastructure.persistence.sharding;
+
+import com.example.todo.domain.model.SortKeys;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoField;
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardedTodoPersistenceAdapterTest {
+
+    private static final int SHARDS = 3;
+
+    private final List<HikariDataSource> dataSources = new ArrayList<>();
+    private ShardedTodoPersistenceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < SHARDS; i++) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+            dataSource.setUsername("sa");
+            dataSource.setMaximumPoolSize(2);
+            Flyway.configure().dataSource(dataSource).load().migrate();
+            dataSources.add(dataSource);
+        }
+        adapter = new ShardedTodoPersistenceAdapter(dataSources);
+    }
+
+    @AfterEach
+    void tearDown() {
+        adapter.close();
+    }
+
+    @Test
+    void shouldSpreadNewTodosRoundRobinAndEmbedTheShardInTheId() {
+        // When
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            ids.add(adapter.save(new Todo("Todo " + i, null)).getId());
+        }
+
+        // Then
+        assertThat(ids).extracting(ShardedTodoPersistenceAdapter::shardOf).containsExactly(0, 1, 2, 0, 1, 2);
+        assertThat(ids).doesNotHaveDuplicates();
+        for (int shard = 0; shard < SHARDS; shard++) {
+            assertThat(new JdbcTemplate(dataSources.get(shard)).queryForObject("SELECT COUNT(*) FROM todos", Long.class))
+                    .isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldRouteSingleRowOperationsByTheShardInTheId() {
+        // Given
+        Todo todo = adapter.save(new Todo("Title", "Description"));
+        todo.markAsCompleted();
+
+        // When
+        adapter.save(todo);
+
+        // Then
+        assertThat(adapter.findById(todo.getId())).hasValueSatisfying(found -> assertThat(found.isCompleted()).isTrue());
+        assertThat(adapter.existsById(todo.getId())).isTrue();
+        adapter.deleteById(todo.getId());
+        assertThat(adapter.existsById(todo.getId())).isFalse();
+        assertThat(adapter.findById(todo.getId())).isEmpty();
+    }
+
+    @Test
+    void shouldTreatIdsOfUnconfiguredShardsAsMissing() {
+        // Given
+        long foreignId = ShardedTodoPersistenceAdapter.idOf(1, SHARDS);
+        Todo foreign = new Todo("Foreign", null);
+        foreign.setId(foreignId);
+
+        // When & Then
+        assertThat(adapter.findById(foreignId)).isEmpty();
+        assertThat(adapter.existsById(foreignId)).isFalse();
+        assertThatThrownBy(() -> adapter.save(foreign)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldMergeAllShardsInListOrderAndCompletedTodosInCreationOrder() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2026, 1, 1, 0, 0);
+        List<String> sortKeys = SortKeys.between(null, null, 9);
+        for (int i = 0; i < 9; i++) {
+            Todo todo = new Todo("Todo " + i, null);
+            // Later todos land on earlier shards with earlier timestamps and keys, so shard order alone is wrong
+            todo.setCreatedAt(start.minusMinutes(i));
+            todo.setSortKey(sortKeys.get(8 - i));
+            if (i % 2 == 0) {
+                todo.markAsCompleted();
+            }
+            adapter.save(todo);
+        }
+
+        // When
+        List<Todo> all = adapter.findAll();
+        List<Todo> completed = adapter.findCompletedTodos();
+
+        // Then
+        assertThat(all).hasSize(9).isSortedAccordingTo(Comparator.comparing(Todo::getSortKey));
+        assertThat(all.getFirst().getTitle()).isEqualTo("Todo 8");
+        assertThat(completed).hasSize(5).allMatch(Todo::isCompleted)
+                .isSortedAccordingTo(Comparator.comparing(Todo::getCreatedAt));
+    }
+
+    @Test
+    void shouldDeleteOnEveryAffectedShard() {
+        // Given
+        for (int i = 0; i < 6; i++) {
+            Todo todo = new Todo("Todo " + i, null);
+            if (i != 4) {
+                todo.markAsCompleted();
+            }
+            adapter.save(todo);
+        }
+
+        // When
+        adapter.deleteAll(adapter.findCompletedTodos());
+
+        // Then
+        assertThat(adapter.findAll()).extracting(Todo::getTitle).containsExactly("Todo 4");
+    }
+
+    @Test
+    void shouldRunBulkStatementsOnEveryShardAndCollectTheChangedIds() {
+        // Given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            ids.add(adapter.save(new Todo("Todo " + i, null)).getId());
+        }
+        LocalDateTime now = LocalDateTime.now();
+
+        // When
+        List<Long> updated = adapter.updateCompleted(List.of(ids.get(0), ids.get(1), ids.get(2), ids.get(0)), true,
+                now);
+        List<Long> completed = adapter.completeAll(now);
+        List<Long> deleted = adapter.deleteCompleted();
+
+        // Then
+        assertThat(updated).containsExactlyInAnyOrder(ids.get(0), ids.get(1), ids.get(2));
+        assertThat(completed).containsExactlyInAnyOrder(ids.get(3), ids.get(4), ids.get(5));
+        assertThat(deleted).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(adapter.findAll()).isEmpty();
+    }
+
+    @Test
+    void shouldFindTodosByIdOnTheirShardsInListOrder() {
+        // Given
+        List<String> sortKeys = SortKeys.between(null, null, 5);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Todo todo = new Todo("Todo " + i, null);
+            todo.setSortKey(sortKeys.get(4 - i));
+            ids.add(adapter.save(todo).getId());
+        }
+
+        // When
+        List<Todo> found = adapter.findAllById(List.of(ids.get(4), ids.get(1), ids.get(2), 1L << 20 | 999));
+
+        // Then
+        assertThat(found).extracting(Todo::getTitle).containsExactly("Todo 4", "Todo 2", "Todo 1");
+    }
+
+    @Test
+    void shouldReadOnlyTheRequestedFieldsFromEveryShardInListOrder() {
+        // Given
+        List<String> sortKeys = SortKeys.between(null, null, 5);
+        for (int i = 0; i < 5; i++) {
+            Todo todo = new Todo("Todo " + i, "Description " + i);
+            todo.setCreatedAt(LocalDateTime.of(2026, 1, 1, 12, 0).plusMinutes(i));
+            todo.setSortKey(sortKeys.get(4 - i));
+            adapter.save(todo);
+        }
+
+        // When
+        List<Todo> todos = adapter.findAll(EnumSet.of(TodoField.TITLE, TodoField.COMPLETED));
+
+        // Then
+        assertThat(todos).extracting(Todo::getTitle)
+                .containsExactly("Todo 4", "Todo 3", "Todo 2", "Todo 1", "Todo 0");
+        assertThat(todos).allSatisfy(todo -> {
+            assertThat(todo.getId()).isNull();
+            assertThat(todo.getDescription()).isNull();
+            assertThat(todo.getCreatedAt()).isNull();
+        });
+    }
+
+    @Test
+    void shouldFindNeighbourSortKeysAcrossShardsAndMoveOnTheOwningShard() {
+        // Given
+        List<String> sortKeys = SortKeys.between(null, null, 4);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Todo todo = new Todo("Todo " + i, null);
+            todo.setSortKey(sortKeys.get(i));
+            ids.add(adapter.save(todo).getId());
+        }
+
+        // When
+        int moved = adapter.updateSortKey(ids.get(3), SortKeys.between(sortKeys.get(0), sortKeys.get(1)));
+
+        // Then
+        assertThat(moved).isEqualTo(1);
+        assertThat(adapter.findLastSortKey()).contains(sortKeys.get(2));
+        assertThat(adapter.findSortKeyAfter(sortKeys.get(0), ids.get(3))).contains(sortKeys.get(1));
+        assertThat(adapter.findSortKeyBefore(sortKeys.get(2), ids.get(1))).contains(adapter.findSortKeys(
+                List.of(ids.get(3))).get(ids.get(3)));
+        assertThat(adapter.findSortKeys(List.of(ids.get(0), ids.get(2), 1L << 20 | 999)))
+                .containsOnlyKeys(ids.get(0), ids.get(2));
+        assertThat(adapter.findAll()).extracting(Todo::getTitle)
+                .containsExactly("Todo 0", "Todo 3", "Todo 1", "Todo 2");
+    }
+
+    @Test
+    void shouldPurgeCompletedTodosPastACutoffFromEveryShardOldestFirst() {
+        // Given
+        LocalDateTime cutoff = LocalDateTime.of(2026, 1, 2, 12, 0);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Todo todo = new Todo("Todo " + i, null);
+            todo.setCompleted(i != 4);
+            todo.setUpdatedAt(i == 5 ? cutoff.plusMinutes(1) : cutoff.minusHours(i + 1));
+            ids.add(adapter.save(todo).getId());
+        }
+
+        // When
+        List<Long> oldest = adapter.findCompletedIdsUpdatedBefore(cutoff, 3);
+        long backlog = adapter.countCompletedUpdatedBefore(cutoff);
+        int deleted = adapter.deleteCompletedUpdatedBefore(List.of(ids.get(3), ids.get(2), ids.get(4)), cutoff);
+
+        // Then
+        assertThat(oldest).containsExactly(ids.get(3), ids.get(2), ids.get(1));
+        assertThat(backlog).isEqualTo(4);
+        assertThat(deleted).isEqualTo(2);
+        assertThat(adapter.findOldestCompletedUpdateBefore(cutoff)).contains(cutoff.minusHours(2));
+        assertThat(adapter.findAll()).extracting(Todo::getTitle)
+                .containsExactlyInAnyOrder("Todo 0", "Todo 1", "Todo 4", "Todo 5");
+    }
+
+    @Test
+    void shouldRebalanceTheSortKeysOfAllShardsInOneListOrder() {
+        // Given
+        List<String> sortKeys = SortKeys.between(null, null, 4);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Todo todo = new Todo("Todo " + i, null);
+            todo.setSortKey(i == 1 ? null : sortKeys.get(3 - i));
+            ids.add(adapter.save(todo).getId());
+        }
+
+        // When
+        boolean needed = adapter.needsSortKeyRebalance(24);
+        List<Long> listOrder = adapter.findAllIdsInListOrderForUpdate();
+        adapter.updateSortKeys(Map.of(listOrder.get(0), "a0", listOrder.get(1), "a1", listOrder.get(2), "a2",
+                listOrder.get(3), "a3"));
+
+        // Then
+        assertThat(needed).isTrue();
+        assertThat(listOrder).containsExactly(ids.get(1), ids.get(3), ids.get(2), ids.get(0));
+        assertThat(adapter.needsSortKeyRebalance(24)).isFalse();
+        assertThat(adapter.needsSortKeyRebalance(1)).isTrue();
+        assertThat(adapter.findAll()).extracting(Todo::getTitle)
+                .containsExactly("Todo 1", "Todo 3", "Todo 2", "Todo 0");
+    }
+
+    @Test
+    void shouldInsertBatchesRoundRobinWithIdsFromEachShardsSequence() {
+        // Given
+        adapter.save(new Todo("Saved", null));
+        List<Todo> todos = new ArrayList<>();
+        String sortKey = null;
+        for (int i = 0; i < 5; i++) {
+            Todo todo = new Todo("Imported " + i, null);
+            sortKey = SortKeys.after(sortKey);
+            todo.setSortKey(sortKey);
+            todos.add(todo);
+        }
+
+        // When
+        List<Long> ids = adapter.insertAll(todos);
+
+        // Then
+        List<Todo> all = adapter.findAll();
+        assertThat(ids).containsExactlyElementsOf(all.subList(1, all.size()).stream().map(Todo::getId).toList());
+        assertThat(all).extracting(Todo::getTitle)
+                .containsExactly("Saved", "Imported 0", "Imported 1", "Imported 2", "Imported 3", "Imported 4");
+        assertThat(all).extracting(todo -> ShardedTodoPersistenceAdapter.shardOf(todo.getId()))
+                .containsExactly(0, 1, 2, 0, 1, 2);
+        assertThat(all).extracting(Todo::getId).doesNotHaveDuplicates();
+        assertThat(adapter.findById(all.get(3).getId())).hasValueSatisfying(found ->
+                assertThat(found.getTitle()).isEqualTo("Imported 2"));
+    }
+
+    @Test
+    void shouldMergeSortedListsOfDifferentLengths() {
+        // When
+        List<Integer> merged = ShardedTodoPersistenceAdapter.merge(
+                List.of(List.of(1, 4, 9), List.of(), List.of(2, 3, 5, 8), List.of(7)), Comparator.naturalOrder());
+
+        // Then
+        assertThat(merged).containsExactly(1, 2, 3, 4, 5, 7, 8, 9);
+    }
+
+    @Test
+    void shouldCloseShardPools() {
+        // When
+        adapter.close();
+
+        // Then
+        assertThat(dataSources).allMatch(HikariDataSource::isClosed);
+    }
+
+    @Test
+    void shouldRejectEmptyShardList() {
+        assertThatThrownBy(() -> new ShardedTodoPersistenceAdapter(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
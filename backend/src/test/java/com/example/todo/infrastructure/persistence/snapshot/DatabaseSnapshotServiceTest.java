@@ -0,0 +1,135 @@
+package com.example.todo.infrastructure.persistence.snapshot;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.bootstrap.DefaultBootstrapContext;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DatabaseSnapshotServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = open(tempDir.resolve("data"));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE todos (id BIGINT PRIMARY KEY, title VARCHAR(255))");
+        jdbcTemplate.update("INSERT INTO todos VALUES (1, 'First'), (2, 'Second')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void shouldRestoreSnapshotIntoEmptyDirectory() {
+        // Given
+        DatabaseSnapshotService service = service(5, Clock.systemUTC());
+        Path snapshot = service.createSnapshot();
+        H2DatabaseFile restored = H2DatabaseFile.fromUrl(url(tempDir.resolve("restored"))).orElseThrow();
+
+        // When
+        boolean replaced = SnapshotRestoreListener.restore(snapshot, restored, SnapshotProperties.RestoreMode.IF_MISSING);
+
+        // Then
+        assertThat(replaced).isTrue();
+        SingleConnectionDataSource restoredDataSource = open(tempDir.resolve("restored"));
+        try {
+            assertThat(new JdbcTemplate(restoredDataSource).queryForList("SELECT title FROM todos ORDER BY id", String.class))
+                    .containsExactly("First", "Second");
+        } finally {
+            restoredDataSource.destroy();
+        }
+    }
+
+    @Test
+    void shouldNotReplaceExistingDatabaseInIfMissingMode() {
+        // Given
+        Path snapshot = service(5, Clock.systemUTC()).createSnapshot();
+        H2DatabaseFile existing = H2DatabaseFile.fromUrl(url(tempDir.resolve("data"))).orElseThrow();
+
+        // When
+        boolean replaced = SnapshotRestoreListener.restore(snapshot, existing, SnapshotProperties.RestoreMode.IF_MISSING);
+
+        // Then
+        assertThat(replaced).isFalse();
+    }
+
+    @Test
+    void shouldRestoreNewestSnapshotFromDirectoryBeforeStartup() {
+        // Given
+        service(5, Clock.systemUTC()).createSnapshot();
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.url", url(tempDir.resolve("restored")))
+                .withProperty("todo.snapshot.restore-from", tempDir.resolve("snapshots").toString());
+
+        // When
+        new SnapshotRestoreListener().onApplicationEvent(new ApplicationEnvironmentPreparedEvent(
+                new DefaultBootstrapContext(), new SpringApplication(), new String[0], environment));
+
+        // Then
+        assertThat(tempDir.resolve("restored").resolve("tododb.mv.db")).isRegularFile();
+    }
+
+    @Test
+    void shouldKeepOnlyTheConfiguredNumberOfSnapshots() {
+        // Given
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+        for (int i = 0; i < 3; i++) {
+            service(2, Clock.fixed(now.plus(Duration.ofMinutes(i)), ZoneOffset.UTC)).createSnapshot();
+        }
+
+        // When
+        List<Path> snapshots = service(2, Clock.systemUTC()).listSnapshots();
+
+        // Then
+        assertThat(snapshots).extracting(path -> path.getFileName().toString())
+                .containsExactly("todo-20260101-000200-000.zip", "todo-20260101-000100-000.zip");
+    }
+
+    @Test
+    void shouldParseFileUrlWithSettings() {
+        // When
+        H2DatabaseFile file = H2DatabaseFile.fromUrl("jdbc:h2:file:/var/lib/todo/tododb;WRITE_DELAY=100").orElseThrow();
+
+        // Then
+        assertThat(file.storeFile()).isEqualTo(Path.of("/var/lib/todo/tododb.mv.db"));
+        assertThat(H2DatabaseFile.fromUrl("jdbc:h2:mem:tododb")).isEmpty();
+    }
+
+    private DatabaseSnapshotService service(int retain, Clock clock) {
+        SnapshotProperties properties = new SnapshotProperties(tempDir.resolve("snapshots"), retain, null, null,
+                SnapshotProperties.RestoreMode.IF_MISSING);
+        return new DatabaseSnapshotService(jdbcTemplate, properties, clock);
+    }
+
+    private static String url(Path directory) {
+        return "jdbc:h2:file:" + directory.resolve("tododb") + ";WRITE_DELAY=100";
+    }
+
+    private static SingleConnectionDataSource open(Path directory) {
+        assertThat(directory.toFile().mkdirs() || Files.isDirectory(directory)).isTrue();
+        return new SingleConnectionDataSource(url(directory), "sa", "", true);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.todo.infrastructure.persistence.tagindex;
+
+import com.example.todo.application.service.TodosChangedEvent;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.port.TodoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BitmapTodoTagIndexTest {
+
+    private final AtomicInteger transactions = new AtomicInteger();
+    private TodoRepository todoRepository;
+    private BitmapTodoTagIndex tagIndex;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        TransactionOperations transactionOperations = callback -> {
+            transactions.incrementAndGet();
+            return callback.doInTransaction(new SimpleTransactionStatus());
+        };
+        tagIndex = new BitmapTodoTagIndex(todoRepository, transactionOperations, new SimpleMeterRegistry());
+        when(todoRepository.findAll(anySet())).thenReturn(List.of(
+                todo(1L, false, "home", "errands"),
+                todo(2L, true, "home"),
+                todo(3L, false, "work"),
+                todo(4L, false, "home")));
+        tagIndex.rebuild();
+    }
+
+    @Test
+    void shouldIntersectTagsAndCompletionStatus() {
+        assertThat(tagIndex.find(Set.of("home"), null)).hasValue(List.of(1L, 2L, 4L));
+        assertThat(tagIndex.find(Set.of("home"), false)).hasValue(List.of(1L, 4L));
+        assertThat(tagIndex.find(Set.of("home"), true)).hasValue(List.of(2L));
+        assertThat(tagIndex.find(Set.of("home", "errands"), null)).hasValue(List.of(1L));
+        assertThat(tagIndex.find(Set.of("home", "unknown"), null)).hasValue(List.of());
+        assertThat(tagIndex.find(Set.of(), false)).hasValue(List.of(1L, 3L, 4L));
+    }
+
+    @Test
+    void shouldReadChangedTodosBeforeTheNextLookup() {
+        // Given
+        when(todoRepository.findAllById(any())).thenReturn(List.of(todo(3L, true, "home")));
+
+        // When
+        tagIndex.onTodosChanged(TodosChangedEvent.of(List.of(3L, 4L)));
+
+        // Then
+        // Todo 3 moved from work to home and completed, todo 4 deleted
+        assertThat(tagIndex.find(Set.of("home"), null)).hasValue(List.of(1L, 2L, 3L));
+        assertThat(tagIndex.find(Set.of("work"), null)).hasValue(List.of());
+        assertThat(tagIndex.tagCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReadChangedTodosInItsOwnTransaction() {
+        // Given
+        when(todoRepository.findAllById(any())).thenReturn(List.of(todo(3L, true, "home")));
+        tagIndex.onTodosChanged(TodosChangedEvent.of(3L));
+        transactions.set(0);
+
+        // When
+        tagIndex.find(Set.of("home"), null);
+        tagIndex.find(Set.of("home"), null);
+
+        // Then
+        assertThat(transactions).hasValue(1);
+        verify(todoRepository).findAllById(any());
+    }
+
+    @Test
+    void shouldNotQueryWithoutChanges() {
+        // When
+        tagIndex.find(Set.of("home"), null);
+
+        // Then
+        verify(todoRepository, never()).findAllById(any());
+    }
+
+    private static Todo todo(Long id, boolean completed, String... tags) {
+        Todo todo = new Todo("Todo " + id, null);
+        todo.setId(id);
+        todo.setCompleted(completed);
+        todo.setTags(Set.of(tags));
+        return todo;
+    }
+}
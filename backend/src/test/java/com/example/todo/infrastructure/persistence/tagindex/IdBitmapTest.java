@@ -0,0 +1,84 @@
+package com.example.todo.infrastructure.persistence.tagindex;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdBitmapTest {
+
+    @Test
+    void shouldAddAndRemoveIds() {
+        // Given
+        IdBitmap bitmap = new IdBitmap();
+
+        // When
+        bitmap.add(1);
+        bitmap.add(70_000);
+        bitmap.add(70_000);
+        bitmap.remove(1);
+        bitmap.remove(2);
+
+        // Then
+        assertThat(bitmap.contains(1)).isFalse();
+        assertThat(bitmap.contains(70_000)).isTrue();
+        assertThat(bitmap.cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepIdsWhenChunksConvert() {
+        // Given
+        // Enough ids in one chunk to turn it into a bitset
+        IdBitmap bitmap = new IdBitmap();
+        LongStream.range(0, 3 * IdBitmap.ARRAY_MAX).forEach(bitmap::add);
+
+        // When
+        // Down to an array again
+        LongStream.range(0, 3 * IdBitmap.ARRAY_MAX).filter(id -> id % 8 != 0).forEach(bitmap::remove);
+
+        // Then
+        assertThat(bitmap.cardinality()).isEqualTo(3 * IdBitmap.ARRAY_MAX / 8);
+        assertThat(bitmap.contains(16)).isTrue();
+        assertThat(bitmap.contains(9)).isFalse();
+    }
+
+    @Test
+    void shouldIntersectAndExclude() {
+        // Given
+        Random random = new Random(42);
+        IdBitmap first = new IdBitmap();
+        IdBitmap second = new IdBitmap();
+        IdBitmap excluded = new IdBitmap();
+        TreeSet<Long> expected = new TreeSet<>();
+        for (long id = 0; id < 300_000; id++) {
+            // Dense, sparse and empty chunks
+            boolean inFirst = random.nextInt(2) == 0;
+            boolean inSecond = id < 150_000 ? random.nextInt(100) == 0 : random.nextInt(3) > 0;
+            boolean isExcluded = random.nextInt(5) == 0;
+            if (inFirst) {
+                first.add(id);
+            }
+            if (inSecond) {
+                second.add(id);
+            }
+            if (isExcluded) {
+                excluded.add(id);
+            }
+            if (inFirst && inSecond && !isExcluded) {
+                expected.add(id);
+            }
+        }
+        List<Long> ids = new ArrayList<>();
+
+        // When
+        IdBitmap.intersect(List.of(first, second), excluded, ids::add);
+
+        // Then
+        assertThat(ids).containsExactlyElementsOf(expected);
+    }
+}
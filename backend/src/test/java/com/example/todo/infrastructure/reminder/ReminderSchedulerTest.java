@@ -0,0 +1,197 @@
+package com.example.todo.infrastructure.reminder;
+
+import com.example.todo.application.service.TodosChangedEvent;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.port.TodoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReminderSchedulerTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-02T12:00:00Z");
+
+    private TodoRepository todoRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private SimpleMeterRegistry meterRegistry;
+    private MutableClock clock;
+    private ReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock(NOW);
+        scheduler = new ReminderScheduler(todoRepository, TransactionOperations.withoutTransaction(), eventPublisher,
+                new ReminderProperties(true, Duration.ofSeconds(1), Duration.ofMinutes(10), Duration.ofMinutes(1)),
+                meterRegistry, clock);
+    }
+
+    @Test
+    void shouldFireLoadedReminderOnceDue() {
+        // Given
+        Todo todo = todo(1L, at(5));
+        when(todoRepository.findPendingReminders(any(), any())).thenReturn(List.of(todo));
+        when(todoRepository.findAllById(List.of(1L))).thenReturn(List.of(todo));
+        scheduler.reload();
+
+        // When
+        clock.advance(Duration.ofSeconds(4));
+        scheduler.tick();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        clock.advance(Duration.ofSeconds(1));
+        scheduler.tick();
+
+        // Then
+        verify(eventPublisher).publishEvent(new TodoReminderEvent(1L, "Todo 1", null, at(5)));
+        assertThat(meterRegistry.get("todo.reminders.fired").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("todo.reminders.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldScheduleReminderSetAfterTheLoad() {
+        // Given
+        when(todoRepository.findPendingReminders(any(), any())).thenReturn(List.of());
+        scheduler.reload();
+        Todo todo = todo(2L, at(3));
+        when(todoRepository.findAllById(List.of(2L))).thenReturn(List.of(todo));
+
+        // When
+        scheduler.onTodosChanged(TodosChangedEvent.of(2L));
+        scheduler.tick();
+        clock.advance(Duration.ofSeconds(3));
+        scheduler.tick();
+
+        // Then
+        verify(eventPublisher).publishEvent(new TodoReminderEvent(2L, "Todo 2", null, at(3)));
+    }
+
+    @Test
+    void shouldCancelReminderOfCompletedOrDeletedTodos() {
+        // Given
+        Todo completed = todo(1L, at(5));
+        Todo deleted = todo(2L, at(5));
+        when(todoRepository.findPendingReminders(any(), any())).thenReturn(List.of(completed, deleted));
+        scheduler.reload();
+        completed.markAsCompleted();
+        when(todoRepository.findAllById(any())).thenReturn(List.of(completed));
+
+        // When
+        scheduler.onTodosChanged(TodosChangedEvent.of(List.of(1L, 2L)));
+        scheduler.tick();
+
+        // Then
+        assertThat(meterRegistry.get("todo.reminders.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldLeaveRemindersBeyondTheWindowToALaterLoad() {
+        // Given
+        when(todoRepository.findPendingReminders(any(), any())).thenReturn(List.of());
+        scheduler.reload();
+        when(todoRepository.findAllById(List.of(3L))).thenReturn(List.of(todo(3L, at(3600))));
+
+        // When
+        scheduler.onTodosChanged(TodosChangedEvent.of(3L));
+        scheduler.tick();
+
+        // Then
+        assertThat(meterRegistry.get("todo.reminders.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldNotFireReminderMovedOnAnotherNode() {
+        // Given
+        Todo loaded = todo(1L, at(5));
+        when(todoRepository.findPendingReminders(any(), any())).thenReturn(List.of(loaded));
+        scheduler.reload();
+        when(todoRepository.findAllById(List.of(1L))).thenReturn(List.of(todo(1L, at(60))));
+
+        // When
+        clock.advance(Duration.ofSeconds(5));
+        scheduler.tick();
+
+        // Then
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void shouldTickOnItsOwnThreadUntilClosed() throws Exception {
+        // Given
+        Todo todo = todo(1L, at(5));
+        when(todoRepository.findPendingReminders(any(), any())).thenReturn(List.of(todo));
+        when(todoRepository.findAllById(List.of(1L))).thenReturn(List.of(todo));
+        scheduler.reload();
+
+        // When
+        scheduler.start();
+        try {
+            clock.advance(Duration.ofSeconds(5));
+
+            // Then
+            verify(eventPublisher, timeout(5000)).publishEvent(new TodoReminderEvent(1L, "Todo 1", null, at(5)));
+        } finally {
+            scheduler.close();
+        }
+        assertThat(Thread.getAllStackTraces().keySet()).extracting(Thread::getName)
+                .doesNotContain("todo-reminder-tick");
+    }
+
+    private static Todo todo(Long id, LocalDateTime remindAt) {
+        Todo todo = new Todo("Todo " + id, null);
+        todo.setId(id);
+        todo.reschedule(null, remindAt);
+        return todo;
+    }
+
+    private static LocalDateTime at(long secondsFromNow) {
+        return LocalDateTime.ofInstant(NOW.plusSeconds(secondsFromNow), ZoneOffset.UTC);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.todo.infrastructure.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    @Test
+    void shouldExpireOnTheDeadlineTick() {
+        // Given
+        TimingWheel wheel = new TimingWheel(4, 3, 100, 0);
+        wheel.schedule(1, 103);
+        List<Long> expired = new ArrayList<>();
+
+        // When
+        wheel.advance(102, expired::add);
+        List<Long> beforeDeadline = List.copyOf(expired);
+        wheel.advance(103, expired::add);
+
+        // Then
+        assertThat(beforeDeadline).isEmpty();
+        assertThat(expired).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.contains(1)).isFalse();
+    }
+
+    @Test
+    void shouldCascadeDeadlinesFromUpperLevels() {
+        // Given
+        // 16 slots per level, so these land on levels 0, 1 and 2
+        TimingWheel wheel = new TimingWheel(4, 3, 0, 0);
+        wheel.schedule(1, 5);
+        wheel.schedule(2, 40);
+        wheel.schedule(3, 300);
+        List<Long> expiredAt = new ArrayList<>();
+
+        // When
+        for (long tick = 1; tick <= 300; tick++) {
+            long current = tick;
+            wheel.advance(tick, id -> expiredAt.add(id * 1000 + current));
+        }
+
+        // Then
+        assertThat(expiredAt).containsExactly(1005L, 2040L, 3300L);
+    }
+
+    @Test
+    void shouldPlaceDeadlinesBeyondTheSpanAgain() {
+        // Given
+        // Spans 256 ticks
+        TimingWheel wheel = new TimingWheel(4, 2, 0, 0);
+        wheel.schedule(1, 1000);
+        List<Long> expired = new ArrayList<>();
+
+        // When
+        wheel.advance(999, expired::add);
+        List<Long> beforeDeadline = List.copyOf(expired);
+        wheel.advance(1000, expired::add);
+
+        // Then
+        assertThat(beforeDeadline).isEmpty();
+        assertThat(expired).containsExactly(1L);
+    }
+
+    @Test
+    void shouldReplaceTheDeadlineOnReschedule() {
+        // Given
+        TimingWheel wheel = new TimingWheel(4, 3, 0, 0);
+        wheel.schedule(1, 10);
+        List<Long> expired = new ArrayList<>();
+
+        // When
+        wheel.schedule(1, 50);
+        wheel.advance(49, expired::add);
+        List<Long> beforeDeadline = List.copyOf(expired);
+        wheel.advance(50, expired::add);
+
+        // Then
+        assertThat(beforeDeadline).isEmpty();
+        assertThat(expired).containsExactly(1L);
+    }
+
+    @Test
+    void shouldNotExpireCancelledIds() {
+        // Given
+        TimingWheel wheel = new TimingWheel(4, 3, 0, 0);
+        wheel.schedule(1, 10);
+        wheel.schedule(2, 10);
+        List<Long> expired = new ArrayList<>();
+
+        // When
+        boolean cancelled = wheel.cancel(1);
+        wheel.advance(10, expired::add);
+
+        // Then
+        assertThat(cancelled).isTrue();
+        assertThat(wheel.cancel(1)).isFalse();
+        assertThat(expired).containsExactly(2L);
+    }
+
+    @Test
+    void shouldExpirePastDeadlinesOnTheNextTick() {
+        // Given
+        TimingWheel wheel = new TimingWheel(4, 3, 100, 0);
+        List<Long> expired = new ArrayList<>();
+
+        // When
+        wheel.schedule(1, 50);
+        wheel.advance(101, expired::add);
+
+        // Then
+        assertThat(expired).containsExactly(1L);
+    }
+
+    @Test
+    void shouldHoldAMillionEntries() {
+        // Given
+        int count = 1_000_000;
+        TimingWheel wheel = new TimingWheel(8, 4, 0, 0);
+        Random random = new Random(42);
+        long[] deadlines = new long[count];
+        for (int id = 0; id < count; id++) {
+            deadlines[id] = 1 + random.nextInt(600);
+            wheel.schedule(id, deadlines[id]);
+        }
+        // Every other entry cancelled, as if completed
+        for (int id = 0; id < count; id += 2) {
+            wheel.cancel(id);
+        }
+        List<Long> late = new ArrayList<>();
+        int[] expired = new int[1];
+
+        // When
+        for (long tick = 1; tick <= 600; tick++) {
+            long current = tick;
+            wheel.advance(tick, id -> {
+                expired[0]++;
+                if (id % 2 == 0 || deadlines[(int) id] != current) {
+                    late.add(id);
+                }
+            });
+        }
+
+        // Then
+        assertThat(late).isEmpty();
+        assertThat(expired[0]).isEqualTo(count / 2);
+        assertThat(wheel.size()).isZero();
+    }
+}
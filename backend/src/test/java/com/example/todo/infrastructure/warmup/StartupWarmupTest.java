@@ -0,0 +1,145 @@
+package com.example.todo.infrastructure.warmup;
+
+import com.example.todo.infrastructure.warmup.WarmupReport.Outcome;
+import com.example.todo.infrastructure.warmup.WarmupReport.Step;
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class StartupWarmupTest {
+
+    private HikariDataSource dataSource;
+    private final MockEnvironment environment = new MockEnvironment();
+    private final Map<String, Supplier<String>> caches = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(4);
+        dataSource.setMinimumIdle(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void shouldOpenThePoolAndLoadTheCachesBeforeReturning() throws Exception {
+        // Given
+        caches.put("read-model", () -> "3 todos");
+        caches.put("id-filter", () -> "rebuilt");
+
+        // When
+        WarmupReport report = warmUp(Duration.ofSeconds(10), 1);
+
+        // Then
+        assertThat(report.unfinished()).isNull();
+        assertThat(report.steps()).extracting(Step::name, Step::outcome, Step::detail).containsExactly(
+                tuple("connection-pool", Outcome.DONE, "4 connections"),
+                tuple("read-model", Outcome.DONE, "3 todos"),
+                tuple("id-filter", Outcome.DONE, "rebuilt"),
+                tuple("api", Outcome.SKIPPED, "No web server"));
+        assertThat(dataSource.getHikariPoolMXBean().getTotalConnections()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldReportAFailedStepAndContinue() throws Exception {
+        // Given
+        caches.put("tag-index", () -> {
+            throw new IllegalStateException("Database is gone");
+        });
+        caches.put("reminders", () -> "loaded");
+
+        // When
+        WarmupReport report = warmUp(Duration.ofSeconds(10), 1);
+
+        // Then
+        assertThat(report.steps()).extracting(Step::name, Step::outcome, Step::detail).contains(
+                tuple("tag-index", Outcome.FAILED, "Database is gone"),
+                tuple("reminders", Outcome.DONE, "loaded"));
+    }
+
+    @Test
+    void shouldReportReadinessOnceTheTimeoutExpires() throws Exception {
+        // Given
+        CountDownLatch never = new CountDownLatch(1);
+        caches.put("read-model", () -> {
+            try {
+                never.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "interrupted";
+        });
+        caches.put("id-filter", () -> "rebuilt");
+
+        // When
+        long start = System.nanoTime();
+        WarmupReport report = warmUp(Duration.ofMillis(200), 1);
+        Duration took = Duration.ofNanos(System.nanoTime() - start);
+
+        // Then
+        assertThat(took).isLessThan(Duration.ofSeconds(5));
+        assertThat(report.unfinished()).isEqualTo("read-model");
+        assertThat(report.steps()).extracting(Step::name).containsExactly("connection-pool");
+        never.countDown();
+    }
+
+    @Test
+    void shouldSendRoundsOfRequestsToTheLocalServer() throws Exception {
+        // Given
+        List<String> requests = new CopyOnWriteArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/api/todos", exchange -> {
+            requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI());
+            exchange.sendResponseHeaders(exchange.getRequestMethod().equals("POST") ? 400 : 200, -1);
+            exchange.close();
+        });
+        server.start();
+        environment.setProperty("local.server.port", String.valueOf(server.getAddress().getPort()));
+
+        // When
+        WarmupReport report;
+        try {
+            report = warmUp(Duration.ofSeconds(10), 3);
+        } finally {
+            server.stop(0);
+        }
+
+        // Then
+        assertThat(report.steps().getLast()).satisfies(step -> {
+            assertThat(step.name()).isEqualTo("api");
+            assertThat(step.outcome()).isEqualTo(Outcome.DONE);
+            assertThat(step.detail()).isEqualTo("15 requests in 3 rounds, 0 server errors");
+        });
+        assertThat(requests).hasSize(15).contains("GET /api/todos", "POST /api/todos");
+    }
+
+    private WarmupReport warmUp(Duration timeout, int rounds) throws Exception {
+        StartupWarmup warmup = new StartupWarmup(new WarmupProperties(true, timeout, rounds), dataSource, caches,
+                environment);
+        assertThat(warmup.getReport()).isNull();
+        warmup.run(new DefaultApplicationArguments());
+        return warmup.getReport();
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.todo.infrastructure.web.controller;
+
+import com.example.todo.infrastructure.persistence.idfilter.BloomTodoIdFilter;
+import com.example.todo.infrastructure.web.readmodel.TodoListReadModel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Bytes allocated per request by each endpoint of {@link TodoController}, after warm-up, against the budgets in
+ * {@code allocation-budgets.properties}.
+ * <p>
+ * Requests go through MockMvc on the test thread, so the measurement covers filters, controller, service and the
+ * embedded database, plus the MockMvc request and response objects. After an intended change, update the budgets
+ * to the printed measurements.
+ */
+@SpringBootTest(properties = "todo.retention.enabled=false")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AllocationBudgetIT {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 500;
+    private static final byte[] CREATE_REQUEST = "{\"title\":\"Allocation budget\",\"description\":\"Measured\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final AllocationBudgets budgets = new AllocationBudgets();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectProvider<TodoListReadModel> readModel;
+
+    @Autowired
+    private ObjectProvider<BloomTodoIdFilter> idFilter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM todos");
+    }
+
+    @Test
+    void createTodo() throws Exception {
+        long bytes = budgets.measure(WARMUP, ITERATIONS, i -> mockMvc.perform(post("/api/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(CREATE_REQUEST))
+                .andExpect(status().isCreated()));
+
+        budgets.assertWithinBudget("create", bytes);
+    }
+
+    @Test
+    void getTodo() throws Exception {
+        // Given
+        long id = seed(100).get(50);
+
+        // When
+        long bytes = budgets.measure(WARMUP, ITERATIONS, i -> mockMvc.perform(get("/api/todos/{id}", id))
+                .andExpect(status().isOk()));
+
+        // Then
+        budgets.assertWithinBudget("get", bytes);
+    }
+
+    @Test
+    void listTodosOf100() throws Exception {
+        // Given
+        seed(100);
+
+        // When
+        long bytes = budgets.measure(WARMUP, ITERATIONS, i -> mockMvc.perform(get("/api/todos"))
+                .andExpect(status().isOk()));
+
+        // Then
+        budgets.assertWithinBudget("list.100", bytes);
+    }
+
+    @Test
+    void listTodosOf10000() throws Exception {
+        // Given
+        seed(10_000);
+
+        // When
+        long bytes = budgets.measure(50, 20, i -> mockMvc.perform(get("/api/todos"))
+                .andExpect(status().isOk()));
+
+        // Then
+        budgets.assertWithinBudget("list.10000", bytes);
+    }
+
+    @Test
+    void toggleTodo() throws Exception {
+        // Given
+        long id = seed(100).get(50);
+
+        // When
+        long bytes = budgets.measure(WARMUP, ITERATIONS, i -> mockMvc.perform(patch("/api/todos/{id}/toggle", id))
+                .andExpect(status().isOk()));
+
+        // Then
+        budgets.assertWithinBudget("toggle", bytes);
+    }
+
+    @Test
+    void deleteTodo() throws Exception {
+        // Given
+        List<Long> ids = seed(WARMUP + ITERATIONS);
+
+        // When
+        long bytes = budgets.measure(WARMUP, ITERATIONS, i -> mockMvc.perform(delete("/api/todos/{id}", ids.get(i)))
+                .andExpect(status().isNoContent()));
+
+        // Then
+        budgets.assertWithinBudget("delete", bytes);
+    }
+
+    /**
+     * Inserts the todos directly and rebuilds the in-memory state derived from the table
+     *
+     * @return the ids of the inserted todos in creation order
+     */
+    private List<Long> seed(int rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(rows);
+        for (int i = 1; i <= rows; i++) {
+            batch.add(new Object[]{"Todo " + i, "Description " + i, i % 2 == 0, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO todos (id, title, description, completed, created_at, updated_at) "
+                + "VALUES (NEXT VALUE FOR todo_sequence, ?, ?, ?, ?, ?)", batch);
+        readModel.ifAvailable(TodoListReadModel::rebuild);
+        idFilter.ifAvailable(BloomTodoIdFilter::rebuild);
+        return jdbcTemplate.queryForList("SELECT id FROM todos ORDER BY id", Long.class);
+    }
+}
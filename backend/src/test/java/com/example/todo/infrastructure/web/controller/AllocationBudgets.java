@@ -0,0 +1,68 @@
+package com.example.todo.infrastructure.web.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bytes allocated per call by the calling thread, checked against the budgets in {@code allocation-budgets.properties}.
+ * <p>
+ * A measurement exceeding its budget by more than the tolerance fails. The tolerance defaults to
+ * {@value #DEFAULT_TOLERANCE} and can be changed with {@code -Dallocation-budgets.tolerance=0.25}.
+ */
+final class AllocationBudgets {
+
+    private static final String RESOURCE = "/allocation-budgets.properties";
+    private static final double DEFAULT_TOLERANCE = 0.10;
+
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final Properties budgets = new Properties();
+    private final double tolerance = Double.parseDouble(
+            System.getProperty("allocation-budgets.tolerance", String.valueOf(DEFAULT_TOLERANCE)));
+
+    AllocationBudgets() {
+        try (InputStream in = AllocationBudgets.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException(RESOURCE + " not found on the test classpath");
+            }
+            budgets.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    interface Call {
+        void run(int iteration) throws Exception;
+    }
+
+    /**
+     * Runs the call {@code warmup} times, then measures the mean allocation of {@code iterations} more calls
+     *
+     * @return bytes allocated per call
+     */
+    long measure(int warmup, int iterations, Call call) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            call.run(i);
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = warmup; i < warmup + iterations; i++) {
+            call.run(i);
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / iterations;
+    }
+
+    void assertWithinBudget(String name, long bytesPerCall) {
+        String budget = budgets.getProperty(name);
+        assertThat(budget).as("Allocation budget for %s in %s", name, RESOURCE).isNotNull();
+        long limit = Long.parseLong(budget.trim());
+        assertThat(bytesPerCall)
+                .as("Bytes allocated per call by %s, budget %d B plus %.0f%%", name, limit, tolerance * 100)
+                .isLessThanOrEqualTo((long) (limit * (1 + tolerance)));
+    }
+}
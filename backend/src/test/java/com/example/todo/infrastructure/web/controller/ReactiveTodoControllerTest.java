@@ -0,0 +1,134 @@
+package com.example.todo.infrastructure.web.controller;
+
+import com.example.todo.application.service.ReactiveTodoService;
+import com.example.todo.application.service.TodoNotFoundException;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.infrastructure.web.dto.CreateTodoRequest;
+import com.example.todo.infrastructure.web.dto.UpdateTodoRequest;
+import com.example.todo.infrastructure.web.dto.TodoDto;
+import com.example.todo.infrastructure.web.exception.GlobalExceptionHandler;
+import com.example.todo.infrastructure.web.mapper.TodoDtoMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReactiveTodoControllerTest {
+
+    private final ReactiveTodoService todoService = mock(ReactiveTodoService.class);
+
+    private WebTestClient webTestClient;
+
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient
+                .bindToController(new ReactiveTodoController(todoService, new TodoDtoMapper()))
+                .controllerAdvice(new GlobalExceptionHandler())
+                .build();
+        todo = new Todo("Test Todo", "Test Description");
+        todo.setId(1L);
+    }
+
+    @Test
+    void shouldGetAllTodosAsJsonArray() {
+        // Given
+        Todo other = new Todo("Other", null);
+        other.setId(2L);
+        when(todoService.getAllTodos()).thenReturn(Flux.just(todo, other));
+
+        // When & Then
+        webTestClient.get().uri("/api/todos").accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[1].title").isEqualTo("Other");
+    }
+
+    @Test
+    void shouldStreamTodosAsNdjson() {
+        // Given
+        when(todoService.getAllTodos()).thenReturn(Flux.just(todo, todo, todo));
+
+        // When
+        Flux<TodoDto> body = webTestClient.get().uri("/api/todos").accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(TodoDto.class)
+                .getResponseBody();
+
+        // Then
+        StepVerifier.create(body)
+                .expectNextCount(3)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldCreateTodo() {
+        // Given
+        when(todoService.createTodo("New Todo", "New Description", null, null, Set.of())).thenReturn(Mono.just(todo));
+
+        // When & Then
+        webTestClient.post().uri("/api/todos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(CreateTodoRequest.builder().title("New Todo").description("New Description").build())
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1);
+    }
+
+    @Test
+    void shouldUpdateAndToggleTodo() {
+        // Given
+        when(todoService.updateTodo(eq(1L), any(), any(), any(), any(), any(), any())).thenReturn(Mono.just(todo));
+        when(todoService.toggleTodoCompletion(1L)).thenReturn(Mono.just(todo));
+
+        // When & Then
+        webTestClient.put().uri("/api/todos/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(UpdateTodoRequest.builder().title("Updated").build())
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.patch().uri("/api/todos/1/toggle")
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    void shouldReturnNotFoundForMissingTodo() {
+        // Given
+        when(todoService.getTodoById(99L)).thenReturn(Mono.error(new TodoNotFoundException("Todo not found with id: 99")));
+
+        // When & Then
+        webTestClient.get().uri("/api/todos/99")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Todo not found with id: 99");
+    }
+
+    @Test
+    void shouldDeleteTodo() {
+        // Given
+        when(todoService.deleteTodo(1L)).thenReturn(Mono.empty());
+
+        // When & Then
+        webTestClient.delete().uri("/api/todos/1")
+                .exchange()
+                .expectStatus().isNoContent();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.todo.infrastructure.web.controller;
+
+import com.example.todo.infrastructure.reminder.TodoReminderEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A reminder sent on the calling thread would block the tests below until the timeout
+@Timeout(10)
+class ReminderStreamControllerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 2, 12, 0);
+
+    private final ReminderStreamController controller = new ReminderStreamController();
+
+    @Test
+    void shouldNotWaitForASlowClient() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch received = new CountDownLatch(3);
+        controller.register(new TestEmitter(release::await));
+        controller.register(new TestEmitter(received::countDown));
+
+        // When
+        for (long id = 1; id <= 3; id++) {
+            controller.onReminder(reminder(id));
+        }
+
+        // Then
+        assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    void shouldDisconnectAClientThatFallsBehind() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        TestEmitter slow = new TestEmitter(release::await);
+        controller.register(slow);
+
+        // When, one reminder is being sent and the queue holds the rest
+        for (long id = 1; id <= ReminderStreamController.QUEUE_CAPACITY + 2; id++) {
+            controller.onReminder(reminder(id));
+        }
+        release.countDown();
+
+        // Then
+        assertThat(slow.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(slow.sent).isEqualTo(1);
+    }
+
+    private static TodoReminderEvent reminder(long id) {
+        return new TodoReminderEvent(id, "Todo " + id, NOW.plusHours(1), NOW);
+    }
+
+    private interface Client {
+        void receive() throws InterruptedException;
+    }
+
+    private static final class TestEmitter extends SseEmitter {
+
+        private final Client client;
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile int sent;
+
+        TestEmitter(Client client) {
+            super(0L);
+            this.client = client;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                client.receive();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            sent++;
+        }
+
+        @Override
+        public void complete() {
+            super.complete();
+            completed.countDown();
+        }
+    }
+}
@@ -2,7 +2,12 @@ package com.example.todo.infrastructure.web.controller;
 
 import com.example.todo.application.service.TodoService;
 import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoField;
+import com.example.todo.infrastructure.web.dto.BulkCompletionRequest;
 import com.example.todo.infrastructure.web.dto.CreateTodoRequest;
+import com.example.todo.infrastructure.web.dto.MoveTodoRequest;
+import com.example.todo.infrastructure.web.dto.UpdateTodoRequest;
+import com.example.todo.infrastructure.web.mapper.SparseTodoWriter;
 import com.example.todo.infrastructure.web.mapper.TodoDtoMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,15 +16,23 @@ import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.MediaType;
+import org.springframework.test.json.JsonCompareMode;
 import org.springframework.test.web.servlet.MockMvc;
 import tools.jackson.databind.ObjectMapper;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -54,6 +67,11 @@ class TodoControllerTest {
         public TodoDtoMapper todoDtoMapper() {
             return mock(TodoDtoMapper.class);
         }
+
+        @Bean
+        public SparseTodoWriter sparseTodoWriter(ObjectMapper objectMapper) {
+            return new SparseTodoWriter(objectMapper);
+        }
     }
 
     @Test
@@ -119,15 +137,20 @@ class TodoControllerTest {
     @Test
     void shouldCreateTodo() throws Exception {
         // Given
+        LocalDateTime dueAt = LocalDateTime.of(2026, 1, 20, 17, 0);
+        LocalDateTime remindAt = LocalDateTime.of(2026, 1, 20, 9, 0);
         CreateTodoRequest request = CreateTodoRequest.builder()
                 .title("New Todo")
                 .description("New Description")
+                .dueAt(dueAt)
+                .remindAt(remindAt)
                 .build();
         
         Todo todo = new Todo("New Todo", "New Description");
         todo.setId(1L);
+        todo.reschedule(dueAt, remindAt);
         
-        when(todoService.createTodo(any(String.class), any(String.class))).thenReturn(todo);
+        when(todoService.createTodo("New Todo", "New Description", dueAt, remindAt, Set.of())).thenReturn(todo);
         when(todoDtoMapper.toDto(any(Todo.class))).thenAnswer(invocation -> {
             Todo t = invocation.getArgument(0);
             return com.example.todo.infrastructure.web.dto.TodoDto.builder()
@@ -137,6 +160,8 @@ class TodoControllerTest {
                 .completed(t.isCompleted())
                 .createdAt(t.getCreatedAt())
                 .updatedAt(t.getUpdatedAt())
+                .dueAt(t.getDueAt())
+                .remindAt(t.getRemindAt())
                 .build();
         });
 
@@ -147,14 +172,16 @@ class TodoControllerTest {
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.title").value("New Todo"))
-                .andExpect(jsonPath("$.description").value("New Description"));
+                .andExpect(jsonPath("$.description").value("New Description"))
+                .andExpect(jsonPath("$.dueAt").value("2026-01-20T17:00:00"))
+                .andExpect(jsonPath("$.remindAt").value("2026-01-20T09:00:00"));
     }
 
     @Test
     void shouldUpdateTodo() throws Exception {
         // Given
         Long id = 1L;
-        CreateTodoRequest request = CreateTodoRequest.builder()
+        UpdateTodoRequest request = UpdateTodoRequest.builder()
                 .title("Updated Todo")
                 .description("Updated Description")
                 .build();
@@ -162,7 +189,8 @@ class TodoControllerTest {
         Todo todo = new Todo("Updated Todo", "Updated Description");
         todo.setId(id);
         
-        when(todoService.updateTodo(eq(id), any(String.class), any(String.class))).thenReturn(todo);
+        when(todoService.updateTodo(eq(id), any(String.class), any(String.class), isNull(), isNull(), isNull(),
+                eq(Set.of()))).thenReturn(todo);
         when(todoDtoMapper.toDto(any(Todo.class))).thenAnswer(invocation -> {
             Todo t = invocation.getArgument(0);
             return com.example.todo.infrastructure.web.dto.TodoDto.builder()
@@ -185,6 +213,57 @@ class TodoControllerTest {
                 .andExpect(jsonPath("$.description").value("Updated Description"));
     }
 
+    @Test
+    void shouldKeepDueDateReminderAndTagsOnATitleOnlyUpdate() throws Exception {
+        // Given
+        Todo todo = new Todo("Renamed", null);
+        todo.setId(1L);
+        when(todoService.updateTodo(eq(1L), eq("Renamed"), isNull(), isNull(), isNull(), isNull(), eq(Set.of())))
+                .thenReturn(todo);
+        when(todoDtoMapper.toDto(any(Todo.class))).thenReturn(
+                com.example.todo.infrastructure.web.dto.TodoDto.builder().id(1L).title("Renamed").build());
+
+        // When & Then: the body the frontend sends when editing a todo
+        mockMvc.perform(put("/api/todos/{id}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Renamed\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Renamed"));
+        verify(todoService).updateTodo(1L, "Renamed", null, null, null, null, Set.of());
+    }
+
+    @Test
+    void shouldClearTheFieldsListedInClear() throws Exception {
+        // Given
+        Todo todo = new Todo("Renamed", null);
+        todo.setId(1L);
+        when(todoService.updateTodo(eq(1L), eq("Renamed"), isNull(), isNull(), isNull(), isNull(),
+                eq(EnumSet.of(TodoField.REMIND_AT, TodoField.TAGS)))).thenReturn(todo);
+        when(todoDtoMapper.toDto(any(Todo.class))).thenReturn(
+                com.example.todo.infrastructure.web.dto.TodoDto.builder().id(1L).title("Renamed").build());
+
+        // When & Then
+        mockMvc.perform(put("/api/todos/{id}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Renamed\",\"clear\":[\"remindAt\",\"tags\"]}"))
+                .andExpect(status().isOk());
+        verify(todoService).updateTodo(1L, "Renamed", null, null, null, null,
+                EnumSet.of(TodoField.REMIND_AT, TodoField.TAGS));
+    }
+
+    @Test
+    void shouldRejectClearingAFieldThatIsSetOrCannotBeCleared() throws Exception {
+        mockMvc.perform(put("/api/todos/{id}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"T\",\"dueAt\":\"2026-01-20T17:00:00\",\"clear\":[\"dueAt\"]}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/api/todos/{id}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"T\",\"clear\":[\"title\"]}"))
+                .andExpect(status().isBadRequest());
+        verify(todoService, never()).updateTodo(anyLong(), any(), any(), any(), any(), any(), any());
+    }
+
     @Test
     void shouldToggleTodoCompletion() throws Exception {
         // Given
@@ -222,4 +301,140 @@ class TodoControllerTest {
         mockMvc.perform(delete("/api/todos/{id}", id))
                 .andExpect(status().isNoContent());
     }
+
+    @Test
+    void shouldMoveTodo() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/api/todos/{id}/move", 3L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new MoveTodoRequest(1L, 2L))))
+                .andExpect(status().isNoContent());
+        verify(todoService).moveTodo(3L, 1L, 2L);
+    }
+
+    @Test
+    void shouldRejectMoveWithoutNeighbour() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/api/todos/{id}/move", 3L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+        verify(todoService, never()).moveTodo(anyLong(), any(), any());
+    }
+
+    @Test
+    void shouldSetCompletionOfSeveralTodos() throws Exception {
+        // Given
+        when(todoService.setTodosCompletion(List.of(1L, 2L, 3L), true)).thenReturn(2);
+
+        // When & Then
+        mockMvc.perform(patch("/api/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new BulkCompletionRequest(List.of(1L, 2L, 3L), true))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2));
+    }
+
+    @Test
+    void shouldRejectBulkCompletionWithoutStatus() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/api/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1]}"))
+                .andExpect(status().isBadRequest());
+        verify(todoService, never()).setTodosCompletion(any(), eq(true));
+    }
+
+    @Test
+    void shouldCompleteAllTodos() throws Exception {
+        // Given
+        when(todoService.completeAllTodos()).thenReturn(5);
+
+        // When & Then
+        mockMvc.perform(post("/api/todos/complete-all"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(5));
+    }
+
+    @Test
+    void shouldDeleteCompletedTodos() throws Exception {
+        // Given
+        when(todoService.deleteCompletedTodos()).thenReturn(4);
+
+        // When & Then
+        mockMvc.perform(delete("/api/todos").param("completed", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(4));
+    }
+
+    @Test
+    void shouldGetOnlyTheRequestedFieldsOfAllTodos() throws Exception {
+        // Given
+        Todo todo = new Todo("Todo 1", "Description 1");
+        todo.setId(1L);
+        Set<TodoField> fields = EnumSet.of(TodoField.ID, TodoField.TITLE, TodoField.COMPLETED);
+        when(todoService.getAllTodos(fields)).thenReturn(List.of(todo));
+
+        // When & Then
+        mockMvc.perform(get("/api/todos").param("fields", "id,title,completed"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{\"id\":1,\"title\":\"Todo 1\",\"completed\":false}]", JsonCompareMode.STRICT));
+        verify(todoService, never()).getAllTodos();
+    }
+
+    @Test
+    void shouldGetOnlyTheRequestedFieldsOfATodo() throws Exception {
+        // Given
+        Todo todo = new Todo("Todo 1", "Description 1");
+        todo.setId(1L);
+        when(todoService.getTodoById(1L)).thenReturn(todo);
+
+        // When & Then
+        mockMvc.perform(get("/api/todos/1").param("fields", "title, description"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"title\":\"Todo 1\",\"description\":\"Description 1\"}", JsonCompareMode.STRICT));
+    }
+
+    @Test
+    void shouldRejectUnknownFields() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/todos").param("fields", "id,owner"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/todos/1").param("fields", ""))
+                .andExpect(status().isBadRequest());
+        verify(todoService, never()).getAllTodos(any());
+        verify(todoService, never()).getTodoById(any());
+    }
+
+    @Test
+    void shouldFilterTodosByTagsAndCompletionStatus() throws Exception {
+        // Given
+        Todo todo = new Todo("Todo 1", "Description 1");
+        todo.setId(1L);
+        todo.setTags(Set.of("home"));
+        when(todoService.findTodos(Set.of("errands", "home"), false)).thenReturn(List.of(todo));
+
+        // When & Then
+        mockMvc.perform(get("/api/todos")
+                        .param("tags", "Home,errands")
+                        .param("completed", "false")
+                        .param("fields", "id,tags"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[{\"id\":1,\"tags\":[\"home\"]}]", JsonCompareMode.STRICT));
+        verify(todoService, never()).getAllTodos();
+    }
+
+    @Test
+    void shouldRejectMalformedTags() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/todos").param("tags", "home,-"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/todos").param("completed", "maybe"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Todo\",\"tags\":[\"no spaces\"]}"))
+                .andExpect(status().isBadRequest());
+        verify(todoService, never()).findTodos(any(), any());
+    }
 }
@@ -0,0 +1,96 @@
+package com.example.todo.infrastructure.web.controller;
+
+import com.example.todo.infrastructure.persistence.audit.JdbcTodoAuditHistory;
+import com.example.todo.infrastructure.persistence.audit.TodoAuditEntry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+    controllers = TodoHistoryController.class,
+    properties = "todo.audit.enabled=true"
+)
+class TodoHistoryControllerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 2, 12, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTodoAuditHistory auditHistory;
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public JdbcTodoAuditHistory jdbcTodoAuditHistory() {
+            return mock(JdbcTodoAuditHistory.class);
+        }
+    }
+
+    @Test
+    void shouldReturnAPageWithTheKeyOfTheNextOne() throws Exception {
+        // Given
+        when(auditHistory.findByTodoId(1L, 10L, 3)).thenReturn(List.of(
+                entry(9, "{\"title\":\"Buy oat milk\"}", null),
+                entry(7, "{\"title\":\"Buy milk\"}", "{\"title\":\"Buy oat milk\"}"),
+                entry(4, null, "{\"title\":\"Buy milk\"}")));
+
+        // When & Then
+        mockMvc.perform(get("/api/todos/1/history").param("before", "10").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries.length()").value(2))
+                .andExpect(jsonPath("$.entries[0].id").value(9))
+                .andExpect(jsonPath("$.entries[0].actor").value("alice"))
+                .andExpect(jsonPath("$.entries[1].before.title").value("Buy milk"))
+                .andExpect(jsonPath("$.entries[1].after.title").value("Buy oat milk"))
+                .andExpect(jsonPath("$.next").value(7));
+    }
+
+    @Test
+    void shouldLeaveOutTheNextKeyOnTheLastPage() throws Exception {
+        // Given
+        when(auditHistory.findByTodoId(anyLong(), isNull(), anyInt())).thenReturn(List.of(entry(4, null, "{}")));
+
+        // When & Then
+        mockMvc.perform(get("/api/todos/1/history"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries.length()").value(1))
+                .andExpect(jsonPath("$.next").doesNotExist());
+        verify(auditHistory).findByTodoId(1L, null, 51);
+    }
+
+    @Test
+    void shouldRejectLimitsOutOfRange() throws Exception {
+        mockMvc.perform(get("/api/todos/1/history").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/todos/1/history")
+                        .param("limit", String.valueOf(TodoHistoryController.MAX_LIMIT + 1)))
+                .andExpect(status().isBadRequest());
+        verify(auditHistory, never()).findByTodoId(anyLong(), any(), eq(1));
+        verify(auditHistory, never()).findByTodoId(anyLong(), any(), eq(TodoHistoryController.MAX_LIMIT + 2));
+    }
+
+    private static TodoAuditEntry entry(long id, String before, String after) {
+        return new TodoAuditEntry(id, 1L, "UPDATED", "alice", NOW, before, after);
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.todo.infrastructure.web.controller;
+
+import com.example.todo.infrastructure.importer.ImportFailedException;
+import com.example.todo.infrastructure.importer.ImportFormatException;
+import com.example.todo.infrastructure.importer.ImportListener;
+import com.example.todo.infrastructure.importer.ImportProgress;
+import com.example.todo.infrastructure.importer.TodoImporter;
+import com.example.todo.infrastructure.importer.TodoImporter.Format;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(
+    controllers = TodoImportController.class,
+    properties = "todo.import.enabled=true"
+)
+class TodoImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TodoImporter importer;
+
+    @TestConfiguration
+    static class TestConfig {
+        @Bean
+        public TodoImporter todoImporter() {
+            return mock(TodoImporter.class);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        reset(importer);
+    }
+
+    @Test
+    void shouldStreamRejectionsAndProgressAsNdjson() throws Exception {
+        // Given
+        when(importer.tryImport(eq(Format.CSV), any(), eq(0L), any())).thenAnswer(invocation -> {
+            ImportListener listener = invocation.getArgument(3);
+            listener.rejected(2, "Title is required");
+            listener.committed(new ImportProgress(3, 2, 1));
+            return Optional.of(new ImportProgress(3, 2, 1));
+        });
+
+        // When & Then
+        mockMvc.perform(post("/api/todos/import").contentType(TodoImportController.CSV)
+                        .content("title\nOne\n\nTwo\n"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(TodoImportController.NDJSON))
+                .andExpect(content().string("""
+                        {"row":2,"error":"Title is required"}
+                        {"rows":3,"imported":2,"rejected":1,"done":false}
+                        {"rows":3,"imported":2,"rejected":1,"done":true}
+                        """));
+    }
+
+    @Test
+    void shouldPassTheSkipOfAResumedNdjsonImport() throws Exception {
+        // Given
+        when(importer.tryImport(eq(Format.NDJSON), any(), eq(5000L), any()))
+                .thenReturn(Optional.of(new ImportProgress(5001, 1, 0)));
+
+        // When & Then
+        mockMvc.perform(post("/api/todos/import").param("skip", "5000")
+                        .contentType(TodoImportController.NDJSON)
+                        .content("{\"title\":\"Buy milk\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.done").value(true));
+    }
+
+    @Test
+    void shouldRejectAMalformedHeaderOrNegativeSkip() throws Exception {
+        // Given
+        when(importer.tryImport(any(), any(), anyLong(), any()))
+                .thenThrow(new ImportFormatException("The CSV header has no title column"));
+
+        // When & Then
+        mockMvc.perform(post("/api/todos/import").contentType(TodoImportController.CSV).content("name\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("The CSV header has no title column"));
+        mockMvc.perform(post("/api/todos/import").param("skip", "-1")
+                        .contentType(TodoImportController.CSV).content("title\n"))
+                .andExpect(status().isBadRequest());
+        verify(importer, never()).tryImport(any(), any(), eq(-1L), any());
+    }
+
+    @Test
+    void shouldAnswerServiceUnavailableWhileAnotherImportRuns() throws Exception {
+        // Given
+        when(importer.tryImport(any(), any(), anyLong(), any())).thenReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(post("/api/todos/import").contentType(TodoImportController.CSV).content("title\n"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void shouldEndAFailedImportWithTheRowsToSkipOnResume() throws Exception {
+        // Given
+        when(importer.tryImport(any(), any(), anyLong(), any()))
+                .thenThrow(new ImportFailedException(new ImportProgress(5000, 4990, 10),
+                        new IllegalStateException("Disk full")));
+
+        // When & Then
+        mockMvc.perform(post("/api/todos/import").contentType(TodoImportController.CSV).content("title\n"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.rows").value(5000))
+                .andExpect(jsonPath("$.done").value(false))
+                .andExpect(jsonPath("$.error").value("Import failed, resume with skip=5000"));
+    }
+}
@@ -9,10 +9,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
-import java.util.Map;
-
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,32 +34,50 @@ class GlobalExceptionHandlerTest {
         when(todoNotFoundException.getMessage()).thenReturn("Todo not found");
 
         // Act
-        ResponseEntity<Map<String, Object>> response = globalExceptionHandler.handleTodoNotFoundException(todoNotFoundException);
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleTodoNotFoundException(todoNotFoundException);
 
         // Assert
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-        Map<String, Object> responseBody = response.getBody();
+        ErrorResponse responseBody = response.getBody();
         assertNotNull(responseBody);
-        assertEquals("Not Found", responseBody.get("error"));
-        assertEquals("Todo not found", responseBody.get("message"));
+        assertEquals(404, responseBody.status());
+        assertEquals("Not Found", responseBody.error());
+        assertEquals("Todo not found", responseBody.message());
 
         verify(todoNotFoundException).getMessage(); // Verify that getMessage() on TodoNotFoundException was called.
     }
 
+    @Test
+    void testHandleTodoNotFoundExceptionForAnUnknownIdSharesOneResponse() {
+        // Act
+        ResponseEntity<ErrorResponse> first = globalExceptionHandler.handleTodoNotFoundException(new TodoNotFoundException(5L));
+        ResponseEntity<ErrorResponse> second = globalExceptionHandler.handleTodoNotFoundException(new TodoNotFoundException(6L));
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(HttpStatus.NOT_FOUND, first.getStatusCode());
+        ErrorResponse responseBody = first.getBody();
+        assertNotNull(responseBody);
+        assertNull(responseBody.timestamp());
+        assertEquals(404, responseBody.status());
+        assertEquals("Not Found", responseBody.error());
+        assertEquals("Todo not found", responseBody.message());
+    }
+
     @Test
     void testHandleGenericException() {
         // Arrange
         when(exception.getMessage()).thenReturn("Generic error message");
 
         // Act
-        ResponseEntity<Map<String, Object>> response = globalExceptionHandler.handleGenericException(exception);
+        ResponseEntity<ErrorResponse> response = globalExceptionHandler.handleGenericException(exception);
 
         // Assert
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
-        Map<String, Object> responseBody = response.getBody();
+        ErrorResponse responseBody = response.getBody();
         assertNotNull(responseBody);
-        assertEquals("Internal Server Error", responseBody.get("error"));
-        assertEquals("Generic error message", responseBody.get("message"));
+        assertEquals("Internal Server Error", responseBody.error());
+        assertEquals("Generic error message", responseBody.message());
 
         verify(exception).getMessage(); // Verify that getMessage() on Exception was called.
     }
@@ -0,0 +1,71 @@
+package com.example.todo.infrastructure.web.filter;
+
+import com.example.todo.application.service.TodoActor;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditActorFilterTest {
+
+    private final AuditActorFilter filter = new AuditActorFilter(true);
+
+    @Test
+    void shouldPreferTheAuthenticatedUser() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/todos");
+        request.setRemoteUser("alice");
+        request.addHeader(AuditActorFilter.USER_HEADER, "bob");
+
+        // When
+        String actor = actorDuring(request);
+
+        // Then
+        assertThat(actor).isEqualTo("alice");
+        assertThat(TodoActor.current()).isEqualTo(TodoActor.ANONYMOUS);
+    }
+
+    @Test
+    void shouldFallBackToTheUserHeader() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/todos");
+        request.addHeader(AuditActorFilter.USER_HEADER, "bob@example.com");
+
+        // When & Then
+        assertThat(actorDuring(request)).isEqualTo("bob@example.com");
+    }
+
+    @Test
+    void shouldIgnoreMalformedUserHeaders() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/todos");
+        request.addHeader(AuditActorFilter.USER_HEADER, "bob\nINFO forged log line");
+
+        // When & Then
+        assertThat(actorDuring(request)).isEqualTo(TodoActor.ANONYMOUS);
+    }
+
+    @Test
+    void shouldIgnoreTheUserHeaderUnlessItIsTrusted() throws Exception {
+        // Given
+        AuditActorFilter untrusting = new AuditActorFilter(false);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/todos");
+        request.addHeader(AuditActorFilter.USER_HEADER, "bob");
+        AtomicReference<String> actor = new AtomicReference<>();
+
+        // When
+        untrusting.doFilter(request, new MockHttpServletResponse(), (req, res) -> actor.set(TodoActor.current()));
+
+        // Then
+        assertThat(actor).hasValue(TodoActor.ANONYMOUS);
+    }
+
+    private String actorDuring(MockHttpServletRequest request) throws Exception {
+        AtomicReference<String> actor = new AtomicReference<>();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> actor.set(TodoActor.current()));
+        return actor.get();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.todo.infrastructure.web.filter;
+
+import com.example.todo.infrastructure.limit.ConcurrencyLimitProperties;
+import com.example.todo.infrastructure.limit.GradientConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GradientConcurrencyLimiter reads = limiter("reads");
+    private final GradientConcurrencyLimiter writes = limiter("writes");
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(reads, writes, Duration.ofSeconds(2));
+
+    @Test
+    void shouldShedRequestsBeyondTheLimitWithRetryAfter() throws Exception {
+        // Given
+        reads.tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/todos"), response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+    }
+
+    @Test
+    void shouldLimitReadsAndWritesSeparately() throws Exception {
+        // Given
+        reads.tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/todos"), response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(writes.getInFlight()).isZero();
+    }
+
+    @Test
+    void shouldNotLimitNonApiRequests() throws Exception {
+        // Given
+        reads.tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), response, new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldLeaveImportsToTheirOwnBulkhead() throws Exception {
+        // Given
+        writes.tryAcquire();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("POST", ConcurrencyLimitFilter.IMPORT_PATH), response,
+                new MockFilterChain());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(writes.getInFlight()).isEqualTo(1);
+    }
+
+    private GradientConcurrencyLimiter limiter(String group) {
+        return new GradientConcurrencyLimiter(group, new ConcurrencyLimitProperties.Limit(1, 1, 1), 1.5, 0.2,
+                meterRegistry);
+    }
+}
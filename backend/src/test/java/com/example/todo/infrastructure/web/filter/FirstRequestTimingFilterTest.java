@@ -0,0 +1,49 @@
+package com.example.todo.infrastructure.web.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class FirstRequestTimingFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FirstRequestTimingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new FirstRequestTimingFilter(meterRegistry, System.currentTimeMillis() - 1000);
+    }
+
+    @Test
+    void shouldRecordOnlyTheFirstApiRequest() throws Exception {
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/todos"), new MockHttpServletResponse(), new MockFilterChain());
+        long first = filter.getFirstRequestMillis();
+        Thread.sleep(5);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/todos"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(first).isGreaterThanOrEqualTo(1000);
+        assertThat(filter.getFirstRequestMillis()).isEqualTo(first);
+        assertThat(meterRegistry.get("application.first-request.time").timeGauge().value(TimeUnit.MILLISECONDS))
+                .isCloseTo(first, within(0.001));
+    }
+
+    @Test
+    void shouldIgnoreNonApiRequests() throws Exception {
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(), new MockFilterChain());
+
+        // Then
+        assertThat(filter.getFirstRequestMillis()).isEqualTo(-1);
+    }
+}
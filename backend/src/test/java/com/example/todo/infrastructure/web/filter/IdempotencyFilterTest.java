@@ -0,0 +1,248 @@
+package com.example.todo.infrastructure.web.filter;
+
+import com.example.todo.infrastructure.persistence.idempotency.InMemoryIdempotencyStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotencyFilterTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final IdempotencyFilter filter = new IdempotencyFilter(
+            new InMemoryIdempotencyStore(100, Duration.ofMinutes(10), Duration.ofSeconds(5)), Duration.ofSeconds(5),
+            false);
+
+    @Test
+    void shouldReplayFirstResponseWithoutExecutingAgain() throws Exception {
+        // Given
+        FilterChain chain = created();
+        filter.doFilter(post("abc"), new MockHttpServletResponse(), chain);
+
+        // When
+        MockHttpServletResponse repeat = new MockHttpServletResponse();
+        filter.doFilter(post("abc"), repeat, chain);
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(repeat.getStatus()).isEqualTo(201);
+        assertThat(repeat.getContentAsString()).isEqualTo("{\"id\":1}");
+        assertThat(repeat.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+    }
+
+    @Test
+    void shouldLetConcurrentDuplicateWaitForTheInFlightRequest() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            created().doFilter(request, response);
+        };
+
+        try (ExecutorService clients = Executors.newFixedThreadPool(2)) {
+            // When
+            MockHttpServletResponse first = new MockHttpServletResponse();
+            MockHttpServletResponse duplicate = new MockHttpServletResponse();
+            Future<?> firstRequest = clients.submit(() -> doFilter(post("abc"), first, slow));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<?> duplicateRequest = clients.submit(() -> doFilter(post("abc"), duplicate, slow));
+            Thread.sleep(100);
+            release.countDown();
+            firstRequest.get();
+            duplicateRequest.get();
+
+            // Then
+            assertThat(executions).hasValue(1);
+            assertThat(duplicate.getStatus()).isEqualTo(201);
+            assertThat(duplicate.getContentAsString()).isEqualTo(first.getContentAsString());
+        }
+    }
+
+    @Test
+    void shouldExecuteAgainAfterServerError() throws Exception {
+        // Given
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(500);
+        };
+
+        // When
+        filter.doFilter(post("abc"), new MockHttpServletResponse(), failing);
+        filter.doFilter(post("abc"), new MockHttpServletResponse(), failing);
+
+        // Then
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void shouldScopeKeysToMethodAndPath() throws Exception {
+        // When
+        filter.doFilter(post("abc"), new MockHttpServletResponse(), created());
+        MockHttpServletRequest update = new MockHttpServletRequest("PUT", "/api/todos/1");
+        update.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "abc");
+        filter.doFilter(update, new MockHttpServletResponse(), created());
+
+        // Then
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void shouldRejectTheKeyForADifferentBody() throws Exception {
+        // Given
+        filter.doFilter(post("abc", "{\"title\":\"Buy milk\"}"), new MockHttpServletResponse(), created());
+
+        // When
+        MockHttpServletResponse other = new MockHttpServletResponse();
+        filter.doFilter(post("abc", "{\"title\":\"Sell milk\"}"), other, created());
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(other.getStatus()).isEqualTo(422);
+        assertThat(other.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    void shouldRejectTheKeyForADifferentQueryString() throws Exception {
+        // Given
+        MockHttpServletRequest first = post("abc");
+        first.setQueryString("completed=true");
+        filter.doFilter(first, new MockHttpServletResponse(), created());
+
+        // When
+        MockHttpServletRequest other = post("abc");
+        other.setQueryString("completed=false");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(other, response, created());
+
+        // Then
+        assertThat(executions).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(422);
+    }
+
+    @Test
+    void shouldPassTheBodyOnToTheChain() throws Exception {
+        // Given
+        StringBuilder received = new StringBuilder();
+        FilterChain reading = (request, response) -> {
+            received.append(new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+            created().doFilter(request, response);
+        };
+
+        // When
+        filter.doFilter(post("abc", "{\"title\":\"Buy milk\"}"), new MockHttpServletResponse(), reading);
+
+        // Then
+        assertThat(received).hasToString("{\"title\":\"Buy milk\"}");
+    }
+
+    @Test
+    void shouldScopeKeysToTheActor() throws Exception {
+        // Given
+        MockHttpServletRequest alice = post("abc");
+        alice.setRemoteUser("alice");
+        filter.doFilter(alice, new MockHttpServletResponse(), created());
+
+        // When
+        MockHttpServletRequest bob = post("abc");
+        bob.setRemoteUser("bob");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(bob, response, created());
+
+        // Then
+        assertThat(executions).hasValue(2);
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+    }
+
+    @Test
+    void shouldRunBeforeTheConcurrencyLimit() {
+        assertThat(filter.getOrder()).isLessThan(ConcurrencyLimitFilter.ORDER);
+    }
+
+    @Test
+    void shouldNotBufferOrReplayImports() throws Exception {
+        // Given
+        FilterChain streaming = (request, response) -> {
+            executions.incrementAndGet();
+            assertThat(response).isNotInstanceOf(ContentCachingResponseWrapper.class);
+            response.getWriter().write("{\"rows\":2}\n");
+        };
+
+        // When
+        filter.doFilter(importRequest(0), new MockHttpServletResponse(), streaming);
+        filter.doFilter(importRequest(2), new MockHttpServletResponse(), streaming);
+
+        // Then
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void shouldRejectBlankKey() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(post(" "), response, created());
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(executions).hasValue(0);
+    }
+
+    private FilterChain created() {
+        return (request, response) -> {
+            executions.incrementAndGet();
+            HttpServletResponse httpResponse = (HttpServletResponse) response;
+            httpResponse.setStatus(201);
+            httpResponse.setContentType("application/json");
+            httpResponse.getWriter().write("{\"id\":1}");
+        };
+    }
+
+    private void doFilter(MockHttpServletRequest request, MockHttpServletResponse response, FilterChain chain) {
+        try {
+            filter.doFilter(request, response, chain);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MockHttpServletRequest importRequest(long skip) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", ConcurrencyLimitFilter.IMPORT_PATH);
+        request.setQueryString("skip=" + skip);
+        request.addParameter("skip", String.valueOf(skip));
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, "abc");
+        return request;
+    }
+
+    private static MockHttpServletRequest post(String key) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/todos");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        return request;
+    }
+
+    private static MockHttpServletRequest post(String key, String body) {
+        MockHttpServletRequest request = post(key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
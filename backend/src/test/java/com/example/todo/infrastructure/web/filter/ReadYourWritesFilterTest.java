@@ -0,0 +1,71 @@
+package com.example.todo.infrastructure.web.filter;
+
+import com.example.todo.infrastructure.persistence.routing.ReadYourWritesContext;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final ReadYourWritesFilter filter =
+            new ReadYourWritesFilter(Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void shouldPinMutatingRequestsAndSetCookie() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean pinned = pinnedDuring(new MockHttpServletRequest("POST", "/api/todos"), response);
+
+        // Then
+        assertThat(pinned).isTrue();
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.getValue()).isEqualTo(Long.toString(NOW.plusSeconds(5).toEpochMilli()));
+        assertThat(cookie.getMaxAge()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldPinReadsWhileCookieIsValid() throws Exception {
+        assertThat(pinnedDuring(readWithCookie(NOW.plusSeconds(1)), new MockHttpServletResponse())).isTrue();
+        assertThat(pinnedDuring(readWithCookie(NOW.minusSeconds(1)), new MockHttpServletResponse())).isFalse();
+    }
+
+    @Test
+    void shouldNotPinReadsWithoutCookie() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean pinned = pinnedDuring(new MockHttpServletRequest("GET", "/api/todos"), response);
+
+        // Then
+        assertThat(pinned).isFalse();
+        assertThat(response.getCookies()).isEmpty();
+        assertThat(ReadYourWritesContext.isPinnedToPrimary()).isFalse();
+    }
+
+    private MockHttpServletRequest readWithCookie(Instant pinnedUntil) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/todos");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(pinnedUntil.toEpochMilli())));
+        return request;
+    }
+
+    private boolean pinnedDuring(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicBoolean pinned = new AtomicBoolean();
+        filter.doFilter(request, response, (req, res) -> pinned.set(ReadYourWritesContext.isPinnedToPrimary()));
+        return pinned.get();
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.todo.infrastructure.web.filter;
+
+import com.example.todo.infrastructure.persistence.instrumentation.InstrumentedDataSourcePostProcessor;
+import com.example.todo.infrastructure.persistence.instrumentation.QueryInstrumentationListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatementStatisticsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StatementStatisticsFilter filter = new StatementStatisticsFilter(meterRegistry, 3);
+    private SingleConnectionDataSource target;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        target = new SingleConnectionDataSource("jdbc:h2:mem:" + UUID.randomUUID(), "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(InstrumentedDataSourcePostProcessor.instrument(target,
+                new QueryInstrumentationListener(meterRegistry, Duration.ofSeconds(1))));
+        jdbcTemplate.execute("CREATE TABLE todos (id BIGINT PRIMARY KEY, title VARCHAR(255))");
+        jdbcTemplate.update("INSERT INTO todos VALUES (1, 'First')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        target.destroy();
+    }
+
+    @Test
+    void shouldRecordStatementsPerRouteAndReportRedundantReads() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("DELETE", "/api/todos/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/todos/{id}");
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos WHERE id = ?", Long.class, 1);
+                jdbcTemplate.queryForList("SELECT title FROM todos WHERE id = ?", String.class, 1);
+                jdbcTemplate.update("DELETE FROM todos WHERE id = ?", 1);
+            }
+        }));
+
+        // Then
+        assertThat(meterRegistry.get("todo.jdbc.statements.per-request")
+                .tags("method", "DELETE", "route", "/api/todos/{id}").summary().totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.get("todo.jdbc.n-plus-one")
+                .tags("kind", "REDUNDANT_READ", "table", "todos").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldIgnoreNonApiRequests() throws Exception {
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(),
+                new MockFilterChain());
+
+        // Then
+        assertThat(meterRegistry.find("todo.jdbc.statements.per-request").summary()).isNull();
+    }
+}
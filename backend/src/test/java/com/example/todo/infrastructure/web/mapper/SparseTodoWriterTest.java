@@ -0,0 +1,68 @@
+package com.example.todo.infrastructure.web.mapper;
+
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoField;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SparseTodoWriterTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final TodoDtoMapper todoDtoMapper = new TodoDtoMapper();
+    private final SparseTodoWriter writer = new SparseTodoWriter(objectMapper);
+
+    @Test
+    void shouldWriteAllFieldsLikeTheDto() {
+        // Given
+        Todo todo = todo(1L, "First", null);
+
+        // When
+        byte[] json = writer.write(List.of(todo), EnumSet.allOf(TodoField.class));
+
+        // Then
+        assertThat(new String(json)).isEqualTo(objectMapper.writeValueAsString(List.of(todoDtoMapper.toDto(todo))));
+    }
+
+    @Test
+    void shouldWriteOnlyTheRequestedFields() {
+        // Given
+        Todo first = todo(1L, "First", "Description");
+        first.setCompleted(true);
+        Todo second = todo(2L, "Second \"quoted\"", "Description");
+
+        // When
+        byte[] json = writer.write(List.of(first, second),
+                EnumSet.of(TodoField.ID, TodoField.TITLE, TodoField.COMPLETED));
+
+        // Then
+        assertThat(new String(json)).isEqualTo("[{\"id\":1,\"title\":\"First\",\"completed\":true},"
+                + "{\"id\":2,\"title\":\"Second \\\"quoted\\\"\",\"completed\":false}]");
+    }
+
+    @Test
+    void shouldWriteASingleTodo() {
+        // Given
+        Todo todo = todo(1L, "First", "Description");
+
+        // When
+        byte[] json = writer.write(todo, EnumSet.of(TodoField.TITLE, TodoField.UPDATED_AT));
+
+        // Then
+        assertThat(new String(json)).isEqualTo("{\"title\":\"First\",\"updatedAt\":\"2026-01-02T12:00:00\"}");
+    }
+
+    private static Todo todo(Long id, String title, String description) {
+        Todo todo = new Todo(title, description);
+        todo.setId(id);
+        todo.setCreatedAt(LocalDateTime.of(2026, 1, 2, 11, 30, 15, 123_000_000));
+        todo.setUpdatedAt(LocalDateTime.of(2026, 1, 2, 12, 0));
+        return todo;
+    }
+}
@@ -0,0 +1,176 @@
+package com.example.todo.infrastructure.web.readmodel;
+
+import com.example.todo.application.service.TodoIdFilter;
+import com.example.todo.application.service.TodoTagIndex;
+import com.example.todo.application.service.TodoService;
+import com.example.todo.application.service.TransactionalTodoWriteExecutor;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.port.TodoRepository;
+import com.example.todo.infrastructure.persistence.adapter.TodoPersistenceAdapter;
+import com.example.todo.infrastructure.persistence.mapper.TodoMapper;
+import com.example.todo.infrastructure.persistence.repository.JpaTodoRepository;
+import com.example.todo.infrastructure.web.mapper.TodoDtoMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The read model against the real write path: after-commit events, the JPA adapter and concurrent writers
+ */
+@DataJpaTest
+@Import({TodoService.class, TransactionalTodoWriteExecutor.class, TodoPersistenceAdapter.class, TodoMapper.class,
+        TodoDtoMapper.class, TodoListReadModelIT.ReadModelConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+class TodoListReadModelIT {
+
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder().build();
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoListReadModel readModel;
+
+    @Autowired
+    private TodoDtoMapper todoDtoMapper;
+
+    @Autowired
+    private JpaTodoRepository jpaTodoRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TestConfiguration
+    static class ReadModelConfig {
+
+        @Bean
+        TodoListReadModel todoListReadModel(TodoRepository todoRepository, TodoDtoMapper todoDtoMapper,
+                                            PlatformTransactionManager transactionManager) {
+            return new TodoListReadModel(todoRepository, todoDtoMapper, OBJECT_MAPPER,
+                    new TransactionTemplate(transactionManager), new SimpleMeterRegistry());
+        }
+
+        @Bean
+        TodoIdFilter todoIdFilter() {
+            return TodoIdFilter.ALLOW_ALL;
+        }
+
+        @Bean
+        TodoTagIndex todoTagIndex() {
+            return TodoTagIndex.NONE;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jpaTodoRepository.deleteAll();
+        readModel.rebuild();
+    }
+
+    @Test
+    void shouldMatchTheDatabaseAfterEveryMutation() {
+        // Given
+        Long first = todoService.createTodo("First", "Description").getId();
+        Long second = todoService.createTodo("Second", null).getId();
+        Long third = todoService.createTodo("Third", null).getId();
+        assertThat(readModel.current().json()).isEqualTo(database());
+
+        // When & Then
+        todoService.updateTodo(first, "Renamed", "Changed");
+        assertThat(readModel.current().json()).isEqualTo(database());
+        todoService.toggleTodoCompletion(second);
+        assertThat(readModel.current().json()).isEqualTo(database());
+        todoService.deleteTodo(third);
+        assertThat(readModel.current().json()).isEqualTo(database());
+        todoService.setTodosCompletion(List.of(first, second), false);
+        assertThat(readModel.current().json()).isEqualTo(database());
+        todoService.completeAllTodos();
+        assertThat(readModel.current().json()).isEqualTo(database());
+        todoService.deleteCompletedTodos();
+        assertThat(new String(readModel.current().json())).isEqualTo("[]");
+    }
+
+    @Test
+    void shouldNotSeeRolledBackChanges() {
+        // Given
+        long version = readModel.current().version();
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            todoService.createTodo("Rolled back", null);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(readModel.current().version()).isEqualTo(version);
+        assertThat(new String(readModel.current().json())).isEqualTo("[]");
+    }
+
+    @Test
+    void shouldConvergeToTheDatabaseUnderConcurrentWrites() throws Exception {
+        // Given
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            ids.add(todoService.createTodo("Todo " + i, null).getId());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                tasks.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 50; i++) {
+                        Long id = ids.get(random.nextInt(ids.size()));
+                        if (random.nextBoolean()) {
+                            todoService.toggleTodoCompletion(id);
+                        } else {
+                            todoService.updateTodo(id, "Todo " + id + " v" + i, null);
+                        }
+                        readModel.current();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertThat(new String(readModel.current().json())).isEqualTo(new String(database()));
+    }
+
+    private byte[] database() {
+        return OBJECT_MAPPER.writeValueAsBytes(todoService.getAllTodos().stream()
+                .sorted(Comparator.comparing(Todo::getSortKey).thenComparing(Todo::getId))
+                .map(todoDtoMapper::toDto)
+                .toList());
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.todo.infrastructure.web.readmodel;
+
+import com.example.todo.application.service.TodosChangedEvent;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.port.TodoRepository;
+import com.example.todo.infrastructure.web.mapper.TodoDtoMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TodoListReadModelTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 2, 12, 0);
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final TodoDtoMapper todoDtoMapper = new TodoDtoMapper();
+    private TodoRepository todoRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private TodoListReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        readModel = new TodoListReadModel(todoRepository, todoDtoMapper, objectMapper,
+                TransactionOperations.withoutTransaction(), meterRegistry);
+    }
+
+    @Test
+    void shouldSerializeTheListLikeJacksonInListOrder() {
+        // Given
+        Todo first = todo(1L, "First", 0);
+        Todo second = todo(2L, "Second", 1);
+        when(todoRepository.findAll()).thenReturn(List.of(second, first));
+
+        // When
+        TodoListReadModel.Snapshot snapshot = readModel.current();
+
+        // Then
+        assertThat(snapshot.json()).isEqualTo(serialize(List.of(first, second)));
+        assertThat(snapshot.todo(2L)).hasValueSatisfying(json -> assertThat(json).isEqualTo(serialize(second)));
+        assertThat(snapshot.todo(3L)).isEmpty();
+    }
+
+    @Test
+    void shouldServeAnEmptyList() {
+        // When
+        TodoListReadModel.Snapshot snapshot = readModel.current();
+
+        // Then
+        assertThat(new String(snapshot.json())).isEqualTo("[]");
+        assertThat(snapshot.size()).isZero();
+    }
+
+    @Test
+    void shouldReloadOnlyTheChangedTodosAfterCommit() {
+        // Given
+        Todo first = todo(1L, "First", 0);
+        Todo second = todo(2L, "Second", 1);
+        when(todoRepository.findAll()).thenReturn(List.of(first, second));
+        readModel.current();
+        Todo renamed = todo(2L, "Renamed", 1);
+        Todo created = todo(3L, "Created", 2);
+        when(todoRepository.findAllById(Set.of(1L, 2L, 3L))).thenReturn(List.of(renamed, created));
+
+        // When
+        readModel.onTodosChanged(TodosChangedEvent.of(2L));
+        readModel.onTodosChanged(TodosChangedEvent.of(List.of(1L, 3L)));
+        TodoListReadModel.Snapshot snapshot = readModel.current();
+
+        // Then
+        assertThat(snapshot.json()).isEqualTo(serialize(List.of(renamed, created)));
+        assertThat(snapshot.todo(1L)).isEmpty();
+        verify(todoRepository, times(1)).findAll();
+        assertThat(meterRegistry.get("todo.read-model.refreshes").tag("type", "incremental").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("todo.read-model.lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReorderAMovedTodoOnIncrementalRefresh() {
+        // Given
+        Todo first = todo(1L, "First", 0);
+        Todo second = todo(2L, "Second", 1);
+        when(todoRepository.findAll()).thenReturn(List.of(first, second));
+        readModel.current();
+        Todo moved = todo(2L, "Second", 1);
+        moved.setSortKey("Zz");
+        when(todoRepository.findAllById(Set.of(2L))).thenReturn(List.of(moved));
+
+        // When
+        readModel.onTodosChanged(TodosChangedEvent.of(2L));
+        TodoListReadModel.Snapshot snapshot = readModel.current();
+
+        // Then
+        assertThat(snapshot.json()).isEqualTo(serialize(List.of(moved, first)));
+    }
+
+    @Test
+    void shouldNotQueryTheDatabaseWhileUpToDate() {
+        // Given
+        when(todoRepository.findAll()).thenReturn(List.of(todo(1L, "First", 0)));
+        TodoListReadModel.Snapshot first = readModel.current();
+
+        // When
+        TodoListReadModel.Snapshot second = readModel.current();
+
+        // Then
+        assertThat(second).isSameAs(first);
+        verify(todoRepository, times(1)).findAll();
+        verify(todoRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void shouldRebuildEverythingAfterAChangeByPredicate() {
+        // Given
+        Todo first = todo(1L, "First", 0);
+        when(todoRepository.findAll()).thenReturn(List.of(first));
+        readModel.current();
+        Todo completed = todo(1L, "First", 0);
+        completed.setCompleted(true);
+        when(todoRepository.findAll()).thenReturn(List.of(completed));
+
+        // When
+        readModel.onTodosChanged(TodosChangedEvent.all());
+        TodoListReadModel.Snapshot snapshot = readModel.current();
+
+        // Then
+        assertThat(snapshot.json()).isEqualTo(serialize(List.of(completed)));
+        verify(todoRepository, never()).findAllById(any());
+        assertThat(meterRegistry.get("todo.read-model.refreshes").tag("type", "full").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void shouldReportPendingChangesUntilTheNextRead() {
+        // Given
+        readModel.current();
+
+        // When
+        readModel.onTodosChanged(TodosChangedEvent.of(1L));
+        readModel.onTodosChanged(TodosChangedEvent.of(2L));
+
+        // Then
+        assertThat(meterRegistry.get("todo.read-model.pending").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("todo.read-model.staleness").timeGauge().value()).isPositive();
+        readModel.current();
+        assertThat(meterRegistry.get("todo.read-model.pending").gauge().value()).isZero();
+        assertThat(meterRegistry.get("todo.read-model.staleness").timeGauge().value()).isZero();
+    }
+
+    @Test
+    void shouldKeepChangesQueuedWhenTheReloadFails() {
+        // Given
+        Todo first = todo(1L, "First", 0);
+        when(todoRepository.findAll()).thenReturn(List.of());
+        readModel.current();
+        readModel.onTodosChanged(TodosChangedEvent.of(1L));
+        when(todoRepository.findAllById(Set.of(1L)))
+                .thenThrow(new IllegalStateException("Database unavailable"))
+                .thenReturn(List.of(first));
+
+        // When
+        assertThatThrownBy(readModel::current).isInstanceOf(IllegalStateException.class);
+        TodoListReadModel.Snapshot snapshot = readModel.current();
+
+        // Then
+        assertThat(snapshot.json()).isEqualTo(serialize(List.of(first)));
+    }
+
+    @Test
+    void shouldCompressTheList() throws IOException {
+        // Given
+        when(todoRepository.findAll()).thenReturn(List.of(todo(1L, "First", 0), todo(2L, "Second", 1)));
+        TodoListReadModel.Snapshot snapshot = readModel.current();
+
+        // When
+        byte[] gzip = snapshot.gzip();
+
+        // Then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertThat(in.readAllBytes()).isEqualTo(snapshot.json());
+        }
+        assertThat(snapshot.gzip()).isSameAs(gzip);
+    }
+
+    private byte[] serialize(Object value) {
+        if (value instanceof List<?> todos) {
+            return objectMapper.writeValueAsBytes(todos.stream().map(todo -> todoDtoMapper.toDto((Todo) todo)).toList());
+        }
+        return objectMapper.writeValueAsBytes(todoDtoMapper.toDto((Todo) value));
+    }
+
+    private static Todo todo(Long id, String title, int position) {
+        Todo todo = new Todo(title, title + " description");
+        todo.setId(id);
+        todo.setCreatedAt(NOW.plusMinutes(position));
+        todo.setUpdatedAt(NOW.plusMinutes(position));
+        todo.setSortKey("a" + position);
+        return todo;
+    }
+}
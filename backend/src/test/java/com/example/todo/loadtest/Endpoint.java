@@ -0,0 +1,38 @@
+package com.example.todo.loadtest;
+
+/**
+ * REST operations of {@code TodoController} that the load generator can drive
+ */
+public enum Endpoint {
+    CREATE("create", false),
+    LIST("list", false),
+    GET("get", true),
+    UPDATE("update", true),
+    TOGGLE("toggle", true),
+    DELETE("delete", true);
+
+    private final String key;
+    private final boolean needsExistingTodo;
+
+    Endpoint(String key, boolean needsExistingTodo) {
+        this.key = key;
+        this.needsExistingTodo = needsExistingTodo;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public boolean needsExistingTodo() {
+        return needsExistingTodo;
+    }
+
+    public static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equalsIgnoreCase(key.trim())) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("Unknown endpoint '" + key + "', expected one of create, list, get, update, toggle, delete");
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.todo.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Weighted selection of endpoints, parsed from a specification like {@code create=10,list=30,get=60}
+ */
+public class EndpointMix {
+
+    private final Endpoint[] endpoints;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private EndpointMix(Map<Endpoint, Integer> weights) {
+        endpoints = new Endpoint[weights.size()];
+        cumulativeWeights = new int[weights.size()];
+        int total = 0;
+        int i = 0;
+        for (Map.Entry<Endpoint, Integer> entry : weights.entrySet()) {
+            total += entry.getValue();
+            endpoints[i] = entry.getKey();
+            cumulativeWeights[i] = total;
+            i++;
+        }
+        totalWeight = total;
+    }
+
+    public static EndpointMix parse(String specification) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String part : specification.split(",")) {
+            String[] keyValue = part.split("=");
+            if (keyValue.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry '" + part + "', expected endpoint=weight");
+            }
+            int weight = Integer.parseInt(keyValue[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Weight of " + keyValue[0] + " must not be negative");
+            }
+            if (weight > 0) {
+                weights.merge(Endpoint.fromKey(keyValue[0]), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Mix '" + specification + "' does not select any endpoint");
+        }
+        return new EndpointMix(weights);
+    }
+
+    /**
+     * @param random uniformly distributed value in {@code [0, 1)}
+     */
+    public Endpoint select(double random) {
+        int point = (int) (random * totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (point < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    public Endpoint[] endpoints() {
+        return endpoints.clone();
+    }
+}
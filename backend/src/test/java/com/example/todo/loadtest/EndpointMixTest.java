@@ -0,0 +1,56 @@
+package com.example.todo.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EndpointMixTest {
+
+    @Test
+    void shouldSelectEndpointsProportionallyToTheirWeights() {
+        // Given
+        EndpointMix mix = EndpointMix.parse("create=25,list=75");
+
+        // When & Then
+        assertThat(mix.select(0.0)).isEqualTo(Endpoint.CREATE);
+        assertThat(mix.select(0.24)).isEqualTo(Endpoint.CREATE);
+        assertThat(mix.select(0.25)).isEqualTo(Endpoint.LIST);
+        assertThat(mix.select(0.999)).isEqualTo(Endpoint.LIST);
+    }
+
+    @Test
+    void shouldIgnoreEndpointsWithZeroWeight() {
+        // When
+        EndpointMix mix = EndpointMix.parse("create=0,get=1,delete=0");
+
+        // Then
+        assertThat(mix.endpoints()).containsExactly(Endpoint.GET);
+    }
+
+    @Test
+    void shouldRejectUnknownEndpoint() {
+        assertThatThrownBy(() -> EndpointMix.parse("create=1,archive=2"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("archive");
+    }
+
+    @Test
+    void shouldRejectMixWithoutAnyEndpoint() {
+        assertThatThrownBy(() -> EndpointMix.parse("create=0"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldPassUnknownOptionsToTheApplication() {
+        // When
+        LoadTestOptions options = LoadTestOptions.parse("--rate=50", "--duration=5", "--slow-clients=100",
+                "--spring.profiles.active=prod");
+
+        // Then
+        assertThat(options.rate()).isEqualTo(50);
+        assertThat(options.duration().toSeconds()).isEqualTo(5);
+        assertThat(options.slowClients()).isEqualTo(100);
+        assertThat(options.applicationArgs()).containsExactly("--spring.profiles.active=prod");
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.todo.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint HDR latency histograms, recorded in microseconds. 404s of todos deleted concurrently are counted
+ * apart from errors.
+ */
+public class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> errors = new EnumMap<>(Endpoint.class);
+    private final Map<Endpoint, LongAdder> notFound = new EnumMap<>(Endpoint.class);
+
+    public LatencyReport() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            recorders.put(endpoint, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(endpoint, new LongAdder());
+            notFound.put(endpoint, new LongAdder());
+        }
+    }
+
+    public void record(Endpoint endpoint, long latencyNanos, TodoApiClient.Outcome outcome) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        recorders.get(endpoint).recordValue(micros);
+        switch (outcome) {
+            case SUCCESS -> {
+            }
+            case NOT_FOUND -> notFound.get(endpoint).increment();
+            case ERROR -> errors.get(endpoint).increment();
+        }
+    }
+
+    /**
+     * Discards everything recorded so far, e.g. at the end of the warm-up
+     */
+    public void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+        notFound.values().forEach(LongAdder::reset);
+    }
+
+    public void print(PrintStream out, Duration elapsed) {
+        double seconds = elapsed.toNanos() / 1e9;
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        long totalErrors = 0;
+        long totalNotFound = 0;
+
+        out.printf("%-8s %10s %8s %8s %10s %10s %10s %10s %10s%n",
+                "endpoint", "requests", "errors", "404s", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram histogram = recorders.get(endpoint).getIntervalHistogram();
+            long endpointErrors = errors.get(endpoint).sum();
+            long endpointNotFound = notFound.get(endpoint).sum();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            total.add(histogram);
+            totalErrors += endpointErrors;
+            totalNotFound += endpointNotFound;
+            printRow(out, endpoint.key(), histogram, endpointErrors, endpointNotFound, seconds);
+        }
+        printRow(out, "total", total, totalErrors, totalNotFound, seconds);
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, long errors, long notFound,
+                                 double seconds) {
+        out.printf("%-8s %10d %8d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+                name,
+                histogram.getTotalCount(),
+                errors,
+                notFound,
+                histogram.getTotalCount() / seconds,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.todo.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line options of {@link LoadTestRunner}, given as {@code --name=value}.
+ * Unknown options are passed on to the application under test.
+ */
+public record LoadTestOptions(
+        int rate,
+        Duration duration,
+        Duration warmup,
+        EndpointMix mix,
+        int seed,
+        int slowClients,
+        String url,
+        List<String> applicationArgs) {
+
+    public static final String DEFAULT_MIX = "create=10,list=20,get=45,update=10,toggle=10,delete=5";
+
+    public static LoadTestOptions parse(String... args) {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Invalid option '" + arg + "', expected --name=value");
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (name) {
+                case "rate", "duration", "warmup", "mix", "seed", "slow-clients", "url" -> options.put(name, value);
+                default -> applicationArgs.add(arg);
+            }
+        }
+
+        int rate = Integer.parseInt(options.getOrDefault("rate", "200"));
+        if (rate <= 0) {
+            throw new IllegalArgumentException("Rate must be positive");
+        }
+        return new LoadTestOptions(
+                rate,
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30"))),
+                Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10"))),
+                EndpointMix.parse(options.getOrDefault("mix", DEFAULT_MIX)),
+                Integer.parseInt(options.getOrDefault("seed", "1000")),
+                Integer.parseInt(options.getOrDefault("slow-clients", "0")),
+                options.get("url"),
+                List.copyOf(applicationArgs));
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.todo.loadtest;
+
+import com.example.todo.TodoApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop HTTP load generator for the todo API.
+ * <p>
+ * Requests are issued at fixed intended start times derived from the target rate, each on its own virtual
+ * thread, and latency is measured from the intended start time rather than the actual send time. A slow
+ * server therefore shows up as queueing delay in the percentiles instead of silently lowering the request
+ * rate (coordinated omission).
+ * <p>
+ * {@code --slow-clients} adds connections that download the list slowly for the whole run, to compare how many
+ * of them the servlet and the reactive deployment can hold before the measured requests start queueing.
+ * <p>
+ * Boots the application on a random port unless {@code --url} points to a running instance.
+ * See PERFORMANCE.md for the available options.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        ConfigurableApplicationContext context = null;
+        String url = options.url();
+        if (url == null) {
+            context = startApplication(options.applicationArgs());
+            url = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+        }
+
+        try {
+            TodoApiClient client = new TodoApiClient(url);
+            seed(client, options.seed());
+
+            try (SlowClients slowClients = new SlowClients(url, options.slowClients())) {
+                LatencyReport report = new LatencyReport();
+                System.out.printf("Warming up for %ds at %d req/s with %d slow clients against %s%n",
+                        options.warmup().toSeconds(), options.rate(), options.slowClients(), url);
+                run(client, options, options.warmup(), report);
+                report.reset();
+
+                System.out.printf("Measuring for %ds at %d req/s%n", options.duration().toSeconds(), options.rate());
+                long start = System.nanoTime();
+                run(client, options, options.duration(), report);
+                report.print(System.out, Duration.ofNanos(System.nanoTime() - start));
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(List<String> applicationArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN"));
+        args.addAll(applicationArgs);
+        return SpringApplication.run(TodoApplication.class, args.toArray(String[]::new));
+    }
+
+    private static void seed(TodoApiClient client, int rows) throws InterruptedException {
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < rows; i++) {
+                executor.submit(() -> client.execute(Endpoint.CREATE));
+            }
+        }
+        System.out.printf("Seeded %d todos%n", rows);
+    }
+
+    /**
+     * Dispatches requests on a fixed schedule and waits for all of them to complete
+     */
+    private static void run(TodoApiClient client, LoadTestOptions options, Duration duration, LatencyReport report) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long requests = duration.toNanos() / intervalNanos;
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < requests; i++) {
+                long intendedStart = start + i * intervalNanos;
+                long delay = intendedStart - System.nanoTime();
+                if (delay > 0) {
+                    LockSupport.parkNanos(delay);
+                }
+                Endpoint endpoint = options.mix().select(ThreadLocalRandom.current().nextDouble());
+                executor.submit(() -> {
+                    TodoApiClient.Result result;
+                    try {
+                        result = client.execute(endpoint);
+                    } catch (Exception e) {
+                        result = new TodoApiClient.Result(endpoint, TodoApiClient.Outcome.ERROR);
+                    }
+                    report.record(result.endpoint(), System.nanoTime() - intendedStart, result.outcome());
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.todo.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Clients on a slow network: each one keeps requesting the full todo list and reads the response
+ * a few hundred bytes at a time. A server that writes responses from a request thread holds that
+ * thread until the client has drained the socket.
+ */
+public class SlowClients implements AutoCloseable {
+
+    private static final int READ_BYTES = 256;
+    private static final long READ_INTERVAL_MILLIS = 50;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicBoolean running = new AtomicBoolean(true);
+    private final List<Socket> sockets = new ArrayList<>();
+    private final String host;
+    private final int port;
+
+    public SlowClients(String baseUrl, int count) {
+        URI uri = URI.create(baseUrl);
+        this.host = uri.getHost();
+        this.port = uri.getPort();
+        for (int i = 0; i < count; i++) {
+            executor.submit(this::loop);
+        }
+    }
+
+    private void loop() {
+        while (running.get()) {
+            Socket socket = new Socket();
+            synchronized (sockets) {
+                sockets.add(socket);
+            }
+            try (socket) {
+                // A small receive window makes the server block on the write instead of buffering the whole response
+                socket.setReceiveBufferSize(READ_BYTES * 4);
+                socket.connect(new InetSocketAddress(host, port));
+                OutputStream out = socket.getOutputStream();
+                out.write(("GET /api/todos HTTP/1.1\r\nHost: " + host + "\r\nAccept: application/json\r\n"
+                        + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+                InputStream in = socket.getInputStream();
+                byte[] buffer = new byte[READ_BYTES];
+                while (running.get() && in.read(buffer) >= 0) {
+                    TimeUnit.MILLISECONDS.sleep(READ_INTERVAL_MILLIS);
+                }
+            } catch (IOException e) {
+                // Closed on shutdown or by the server, reconnect while running
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                synchronized (sockets) {
+                    sockets.remove(socket);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        running.set(false);
+        synchronized (sockets) {
+            for (Socket socket : sockets) {
+                try {
+                    socket.close();
+                } catch (IOException e) {
+                    // Already closed
+                }
+            }
+        }
+        executor.shutdownNow();
+    }
+}
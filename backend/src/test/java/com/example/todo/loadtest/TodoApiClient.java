@@ -0,0 +1,131 @@
+package com.example.todo.loadtest;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Blocking HTTP client for the todo API, meant to be called from virtual threads.
+ * Keeps track of the ids of existing todos so reads and mutations target live rows.
+ */
+public class TodoApiClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final AtomicLong counter = new AtomicLong();
+    private final List<Long> ids = new ArrayList<>();
+    private final String baseUrl;
+
+    public TodoApiClient(String baseUrl) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    /**
+     * Executes the endpoint and returns the endpoint actually called with how its response compared to the
+     * expected status. Endpoints that need an existing todo create one instead when none is known, reported as
+     * {@link Endpoint#CREATE}.
+     */
+    public Result execute(Endpoint endpoint) throws Exception {
+        Long id = null;
+        if (endpoint.needsExistingTodo()) {
+            id = endpoint == Endpoint.DELETE ? takeId() : peekId();
+            if (id == null) {
+                return execute(Endpoint.CREATE);
+            }
+        }
+
+        Outcome outcome = switch (endpoint) {
+            case CREATE -> create();
+            case LIST -> send(request("/api/todos").GET(), 200);
+            case GET -> send(request("/api/todos/" + id).GET(), 200);
+            case UPDATE -> send(request("/api/todos/" + id)
+                    .header("Content-Type", "application/json")
+                    .PUT(body("Updated")), 200);
+            case TOGGLE -> send(request("/api/todos/" + id + "/toggle")
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody()), 200);
+            case DELETE -> send(request("/api/todos/" + id).DELETE(), 204);
+        };
+        return new Result(endpoint, outcome);
+    }
+
+    private Outcome create() throws Exception {
+        HttpResponse<String> response = httpClient.send(request("/api/todos")
+                        .header("Content-Type", "application/json")
+                        .POST(body("Load test")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            return Outcome.ERROR;
+        }
+        addId(jsonMapper.readTree(response.body()).get("id").asLong());
+        return Outcome.SUCCESS;
+    }
+
+    /**
+     * A 404 means another request deleted the todo after its id was picked, which is expected under a mix with deletes
+     */
+    private Outcome send(HttpRequest.Builder builder, int expectedStatus) throws Exception {
+        HttpResponse<Void> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() == expectedStatus) {
+            return Outcome.SUCCESS;
+        }
+        return response.statusCode() == 404 ? Outcome.NOT_FOUND : Outcome.ERROR;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private HttpRequest.BodyPublisher body(String prefix) {
+        long n = counter.incrementAndGet();
+        return HttpRequest.BodyPublishers.ofString(
+                "{\"title\":\"" + prefix + " " + n + "\",\"description\":\"Generated by the load test runner\"}");
+    }
+
+    private synchronized void addId(long id) {
+        ids.add(id);
+    }
+
+    private synchronized Long peekId() {
+        return ids.isEmpty() ? null : ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+
+    private synchronized Long takeId() {
+        if (ids.isEmpty()) {
+            return null;
+        }
+        int index = ThreadLocalRandom.current().nextInt(ids.size());
+        Long id = ids.get(index);
+        ids.set(index, ids.getLast());
+        ids.removeLast();
+        return id;
+    }
+
+    public enum Outcome {
+        SUCCESS,
+        /**
+         * The todo was deleted concurrently
+         */
+        NOT_FOUND,
+        ERROR
+    }
+
+    /**
+     * @param endpoint the endpoint that was called, {@link Endpoint#CREATE} when no todo was known for the requested one
+     */
+    public record Result(Endpoint endpoint, Outcome outcome) {
+    }
+}
@@ -208,6 +208,12 @@ class TodoApp extends LitElement {
       flex: 1;
     }
 
+    .bulk-actions {
+      display: flex;
+      gap: 8px;
+      margin-bottom: 15px;
+    }
+
     @media (max-width: 600px) {
       :host {
         padding: 10px;
@@ -315,6 +321,28 @@ class TodoApp extends LitElement {
     }
   }
 
+  async completeAll() {
+    try {
+      await this.todoService.completeAll();
+      await this.loadTodos();
+    } catch (error) {
+      console.error('Error completing todos:', error);
+      alert('Failed to complete todos');
+    }
+  }
+
+  async clearCompleted() {
+    if (!confirm('Delete all completed todos?')) return;
+
+    try {
+      await this.todoService.clearCompleted();
+      await this.loadTodos();
+    } catch (error) {
+      console.error('Error clearing completed todos:', error);
+      alert('Failed to clear completed todos');
+    }
+  }
+
   formatDate(dateString) {
     const date = new Date(dateString);
     return date.toLocaleString();
@@ -355,6 +383,10 @@ class TodoApp extends LitElement {
               </div>
             `
           : html`
+              <div class="bulk-actions">
+                <button class="btn-secondary btn-small" @click=${this.completeAll}>Complete all</button>
+                <button class="btn-danger btn-small" @click=${this.clearCompleted}>Clear completed</button>
+              </div>
               <div class="todo-list">
                 ${this.todos.map(
                   (todo) => html`
@@ -53,4 +53,20 @@ export class TodoService {
     });
     if (!response.ok) throw new Error('Failed to delete todo');
   }
+
+  async completeAll() {
+    const response = await fetch(`${this.apiUrl}/complete-all`, {
+      method: 'POST',
+    });
+    if (!response.ok) throw new Error('Failed to complete todos');
+    return response.json();
+  }
+
+  async clearCompleted() {
+    const response = await fetch(`${this.apiUrl}?completed=true`, {
+      method: 'DELETE',
+    });
+    if (!response.ok) throw new Error('Failed to clear completed todos');
+    return response.json();
+  }
 }